@@ -0,0 +1,23 @@
+package com.example.issuetrackingsystem.Config;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// 프로젝트 내보내기처럼 응답을 오래 스트리밍하는 요청이 컨테이너 기본 async timeout(30초)에 끊기지 않도록 함
+@Configuration
+public class AsyncConfig implements WebMvcConfigurer {
+
+  private final Duration requestTimeout;
+
+  public AsyncConfig(@Value("${its.async.request-timeout:30m}") Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+  }
+
+  @Override
+  public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+    configurer.setDefaultTimeout(requestTimeout.toMillis());
+  }
+}
@@ -3,17 +3,24 @@ package com.example.issuetrackingsystem.controller;
 import com.example.issuetrackingsystem.dto.AddCommentRequest;
 import com.example.issuetrackingsystem.dto.AddCommentResponse;
 import com.example.issuetrackingsystem.dto.AddIssueRequest;
+import com.example.issuetrackingsystem.dto.BulkModifyIssueRequest;
+import com.example.issuetrackingsystem.dto.BulkModifyIssueResponse;
 import com.example.issuetrackingsystem.dto.DetailsIssueResponse;
+import com.example.issuetrackingsystem.dto.IssueImportResponse;
 import com.example.issuetrackingsystem.dto.ModifyIssueRequest;
-import com.example.issuetrackingsystem.dto.SearchIssueResponse;
+import com.example.issuetrackingsystem.dto.SearchIssuePageResponse;
 import com.example.issuetrackingsystem.dto.SuggestIssueAssigneeResponse;
+import com.example.issuetrackingsystem.dto.TitleSuggestionResponse;
 import com.example.issuetrackingsystem.exception.ErrorCode;
 import com.example.issuetrackingsystem.exception.ITSException;
+import com.example.issuetrackingsystem.service.IssueImportService;
 import com.example.issuetrackingsystem.service.IssueService;
 import jakarta.servlet.http.HttpSession;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,18 +28,22 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/projects/{projectId}")
 public class IssueController {
 
   private final IssueService issueService;
+  private final IssueImportService issueImportService;
 
-  public IssueController(IssueService issueService) {
+  public IssueController(IssueService issueService, IssueImportService issueImportService) {
     this.issueService = issueService;
+    this.issueImportService = issueImportService;
   }
 
   @PostMapping("/issues")
@@ -81,8 +92,35 @@ public class IssueController {
         .build();
   }
 
+  // 여러 이슈에 같은 변경 (assignee 지정 또는 status 변경), 이슈별 성공 여부 반환
+  @PatchMapping("/issues")
+  public ResponseEntity issuesModify(HttpSession session, @PathVariable("projectId") Long projectId,
+      @RequestBody BulkModifyIssueRequest bulkModifyIssueRequest) {
+    Long accountId = (Long) session.getAttribute("id");
+
+    if (accountId == null) {
+      throw new ITSException(ErrorCode.UNAUTHORIZED);
+    }
+
+    List<BulkModifyIssueResponse> bulkModifyIssueResponseList;
+
+    try {
+      bulkModifyIssueResponseList = issueService.modifyIssues(accountId, projectId, bulkModifyIssueRequest);
+    } catch (ITSException e) {
+      return ResponseEntity
+          .status(e.getErrorCode().getHttpStatus())
+          .body(e.getErrorCode().getMessage());
+    }
+
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(bulkModifyIssueResponseList);
+  }
+
   @GetMapping("/issues/{issueId}")
-  public ResponseEntity issueDetails(HttpSession session, @PathVariable("projectId") Long projectId, @PathVariable("issueId") Long issueId) {
+  public ResponseEntity issueDetails(HttpSession session, @PathVariable("projectId") Long projectId, @PathVariable("issueId") Long issueId,
+      @RequestParam(value = "commentCursor", required = false) Long commentCursor,
+      @RequestParam(value = "commentSize", required = false) Integer commentSize, WebRequest webRequest) {
     Long accountId = (Long) session.getAttribute("id");
 
     if (accountId == null) {
@@ -92,7 +130,12 @@ public class IssueController {
     DetailsIssueResponse detailsIssueResponse;
 
     try {
-      detailsIssueResponse = issueService.findIssue(accountId, projectId, issueId);
+      // If-None-Match가 현재 버전과 같으면 이슈/코멘트를 조회하지 않고 304 (ETag 헤더는 checkNotModified가 설정)
+      if (webRequest.checkNotModified(
+          issueService.issueETag(accountId, projectId, issueId, commentCursor, commentSize))) {
+        return null;
+      }
+      detailsIssueResponse = issueService.findIssue(accountId, projectId, issueId, commentCursor, commentSize);
     } catch (ITSException e) {
       return ResponseEntity
           .status(e.getErrorCode().getHttpStatus())
@@ -106,7 +149,10 @@ public class IssueController {
 
   @PostMapping("/issues/{issueId}/comments")
   public ResponseEntity commentAdd(HttpSession session, @PathVariable("projectId") Long projectId,
-      @PathVariable("issueId") Long issueId, @RequestBody AddCommentRequest addCommentRequest) {
+      @PathVariable("issueId") Long issueId, @RequestBody AddCommentRequest addCommentRequest,
+      @RequestParam(value = "cursor", required = false) Long cursor,
+      @RequestParam(value = "size", required = false) Integer size,
+      @RequestParam(value = "onlyNew", defaultValue = "false") boolean onlyNew) {
     Long accountId = (Long) session.getAttribute("id");
 
     if (accountId == null) {
@@ -116,7 +162,8 @@ public class IssueController {
     List<AddCommentResponse> addCommentResponseList;
 
     try {
-      addCommentResponseList = issueService.addComment(accountId, projectId, issueId, addCommentRequest);
+      addCommentResponseList = issueService.addComment(accountId, projectId, issueId, addCommentRequest,
+          cursor, size, onlyNew);
     } catch (ITSException e) {
       return ResponseEntity
           .status(e.getErrorCode().getHttpStatus())
@@ -130,7 +177,7 @@ public class IssueController {
 
   @GetMapping("/issues/{issueId}/assignee-suggestions")
   public ResponseEntity assigneeSuggest(HttpSession session, @PathVariable("projectId") Long projectId,
-      @PathVariable("issueId") Long issueId) {
+      @PathVariable("issueId") Long issueId, @RequestParam(value = "size", required = false) Integer size) {
     Long accountId = (Long) session.getAttribute("id");
 
     if (accountId == null) {
@@ -140,7 +187,7 @@ public class IssueController {
     SuggestIssueAssigneeResponse suggestIssueAssigneeResponse;
 
     try {
-      suggestIssueAssigneeResponse = issueService.suggestAssignee(accountId, projectId, issueId);
+      suggestIssueAssigneeResponse = issueService.suggestAssignee(accountId, projectId, issueId, size);
     } catch (ITSException e) {
       return ResponseEntity
           .status(e.getErrorCode().getHttpStatus())
@@ -152,6 +199,31 @@ public class IssueController {
         .body(suggestIssueAssigneeResponse);
   }
 
+  @GetMapping("/issues/title-suggestions")
+  public ResponseEntity titleSuggestions(HttpSession session, @PathVariable("projectId") Long projectId,
+      @RequestParam("q") String query,
+      @RequestParam(value = "size", required = false) Integer size) {
+    Long accountId = (Long) session.getAttribute("id");
+
+    if (accountId == null) {
+      throw new ITSException(ErrorCode.UNAUTHORIZED);
+    }
+
+    List<TitleSuggestionResponse> titleSuggestionResponseList;
+
+    try {
+      titleSuggestionResponseList = issueService.suggestTitles(accountId, projectId, query, size);
+    } catch (ITSException e) {
+      return ResponseEntity
+          .status(e.getErrorCode().getHttpStatus())
+          .body(e.getErrorCode().getMessage());
+    }
+
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(titleSuggestionResponseList);
+  }
+
   @GetMapping("/issues")
   public ResponseEntity searchIssues(HttpSession session, @PathVariable("projectId") Long projectId, @RequestParam Map<String, String> searchKey) {
     Long accountId = (Long) session.getAttribute("id");
@@ -160,10 +232,58 @@ public class IssueController {
       throw new ITSException(ErrorCode.UNAUTHORIZED);
     }
 
-    List<SearchIssueResponse> searchIssueResponseList;
+    SearchIssuePageResponse searchIssuePageResponse;
+
+    try {
+      searchIssuePageResponse = issueService.searchIssue(accountId, projectId, searchKey);
+    } catch (ITSException e) {
+      return ResponseEntity
+          .status(e.getErrorCode().getHttpStatus())
+          .body(e.getErrorCode().getMessage());
+    }
+
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(searchIssuePageResponse);
+  }
+
+  // body를 InputStream으로 받아 NDJSON/CSV를 읽으면서 저장
+  @PostMapping(value = "/issues/import", consumes = {"application/x-ndjson", "text/csv"})
+  public ResponseEntity issueImport(HttpSession session, @PathVariable("projectId") Long projectId,
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+    Long accountId = (Long) session.getAttribute("id");
+
+    if (accountId == null) {
+      throw new ITSException(ErrorCode.UNAUTHORIZED);
+    }
+
+    IssueImportResponse issueImportResponse;
+
+    try {
+      issueImportResponse = issueImportService.importIssues(accountId, projectId, contentType, body);
+    } catch (ITSException e) {
+      return ResponseEntity
+          .status(e.getErrorCode().getHttpStatus())
+          .body(e.getErrorCode().getMessage());
+    }
+
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(issueImportResponse);
+  }
+
+  @GetMapping("/issues/imports")
+  public ResponseEntity issueImports(HttpSession session, @PathVariable("projectId") Long projectId) {
+    Long accountId = (Long) session.getAttribute("id");
+
+    if (accountId == null) {
+      throw new ITSException(ErrorCode.UNAUTHORIZED);
+    }
+
+    List<IssueImportResponse> issueImportResponseList;
 
     try {
-      searchIssueResponseList = issueService.searchIssue(accountId, projectId, searchKey);
+      issueImportResponseList = issueImportService.findImports(accountId, projectId);
     } catch (ITSException e) {
       return ResponseEntity
           .status(e.getErrorCode().getHttpStatus())
@@ -172,6 +292,6 @@ public class IssueController {
 
     return ResponseEntity
         .status(HttpStatus.OK)
-        .body(searchIssueResponseList);
+        .body(issueImportResponseList);
   }
 }
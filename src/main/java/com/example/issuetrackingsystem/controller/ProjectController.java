@@ -6,30 +6,44 @@ import com.example.issuetrackingsystem.dto.ModifyIssueRequest;
 import com.example.issuetrackingsystem.dto.ModifyProjectRequest;
 import com.example.issuetrackingsystem.dto.ProjectResponse;
 import com.example.issuetrackingsystem.dto.ProjectTrendResponse;
+import com.example.issuetrackingsystem.dto.TrendCacheStatsResponse;
 import com.example.issuetrackingsystem.exception.ErrorCode;
 import com.example.issuetrackingsystem.exception.ITSException;
+import com.example.issuetrackingsystem.service.ProjectExportService;
 import com.example.issuetrackingsystem.service.ProjectService;
 import jakarta.servlet.http.HttpSession;
 import java.net.URI;
 import java.util.List;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/projects")
 public class ProjectController {
+  private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+  private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
   private final ProjectService projectService;
+  private final ProjectExportService projectExportService;
 
-  public ProjectController(ProjectService projectService) {
+  public ProjectController(ProjectService projectService, ProjectExportService projectExportService) {
     this.projectService = projectService;
+    this.projectExportService = projectExportService;
   }
 
   @GetMapping
@@ -56,7 +70,11 @@ public class ProjectController {
   }
 
   @GetMapping("/{projectId}")
-  public ResponseEntity ProjectDetails(HttpSession session, @PathVariable("projectId") Long projectId) {
+  public ResponseEntity ProjectDetails(HttpSession session, @PathVariable("projectId") Long projectId,
+      @RequestParam(value = "sort", required = false) String sort,
+      @RequestParam(value = "order", required = false) String order,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "size", required = false) Integer size, WebRequest webRequest) {
     Long accountId = (Long) session.getAttribute("id");
 
     if (accountId == null) {
@@ -66,7 +84,12 @@ public class ProjectController {
     DetailsProjectResponse detailsProjectResponse;
 
     try {
-      detailsProjectResponse = projectService.findProject(projectId, accountId);
+      // If-None-Match가 현재 버전과 같으면 이슈를 조회하지 않고 304 (ETag 헤더는 checkNotModified가 설정)
+      // 버전을 먼저 읽으므로 그 사이 변경이 있어도 응답이 ETag보다 오래된 값이 되지는 않음
+      if (webRequest.checkNotModified(projectService.projectETag(accountId, projectId, sort, order, cursor, size))) {
+        return null;
+      }
+      detailsProjectResponse = projectService.findProject(projectId, accountId, sort, order, cursor, size);
 
     } catch (ITSException e) {
       return ResponseEntity
@@ -126,7 +149,11 @@ public class ProjectController {
   }
 
   @GetMapping("/{projectId}/trend")
-  public ResponseEntity projectTrends(HttpSession session, @PathVariable("projectId") Long projectId, @RequestParam("category") String category) {
+  public ResponseEntity projectTrends(HttpSession session, @PathVariable("projectId") Long projectId, @RequestParam("category") String category,
+      @RequestParam(value = "from", required = false) String from,
+      @RequestParam(value = "to", required = false) String to,
+      @RequestParam(value = "granularity", required = false) String granularity,
+      @RequestParam(value = "limit", required = false) Integer limit) {
     Long accountId = (Long) session.getAttribute("id");
 
     if (accountId == null) {
@@ -136,7 +163,7 @@ public class ProjectController {
     ProjectTrendResponse projectTrendResponse;
 
     try {
-      projectTrendResponse = projectService.trendProject(accountId, projectId, category);
+      projectTrendResponse = projectService.trendProject(accountId, projectId, category, from, to, granularity, limit);
     } catch (ITSException e) {
       return ResponseEntity
           .status(e.getErrorCode().getHttpStatus())
@@ -147,4 +174,61 @@ public class ProjectController {
         .status(HttpStatus.OK)
         .body(projectTrendResponse);
   }
+
+  @GetMapping("/trend/cache-stats")
+  public ResponseEntity trendCacheStats(HttpSession session) {
+    Long accountId = (Long) session.getAttribute("id");
+
+    if (accountId == null) {
+      throw new ITSException(ErrorCode.UNAUTHORIZED);
+    }
+
+    TrendCacheStatsResponse trendCacheStatsResponse;
+
+    try {
+      trendCacheStatsResponse = projectService.trendCacheStats(accountId);
+    } catch (ITSException e) {
+      return ResponseEntity
+          .status(e.getErrorCode().getHttpStatus())
+          .body(e.getErrorCode().getMessage());
+    }
+
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(trendCacheStatsResponse);
+  }
+
+  // 응답 body가 StreamingResponseBody여야 하므로 권한 오류는 ExceptionHandler가 처리
+  @GetMapping("/{projectId}/export")
+  public ResponseEntity<StreamingResponseBody> projectExport(HttpSession session, @PathVariable("projectId") Long projectId,
+      @RequestParam(value = "gzip", required = false, defaultValue = "false") boolean gzip) {
+    Long accountId = (Long) session.getAttribute("id");
+
+    if (accountId == null) {
+      throw new ITSException(ErrorCode.UNAUTHORIZED);
+    }
+
+    StreamingResponseBody body = projectExportService.exportProject(accountId, projectId, gzip);
+
+    // 파일로 내려받도록 하며, gzip이면 압축된 파일 그대로 저장되도록 Content-Encoding은 붙이지 않음
+    String filename = "project-" + projectId + (gzip ? ".ndjson.gz" : ".ndjson");
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .contentType(gzip ? GZIP : NDJSON)
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+        .body(body);
+  }
+
+  // 프로젝트의 이슈/코멘트 변경 이벤트 (SSE), 응답 body가 SseEmitter여야 하므로 오류는 ExceptionHandler가 처리
+  @GetMapping("/{projectId}/changes")
+  public SseEmitter projectChanges(HttpSession session, @PathVariable("projectId") Long projectId,
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+    Long accountId = (Long) session.getAttribute("id");
+
+    if (accountId == null) {
+      throw new ITSException(ErrorCode.UNAUTHORIZED);
+    }
+
+    return projectService.subscribeChanges(accountId, projectId, lastEventId);
+  }
 }
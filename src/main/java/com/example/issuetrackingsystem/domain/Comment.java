@@ -4,6 +4,7 @@ import com.example.issuetrackingsystem.domain.key.CommentPK;
 import jakarta.persistence.Column;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinColumns;
 import jakarta.persistence.ManyToOne;
@@ -34,14 +35,14 @@ public class Comment {
   private CommentPK id;
 
   @MapsId("issueId")
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumns({
       @JoinColumn(name = "issue_id", referencedColumnName = "id", nullable = false),
       @JoinColumn(name = "project_id", referencedColumnName = "project_id", nullable = false)
   })
   private Issue issue;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "account_id", referencedColumnName = "id", nullable = false)
   private Account account;
 
@@ -0,0 +1,37 @@
+package com.example.issuetrackingsystem.domain;
+
+import com.example.issuetrackingsystem.domain.key.IssuePK;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+
+@Getter
+@Entity
+@Table(name = "comment_sequence")
+@Builder
+@DynamicInsert
+@DynamicUpdate
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode
+public class CommentSequence {
+
+  @EmbeddedId
+  @AttributeOverride(name = "issueId", column = @Column(name = "issue_id", nullable = false))
+  private IssuePK id;
+
+  // 다음에 발급할 comment_id
+  @Column(name = "next_id", nullable = false)
+  private Long nextId;
+
+}
@@ -7,6 +7,7 @@ import com.example.issuetrackingsystem.domain.key.IssuePK;
 import jakarta.persistence.Column;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.MapsId;
@@ -38,7 +39,7 @@ public class Issue {
   private IssuePK id;
 
   @MapsId("projectId")
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "project_id", referencedColumnName = "id", nullable = false)
   private Project project;
 
@@ -51,7 +52,7 @@ public class Issue {
   @Column(name = "keyword")
   private IssueKeyword keyword;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "reporter", referencedColumnName = "id", nullable = false)
   private Account reporter;
 
@@ -61,15 +62,15 @@ public class Issue {
   @Column(name = "due_date", nullable = false, columnDefinition = "TIMESTAMP")
   private LocalDate dueDate;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "manager", referencedColumnName = "id")
   private Account manager;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "assignee", referencedColumnName = "id")
   private Account assignee;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "fixer", referencedColumnName = "id")
   private Account fixer;
 
@@ -84,4 +85,8 @@ public class Issue {
   @Column(name = "closed_date", columnDefinition = "TIMESTAMP")
   private LocalDateTime closedDate;
 
+  // 엔티티 저장으로는 바뀌지 않고 변경 쿼리에서 1씩 올림
+  @Column(name = "version", nullable = false, insertable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+  private Long version;
+
 }
@@ -0,0 +1,37 @@
+package com.example.issuetrackingsystem.domain;
+
+import com.example.issuetrackingsystem.domain.key.IssueCommentDailyPK;
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+
+@Getter
+@Entity
+@Table(name = "issue_comment_daily")
+@Builder
+@DynamicInsert
+@DynamicUpdate
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode
+public class IssueCommentDaily {
+
+  @EmbeddedId
+  private IssueCommentDailyPK id;
+
+  // 해당 날짜에 이슈에 등록된 코멘트 수
+  @Column(name = "comment_count", nullable = false)
+  @ColumnDefault("0")
+  private Integer commentCount;
+
+}
@@ -0,0 +1,42 @@
+package com.example.issuetrackingsystem.domain;
+
+import com.example.issuetrackingsystem.domain.key.IssueDailyStatPK;
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+
+@Getter
+@Entity
+@Table(name = "issue_daily_stat")
+@Builder
+@DynamicInsert
+@DynamicUpdate
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode
+public class IssueDailyStat {
+
+  @EmbeddedId
+  private IssueDailyStatPK id;
+
+  // 해당 날짜에 등록된 이슈 수
+  @Column(name = "reported_count", nullable = false)
+  @ColumnDefault("0")
+  private Integer reportedCount;
+
+  // 해당 날짜에 CLOSED 된 (현재도 CLOSED 상태인) 이슈 수
+  @Column(name = "closed_count", nullable = false)
+  @ColumnDefault("0")
+  private Integer closedCount;
+
+}
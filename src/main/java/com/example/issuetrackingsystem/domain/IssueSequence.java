@@ -0,0 +1,35 @@
+package com.example.issuetrackingsystem.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+
+@Getter
+@Entity
+@Table(name = "issue_sequence")
+@Builder
+@DynamicInsert
+@DynamicUpdate
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode
+public class IssueSequence {
+
+  @Id
+  @Column(name = "project_id", nullable = false)
+  private Long projectId;
+
+  // 다음에 발급할 issue_id
+  @Column(name = "next_id", nullable = false)
+  private Long nextId;
+
+}
@@ -47,4 +47,8 @@ public class Project {
   @ColumnDefault("0")
   private ProjectStatus status;
 
+  // 엔티티 저장으로는 바뀌지 않고 변경 쿼리에서 1씩 올림
+  @Column(name = "version", nullable = false, insertable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+  private Long version;
+
 }
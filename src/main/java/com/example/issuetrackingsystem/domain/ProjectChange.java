@@ -0,0 +1,56 @@
+package com.example.issuetrackingsystem.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+
+@Getter
+@Entity
+@Table(name = "project_change")
+@Builder(toBuilder = true)
+@DynamicInsert
+@DynamicUpdate
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode
+public class ProjectChange {
+
+  // SSE 이벤트 id
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id", nullable = false)
+  private Long id;
+
+  @Column(name = "project_id", nullable = false)
+  private Long projectId;
+
+  // SSE 이벤트 이름 (issue-added, issue-modified, comment-added, resync)
+  @Column(name = "name", length = 32, nullable = false)
+  private String name;
+
+  @Column(name = "issue_id")
+  private Long issueId;
+
+  // 변경 후 이슈 상태 (ordinal)
+  @Column(name = "status")
+  private Integer status;
+
+  @Column(name = "comment_id")
+  private Long commentId;
+
+  @Column(name = "created_date", nullable = false, insertable = false, updatable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
+  private LocalDateTime createdDate;
+
+}
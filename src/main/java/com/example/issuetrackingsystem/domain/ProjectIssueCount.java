@@ -0,0 +1,41 @@
+package com.example.issuetrackingsystem.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+
+@Getter
+@Entity
+@Table(name = "project_issue_count")
+@Builder
+@DynamicInsert
+@DynamicUpdate
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode
+public class ProjectIssueCount {
+
+  @Id
+  @Column(name = "project_id", nullable = false)
+  private Long projectId;
+
+  // CLOSED가 아닌 이슈 수
+  @Column(name = "open_count", nullable = false)
+  @ColumnDefault("0")
+  private Long openCount;
+
+  @Column(name = "closed_count", nullable = false)
+  @ColumnDefault("0")
+  private Long closedCount;
+
+}
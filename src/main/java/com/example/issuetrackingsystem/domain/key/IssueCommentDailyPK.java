@@ -0,0 +1,31 @@
+package com.example.issuetrackingsystem.domain.key;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Embeddable
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode
+public class IssueCommentDailyPK implements Serializable {
+
+  @Column(name = "project_id", nullable = false)
+  private Long projectId;
+
+  @Column(name = "issue_id", nullable = false)
+  private Long issueId;
+
+  @Column(name = "stat_date", nullable = false)
+  private LocalDate statDate;
+
+}
@@ -0,0 +1,21 @@
+package com.example.issuetrackingsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssigneeCandidateResponse {
+  private String username;
+  private Double score;
+  // 비슷한 과거 이슈를 해결한 정도 (가장 비슷한 이슈 = 1의 합)
+  private Double similarity;
+  // 이슈 키워드(없으면 전체)로 해결한 이슈 수
+  private Integer resolvedCount;
+  // 현재 맡고 있는 ASSIGNED, REOPENED 이슈 수
+  private Integer openCount;
+}
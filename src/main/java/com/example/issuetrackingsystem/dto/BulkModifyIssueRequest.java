@@ -0,0 +1,18 @@
+package com.example.issuetrackingsystem.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkModifyIssueRequest {
+  private List<Long> issueIds;
+  // assignee와 status 중 하나만
+  private String assignee;
+  private Integer status;
+}
@@ -0,0 +1,17 @@
+package com.example.issuetrackingsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkModifyIssueResponse {
+  private Long issueId;
+  private Boolean success;
+  // 실패한 경우 사유
+  private String message;
+}
@@ -30,5 +30,9 @@ public class DetailsIssueResponse {
   @DateTimeFormat(pattern = "yyyy-MM-dd")
   private String closedDate;
   private List<AddCommentResponse> comment;
+  // 더 오래된 코멘트를 가져올 cursor (없으면 null)
+  private Long nextCommentCursor;
   private Integer accountRole;
+  // 이슈나 코멘트가 바뀔 때마다 증가
+  private Long version;
 }
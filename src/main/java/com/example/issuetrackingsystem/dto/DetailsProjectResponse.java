@@ -21,6 +21,8 @@ public class DetailsProjectResponse {
     private Integer status;
     private List<MemberData> member;
     private List<IssueData> issue;
+    // 다음 페이지 요청에 넘길 cursor (마지막 페이지면 null)
+    private String nextCursor;
 
     @Getter
     @Builder
@@ -40,6 +42,7 @@ public class DetailsProjectResponse {
         private Long id;
         private String title;
         private Integer status;
+        private Integer priority;
         @DateTimeFormat(pattern = "yyyy-MM-dd")
         private String reportedDate;
         @DateTimeFormat(pattern = "yyyy-MM-dd")
@@ -0,0 +1,16 @@
+package com.example.issuetrackingsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportCommentRequest {
+  private String author;
+  private String content;
+  private String date;
+}
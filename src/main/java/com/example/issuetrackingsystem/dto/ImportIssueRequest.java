@@ -0,0 +1,28 @@
+package com.example.issuetrackingsystem.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 이슈 import의 한 건 (계정은 username, enum은 이름 또는 번호, 날짜는 ISO 형식)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportIssueRequest {
+  private String title;
+  private String description;
+  private String keyword;
+  private String priority;
+  private String status;
+  private String reporter;
+  private String reportedDate;
+  private String dueDate;
+  private String manager;
+  private String assignee;
+  private String fixer;
+  private String closedDate;
+  private List<ImportCommentRequest> comments;
+}
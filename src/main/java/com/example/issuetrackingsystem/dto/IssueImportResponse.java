@@ -0,0 +1,29 @@
+package com.example.issuetrackingsystem.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueImportResponse {
+  private Long importId;
+  private String format;
+  // RUNNING, DONE, FAILED
+  private String status;
+  // 지금까지 읽은 이슈 수
+  private Long readCount;
+  private Long importedIssueCount;
+  private Long importedCommentCount;
+  // 검증에 실패해 건너뛴 이슈 수
+  private Long failedCount;
+  // 처음 몇 건의 실패 사유 ("line N: 사유")
+  private List<String> errors;
+  private LocalDateTime startedAt;
+  private LocalDateTime finishedAt;
+}
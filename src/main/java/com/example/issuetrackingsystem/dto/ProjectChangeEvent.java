@@ -0,0 +1,20 @@
+package com.example.issuetrackingsystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// SSE 이벤트 data, 이벤트 종류는 SSE event 이름 (issue-added, issue-modified, comment-added)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProjectChangeEvent {
+  private Long issueId;
+  // 변경 후 이슈 상태
+  private Integer status;
+  private Long commentId;
+}
@@ -17,6 +17,7 @@ public class ProjectTrendResponse {
   private ProjectTrendData daily;
   private ProjectTrendData weekly;
   private ProjectTrendData monthly;
+  private ProjectTrendData quarterly;
 
   @Getter
   @Builder
@@ -54,6 +55,9 @@ public class ProjectTrendResponse {
     private BestMember PL;
     private BestMember dev;
     private BestMember tester;
+    private List<BestMember> plRanking;
+    private List<BestMember> devRanking;
+    private List<BestMember> testerRanking;
   }
 
   @Getter
@@ -0,0 +1,18 @@
+package com.example.issuetrackingsystem.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchIssuePageResponse {
+    private List<SearchIssueResponse> issue;
+    private Integer page;
+    private Integer size;
+    private Long total;
+}
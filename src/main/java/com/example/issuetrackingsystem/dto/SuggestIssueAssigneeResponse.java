@@ -1,5 +1,6 @@
 package com.example.issuetrackingsystem.dto;
 
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,4 +12,6 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class SuggestIssueAssigneeResponse {
   private String username;
+  // 점수 내림차순 추천 후보 (username은 첫 번째 후보)
+  private List<AssigneeCandidateResponse> candidates;
 }
@@ -0,0 +1,15 @@
+package com.example.issuetrackingsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TitleSuggestionResponse {
+  private Long id;
+  private String title;
+}
@@ -0,0 +1,21 @@
+package com.example.issuetrackingsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendCacheStatsResponse {
+  private Long size;
+  private Long hitCount;
+  private Long missCount;
+  private Double hitRate;
+  private Long loadSuccessCount;
+  private Long loadFailureCount;
+  private Double averageLoadPenaltyMillis;
+  private Long evictionCount;
+}
@@ -25,11 +25,15 @@ public enum ErrorCode {
   INVALID_PASSWORD(HttpStatus.UNAUTHORIZED, "비밀번호가 일치하지 않습니다."),
   PROJECT_DETAIL_NOT_FOUND(HttpStatus.NOT_FOUND, "요청한 프로젝트를 찾을 수 없습니다."),
   PROJECT_DETAIL_FORBIDDEN(HttpStatus.FORBIDDEN, "프로젝트 상세를 조회할 권한이 없습니다."),
+  PROJECT_DETAIL_BAD_REQUEST(HttpStatus.BAD_REQUEST, "프로젝트 상세 조회 요청이 올바르지 않습니다."),
   PROJECT_CREATION_FORBIDDEN(HttpStatus.FORBIDDEN , "프로젝트를 생성할 권한이 없습니다."),
   PROJECT_CREATION_BAD_REQUEST(HttpStatus.BAD_REQUEST, "프로젝트 생성 요청이 올바르지 않습니다."),
   PROJECT_UPDATE_FORBIDDEN(HttpStatus.FORBIDDEN, "프로젝트를 수정할 권한이 없습니다."),
   PROJECT_UPDATE_NOT_FOUND(HttpStatus.NOT_FOUND, "요청한 프로젝트를 찾을 수 없습니다."),
   ISSUE_SEARCH_BAD_REQUEST(HttpStatus.BAD_REQUEST, "이슈 검색 요청이 올바르지 않습니다."),
+  ISSUE_IMPORT_FORBIDDEN(HttpStatus.FORBIDDEN, "이슈를 가져올 권한이 없습니다."),
+  ISSUE_IMPORT_BAD_REQUEST(HttpStatus.BAD_REQUEST, "이슈 가져오기 요청이 올바르지 않습니다."),
+  PROJECT_EXPORT_FORBIDDEN(HttpStatus.FORBIDDEN, "프로젝트를 내보낼 권한이 없습니다."),
   ;
 
   private final HttpStatus httpStatus;
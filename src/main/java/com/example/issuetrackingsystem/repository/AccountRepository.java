@@ -1,10 +1,16 @@
 package com.example.issuetrackingsystem.repository;
 
 import com.example.issuetrackingsystem.domain.Account;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
   Optional<Account> findByUsername(String username);
+
+  boolean existsByUsername(String username);
+
+  List<Account> findByUsernameIn(Collection<String> usernames);
 }
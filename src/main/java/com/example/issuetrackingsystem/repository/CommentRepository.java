@@ -1,28 +1,29 @@
 package com.example.issuetrackingsystem.repository;
 
 import com.example.issuetrackingsystem.domain.Comment;
-import com.example.issuetrackingsystem.domain.Issue;
 import com.example.issuetrackingsystem.domain.key.CommentPK;
-import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface CommentRepository extends JpaRepository<Comment, CommentPK> {
-  Optional<List<Comment>> findByIssue(Issue issue);
+public interface CommentRepository extends JpaRepository<Comment, CommentPK>, CommentRepositoryCustom {
+  // 작성자를 같은 쿼리로 가져오는 comment_id 기준 keyset 페이지
+  @Query("SELECT c "
+      + "FROM Comment c JOIN FETCH c.account "
+      + "WHERE c.id.issueId.projectId = :projectId AND c.id.issueId.issueId = :issueId "
+      + "AND c.id.commentId > :cursor "
+      + "ORDER BY c.id.commentId ASC")
+  List<Comment> findPageByIssue(@Param("projectId") Long projectId, @Param("issueId") Long issueId,
+      @Param("cursor") Long cursor, Pageable pageable);
 
-  @Query("SELECT COALESCE(MAX(c.id.commentId), 0) "
-      + "FROM Comment c "
-      + "WHERE c.id.issueId.issueId = :issueId")
-  Long findMaxIdByIssueId(@Param("issueId") Long issueId);
-
-  @Query("SELECT c.id.issueId.issueId, c.issue.title, COUNT(*) AS count "
-      + "FROM Comment c "
-      + "WHERE c.date >= :startDate AND c.issue.project.projectId = :projectId "
-      + "GROUP BY c.id.issueId.issueId, c.id.issueId.projectId "
-      + "ORDER BY count DESC "
-      + "LIMIT 3")
-  List<Object[]> findTop3IssuesWithMostComments(@Param("projectId") Long projectId, @Param("startDate") LocalDateTime startDate);
+  // 이슈 상세용 최신순 keyset 페이지 (cursor보다 작은 comment_id, 작성자를 같은 쿼리로 조회)
+  @Query("SELECT c "
+      + "FROM Comment c JOIN FETCH c.account "
+      + "WHERE c.id.issueId.projectId = :projectId AND c.id.issueId.issueId = :issueId "
+      + "AND c.id.commentId < :cursor "
+      + "ORDER BY c.id.commentId DESC")
+  List<Comment> findLatestPageByIssue(@Param("projectId") Long projectId, @Param("issueId") Long issueId,
+      @Param("cursor") Long cursor, Pageable pageable);
 }
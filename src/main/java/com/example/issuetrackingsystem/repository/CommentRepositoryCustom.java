@@ -0,0 +1,12 @@
+package com.example.issuetrackingsystem.repository;
+
+import com.example.issuetrackingsystem.domain.Comment;
+import java.util.List;
+
+public interface CommentRepositoryCustom {
+  // id를 미리 발급받은 코멘트를 merge(SELECT) 없이 INSERT
+  void persist(Comment comment);
+
+  // id를 미리 발급받은 코멘트들을 한 번의 JDBC batch로 INSERT
+  void batchInsert(List<Comment> comments);
+}
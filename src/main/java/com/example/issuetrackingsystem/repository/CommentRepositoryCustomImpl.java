@@ -0,0 +1,46 @@
+package com.example.issuetrackingsystem.repository;
+
+import com.example.issuetrackingsystem.domain.Comment;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.sql.Timestamp;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+
+  private static final int BATCH_SIZE = 500;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public CommentRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public void persist(Comment comment) {
+    entityManager.persist(comment);
+  }
+
+  @Override
+  public void batchInsert(List<Comment> comments) {
+    if (comments.isEmpty()) {
+      return;
+    }
+
+    // date가 없으면 DB 기본값(CURRENT_TIMESTAMP) 사용
+    jdbcTemplate.batchUpdate("INSERT INTO comment (project_id, issue_id, id, account_id, content, date) "
+            + "VALUES (?, ?, ?, ?, ?, COALESCE(?, CURRENT_TIMESTAMP))",
+        comments, BATCH_SIZE, (ps, comment) -> {
+          ps.setLong(1, comment.getId().getIssueId().getProjectId());
+          ps.setLong(2, comment.getId().getIssueId().getIssueId());
+          ps.setLong(3, comment.getId().getCommentId());
+          ps.setLong(4, comment.getAccount().getAccountId());
+          ps.setString(5, comment.getContent());
+          ps.setTimestamp(6, comment.getDate() == null ? null : Timestamp.valueOf(comment.getDate()));
+        });
+  }
+}
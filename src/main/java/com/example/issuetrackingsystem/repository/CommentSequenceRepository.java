@@ -0,0 +1,43 @@
+package com.example.issuetrackingsystem.repository;
+
+import com.example.issuetrackingsystem.domain.CommentSequence;
+import com.example.issuetrackingsystem.domain.key.IssuePK;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CommentSequenceRepository extends JpaRepository<CommentSequence, IssuePK>,
+    CommentSequenceRepositoryCustom {
+  // 기존 이슈는 해당 이슈의 comment_id 최댓값에서 시작
+  @Modifying
+  @Query(value = "INSERT IGNORE INTO comment_sequence (project_id, issue_id, next_id) "
+      + "SELECT :projectId, :issueId, COALESCE(MAX(c.id), 0) + 1 "
+      + "FROM comment c "
+      + "WHERE c.project_id = :projectId AND c.issue_id = :issueId", nativeQuery = true)
+  int initialize(@Param("projectId") Long projectId, @Param("issueId") Long issueId);
+
+  @Modifying
+  @Query("UPDATE CommentSequence s "
+      + "SET s.nextId = s.nextId + :size "
+      + "WHERE s.id.projectId = :projectId AND s.id.issueId IN :issueIds")
+  int advanceAll(@Param("projectId") Long projectId, @Param("issueIds") Collection<Long> issueIds,
+      @Param("size") long size);
+
+  // 결과: issue_id, next_id
+  @Query("SELECT s.id.issueId, s.nextId "
+      + "FROM CommentSequence s "
+      + "WHERE s.id.projectId = :projectId AND s.id.issueId IN :issueIds")
+  List<Object[]> findNextIds(@Param("projectId") Long projectId, @Param("issueIds") Collection<Long> issueIds);
+
+  // counter가 없는 이슈만 각 이슈의 comment_id 최댓값에서 시작
+  @Modifying
+  @Query(value = "INSERT IGNORE INTO comment_sequence (project_id, issue_id, next_id) "
+      + "SELECT i.project_id, i.id, COALESCE(MAX(c.id), 0) + 1 "
+      + "FROM issue i LEFT JOIN comment c ON c.project_id = i.project_id AND c.issue_id = i.id "
+      + "WHERE i.project_id = :projectId AND i.id IN :issueIds "
+      + "GROUP BY i.project_id, i.id", nativeQuery = true)
+  int initializeAll(@Param("projectId") Long projectId, @Param("issueIds") Collection<Long> issueIds);
+}
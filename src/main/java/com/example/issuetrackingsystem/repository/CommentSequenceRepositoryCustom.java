@@ -0,0 +1,7 @@
+package com.example.issuetrackingsystem.repository;
+
+public interface CommentSequenceRepositoryCustom {
+  // 이슈의 comment_sequence를 size칸 올리고 올린 뒤의 next_id를 반환 (counter row가 없으면 null)
+  // row lock은 호출한 트랜잭션이 commit될 때까지 유지됨
+  Long advanceAndGet(Long projectId, Long issueId, int size);
+}
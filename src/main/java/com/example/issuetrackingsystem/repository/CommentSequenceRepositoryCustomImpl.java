@@ -0,0 +1,41 @@
+package com.example.issuetrackingsystem.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class CommentSequenceRepositoryCustomImpl implements CommentSequenceRepositoryCustom {
+
+  // LAST_INSERT_ID(expr)는 올린 값을 connection에 기억하므로 counter row를 다시 읽지 않음
+  private static final String ADVANCE_SQL = "UPDATE comment_sequence "
+      + "SET next_id = LAST_INSERT_ID(next_id + ?) "
+      + "WHERE project_id = ? AND issue_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public CommentSequenceRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public Long advanceAndGet(Long projectId, Long issueId, int size) {
+    // UPDATE와 LAST_INSERT_ID() 조회는 같은 connection에서 실행해야 함 (트랜잭션의 connection 사용)
+    return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+      try (PreparedStatement ps = connection.prepareStatement(ADVANCE_SQL)) {
+        ps.setInt(1, size);
+        ps.setLong(2, projectId);
+        ps.setLong(3, issueId);
+        if (ps.executeUpdate() == 0) {
+          return null;
+        }
+      }
+      try (Statement statement = connection.createStatement();
+          ResultSet rs = statement.executeQuery("SELECT LAST_INSERT_ID()")) {
+        rs.next();
+        return rs.getLong(1);
+      }
+    });
+  }
+}
@@ -0,0 +1,62 @@
+package com.example.issuetrackingsystem.repository;
+
+import com.example.issuetrackingsystem.domain.IssueCommentDaily;
+import com.example.issuetrackingsystem.domain.key.IssueCommentDailyPK;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface IssueCommentDailyRepository extends JpaRepository<IssueCommentDaily, IssueCommentDailyPK> {
+  @Query("SELECT s.id.issueId, s.id.statDate, s.commentCount "
+      + "FROM IssueCommentDaily s "
+      + "WHERE s.id.projectId = :projectId AND s.id.statDate >= :from")
+  List<Object[]> findCountsSince(@Param("projectId") Long projectId, @Param("from") LocalDate from);
+
+  // 이슈별 해당 날짜의 누적 코멘트 수 (add/addAll 직후 같은 트랜잭션에서 PK로 조회)
+  @Query("SELECT s.id.issueId, s.commentCount "
+      + "FROM IssueCommentDaily s "
+      + "WHERE s.id.projectId = :projectId AND s.id.issueId IN :issueIds AND s.id.statDate = :statDate")
+  List<Object[]> findCounts(@Param("projectId") Long projectId, @Param("issueIds") Collection<Long> issueIds,
+      @Param("statDate") LocalDate statDate);
+
+  @Modifying
+  @Query(value = "INSERT INTO issue_comment_daily (project_id, issue_id, stat_date, comment_count) "
+      + "VALUES (:projectId, :issueId, :statDate, :delta) "
+      + "ON DUPLICATE KEY UPDATE comment_count = comment_count + :delta", nativeQuery = true)
+  int add(@Param("projectId") Long projectId, @Param("issueId") Long issueId, @Param("statDate") LocalDate statDate,
+      @Param("delta") int delta);
+
+  // 여러 이슈에 같은 수의 코멘트가 달린 경우 한 번에 반영
+  @Modifying
+  @Query(value = "INSERT INTO issue_comment_daily (project_id, issue_id, stat_date, comment_count) "
+      + "SELECT i.project_id, i.id, :statDate, :delta "
+      + "FROM issue i "
+      + "WHERE i.project_id = :projectId AND i.id IN :issueIds "
+      + "ON DUPLICATE KEY UPDATE comment_count = comment_count + :delta", nativeQuery = true)
+  int addAll(@Param("projectId") Long projectId, @Param("issueIds") Collection<Long> issueIds,
+      @Param("statDate") LocalDate statDate, @Param("delta") int delta);
+
+  @Modifying
+  @Query(value = "INSERT INTO issue_comment_daily (project_id, issue_id, stat_date, comment_count) "
+      + "SELECT c.project_id, c.issue_id, DATE(c.date), COUNT(*) "
+      + "FROM comment c "
+      + "GROUP BY c.project_id, c.issue_id, DATE(c.date)", nativeQuery = true)
+  int backfill();
+
+  @Modifying
+  @Query("DELETE FROM IssueCommentDaily s "
+      + "WHERE s.id.projectId = :projectId")
+  int deleteByProjectId(@Param("projectId") Long projectId);
+
+  @Modifying
+  @Query(value = "INSERT INTO issue_comment_daily (project_id, issue_id, stat_date, comment_count) "
+      + "SELECT c.project_id, c.issue_id, DATE(c.date), COUNT(*) "
+      + "FROM comment c "
+      + "WHERE c.project_id = :projectId "
+      + "GROUP BY c.project_id, c.issue_id, DATE(c.date)", nativeQuery = true)
+  int backfill(@Param("projectId") Long projectId);
+}
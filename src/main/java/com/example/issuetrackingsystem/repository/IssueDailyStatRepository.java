@@ -0,0 +1,68 @@
+package com.example.issuetrackingsystem.repository;
+
+import com.example.issuetrackingsystem.domain.IssueDailyStat;
+import com.example.issuetrackingsystem.domain.key.IssueDailyStatPK;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface IssueDailyStatRepository extends JpaRepository<IssueDailyStat, IssueDailyStatPK> {
+  @Query("SELECT s "
+      + "FROM IssueDailyStat s "
+      + "WHERE s.id.projectId = :projectId AND s.id.statDate BETWEEN :from AND :to")
+  List<IssueDailyStat> findByProjectIdAndDateBetween(@Param("projectId") Long projectId,
+      @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+  @Modifying
+  @Query(value = "INSERT INTO issue_daily_stat (project_id, stat_date, reported_count, closed_count) "
+      + "VALUES (:projectId, :statDate, :delta, 0) "
+      + "ON DUPLICATE KEY UPDATE reported_count = reported_count + :delta", nativeQuery = true)
+  int addReported(@Param("projectId") Long projectId, @Param("statDate") LocalDate statDate, @Param("delta") int delta);
+
+  @Modifying
+  @Query(value = "INSERT INTO issue_daily_stat (project_id, stat_date, reported_count, closed_count) "
+      + "VALUES (:projectId, :statDate, 0, :delta) "
+      + "ON DUPLICATE KEY UPDATE closed_count = closed_count + :delta", nativeQuery = true)
+  int addClosed(@Param("projectId") Long projectId, @Param("statDate") LocalDate statDate, @Param("delta") int delta);
+
+  @Modifying
+  @Query(value = "INSERT INTO issue_daily_stat (project_id, stat_date, reported_count, closed_count) "
+      + "SELECT i.project_id, DATE(i.reported_date), COUNT(*), 0 "
+      + "FROM issue i "
+      + "GROUP BY i.project_id, DATE(i.reported_date)", nativeQuery = true)
+  int backfillReported();
+
+  @Modifying
+  @Query(value = "INSERT INTO issue_daily_stat (project_id, stat_date, reported_count, closed_count) "
+      + "SELECT i.project_id, DATE(i.closed_date), 0, COUNT(*) "
+      + "FROM issue i "
+      + "WHERE i.closed_date IS NOT NULL "
+      + "GROUP BY i.project_id, DATE(i.closed_date) "
+      + "ON DUPLICATE KEY UPDATE closed_count = VALUES(closed_count)", nativeQuery = true)
+  int backfillClosed();
+
+  @Modifying
+  @Query("DELETE FROM IssueDailyStat s "
+      + "WHERE s.id.projectId = :projectId")
+  int deleteByProjectId(@Param("projectId") Long projectId);
+
+  @Modifying
+  @Query(value = "INSERT INTO issue_daily_stat (project_id, stat_date, reported_count, closed_count) "
+      + "SELECT i.project_id, DATE(i.reported_date), COUNT(*), 0 "
+      + "FROM issue i "
+      + "WHERE i.project_id = :projectId "
+      + "GROUP BY i.project_id, DATE(i.reported_date)", nativeQuery = true)
+  int backfillReported(@Param("projectId") Long projectId);
+
+  @Modifying
+  @Query(value = "INSERT INTO issue_daily_stat (project_id, stat_date, reported_count, closed_count) "
+      + "SELECT i.project_id, DATE(i.closed_date), 0, COUNT(*) "
+      + "FROM issue i "
+      + "WHERE i.project_id = :projectId AND i.closed_date IS NOT NULL "
+      + "GROUP BY i.project_id, DATE(i.closed_date) "
+      + "ON DUPLICATE KEY UPDATE closed_count = VALUES(closed_count)", nativeQuery = true)
+  int backfillClosed(@Param("projectId") Long projectId);
+}
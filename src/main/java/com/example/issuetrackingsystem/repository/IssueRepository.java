@@ -1,111 +1,113 @@
 package com.example.issuetrackingsystem.repository;
 
+import com.example.issuetrackingsystem.domain.Account;
 import com.example.issuetrackingsystem.domain.Issue;
-import com.example.issuetrackingsystem.domain.enums.IssueKeyword;
-import com.example.issuetrackingsystem.domain.enums.IssuePriority;
 import com.example.issuetrackingsystem.domain.enums.IssueStatus;
 import com.example.issuetrackingsystem.domain.key.IssuePK;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface IssueRepository extends JpaRepository<Issue, IssuePK> {
-  @Query("SELECT COALESCE(MAX(i.id.issueId), 0) "
-      + "FROM Issue i "
-      + "WHERE i.id.projectId = :projectId")
-  Long findMaxIdByProjectId(@Param("projectId") Long projectId);
-
-  @Query("SELECT YEAR(i.reportedDate), MONTH(i.reportedDate), DAY(i.reportedDate), COUNT(*) "
-      + "FROM Issue i "
-      + "WHERE i.id.projectId = :projectId "
-      + "AND i.reportedDate >= :startDate "
-      + "GROUP BY YEAR(i.reportedDate), MONTH(i.reportedDate), DAY(i.reportedDate)")
-  List<Object[]> countByReportedDate_Day(@Param("projectId") Long projectId, @Param("startDate") LocalDateTime startDate);
+public interface IssueRepository extends JpaRepository<Issue, IssuePK>, IssueRepositoryCustom {
+  // 이슈 상세 응답에 필요한 계정들을 같은 쿼리로 조회
+  @EntityGraph(attributePaths = {"reporter", "manager", "assignee", "fixer"})
+  @Query("SELECT i FROM Issue i WHERE i.id = :id")
+  Optional<Issue> findWithAccountsById(@Param("id") IssuePK id);
 
-  @Query("SELECT YEAR(i.reportedDate), MONTH(i.reportedDate), COUNT(*) "
+  @Query("SELECT i.id.issueId, i.title "
       + "FROM Issue i "
-      + "WHERE i.id.projectId = :projectId "
-      + "AND i.reportedDate >= :startDate "
-      + "GROUP BY YEAR(i.reportedDate), MONTH(i.reportedDate)")
-  List<Object[]> countByReportedDate_Month(@Param("projectId") Long projectId, @Param("startDate") LocalDateTime startDate);
+      + "WHERE i.id.projectId = :projectId AND i.id.issueId IN :issueIds")
+  List<Object[]> findTitles(@Param("projectId") Long projectId, @Param("issueIds") Collection<Long> issueIds);
 
-  @Query("SELECT YEAR(i.closedDate), MONTH(i.closedDate), DAY(i.closedDate), COUNT(*) "
+  // title 추천 trie용
+  @Query("SELECT i.id.issueId, i.title "
       + "FROM Issue i "
-      + "WHERE i.id.projectId = :projectId "
-      + "AND i.closedDate >= :startDate "
-      + "GROUP BY YEAR(i.closedDate), MONTH(i.closedDate), DAY(i.closedDate)")
-  List<Object[]> countByClosedDate_Day(@Param("projectId") Long projectId, @Param("startDate") LocalDateTime startDate);
+      + "WHERE i.id.projectId = :projectId")
+  List<Object[]> findAllTitles(@Param("projectId") Long projectId);
 
-  @Query("SELECT YEAR(i.closedDate), MONTH(i.closedDate), COUNT(*) "
+  // 전문 검색 색인용 title, description
+  @Query("SELECT i.id.issueId, i.title, i.description "
       + "FROM Issue i "
-      + "WHERE i.id.projectId = :projectId "
-      + "AND i.closedDate >= :startDate "
-      + "GROUP BY YEAR(i.closedDate), MONTH(i.closedDate)")
-  List<Object[]> countByClosedDate_Month(@Param("projectId") Long projectId, @Param("startDate") LocalDateTime startDate);
-
-  @Query("SELECT i.manager.username, COUNT(*) AS count " +
-      "FROM Issue i " +
-      "WHERE i.reportedDate >= :startDate AND i.project.projectId = :projectId " +
-      "GROUP BY i.manager.username " +
-      "ORDER BY count DESC " +
-      "LIMIT 1")
-  Object[] findBestManagerDuringLastWeek(@Param("projectId") Long projectId, @Param("startDate") LocalDateTime startDate);
-
-  @Query("SELECT i.assignee.username, COUNT(*) AS count " +
-      "FROM Issue i " +
-      "WHERE i.reportedDate >= :startDate AND i.project.projectId = :projectId " +
-      "GROUP BY i.assignee.username " +
-      "ORDER BY count DESC " +
-      "LIMIT 1")
-  Object[] findBestAssigneeDuringLastWeek(@Param("projectId") Long projectId, @Param("startDate") LocalDateTime startDate);
-
-  @Query("SELECT i.reporter.username, COUNT(*) AS count " +
-      "FROM Issue i " +
-      "WHERE i.reportedDate >= :startDate AND i.project.projectId = :projectId " +
-      "GROUP BY i.reporter.username " +
-      "ORDER BY count DESC " +
-      "LIMIT 1")
-  Object[] findBestReporterDuringLastWeek(@Param("projectId") Long projectId, @Param("startDate") LocalDateTime startDate);
-
-  @Query("SELECT i.assignee.username, COUNT(*) AS assigneeCount, SUM(CASE WHEN i.status <> 4 THEN 1 ELSE 0 END) AS openIssueCount " +
-      "FROM Issue i " +
-      "WHERE i.keyword = :keyword AND i.project.projectId = :projectId " +
-      "GROUP BY i.assignee.username " +
-      "ORDER BY assigneeCount DESC, openIssueCount ASC "
-      + "LIMIT 1")
-  Object[] findAssigneeSuggestionByKeyword(@Param("projectId") Long projectId, @Param("keyword") IssueKeyword issueKeyword);
+      + "WHERE i.id.projectId = :projectId")
+  List<Object[]> findTexts(@Param("projectId") Long projectId);
 
-  @Query("SELECT i.assignee.username, COUNT(*) AS assigneeCount, SUM(CASE WHEN i.status <> 4 THEN 1 ELSE 0 END) AS openIssueCount " +
+  // 기간 내 이슈를 (project_id, reported_date) 인덱스 범위로 한 번만 읽어
+  // 같은 (manager, assignee, reporter) 조합끼리 센 (manager, assignee, reporter, 이슈 수)
+  @Query("SELECT m.username, a.username, r.username, COUNT(i) " +
       "FROM Issue i " +
-      "WHERE i.project.projectId = :projectId " +
-      "GROUP BY i.assignee.username " +
-      "ORDER BY assigneeCount DESC, openIssueCount ASC "
-      + "LIMIT 1")
-  Object[] findAssigneeSuggestion(@Param("projectId") Long projectId);
-
-  @Query("SELECT i FROM Issue i WHERE i.id.projectId = :projectId")
-  List<Issue> findByProjectId(@Param("projectId") Long projectId);
-
-  List<Issue> findById_ProjectIdAndTitle(Long projectId, String title);
-
-  List<Issue> findById_ProjectIdAndDescription(Long projectId, String description);
-
-  List<Issue> findById_ProjectIdAndKeyword(Long projectId, IssueKeyword keyword);
-
-  List<Issue> findById_ProjectIdAndReporter_Username(Long projectId, String reporter);
-
-  List<Issue> findById_ProjectIdAndManager_Username(Long projectId, String manager);
-
-  List<Issue> findById_ProjectIdAndAssignee_Username(Long projectId, String assignee);
-
-  List<Issue> findById_ProjectIdAndFixer_Username(Long projectId, String fixer);
-
-  List<Issue> findById_ProjectIdAndPriority(Long projectId, IssuePriority priority);
-
-  List<Issue> findById_ProjectIdAndStatus(Long projectId, IssueStatus status);
-
-  List<Issue> findByStatusNotAndIdProjectId(IssueStatus issueStatus, Long projectId);
+      "LEFT JOIN i.manager m " +
+      "LEFT JOIN i.assignee a " +
+      "LEFT JOIN i.reporter r " +
+      "WHERE i.project.projectId = :projectId AND i.reportedDate >= :startDate " +
+      "GROUP BY m.username, a.username, r.username")
+  List<Object[]> countMembersReportedSince(@Param("projectId") Long projectId,
+      @Param("startDate") LocalDateTime startDate);
+
+  // assignee 추천 모델용 assignee나 fixer가 있는 이슈의 (issue_id, keyword, status, assignee, fixer)
+  @Query("SELECT i.id.issueId, i.keyword, i.status, a.accountId, f.accountId "
+      + "FROM Issue i "
+      + "LEFT JOIN i.assignee a "
+      + "LEFT JOIN i.fixer f "
+      + "WHERE i.id.projectId = :projectId AND (a IS NOT NULL OR f IS NOT NULL)")
+  List<Object[]> findWorkloads(@Param("projectId") Long projectId);
+
+  // 비슷한 이슈 색인용 해결된 이슈의 fixer, title, description
+  @Query("SELECT i.id.issueId, f.accountId, i.title, i.description "
+      + "FROM Issue i JOIN i.fixer f "
+      + "WHERE i.id.projectId = :projectId AND i.status IN :statuses")
+  List<Object[]> findFixedTexts(@Param("projectId") Long projectId,
+      @Param("statuses") Collection<IssueStatus> statuses);
+
+  // 일괄 변경할 이슈를 검증하는 동안 다른 변경이 끼어들지 않도록 잠금 (교착을 피하려고 issue_id 순)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT i "
+      + "FROM Issue i "
+      + "WHERE i.id.projectId = :projectId AND i.id.issueId IN :issueIds "
+      + "ORDER BY i.id.issueId")
+  List<Issue> findAllForUpdate(@Param("projectId") Long projectId, @Param("issueIds") Collection<Long> issueIds);
+
+  @Modifying
+  @Query("UPDATE Issue i "
+      + "SET i.status = :status, i.version = i.version + 1 "
+      + "WHERE i.id.projectId = :projectId AND i.id.issueId IN :issueIds")
+  int updateStatus(@Param("projectId") Long projectId, @Param("issueIds") Collection<Long> issueIds,
+      @Param("status") IssueStatus status);
+
+  @Modifying
+  @Query("UPDATE Issue i "
+      + "SET i.status = :status, i.fixer = :fixer, i.version = i.version + 1 "
+      + "WHERE i.id.projectId = :projectId AND i.id.issueId IN :issueIds")
+  int updateStatusAndFixer(@Param("projectId") Long projectId, @Param("issueIds") Collection<Long> issueIds,
+      @Param("status") IssueStatus status, @Param("fixer") Account fixer);
+
+  @Modifying
+  @Query("UPDATE Issue i "
+      + "SET i.status = :status, i.closedDate = :closedDate, i.version = i.version + 1 "
+      + "WHERE i.id.projectId = :projectId AND i.id.issueId IN :issueIds")
+  int updateStatusAndClosedDate(@Param("projectId") Long projectId, @Param("issueIds") Collection<Long> issueIds,
+      @Param("status") IssueStatus status, @Param("closedDate") LocalDateTime closedDate);
+
+  @Modifying
+  @Query("UPDATE Issue i "
+      + "SET i.status = :status, i.assignee = :assignee, i.manager = :manager, i.version = i.version + 1 "
+      + "WHERE i.id.projectId = :projectId AND i.id.issueId IN :issueIds")
+  int updateAssignee(@Param("projectId") Long projectId, @Param("issueIds") Collection<Long> issueIds,
+      @Param("status") IssueStatus status, @Param("assignee") Account assignee, @Param("manager") Account manager);
+
+  // 이슈 상세 응답에 포함되는 값(이슈, 코멘트)이 바뀔 때마다 호출
+  @Modifying
+  @Query("UPDATE Issue i SET i.version = i.version + 1 "
+      + "WHERE i.id.projectId = :projectId AND i.id.issueId = :issueId")
+  int bumpVersion(@Param("projectId") Long projectId, @Param("issueId") Long issueId);
+
+  @Query("SELECT i.version FROM Issue i WHERE i.id.projectId = :projectId AND i.id.issueId = :issueId")
+  Optional<Long> findVersion(@Param("projectId") Long projectId, @Param("issueId") Long issueId);
 }
@@ -0,0 +1,30 @@
+package com.example.issuetrackingsystem.repository;
+
+import com.example.issuetrackingsystem.domain.Issue;
+import java.util.List;
+
+public interface IssueRepositoryCustom {
+  // (정렬 값, issue_id) 기준 keyset 페이지
+  // 결과: issue_id, title, status, priority, reported_date, due_date
+  List<Object[]> findPage(Long projectId, IssueSortKey sortKey, boolean descending,
+      Object afterValue, Long afterIssueId, int limit);
+
+  // 검색 조건을 한 번의 쿼리로 조회 (reported_date 최신순, 전문 검색 조건이 있으면 순위순)
+  // 결과: issue_id, title, status, reported_date, due_date
+  List<Object[]> search(Long projectId, IssueSearchFilter filter, int offset, int limit);
+
+  // 조건에 맞는 전체 이슈 수 (조건에 맞는 행을 모두 읽으므로 페이지로 알 수 없을 때만 호출)
+  long countSearch(Long projectId, IssueSearchFilter filter);
+
+  // 전문 검색 결과 issue_id 중 나머지 검색 조건에 맞는 id (issueIds 순서 유지)
+  List<Long> filterIds(Long projectId, IssueSearchFilter filter, List<Long> issueIds);
+
+  // id를 미리 발급받은 이슈들을 JDBC batch로 INSERT (reported_date가 없으면 DB 기본값)
+  void batchInsert(List<Issue> issues);
+
+  // afterIssueId 다음 이슈 issueLimit개와 그 코멘트를 (issue_id, comment_id) 순서로 조회 (내보내기 keyset 페이지)
+  // 결과: issue_id, title, description, keyword, priority, status, reporter, reported_date, due_date,
+  //       manager, assignee, fixer, closed_date, comment_id, comment 작성자, comment content, comment date
+  // 코멘트가 없는 이슈는 comment 값이 모두 null인 한 행
+  List<Object[]> findExportChunk(Long projectId, Long afterIssueId, int issueLimit);
+}
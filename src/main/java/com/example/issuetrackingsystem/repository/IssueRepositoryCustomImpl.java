@@ -0,0 +1,276 @@
+package com.example.issuetrackingsystem.repository;
+
+import com.example.issuetrackingsystem.domain.Account;
+import com.example.issuetrackingsystem.domain.Issue;
+import com.example.issuetrackingsystem.domain.enums.IssueKeyword;
+import com.example.issuetrackingsystem.domain.enums.IssuePriority;
+import com.example.issuetrackingsystem.domain.enums.IssueStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class IssueRepositoryCustomImpl implements IssueRepositoryCustom {
+
+  private static final int BATCH_SIZE = 500;
+  // 전문 검색 결과를 조건으로 거를 때 한 번의 IN 목록에 넣는 최대 issue_id 수
+  private static final int FILTER_CHUNK_SIZE = 1000;
+
+  // afterIssueId 다음 이슈 limit개를 (project_id, id) PK 범위로 고른 뒤 코멘트와 계정을 붙임
+  // issue, comment 모두 PK가 (project_id, issue_id, ...) 순서라 정렬 없이 PK 순서로 읽힘
+  private static final String EXPORT_SQL = "SELECT i.id, i.title, i.description, i.keyword, i.priority, i.status, "
+      + "r.username AS reporter, i.reported_date, i.due_date, m.username AS manager, a.username AS assignee, "
+      + "f.username AS fixer, i.closed_date, c.id AS comment_id, ca.username AS comment_author, "
+      + "c.content AS comment_content, c.date AS comment_date "
+      + "FROM (SELECT id FROM issue WHERE project_id = ? AND id > ? ORDER BY id LIMIT ?) p "
+      + "JOIN issue i ON i.project_id = ? AND i.id = p.id "
+      + "JOIN account r ON r.id = i.reporter "
+      + "LEFT JOIN account m ON m.id = i.manager "
+      + "LEFT JOIN account a ON a.id = i.assignee "
+      + "LEFT JOIN account f ON f.id = i.fixer "
+      + "LEFT JOIN comment c ON c.project_id = i.project_id AND c.issue_id = i.id "
+      + "LEFT JOIN account ca ON ca.id = c.account_id "
+      + "ORDER BY i.id, c.id";
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public IssueRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public List<Object[]> findPage(Long projectId, IssueSortKey sortKey, boolean descending,
+      Object afterValue, Long afterIssueId, int limit) {
+    String property = "i." + sortKey.getProperty();
+    String direction = descending ? "DESC" : "ASC";
+    String after = descending ? "<" : ">";
+
+    // (project_id, 정렬 컬럼) 인덱스 뒤에 PK(issue_id)가 붙어 있으므로 정렬과 범위 조건 모두 인덱스로 처리됨
+    StringBuilder jpql = new StringBuilder("SELECT i.id.issueId, i.title, i.status, i.priority, i.reportedDate, i.dueDate "
+        + "FROM Issue i "
+        + "WHERE i.id.projectId = :projectId");
+    if (afterIssueId != null) {
+      jpql.append(" AND (").append(property).append(' ').append(after).append(" :afterValue")
+          .append(" OR (").append(property).append(" = :afterValue")
+          .append(" AND i.id.issueId ").append(after).append(" :afterIssueId))");
+    }
+    jpql.append(" ORDER BY ").append(property).append(' ').append(direction)
+        .append(", i.id.issueId ").append(direction);
+
+    TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class)
+        .setParameter("projectId", projectId)
+        .setMaxResults(limit);
+    if (afterIssueId != null) {
+      query.setParameter("afterValue", afterValue)
+          .setParameter("afterIssueId", afterIssueId);
+    }
+    return query.getResultList();
+  }
+
+  @Override
+  public List<Object[]> search(Long projectId, IssueSearchFilter filter, int offset, int limit) {
+    SearchCondition condition = SearchCondition.of(projectId, filter);
+
+    // 전체 이슈 수는 함께 세지 않음 (세려면 조건에 맞는 행을 모두 읽어야 해서 LIMIT에서 멈출 수 없음)
+    String sql = "SELECT i.id, i.title, i.status, i.reported_date, i.due_date "
+        + "FROM issue i" + condition.indexHint()
+        + " WHERE " + condition.where
+        + " ORDER BY " + condition.orderBy()
+        + " LIMIT ? OFFSET ?";
+    List<Object> args = new ArrayList<>(condition.args);
+    args.addAll(condition.orderArgs);
+    args.add(limit);
+    args.add(offset);
+
+    return jdbcTemplate.query(sql, (rs, rowNum) -> new Object[]{
+        rs.getLong("id"),
+        rs.getString("title"),
+        IssueStatus.values()[rs.getInt("status")],
+        rs.getTimestamp("reported_date").toLocalDateTime(),
+        rs.getTimestamp("due_date").toLocalDateTime().toLocalDate()
+    }, args.toArray());
+  }
+
+  @Override
+  public long countSearch(Long projectId, IssueSearchFilter filter) {
+    SearchCondition condition = SearchCondition.of(projectId, filter);
+    Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM issue i" + condition.indexHint()
+        + " WHERE " + condition.where, Long.class, condition.args.toArray());
+    return count == null ? 0 : count;
+  }
+
+  @Override
+  public List<Long> filterIds(Long projectId, IssueSearchFilter filter, List<Long> issueIds) {
+    List<Long> filtered = new ArrayList<>();
+    for (int from = 0; from < issueIds.size(); from += FILTER_CHUNK_SIZE) {
+      List<Long> chunk = issueIds.subList(from, Math.min(from + FILTER_CHUNK_SIZE, issueIds.size()));
+      SearchCondition condition = SearchCondition.of(projectId, filter.toBuilder().issueIds(chunk).build());
+      Set<Long> matched = new HashSet<>(jdbcTemplate.queryForList("SELECT i.id FROM issue i WHERE " + condition.where,
+          Long.class, condition.args.toArray()));
+      for (Long issueId : chunk) {
+        if (matched.contains(issueId)) {
+          filtered.add(issueId);
+        }
+      }
+    }
+    return filtered;
+  }
+
+  @Override
+  public void batchInsert(List<Issue> issues) {
+    if (issues.isEmpty()) {
+      return;
+    }
+
+    jdbcTemplate.batchUpdate("INSERT INTO issue (project_id, id, title, description, keyword, reporter, reported_date, "
+            + "due_date, manager, assignee, fixer, priority, status, closed_date) "
+            + "VALUES (?, ?, ?, ?, ?, ?, COALESCE(?, CURRENT_TIMESTAMP), ?, ?, ?, ?, ?, ?, ?)",
+        issues, BATCH_SIZE, (ps, issue) -> {
+          ps.setLong(1, issue.getId().getProjectId());
+          ps.setLong(2, issue.getId().getIssueId());
+          ps.setString(3, issue.getTitle());
+          ps.setString(4, issue.getDescription());
+          ps.setObject(5, issue.getKeyword() == null ? null : issue.getKeyword().ordinal(), Types.INTEGER);
+          ps.setLong(6, issue.getReporter().getAccountId());
+          ps.setTimestamp(7, issue.getReportedDate() == null ? null : Timestamp.valueOf(issue.getReportedDate()));
+          ps.setTimestamp(8, Timestamp.valueOf(issue.getDueDate().atStartOfDay()));
+          ps.setObject(9, accountId(issue.getManager()), Types.BIGINT);
+          ps.setObject(10, accountId(issue.getAssignee()), Types.BIGINT);
+          ps.setObject(11, accountId(issue.getFixer()), Types.BIGINT);
+          ps.setInt(12, issue.getPriority().ordinal());
+          ps.setInt(13, issue.getStatus().ordinal());
+          ps.setTimestamp(14, issue.getClosedDate() == null ? null : Timestamp.valueOf(issue.getClosedDate()));
+        });
+  }
+
+  @Override
+  public List<Object[]> findExportChunk(Long projectId, Long afterIssueId, int issueLimit) {
+    // 한 묶음씩 끝까지 읽고 connection을 돌려주므로, 느린 클라이언트에게 쓰는 동안 connection이나
+    // 서버 쪽 결과(net_write_timeout)를 붙잡고 있지 않음
+    return jdbcTemplate.query(EXPORT_SQL, (rs, rowNum) -> {
+      Object keyword = rs.getObject("keyword");
+      return new Object[]{
+          rs.getLong("id"),
+          rs.getString("title"),
+          rs.getString("description"),
+          keyword == null ? null : IssueKeyword.values()[((Number) keyword).intValue()],
+          IssuePriority.values()[rs.getInt("priority")],
+          IssueStatus.values()[rs.getInt("status")],
+          rs.getString("reporter"),
+          dateTime(rs, "reported_date"),
+          rs.getTimestamp("due_date").toLocalDateTime().toLocalDate(),
+          rs.getString("manager"),
+          rs.getString("assignee"),
+          rs.getString("fixer"),
+          dateTime(rs, "closed_date"),
+          rs.getObject("comment_id", Long.class),
+          rs.getString("comment_author"),
+          rs.getString("comment_content"),
+          dateTime(rs, "comment_date")
+      };
+    }, projectId, afterIssueId, issueLimit, projectId);
+  }
+
+  private static LocalDateTime dateTime(ResultSet rs, String column) throws SQLException {
+    Timestamp timestamp = rs.getTimestamp(column);
+    return timestamp == null ? null : timestamp.toLocalDateTime();
+  }
+
+  private static Long accountId(Account account) {
+    return account == null ? null : account.getAccountId();
+  }
+
+  private static class SearchCondition {
+    private final StringBuilder where = new StringBuilder("i.project_id = ?");
+    private final List<Object> args = new ArrayList<>();
+    private final List<Object> orderArgs = new ArrayList<>();
+    private String index;
+    private String ranking;
+
+    // 검색 조건을 WHERE 절로 변환하고 사용할 (project_id, ...) 인덱스를 고름
+    // 등호 조건(status, priority)이 범위 조건보다 우선이며, 계정 조건이 있으면 FK 인덱스 선택을 옵티마이저에 맡김
+    static SearchCondition of(Long projectId, IssueSearchFilter filter) {
+      SearchCondition condition = new SearchCondition();
+      condition.args.add(projectId);
+
+      if (filter.getIssueIds() != null) {
+        condition.where.append(" AND i.id IN (")
+            .append(String.join(", ", Collections.nCopies(filter.getIssueIds().size(), "?")))
+            .append(')');
+        condition.args.addAll(filter.getIssueIds());
+        // 전문 검색 순위대로 정렬
+        condition.ranking = "FIELD(i.id, " + String.join(", ", Collections.nCopies(filter.getIssueIds().size(), "?")) + ")";
+        condition.orderArgs.addAll(filter.getIssueIds());
+      }
+      condition.equal("i.keyword", filter.getKeyword() == null ? null : filter.getKeyword().ordinal());
+      condition.equal("i.reporter", filter.getReporterId());
+      condition.equal("i.manager", filter.getManagerId());
+      condition.equal("i.assignee", filter.getAssigneeId());
+      condition.equal("i.fixer", filter.getFixerId());
+      condition.equal("i.priority", filter.getPriority() == null ? null : filter.getPriority().ordinal());
+      condition.equal("i.status", filter.getStatus() == null ? null : filter.getStatus().ordinal());
+      condition.between("i.reported_date", filter.getReportedFrom(), filter.getReportedTo());
+      condition.between("i.due_date", filter.getDueFrom(), filter.getDueTo());
+
+      boolean byAccount = filter.getReporterId() != null || filter.getManagerId() != null
+          || filter.getAssigneeId() != null || filter.getFixerId() != null;
+      if (byAccount || filter.getIssueIds() != null) {
+        // 전문 검색 결과는 PK로 바로 찾음
+        condition.index = null;
+      } else if (filter.getStatus() != null) {
+        // status/priority/due_date 인덱스는 정렬 순서와 달라 조건에 맞는 행을 모두 읽고 정렬함
+        condition.index = "idx_issue_project_status";
+      } else if (filter.getPriority() != null) {
+        condition.index = "idx_issue_project_priority";
+      } else if (filter.getReportedFrom() == null && filter.getReportedTo() == null
+          && (filter.getDueFrom() != null || filter.getDueTo() != null)) {
+        condition.index = "idx_issue_project_due_date";
+      } else {
+        // 정렬 순서와 같은 인덱스라 정렬 없이 OFFSET + LIMIT 행까지만 읽음 (날짜 범위 조건도 인덱스 범위로 처리)
+        condition.index = "idx_issue_project_reported_date";
+      }
+      return condition;
+    }
+
+    String orderBy() {
+      return ranking == null ? "i.reported_date DESC, i.id DESC" : ranking + ", i.id DESC";
+    }
+
+    String indexHint() {
+      return index == null ? "" : " USE INDEX (" + index + ")";
+    }
+
+    private void equal(String column, Object value) {
+      if (value != null) {
+        where.append(" AND ").append(column).append(" = ?");
+        args.add(value);
+      }
+    }
+
+    // TIMESTAMP 컬럼이므로 [from 00:00, to 다음날 00:00)
+    private void between(String column, LocalDate from, LocalDate to) {
+      if (from != null) {
+        where.append(" AND ").append(column).append(" >= ?");
+        args.add(Timestamp.valueOf(from.atStartOfDay()));
+      }
+      if (to != null) {
+        where.append(" AND ").append(column).append(" < ?");
+        args.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+      }
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.example.issuetrackingsystem.repository;
+
+import com.example.issuetrackingsystem.domain.enums.IssueKeyword;
+import com.example.issuetrackingsystem.domain.enums.IssuePriority;
+import com.example.issuetrackingsystem.domain.enums.IssueStatus;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+// 이슈 검색 조건 (null인 조건은 적용하지 않음, 날짜 범위는 양 끝 포함)
+@Getter
+@EqualsAndHashCode
+@Builder(toBuilder = true)
+public class IssueSearchFilter {
+  // 전문 검색 결과 issue_id (순위 순, 결과를 이 순서로 정렬)
+  private List<Long> issueIds;
+  private IssueKeyword keyword;
+  private Long reporterId;
+  private Long managerId;
+  private Long assigneeId;
+  private Long fixerId;
+  private IssuePriority priority;
+  private IssueStatus status;
+  private LocalDate reportedFrom;
+  private LocalDate reportedTo;
+  private LocalDate dueFrom;
+  private LocalDate dueTo;
+}
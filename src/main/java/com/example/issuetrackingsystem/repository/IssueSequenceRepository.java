@@ -0,0 +1,28 @@
+package com.example.issuetrackingsystem.repository;
+
+import com.example.issuetrackingsystem.domain.IssueSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface IssueSequenceRepository extends JpaRepository<IssueSequence, Long> {
+  @Modifying
+  @Query("UPDATE IssueSequence s "
+      + "SET s.nextId = s.nextId + :size "
+      + "WHERE s.projectId = :projectId")
+  int advance(@Param("projectId") Long projectId, @Param("size") long size);
+
+  @Query("SELECT s.nextId "
+      + "FROM IssueSequence s "
+      + "WHERE s.projectId = :projectId")
+  Long findNextId(@Param("projectId") Long projectId);
+
+  // 기존 프로젝트는 현재 issue_id 최댓값에서 시작, 동시에 생성되어도 한 row만 남음
+  @Modifying
+  @Query(value = "INSERT IGNORE INTO issue_sequence (project_id, next_id) "
+      + "SELECT :projectId, COALESCE(MAX(i.id), 0) + 1 "
+      + "FROM issue i "
+      + "WHERE i.project_id = :projectId", nativeQuery = true)
+  int initialize(@Param("projectId") Long projectId);
+}
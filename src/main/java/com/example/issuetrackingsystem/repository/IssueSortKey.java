@@ -0,0 +1,35 @@
+package com.example.issuetrackingsystem.repository;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+// 프로젝트 상세 이슈 목록의 정렬 기준 (동순위는 issue_id로 정렬)
+public enum IssueSortKey {
+  REPORTED_DATE("reportedDate", true),
+  DUE_DATE("dueDate", false),
+  PRIORITY("priority", false),
+  STATUS("status", false);
+
+  // Issue 엔티티의 필드 이름 (요청 파라미터 값으로도 사용)
+  private final String property;
+  private final boolean defaultDescending;
+
+  IssueSortKey(String property, boolean defaultDescending) {
+    this.property = property;
+    this.defaultDescending = defaultDescending;
+  }
+
+  public String getProperty() {
+    return property;
+  }
+
+  public boolean isDefaultDescending() {
+    return defaultDescending;
+  }
+
+  public static Optional<IssueSortKey> of(String property) {
+    return Arrays.stream(values())
+        .filter(key -> key.property.equals(property))
+        .findFirst();
+  }
+}
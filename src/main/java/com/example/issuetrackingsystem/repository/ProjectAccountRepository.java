@@ -1,12 +1,21 @@
 package com.example.issuetrackingsystem.repository;
 
 import com.example.issuetrackingsystem.domain.ProjectAccount;
-import com.example.issuetrackingsystem.domain.enums.ProjectAccountRole;
 import com.example.issuetrackingsystem.domain.key.ProjectAccountPK;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProjectAccountRepository extends JpaRepository<ProjectAccount, ProjectAccountPK> {
-  List<ProjectAccount> findByProjectProjectIdAndRole(Long projectId, ProjectAccountRole role);
-  List<ProjectAccount> findById_ProjectId(Long projectId);
+  // 소속 인덱스 적재용 (project_id, account_id, username, role)
+  @Query("SELECT pa.id.projectId, pa.id.accountId, a.username, pa.role "
+      + "FROM ProjectAccount pa JOIN pa.account a")
+  List<Object[]> findAllMembers();
+
+  // 인덱스에 없는 프로젝트/소속을 조회할 때 한 프로젝트만 다시 적재 (account_id, username, role)
+  @Query("SELECT pa.id.accountId, a.username, pa.role "
+      + "FROM ProjectAccount pa JOIN pa.account a "
+      + "WHERE pa.id.projectId = :projectId")
+  List<Object[]> findMembers(@Param("projectId") Long projectId);
 }
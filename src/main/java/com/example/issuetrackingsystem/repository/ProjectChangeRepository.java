@@ -0,0 +1,20 @@
+package com.example.issuetrackingsystem.repository;
+
+import com.example.issuetrackingsystem.domain.ProjectChange;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProjectChangeRepository extends JpaRepository<ProjectChange, Long>, ProjectChangeRepositoryCustom {
+  // PK 범위로 읽음
+  @Query("SELECT c "
+      + "FROM ProjectChange c "
+      + "WHERE c.id > :afterId "
+      + "ORDER BY c.id")
+  List<ProjectChange> findAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+  @Query("SELECT COALESCE(MAX(c.id), 0) FROM ProjectChange c")
+  Long findMaxId();
+}
@@ -0,0 +1,13 @@
+package com.example.issuetrackingsystem.repository;
+
+import com.example.issuetrackingsystem.domain.ProjectChange;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProjectChangeRepositoryCustom {
+  // 이슈 일괄 변경처럼 이벤트가 여러 개여도 JDBC batch로 INSERT (IDENTITY id는 Hibernate가 batch로 넣지 않음)
+  void insertAll(List<ProjectChange> changes);
+
+  // created_date가 before 이전인 행을 limit개씩 나누어 삭제 (각 DELETE는 별도 commit)
+  int deleteBefore(LocalDateTime before, int limit);
+}
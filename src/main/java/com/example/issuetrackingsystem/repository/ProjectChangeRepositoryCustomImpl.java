@@ -0,0 +1,48 @@
+package com.example.issuetrackingsystem.repository;
+
+import com.example.issuetrackingsystem.domain.ProjectChange;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class ProjectChangeRepositoryCustomImpl implements ProjectChangeRepositoryCustom {
+
+  private static final int BATCH_SIZE = 500;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public ProjectChangeRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public void insertAll(List<ProjectChange> changes) {
+    if (changes.isEmpty()) {
+      return;
+    }
+
+    jdbcTemplate.batchUpdate("INSERT INTO project_change (project_id, name, issue_id, status, comment_id) "
+            + "VALUES (?, ?, ?, ?, ?)",
+        changes, BATCH_SIZE, (ps, change) -> {
+          ps.setLong(1, change.getProjectId());
+          ps.setString(2, change.getName());
+          ps.setObject(3, change.getIssueId(), Types.BIGINT);
+          ps.setObject(4, change.getStatus(), Types.INTEGER);
+          ps.setObject(5, change.getCommentId(), Types.BIGINT);
+        });
+  }
+
+  @Override
+  public int deleteBefore(LocalDateTime before, int limit) {
+    int total = 0;
+    int deleted;
+    do {
+      deleted = jdbcTemplate.update("DELETE FROM project_change WHERE created_date < ? ORDER BY id LIMIT ?",
+          Timestamp.valueOf(before), limit);
+      total += deleted;
+    } while (deleted == limit);
+    return total;
+  }
+}
@@ -0,0 +1,42 @@
+package com.example.issuetrackingsystem.repository;
+
+import com.example.issuetrackingsystem.domain.ProjectIssueCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProjectIssueCountRepository extends JpaRepository<ProjectIssueCount, Long> {
+  @Modifying
+  @Query("UPDATE ProjectIssueCount c "
+      + "SET c.openCount = c.openCount + :openDelta, c.closedCount = c.closedCount + :closedDelta "
+      + "WHERE c.projectId = :projectId")
+  int adjust(@Param("projectId") Long projectId, @Param("openDelta") long openDelta,
+      @Param("closedDelta") long closedDelta);
+
+  @Query("SELECT c.openCount "
+      + "FROM ProjectIssueCount c "
+      + "WHERE c.projectId = :projectId")
+  Long findOpenCount(@Param("projectId") Long projectId);
+
+  // status 4 = CLOSED
+  @Modifying(flushAutomatically = true)
+  @Query(value = "INSERT INTO project_issue_count (project_id, open_count, closed_count) "
+      + "SELECT :projectId, "
+      + "COALESCE(SUM(CASE WHEN i.status <> 4 THEN 1 ELSE 0 END), 0), "
+      + "COALESCE(SUM(CASE WHEN i.status = 4 THEN 1 ELSE 0 END), 0) "
+      + "FROM issue i "
+      + "WHERE i.project_id = :projectId "
+      + "ON DUPLICATE KEY UPDATE open_count = VALUES(open_count), closed_count = VALUES(closed_count)", nativeQuery = true)
+  int rebuild(@Param("projectId") Long projectId);
+
+  @Modifying
+  @Query(value = "INSERT INTO project_issue_count (project_id, open_count, closed_count) "
+      + "SELECT p.id, "
+      + "COALESCE(SUM(CASE WHEN i.status <> 4 THEN 1 ELSE 0 END), 0), "
+      + "COALESCE(SUM(CASE WHEN i.status = 4 THEN 1 ELSE 0 END), 0) "
+      + "FROM project p LEFT JOIN issue i ON i.project_id = p.id "
+      + "GROUP BY p.id "
+      + "ON DUPLICATE KEY UPDATE open_count = VALUES(open_count), closed_count = VALUES(closed_count)", nativeQuery = true)
+  int rebuildAll();
+}
@@ -1,12 +1,25 @@
 package com.example.issuetrackingsystem.repository;
 
 import com.example.issuetrackingsystem.domain.Project;
-import java.util.List;
+import com.example.issuetrackingsystem.domain.enums.ProjectStatus;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
-    @Query("SELECT p FROM Project p JOIN ProjectAccount pa ON p.projectId = pa.project.projectId WHERE pa.account.accountId = :accountId")
-    List<Project> findByAccountId(@Param("accountId") Long accountId);
+    // project.version은 같은 트랜잭션의 ProjectVersions.changed가 올림
+    @Modifying
+    @Query("UPDATE Project p SET p.status = :status "
+        + "WHERE p.projectId = :projectId AND p.status <> :status")
+    int updateStatus(@Param("projectId") Long projectId, @Param("status") ProjectStatus status);
+
+    // 프로젝트 상세 응답에 포함되는 값이 바뀐 트랜잭션마다 commit 직전에 한 번 (ProjectVersions)
+    @Modifying
+    @Query("UPDATE Project p SET p.version = p.version + 1 WHERE p.projectId = :projectId")
+    int bumpVersion(@Param("projectId") Long projectId);
+
+    @Query("SELECT p.version FROM Project p WHERE p.projectId = :projectId")
+    Optional<Long> findVersion(@Param("projectId") Long projectId);
 }
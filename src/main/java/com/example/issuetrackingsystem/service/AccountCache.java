@@ -0,0 +1,101 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.domain.Account;
+import com.example.issuetrackingsystem.repository.AccountRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// username → 계정 캐시 (존재하지 않는 username도 짧게 캐시)
+// account.username은 MySQL 기본 collation에서 대소문자를 구분하지 않으므로 소문자로 바꾼 username을 key로 사용
+@Component
+public class AccountCache {
+
+  private final AccountRepository accountRepository;
+  private final Cache<String, Optional<Account>> cache;
+
+  @Autowired
+  public AccountCache(AccountRepository accountRepository,
+      @Value("${its.account-cache.maximum-size:10000}") long maximumSize,
+      @Value("${its.account-cache.expire-after:10m}") Duration expireAfter,
+      @Value("${its.account-cache.negative-expire-after:30s}") Duration negativeExpireAfter) {
+    this(accountRepository, maximumSize, expireAfter, negativeExpireAfter, Ticker.systemTicker());
+  }
+
+  AccountCache(AccountRepository accountRepository, long maximumSize, Duration expireAfter,
+      Duration negativeExpireAfter, Ticker ticker) {
+    this.accountRepository = accountRepository;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .ticker(ticker)
+        .expireAfter(new Expiry<String, Optional<Account>>() {
+          @Override
+          public long expireAfterCreate(String username, Optional<Account> account, long currentTime) {
+            return (account.isPresent() ? expireAfter : negativeExpireAfter).toNanos();
+          }
+
+          @Override
+          public long expireAfterUpdate(String username, Optional<Account> account, long currentTime,
+              long currentDuration) {
+            return expireAfterCreate(username, account, currentTime);
+          }
+
+          @Override
+          public long expireAfterRead(String username, Optional<Account> account, long currentTime,
+              long currentDuration) {
+            return currentDuration;
+          }
+        })
+        .build();
+  }
+
+  public Optional<Account> find(String username) {
+    return cache.get(key(username), key -> accountRepository.findByUsername(username));
+  }
+
+  // 캐시에 없는 username은 한 번의 IN 쿼리로 조회 (결과에 없는 username은 존재하지 않는 계정)
+  // 결과는 요청한 username을 key로 함 (DB의 username과 대소문자가 달라도 찾을 수 있음)
+  public Map<String, Account> findAll(Collection<String> usernames) {
+    List<String> keys = usernames.stream().map(AccountCache::key).toList();
+    Map<String, Optional<Account>> cached = cache.getAll(keys, this::load);
+
+    Map<String, Account> accounts = new LinkedHashMap<>();
+    for (String username : usernames) {
+      cached.get(key(username)).ifPresent(account -> accounts.put(username, account));
+    }
+    return accounts;
+  }
+
+  // 회원가입 등으로 계정이 생긴 username의 (부재) 캐시 제거
+  public void invalidate(String username) {
+    cache.invalidate(key(username));
+  }
+
+  private Map<String, Optional<Account>> load(Set<? extends String> keys) {
+    Map<String, Optional<Account>> loaded = new HashMap<>();
+    for (String key : keys) {
+      loaded.put(key, Optional.empty());
+    }
+    for (Account account : accountRepository.findByUsernameIn(keys)) {
+      loaded.put(key(account.getUsername()), Optional.of(account));
+    }
+    return loaded;
+  }
+
+  private static String key(String username) {
+    return username.toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,24 @@
+package com.example.issuetrackingsystem.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 메모리 색인/캐시/구독자에게는 commit된 변경만 반영 (트랜잭션 밖에서 호출되면 바로 실행)
+final class AfterCommit {
+
+  private AfterCommit() {
+  }
+
+  static void run(Runnable apply) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          apply.run();
+        }
+      });
+    } else {
+      apply.run();
+    }
+  }
+}
@@ -0,0 +1,198 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.domain.Issue;
+import com.example.issuetrackingsystem.domain.enums.IssueKeyword;
+import com.example.issuetrackingsystem.domain.enums.IssueStatus;
+import com.example.issuetrackingsystem.domain.enums.ProjectAccountRole;
+import com.example.issuetrackingsystem.repository.IssueRepository;
+import com.example.issuetrackingsystem.service.ProjectMembershipIndex.Member;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 프로젝트별 dev의 키워드별 해결 이슈 수와 현재 맡은 열린 이슈 수로 assignee 추천
+@Component
+public class AssigneeRecommender {
+
+  // assignee가 처리 중인 상태
+  private static final Set<IssueStatus> OPEN_STATUSES = EnumSet.of(IssueStatus.ASSIGNED, IssueStatus.REOPENED);
+  // fixer가 해결한 것으로 보는 상태 (REOPENED되면 해결 수에서 제외)
+  private static final Set<IssueStatus> RESOLVED_STATUSES =
+      EnumSet.of(IssueStatus.FIXED, IssueStatus.RESOLVED, IssueStatus.CLOSED);
+
+  // 가장 비슷한 과거 이슈 하나(유사도 1)를 해결한 것이 같은 키워드 이슈 몇 건을 해결한 것과 같은지
+  private static final double SIMILARITY_WEIGHT = 5.0;
+
+  // 점수 내림차순, 같으면 account_id 오름차순
+  private static final Comparator<Candidate> BEST_FIRST = Comparator.comparingDouble(Candidate::getScore).reversed()
+      .thenComparing(Candidate::getAccountId);
+
+  private final IssueRepository issueRepository;
+  private final ProjectMembershipIndex projectMembershipIndex;
+  // 다른 서버에서 처리된 이슈도 반영되도록 reloadAfter마다 백그라운드에서 다시 집계
+  private final ProjectIndexes<ProjectWorkload> projects;
+
+  @Autowired
+  public AssigneeRecommender(IssueRepository issueRepository, ProjectMembershipIndex projectMembershipIndex,
+      @Value("${its.assignee-recommendation.reload-after:30m}") Duration reloadAfter,
+      @Value("${its.assignee-recommendation.idle-after:1h}") Duration idleAfter,
+      IndexReloadExecutor indexReloadExecutor) {
+    this(issueRepository, projectMembershipIndex, reloadAfter, idleAfter, indexReloadExecutor.executor(),
+        Clock.systemDefaultZone());
+  }
+
+  AssigneeRecommender(IssueRepository issueRepository, ProjectMembershipIndex projectMembershipIndex,
+      Duration reloadAfter, Duration idleAfter, Executor executor, Clock clock) {
+    this.issueRepository = issueRepository;
+    this.projectMembershipIndex = projectMembershipIndex;
+    this.projects = new ProjectIndexes<>("ASSIGNEE RECOMMENDATION", this::load, reloadAfter, idleAfter, executor,
+        clock);
+  }
+
+  // 프로젝트 dev를 점수 내림차순으로 최대 limit명
+  // 점수 = (해당 키워드 해결 수 + SIMILARITY_WEIGHT * 비슷한 이슈 유사도 + 1) / (열린 이슈 수 + 1)
+  // 키워드가 없으면 전체 해결 수 사용, similarFixes는 비슷한 과거 이슈의 fixer별 유사도 합 (account_id → 유사도)
+  public List<Candidate> recommend(Long projectId, IssueKeyword keyword, Map<Long, Double> similarFixes, int limit) {
+    List<Member> devs = projectMembershipIndex.members(projectId, ProjectAccountRole.dev);
+    if (devs.isEmpty()) {
+      return new ArrayList<>();
+    }
+    ProjectWorkload workload = projects.get(projectId);
+
+    PriorityQueue<Candidate> heap = new PriorityQueue<>(limit + 1, BEST_FIRST.reversed());
+    for (Member dev : devs) {
+      DevLoad load = workload.devs.getOrDefault(dev.getAccountId(), DevLoad.EMPTY);
+      int resolved = load.resolved(keyword);
+      int open = load.open();
+      double similarity = similarFixes.getOrDefault(dev.getAccountId(), 0.0);
+      double score = (resolved + SIMILARITY_WEIGHT * similarity + 1.0) / (open + 1.0);
+      heap.offer(new Candidate(dev.getAccountId(), dev.getUsername(), score, similarity, resolved, open));
+      if (heap.size() > limit) {
+        heap.poll();
+      }
+    }
+
+    List<Candidate> candidates = new ArrayList<>(heap);
+    candidates.sort(BEST_FIRST);
+    return candidates;
+  }
+
+  // 이슈의 assignee/fixer/status/keyword 변경이 commit된 후 반영
+  // 이슈별 현재 값을 바꾸는 것이므로 같은 변경을 다시 적용해도 결과가 같음 (재구성 중 commit된 변경을 다시 적용)
+  public void issueChanged(Long projectId, Long issueId, IssueWork work) {
+    projects.update(projectId, workload -> workload.put(issueId, work));
+  }
+
+  private ProjectWorkload load(Long projectId) {
+    ProjectWorkload workload = new ProjectWorkload();
+    for (Object[] row : issueRepository.findWorkloads(projectId)) {
+      workload.put((Long) row[0],
+          new IssueWork((IssueKeyword) row[1], (IssueStatus) row[2], (Long) row[3], (Long) row[4]));
+    }
+    return workload;
+  }
+
+  // 추천에 영향을 주는 이슈 상태
+  @Getter
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  public static class IssueWork {
+    private final IssueKeyword keyword;
+    private final IssueStatus status;
+    private final Long assigneeId;
+    private final Long fixerId;
+
+    // 연관 계정은 id만 읽으므로 LAZY 프록시를 초기화하지 않음
+    public static IssueWork of(Issue issue) {
+      return new IssueWork(issue.getKeyword(), issue.getStatus(),
+          issue.getAssignee() == null ? null : issue.getAssignee().getAccountId(),
+          issue.getFixer() == null ? null : issue.getFixer().getAccountId());
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Candidate {
+    private final Long accountId;
+    private final String username;
+    private final double score;
+    private final double similarity;
+    private final int resolvedCount;
+    private final int openCount;
+  }
+
+  private static class ProjectWorkload {
+    private final Map<Long, DevLoad> devs = new ConcurrentHashMap<>();
+    // assignee나 fixer가 있는 이슈의 현재 값 (issue_id → 값)
+    private final Map<Long, IssueWork> works = new HashMap<>();
+
+    // 이전 값의 기여분을 빼고 새 값의 기여분을 더함
+    synchronized void put(Long issueId, IssueWork work) {
+      IssueWork previous = work.assigneeId == null && work.fixerId == null
+          ? works.remove(issueId)
+          : works.put(issueId, work);
+      if (Objects.equals(previous, work)) {
+        return;
+      }
+      if (previous != null) {
+        apply(previous, -1);
+      }
+      apply(work, 1);
+    }
+
+    private void apply(IssueWork work, int delta) {
+      if (work.status == null) {
+        return;
+      }
+      if (work.assigneeId != null && OPEN_STATUSES.contains(work.status)) {
+        devs.computeIfAbsent(work.assigneeId, id -> new DevLoad()).addOpen(delta);
+      }
+      if (work.fixerId != null && RESOLVED_STATUSES.contains(work.status)) {
+        devs.computeIfAbsent(work.fixerId, id -> new DevLoad()).addResolved(work.keyword, delta);
+      }
+    }
+  }
+
+  private static class DevLoad {
+    private static final DevLoad EMPTY = new DevLoad();
+
+    // 키워드별 해결 수, 마지막 칸은 키워드가 없는 이슈
+    private final int[] resolved = new int[IssueKeyword.values().length + 1];
+    private int resolvedTotal;
+    private int open;
+
+    synchronized void addOpen(int delta) {
+      open = Math.max(open + delta, 0);
+    }
+
+    synchronized void addResolved(IssueKeyword keyword, int delta) {
+      int index = keyword == null ? resolved.length - 1 : keyword.ordinal();
+      resolved[index] = Math.max(resolved[index] + delta, 0);
+      resolvedTotal = Math.max(resolvedTotal + delta, 0);
+    }
+
+    synchronized int open() {
+      return open;
+    }
+
+    synchronized int resolved(IssueKeyword keyword) {
+      return keyword == null ? resolvedTotal : resolved[keyword.ordinal()];
+    }
+  }
+}
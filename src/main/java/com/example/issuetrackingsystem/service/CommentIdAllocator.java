@@ -0,0 +1,52 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.domain.key.IssuePK;
+import com.example.issuetrackingsystem.repository.CommentSequenceRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+// 코멘트 id는 코멘트를 추가하는 트랜잭션 안에서 이슈의 comment_sequence row를 올리고 발급
+// - 한 번의 UPDATE ... LAST_INSERT_ID(next_id + n)로 n개를 예약하고, 올린 값은 같은 connection에서 읽으므로
+//   counter row를 다시 조회하지 않음 (counter row가 없는 이슈의 첫 코멘트만 INSERT IGNORE가 한 번 더 실행됨)
+// - row lock은 commit까지 유지되므로 같은 이슈의 코멘트 id는 commit 순서대로 증가함
+//   (코멘트 페이지의 id > cursor, 최신순 정렬이 id 순서에 의존)
+// - 호출하는 쪽의 트랜잭션 안에서만 호출 (트랜잭션 없이 호출하면 row lock이 바로 풀려 commit 순서를 보장하지 않음)
+@Component
+public class CommentIdAllocator {
+
+  private final CommentSequenceRepository commentSequenceRepository;
+
+  public CommentIdAllocator(CommentSequenceRepository commentSequenceRepository) {
+    this.commentSequenceRepository = commentSequenceRepository;
+  }
+
+  public Long allocate(IssuePK issuePK) {
+    return allocate(issuePK, 1);
+  }
+
+  // 같은 이슈에 count개의 연속된 comment_id를 예약하고 첫 id를 반환
+  public Long allocate(IssuePK issuePK, int count) {
+    Long projectId = issuePK.getProjectId();
+    Long issueId = issuePK.getIssueId();
+    Long nextId = commentSequenceRepository.advanceAndGet(projectId, issueId, count);
+    if (nextId == null) {
+      commentSequenceRepository.initialize(projectId, issueId);
+      nextId = commentSequenceRepository.advanceAndGet(projectId, issueId, count);
+    }
+    return nextId - count;
+  }
+
+  // 여러 이슈에 코멘트를 하나씩 달 때 (issue_id → comment_id)
+  // 모든 이슈의 counter row를 몇 번의 set-based 쿼리로 잠그고 한 칸씩 올림
+  public Map<Long, Long> allocateEach(Long projectId, Collection<Long> issueIds) {
+    commentSequenceRepository.initializeAll(projectId, issueIds);
+    commentSequenceRepository.advanceAll(projectId, issueIds, 1);
+    Map<Long, Long> commentIds = new HashMap<>();
+    for (Object[] row : commentSequenceRepository.findNextIds(projectId, issueIds)) {
+      commentIds.put((Long) row[0], (Long) row[1] - 1);
+    }
+    return commentIds;
+  }
+}
@@ -0,0 +1,184 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.repository.IssueCommentDailyRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 프로젝트별 오늘/이번 달 이슈 코멘트 수와 상위 K개 이슈 (best-issue 트렌드용)
+@Component
+public class HotIssueTracker {
+
+  public enum Window {
+    DAY,
+    MONTH
+  }
+
+  // 코멘트 수 내림차순, 같으면 issue_id 오름차순
+  private static final Comparator<Map.Entry<Long, Integer>> HOTTEST_FIRST =
+      Map.Entry.<Long, Integer>comparingByValue().reversed()
+          .thenComparing(Map.Entry.comparingByKey());
+
+  private final IssueCommentDailyRepository issueCommentDailyRepository;
+  private final Clock clock;
+  // 다른 서버에서 등록된 코멘트도 반영되도록 reloadAfter마다 백그라운드에서 일별 집계를 다시 읽음
+  // commit 후에는 증가분이 아니라 (이슈, 날짜)의 누적 수를 반영하므로, 재구성 중 commit된 변경을 다시 적용해도 한 번만 셈
+  private final ProjectIndexes<ProjectComments> projects;
+
+  @Autowired
+  public HotIssueTracker(IssueCommentDailyRepository issueCommentDailyRepository,
+      @Value("${its.hot-issue.reload-after:5m}") Duration reloadAfter,
+      @Value("${its.hot-issue.idle-after:1h}") Duration idleAfter, IndexReloadExecutor indexReloadExecutor) {
+    this(issueCommentDailyRepository, reloadAfter, idleAfter, indexReloadExecutor.executor(),
+        Clock.systemDefaultZone());
+  }
+
+  HotIssueTracker(IssueCommentDailyRepository issueCommentDailyRepository, Duration reloadAfter, Duration idleAfter,
+      Executor executor, Clock clock) {
+    this.issueCommentDailyRepository = issueCommentDailyRepository;
+    this.clock = clock;
+    this.projects = new ProjectIndexes<>("HOT ISSUE", this::load, reloadAfter, idleAfter, executor, clock);
+  }
+
+  // 코멘트 INSERT와 같은 트랜잭션에서 일별 집계를 올리고, commit 후 메모리 집계에 반영
+  public void commentsAdded(Long projectId, Long issueId, int count) {
+    if (count == 0) {
+      return;
+    }
+
+    LocalDate today = LocalDate.now(clock);
+    issueCommentDailyRepository.add(projectId, issueId, today, count);
+    countsAdded(projectId, List.of(issueId), today);
+  }
+
+  // 여러 이슈에 코멘트가 하나씩 달린 경우 (이슈 일괄 변경 내역) 일별 집계를 한 번의 쿼리로 올림
+  public void commentAddedToEach(Long projectId, Collection<Long> issueIds) {
+    if (issueIds.isEmpty()) {
+      return;
+    }
+
+    LocalDate today = LocalDate.now(clock);
+    issueCommentDailyRepository.addAll(projectId, issueIds, today, 1);
+    countsAdded(projectId, issueIds, today);
+  }
+
+  // 방금 올린 row는 이 트랜잭션이 잠그고 있으므로 다시 읽은 누적 수에는 이 트랜잭션까지의 코멘트가 모두 포함됨
+  private void countsAdded(Long projectId, Collection<Long> issueIds, LocalDate today) {
+    Map<Long, Integer> counts = new HashMap<>();
+    for (Object[] row : issueCommentDailyRepository.findCounts(projectId, issueIds, today)) {
+      counts.put((Long) row[0], ((Number) row[1]).intValue());
+    }
+
+    projects.update(projectId, comments -> counts.forEach((issueId, count) -> comments.set(issueId, today, count)));
+  }
+
+  // 기간 내 코멘트가 가장 많은 이슈 k개 (issue_id, 코멘트 수)
+  public List<Map.Entry<Long, Integer>> top(Long projectId, Window window, int k) {
+    return projects.get(projectId).top(window, LocalDate.now(clock), k);
+  }
+
+  private ProjectComments load(Long projectId) {
+    LocalDate today = LocalDate.now(clock);
+    ProjectComments comments = new ProjectComments(today);
+    for (Object[] row : issueCommentDailyRepository.findCountsSince(projectId, today.withDayOfMonth(1))) {
+      comments.set((Long) row[0], (LocalDate) row[1], ((Number) row[2]).intValue());
+    }
+    return comments;
+  }
+
+  private static class ProjectComments {
+    private LocalDate day;
+    // 이번 달 (이슈, 날짜)별 누적 코멘트 수
+    private final Map<IssueDay, Integer> counts = new HashMap<>();
+    private final Map<Long, Integer> dayCounts = new HashMap<>();
+    private final Map<Long, Integer> monthCounts = new HashMap<>();
+    // 마지막으로 계산한 상위 목록 (코멘트가 추가되거나 날짜가 바뀌면 비움)
+    private TopIssues dayTop;
+    private TopIssues monthTop;
+
+    ProjectComments(LocalDate day) {
+      this.day = day;
+    }
+
+    // 누적 수는 commit 순서와 관계없이 커지기만 하므로 더 작거나 같은 값은 이미 반영된 것
+    synchronized void set(Long issueId, LocalDate date, int count) {
+      roll(date);
+      if (date.getMonthValue() != day.getMonthValue() || date.getYear() != day.getYear()) {
+        return;
+      }
+      int previous = counts.getOrDefault(new IssueDay(issueId, date), 0);
+      if (count <= previous) {
+        return;
+      }
+      counts.put(new IssueDay(issueId, date), count);
+      monthCounts.merge(issueId, count - previous, Integer::sum);
+      monthTop = null;
+      if (date.equals(day)) {
+        dayCounts.put(issueId, count);
+        dayTop = null;
+      }
+    }
+
+    // 코멘트가 추가되기 전까지는 같은 목록을 다시 쓰고, 더 적은 k는 앞부분만 잘라서 응답
+    synchronized List<Map.Entry<Long, Integer>> top(Window window, LocalDate today, int k) {
+      roll(today);
+      TopIssues cached = window == Window.DAY ? dayTop : monthTop;
+      if (cached == null || cached.k < k) {
+        cached = new TopIssues(k, computeTop(window == Window.DAY ? dayCounts : monthCounts, k));
+        if (window == Window.DAY) {
+          dayTop = cached;
+        } else {
+          monthTop = cached;
+        }
+      }
+      return cached.issues.size() <= k ? cached.issues : cached.issues.subList(0, k);
+    }
+
+    private static List<Map.Entry<Long, Integer>> computeTop(Map<Long, Integer> counts, int k) {
+      // 크기 k의 min-heap으로 상위 k개만 유지
+      PriorityQueue<Map.Entry<Long, Integer>> heap = new PriorityQueue<>(k + 1, HOTTEST_FIRST.reversed());
+      for (Map.Entry<Long, Integer> entry : counts.entrySet()) {
+        heap.offer(Map.entry(entry.getKey(), entry.getValue()));
+        if (heap.size() > k) {
+          heap.poll();
+        }
+      }
+
+      List<Map.Entry<Long, Integer>> result = new ArrayList<>(heap);
+      result.sort(HOTTEST_FIRST);
+      return Collections.unmodifiableList(result);
+    }
+
+    // 날짜가 바뀌면 오늘 집계를, 달이 바뀌면 이번 달 집계도 비움
+    private void roll(LocalDate today) {
+      if (today.isAfter(day)) {
+        if (today.getMonthValue() != day.getMonthValue() || today.getYear() != day.getYear()) {
+          counts.clear();
+          monthCounts.clear();
+          monthTop = null;
+        }
+        dayCounts.clear();
+        dayTop = null;
+        day = today;
+      }
+    }
+  }
+
+  private record TopIssues(int k, List<Map.Entry<Long, Integer>> issues) {
+  }
+
+  private record IssueDay(Long issueId, LocalDate date) {
+  }
+}
@@ -0,0 +1,21 @@
+package com.example.issuetrackingsystem.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// DB에서 예약한 [start, limit) 구간의 id를 lock 없이 나눠주는 블록
+class IdBlock {
+
+  private final AtomicLong next;
+  private final long limit;
+
+  IdBlock(long start, long limit) {
+    this.next = new AtomicLong(start);
+    this.limit = limit;
+  }
+
+  // 블록을 다 쓰면 -1
+  long next() {
+    long id = next.getAndIncrement();
+    return id < limit ? id : -1;
+  }
+}
@@ -0,0 +1,57 @@
+package com.example.issuetrackingsystem.service;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.ToLongFunction;
+
+// key별로 예약한 id 블록을 보관하고, 블록이 소진된 key만 새 블록을 예약
+class IdBlockCache<K> {
+
+  private static final int LOCK_STRIPES = 64;
+
+  private final int blockSize;
+  private final int maxEntries;
+  private final ConcurrentMap<K, IdBlock> blocks = new ConcurrentHashMap<>();
+  private final Object[] locks = new Object[LOCK_STRIPES];
+
+  IdBlockCache(int blockSize, int maxEntries) {
+    this.blockSize = blockSize;
+    this.maxEntries = maxEntries;
+    for (int i = 0; i < LOCK_STRIPES; i++) {
+      locks[i] = new Object();
+    }
+  }
+
+  // reserve는 blockSize개를 예약하고 시작 id를 반환
+  long next(K key, ToLongFunction<K> reserve) {
+    while (true) {
+      IdBlock block = blocks.get(key);
+      if (block != null) {
+        long id = block.next();
+        if (id > 0) {
+          return id;
+        }
+      }
+
+      synchronized (locks[(key.hashCode() & 0x7fffffff) % LOCK_STRIPES]) {
+        if (blocks.get(key) == block) {
+          long start = reserve.applyAsLong(key);
+          if (block == null) {
+            evictIfFull();
+          }
+          blocks.put(key, new IdBlock(start, start + blockSize));
+        }
+      }
+    }
+  }
+
+  // 남은 id는 버려지지만 DB에서 예약된 구간이라 다시 발급되지 않음
+  private void evictIfFull() {
+    Iterator<K> iterator = blocks.keySet().iterator();
+    while (blocks.size() >= maxEntries && iterator.hasNext()) {
+      iterator.next();
+      iterator.remove();
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package com.example.issuetrackingsystem.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 프로젝트별 메모리 색인과 트렌드 캐시를 백그라운드에서 다시 구성하는 스레드
+// - 구성은 JDBC 조회로 스레드를 오래 막으므로 common pool(CPU 수 - 1개, parallel stream과 공유) 대신 전용 스레드 사용
+// - 동시에 구성하는 프로젝트 수를 threads개로 제한하고 (DB connection pool 보호) 나머지는 queue에서 대기
+// - queue가 가득 차면 RejectedExecutionException (호출하는 쪽은 다음 조회에서 다시 예약)
+// - Executor bean으로 등록하면 Spring의 기본 applicationTaskExecutor가 만들어지지 않으므로 Executor를 구현하지 않고 executor()로 넘김
+@Component
+public class IndexReloadExecutor {
+
+  private final ThreadPoolExecutor executor;
+
+  public IndexReloadExecutor(@Value("${its.index-reload.threads:4}") int threads,
+      @Value("${its.index-reload.queue-size:1000}") int queueSize) {
+    this.executor = new ThreadPoolExecutor(Math.max(threads, 1), Math.max(threads, 1), 60, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(Math.max(queueSize, 1)), daemonThreads());
+    this.executor.allowCoreThreadTimeOut(true);
+  }
+
+  public Executor executor() {
+    return executor;
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private static ThreadFactory daemonThreads() {
+    AtomicInteger count = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "index-reload-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
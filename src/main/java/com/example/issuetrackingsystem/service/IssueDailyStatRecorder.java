@@ -0,0 +1,95 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.repository.IssueCommentDailyRepository;
+import com.example.issuetrackingsystem.repository.IssueDailyStatRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 프로젝트별 일별 등록/종료 이슈 수 집계 (트렌드 조회용)
+@Slf4j
+@Component
+public class IssueDailyStatRecorder {
+
+  private final IssueDailyStatRepository issueDailyStatRepository;
+  private final IssueCommentDailyRepository issueCommentDailyRepository;
+  private final boolean backfillOnStartup;
+
+  public IssueDailyStatRecorder(IssueDailyStatRepository issueDailyStatRepository,
+      IssueCommentDailyRepository issueCommentDailyRepository,
+      @Value("${its.trend.backfill-on-startup:false}") boolean backfillOnStartup) {
+    this.issueDailyStatRepository = issueDailyStatRepository;
+    this.issueCommentDailyRepository = issueCommentDailyRepository;
+    this.backfillOnStartup = backfillOnStartup;
+  }
+
+  public void issueReported(Long projectId) {
+    issueDailyStatRepository.addReported(projectId, LocalDate.now(), 1);
+  }
+
+  public void issueClosed(Long projectId, LocalDateTime closedDate) {
+    issuesClosed(projectId, closedDate, 1);
+  }
+
+  public void issuesClosed(Long projectId, LocalDateTime closedDate, int count) {
+    issueDailyStatRepository.addClosed(projectId, closedDate.toLocalDate(), count);
+  }
+
+  // 다시 열린 이슈는 원래 CLOSED 된 날짜의 집계에서 제외
+  public void issueReopened(Long projectId, LocalDateTime previousClosedDate) {
+    if (previousClosedDate != null) {
+      issueDailyStatRepository.addClosed(projectId, previousClosedDate.toLocalDate(), -1);
+    }
+  }
+
+  // 한꺼번에 다시 열린 이슈들을 원래 종료 날짜별로 묶어서 제외
+  public void issuesReopened(Long projectId, Collection<LocalDateTime> previousClosedDates) {
+    Map<LocalDate, Integer> counts = new HashMap<>();
+    for (LocalDateTime closedDate : previousClosedDates) {
+      if (closedDate != null) {
+        counts.merge(closedDate.toLocalDate(), 1, Integer::sum);
+      }
+    }
+    counts.forEach((date, count) -> issueDailyStatRepository.addClosed(projectId, date, -count));
+  }
+
+  // issue/comment 테이블 전체 이력으로 집계를 다시 생성
+  @Transactional
+  public void backfill() {
+    issueDailyStatRepository.deleteAllInBatch();
+    int reported = issueDailyStatRepository.backfillReported();
+    int closed = issueDailyStatRepository.backfillClosed();
+    log.info("[BACKFILL] issue daily stats rebuilt : {} reported rows, {} closed rows", reported, closed);
+
+    issueCommentDailyRepository.deleteAllInBatch();
+    int comments = issueCommentDailyRepository.backfill();
+    log.info("[BACKFILL] issue comment daily counts rebuilt : {} rows", comments);
+  }
+
+  // 한 프로젝트의 집계만 다시 생성 (이슈를 한꺼번에 가져온 뒤)
+  @Transactional
+  public void backfill(Long projectId) {
+    issueDailyStatRepository.deleteByProjectId(projectId);
+    issueDailyStatRepository.backfillReported(projectId);
+    issueDailyStatRepository.backfillClosed(projectId);
+
+    issueCommentDailyRepository.deleteByProjectId(projectId);
+    issueCommentDailyRepository.backfill(projectId);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void backfillIfConfigured() {
+    if (backfillOnStartup) {
+      backfill();
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.repository.IssueSequenceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 프로젝트별 이슈 번호 발급 (issue_sequence row)
+// 기본값 block-size=20: 별도 트랜잭션(REQUIRES_NEW)으로 예약한 블록을 메모리에서 나눠 주므로,
+// 대부분의 addIssue는 sequence 쿼리 없이 번호를 받고 sequence row는 블록이 소진될 때 예약 트랜잭션 동안만 잠금
+// (같은 프로젝트의 이슈 생성이 서로의 commit을 기다리지 않음)
+// 대신 rollback되거나 서버가 재시작되면 번호가 비고, 서버마다 다른 블록을 쓰므로 번호가 생성 순서와 다를 수 있음
+// block-size=1로 설정하면 이슈 생성 트랜잭션 안에서 sequence row를 잠그고 발급하여 빈 번호가 없지만,
+// 같은 프로젝트의 addIssue는 앞선 트랜잭션이 commit될 때까지 row lock을 기다림 (한 번에 하나씩 생성)
+@Component
+public class IssueIdAllocator {
+
+  private final IssueSequenceRepository issueSequenceRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int blockSize;
+  private final IdBlockCache<Long> blocks;
+
+  public IssueIdAllocator(IssueSequenceRepository issueSequenceRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${its.issue-id.block-size:20}") int blockSize) {
+    this.issueSequenceRepository = issueSequenceRepository;
+    this.blockSize = Math.max(blockSize, 1);
+    this.blocks = new IdBlockCache<>(this.blockSize, Integer.MAX_VALUE);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+    // 블록을 캐시하면 이슈 생성이 rollback되어도 예약은 유지되어야 다른 서버와 번호가 겹치지 않음
+    this.transactionTemplate.setPropagationBehavior(this.blockSize == 1
+        ? TransactionDefinition.PROPAGATION_REQUIRED
+        : TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  public Long allocate(Long projectId) {
+    if (blockSize == 1) {
+      // 이슈 생성 트랜잭션 안에서 counter row를 잠그고 발급 (빈 번호 없음, row lock은 이슈 생성이 commit될 때까지 유지)
+      return reserve(projectId, 1);
+    }
+
+    return blocks.next(projectId, key -> reserve(key, blockSize));
+  }
+
+  // 연속된 count개의 번호를 sequence에서 바로 예약하고 첫 번호를 반환 (이슈 import용)
+  public long allocateRange(Long projectId, int count) {
+    return reserve(projectId, count);
+  }
+
+  private long reserve(Long projectId, int size) {
+    return transactionTemplate.execute(status -> {
+      if (issueSequenceRepository.advance(projectId, size) == 0) {
+        issueSequenceRepository.initialize(projectId);
+        issueSequenceRepository.advance(projectId, size);
+      }
+      return issueSequenceRepository.findNextId(projectId) - size;
+    });
+  }
+}
@@ -0,0 +1,253 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.dto.ImportCommentRequest;
+import com.example.issuetrackingsystem.dto.ImportIssueRequest;
+import com.example.issuetrackingsystem.exception.ErrorCode;
+import com.example.issuetrackingsystem.exception.ITSException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+// 이슈 import 요청 body를 이슈 한 건씩 읽음 (body 전체를 메모리에 올리지 않음)
+// NDJSON: 한 줄에 이슈 하나, 코멘트는 comments 배열
+// CSV: 첫 줄은 header (ImportIssueRequest 필드 이름), type 컬럼이 comment인 행은 바로 앞 이슈의 코멘트 (author, content, date)
+abstract class IssueImportReader implements Closeable {
+
+  static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+  static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+  static IssueImportReader open(String contentType, InputStream body, ObjectMapper objectMapper) throws IOException {
+    MediaType mediaType;
+    try {
+      mediaType = MediaType.parseMediaType(contentType);
+    } catch (InvalidMediaTypeException e) {
+      throw new ITSException(ErrorCode.ISSUE_IMPORT_BAD_REQUEST);
+    }
+
+    if (NDJSON.includes(mediaType)) {
+      return new Ndjson(body, objectMapper);
+    }
+    if (CSV.includes(mediaType)) {
+      Charset charset = mediaType.getCharset() == null ? StandardCharsets.UTF_8 : mediaType.getCharset();
+      return new Csv(body, charset);
+    }
+    throw new ITSException(ErrorCode.ISSUE_IMPORT_BAD_REQUEST);
+  }
+
+  abstract String format();
+
+  // 다음 이슈, 끝이면 null
+  abstract ImportIssueRequest next() throws IOException;
+
+  // 마지막으로 읽은 이슈가 시작된 줄 번호
+  abstract long line();
+
+  private static class Ndjson extends IssueImportReader {
+    private final MappingIterator<ImportIssueRequest> records;
+    private long line;
+
+    Ndjson(InputStream body, ObjectMapper objectMapper) throws IOException {
+      this.records = objectMapper.readerFor(ImportIssueRequest.class)
+          .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+          .readValues(body);
+    }
+
+    @Override
+    String format() {
+      return "ndjson";
+    }
+
+    @Override
+    ImportIssueRequest next() throws IOException {
+      if (!records.hasNextValue()) {
+        return null;
+      }
+      line = records.getParser().getTokenLocation().getLineNr();
+      return records.nextValue();
+    }
+
+    @Override
+    long line() {
+      return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+      records.close();
+    }
+  }
+
+  private static class Csv extends IssueImportReader {
+    private final BufferedReader reader;
+    // 소문자 컬럼 이름 → 위치
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long currentLine = 1;
+    private long rowLine;
+    private long line;
+    // 코멘트 행을 모으다 읽은 다음 이슈 행
+    private List<String> pending;
+    private long pendingLine;
+
+    Csv(InputStream body, Charset charset) throws IOException {
+      this.reader = new BufferedReader(new InputStreamReader(body, charset));
+      List<String> header = readRecord();
+      if (header == null) {
+        return;
+      }
+      for (int i = 0; i < header.size(); i++) {
+        String name = header.get(i).trim();
+        if (i == 0 && name.startsWith("\uFEFF")) {
+          name = name.substring(1);
+        }
+        columns.put(name.toLowerCase(Locale.ROOT), i);
+      }
+    }
+
+    @Override
+    String format() {
+      return "csv";
+    }
+
+    @Override
+    ImportIssueRequest next() throws IOException {
+      List<String> row = pending;
+      long start = pendingLine;
+      pending = null;
+      if (row == null) {
+        row = readRecord();
+        start = rowLine;
+      }
+      if (row == null) {
+        return null;
+      }
+      if (isComment(row)) {
+        throw new IOException("line " + start + ": comment row without issue");
+      }
+
+      List<ImportCommentRequest> comments = new ArrayList<>();
+      List<String> next;
+      while ((next = readRecord()) != null && isComment(next)) {
+        comments.add(ImportCommentRequest.builder()
+            .author(value(next, "author"))
+            .content(value(next, "content"))
+            .date(value(next, "date"))
+            .build());
+      }
+      pending = next;
+      pendingLine = rowLine;
+      line = start;
+
+      return ImportIssueRequest.builder()
+          .title(value(row, "title"))
+          .description(value(row, "description"))
+          .keyword(value(row, "keyword"))
+          .priority(value(row, "priority"))
+          .status(value(row, "status"))
+          .reporter(value(row, "reporter"))
+          .reportedDate(value(row, "reportedDate"))
+          .dueDate(value(row, "dueDate"))
+          .manager(value(row, "manager"))
+          .assignee(value(row, "assignee"))
+          .fixer(value(row, "fixer"))
+          .closedDate(value(row, "closedDate"))
+          .comments(comments)
+          .build();
+    }
+
+    @Override
+    long line() {
+      return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+      reader.close();
+    }
+
+    private boolean isComment(List<String> row) {
+      return "comment".equalsIgnoreCase(value(row, "type"));
+    }
+
+    // 빈 값은 null
+    private String value(List<String> row, String column) {
+      Integer index = columns.get(column.toLowerCase(Locale.ROOT));
+      if (index == null || index >= row.size() || row.get(index).isBlank()) {
+        return null;
+      }
+      return row.get(index);
+    }
+
+    // 빈 줄은 건너뜀
+    private List<String> readRecord() throws IOException {
+      List<String> row;
+      do {
+        row = readRow();
+      } while (row != null && row.stream().allMatch(String::isBlank));
+      return row;
+    }
+
+    // RFC 4180: 따옴표 안의 쉼표와 줄바꿈은 값에 포함, 따옴표 안의 ""는 따옴표 하나
+    private List<String> readRow() throws IOException {
+      List<String> row = new ArrayList<>();
+      StringBuilder field = new StringBuilder();
+      boolean quoted = false;
+      boolean empty = true;
+      rowLine = currentLine;
+
+      int c;
+      while ((c = reader.read()) != -1) {
+        empty = false;
+        if (quoted) {
+          if (c == '"') {
+            reader.mark(1);
+            if (reader.read() == '"') {
+              field.append('"');
+            } else {
+              reader.reset();
+              quoted = false;
+            }
+          } else {
+            if (c == '\n') {
+              currentLine++;
+            }
+            field.append((char) c);
+          }
+        } else if (c == '"') {
+          quoted = true;
+        } else if (c == ',') {
+          row.add(field.toString());
+          field.setLength(0);
+        } else if (c == '\n') {
+          currentLine++;
+          row.add(field.toString());
+          return row;
+        } else if (c != '\r') {
+          field.append((char) c);
+        }
+      }
+
+      if (quoted) {
+        throw new IOException("line " + rowLine + ": unclosed quote");
+      }
+      if (empty) {
+        return null;
+      }
+      row.add(field.toString());
+      return row;
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.dto.IssueImportResponse;
+import java.io.InputStream;
+import java.util.List;
+
+public interface IssueImportService {
+  IssueImportResponse importIssues(Long accountId, Long projectId, String contentType, InputStream body);
+  List<IssueImportResponse> findImports(Long accountId, Long projectId);
+}
@@ -0,0 +1,392 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.domain.Account;
+import com.example.issuetrackingsystem.domain.Comment;
+import com.example.issuetrackingsystem.domain.Issue;
+import com.example.issuetrackingsystem.domain.Project;
+import com.example.issuetrackingsystem.domain.enums.IssueKeyword;
+import com.example.issuetrackingsystem.domain.enums.IssuePriority;
+import com.example.issuetrackingsystem.domain.enums.IssueStatus;
+import com.example.issuetrackingsystem.domain.enums.ProjectAccountRole;
+import com.example.issuetrackingsystem.domain.key.CommentPK;
+import com.example.issuetrackingsystem.domain.key.IssuePK;
+import com.example.issuetrackingsystem.dto.ImportCommentRequest;
+import com.example.issuetrackingsystem.dto.ImportIssueRequest;
+import com.example.issuetrackingsystem.dto.IssueImportResponse;
+import com.example.issuetrackingsystem.exception.ErrorCode;
+import com.example.issuetrackingsystem.exception.ITSException;
+import com.example.issuetrackingsystem.repository.CommentRepository;
+import com.example.issuetrackingsystem.repository.IssueRepository;
+import com.example.issuetrackingsystem.repository.ProjectRepository;
+import com.example.issuetrackingsystem.service.AssigneeRecommender.IssueWork;
+import com.example.issuetrackingsystem.service.IssueImportTracker.ImportJob;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 다른 이슈 트래커에서 옮겨오는 이슈/코멘트를 스트리밍으로 읽어 chunk 단위 JDBC batch로 저장
+@Slf4j
+@Service
+public class IssueImportServiceImpl implements IssueImportService {
+
+  private static final int MAX_TITLE_LENGTH = 255;
+  private static final int MAX_TEXT_LENGTH = 2000;
+
+  private final IssueRepository issueRepository;
+  private final CommentRepository commentRepository;
+  private final ProjectRepository projectRepository;
+  private final IssueIdAllocator issueIdAllocator;
+  private final ProjectIssueCounter projectIssueCounter;
+  private final IssueDailyStatRecorder issueDailyStatRecorder;
+  private final ProjectTrendCache projectTrendCache;
+  private final ProjectMembershipIndex projectMembershipIndex;
+  private final AccountCache accountCache;
+  private final IssueTextIndex issueTextIndex;
+  private final IssueTitleSuggester issueTitleSuggester;
+  private final AssigneeRecommender assigneeRecommender;
+  private final SimilarIssueIndex similarIssueIndex;
+  private final IssueImportTracker issueImportTracker;
+  private final ProjectChangeFeed projectChangeFeed;
+  private final ProjectVersions projectVersions;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+
+  public IssueImportServiceImpl(IssueRepository issueRepository, CommentRepository commentRepository,
+      ProjectRepository projectRepository, IssueIdAllocator issueIdAllocator, ProjectIssueCounter projectIssueCounter,
+      IssueDailyStatRecorder issueDailyStatRecorder, ProjectTrendCache projectTrendCache,
+      ProjectMembershipIndex projectMembershipIndex, AccountCache accountCache, IssueTextIndex issueTextIndex,
+      IssueTitleSuggester issueTitleSuggester, AssigneeRecommender assigneeRecommender,
+      SimilarIssueIndex similarIssueIndex, IssueImportTracker issueImportTracker, ProjectChangeFeed projectChangeFeed,
+      ProjectVersions projectVersions, ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      @Value("${its.issue-import.chunk-size:1000}") int chunkSize) {
+    this.issueRepository = issueRepository;
+    this.commentRepository = commentRepository;
+    this.projectRepository = projectRepository;
+    this.issueIdAllocator = issueIdAllocator;
+    this.projectIssueCounter = projectIssueCounter;
+    this.issueDailyStatRecorder = issueDailyStatRecorder;
+    this.projectTrendCache = projectTrendCache;
+    this.projectMembershipIndex = projectMembershipIndex;
+    this.accountCache = accountCache;
+    this.issueTextIndex = issueTextIndex;
+    this.issueTitleSuggester = issueTitleSuggester;
+    this.assigneeRecommender = assigneeRecommender;
+    this.similarIssueIndex = similarIssueIndex;
+    this.issueImportTracker = issueImportTracker;
+    this.projectChangeFeed = projectChangeFeed;
+    this.projectVersions = projectVersions;
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = Math.max(chunkSize, 1);
+  }
+
+  @Override
+  public IssueImportResponse importIssues(Long accountId, Long projectId, String contentType, InputStream body) {
+    checkPermission(accountId, projectId);
+    if (contentType == null) {
+      throw new ITSException(ErrorCode.ISSUE_IMPORT_BAD_REQUEST);
+    }
+
+    ImportJob job = null;
+    try (IssueImportReader reader = IssueImportReader.open(contentType, body, objectMapper)) {
+      job = issueImportTracker.start(projectId, reader.format());
+      Project project = projectRepository.getReferenceById(projectId);
+
+      // chunk마다 username 조회, 번호 예약, INSERT를 한 번씩 (chunk 단위로 commit되어 진행 상황이 남음)
+      List<ImportRecord> chunk = new ArrayList<>(chunkSize);
+      ImportIssueRequest request;
+      while ((request = reader.next()) != null) {
+        chunk.add(new ImportRecord(reader.line(), request));
+        if (chunk.size() == chunkSize) {
+          importChunk(projectId, project, chunk, job);
+          chunk.clear();
+        }
+      }
+      importChunk(projectId, project, chunk, job);
+      job.finish();
+    } catch (IOException e) {
+      // 형식이 깨진 body는 이어서 읽을 수 없으므로 중단
+      if (job != null) {
+        job.fail(e.getMessage());
+      }
+      throw new ITSException(ErrorCode.ISSUE_IMPORT_BAD_REQUEST);
+    } catch (RuntimeException e) {
+      if (job != null) {
+        job.fail(e.getMessage());
+      }
+      throw e;
+    } finally {
+      if (job != null && job.importedIssueCount() > 0) {
+        refreshProject(projectId);
+      }
+    }
+
+    return job.toResponse();
+  }
+
+  @Override
+  public List<IssueImportResponse> findImports(Long accountId, Long projectId) {
+    checkPermission(accountId, projectId);
+    return issueImportTracker.imports(projectId);
+  }
+
+  // 관리자 또는 프로젝트 PL만 가능
+  private void checkPermission(Long accountId, Long projectId) {
+    if (projectMembershipIndex.project(projectId).isEmpty()) {
+      throw new ITSException(ErrorCode.PROJECT_DETAIL_NOT_FOUND);
+    }
+    if (accountId != 1L && projectMembershipIndex.role(projectId, accountId).orElse(null) != ProjectAccountRole.PL) {
+      throw new ITSException(ErrorCode.ISSUE_IMPORT_FORBIDDEN);
+    }
+  }
+
+  private void importChunk(Long projectId, Project project, List<ImportRecord> chunk, ImportJob job) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+    job.read(chunk.size());
+
+    // chunk에 나오는 모든 계정을 한 번의 IN 쿼리로 조회
+    Set<String> usernames = new HashSet<>();
+    for (ImportRecord row : chunk) {
+      collectUsernames(row.request, usernames);
+    }
+    Map<String, Account> accounts = accountCache.findAll(usernames);
+
+    // 검증에 실패한 이슈는 사유를 남기고 건너뜀
+    List<ParsedIssue> parsed = new ArrayList<>(chunk.size());
+    for (ImportRecord row : chunk) {
+      try {
+        parsed.add(parse(row.request, accounts));
+      } catch (IllegalArgumentException e) {
+        job.rejected(row.line, e.getMessage());
+      }
+    }
+    if (parsed.isEmpty()) {
+      return;
+    }
+
+    // 번호는 chunk 트랜잭션 밖에서 한 번에 예약 (counter row 잠금을 INSERT 동안 잡고 있지 않음)
+    long firstIssueId = issueIdAllocator.allocateRange(projectId, parsed.size());
+
+    List<Issue> issues = new ArrayList<>(parsed.size());
+    List<Comment> comments = new ArrayList<>();
+    for (int i = 0; i < parsed.size(); i++) {
+      IssuePK issuePK = IssuePK.builder()
+          .issueId(firstIssueId + i)
+          .projectId(projectId)
+          .build();
+      Issue issue = parsed.get(i).issue
+          .id(issuePK)
+          .project(project)
+          .build();
+      issues.add(issue);
+
+      // 가져온 이슈의 코멘트 번호는 1부터 (comment_sequence는 처음 코멘트를 달 때 MAX(id)로 초기화됨)
+      long commentId = 1;
+      for (Comment.CommentBuilder comment : parsed.get(i).comments) {
+        comments.add(comment
+            .id(CommentPK.builder().issueId(issuePK).commentId(commentId++).build())
+            .issue(issue)
+            .build());
+      }
+    }
+
+    transactionTemplate.executeWithoutResult(status -> {
+      issueRepository.batchInsert(issues);
+      commentRepository.batchInsert(comments);
+
+      // 메모리 색인은 commit 후 반영
+      for (Issue issue : issues) {
+        Long issueId = issue.getId().getIssueId();
+        issueTextIndex.issueSaved(projectId, issueId, issue.getTitle(), issue.getDescription());
+        issueTitleSuggester.titleSaved(projectId, issueId, issue.getTitle());
+        assigneeRecommender.issueChanged(projectId, issueId, IssueWork.of(issue));
+        similarIssueIndex.issueSaved(projectId, issueId, issue.getStatus(),
+            issue.getFixer() == null ? null : issue.getFixer().getAccountId(), issue.getTitle(), issue.getDescription());
+      }
+    });
+
+    job.imported(issues.size(), comments.size());
+    log.info("[ISSUE IMPORT] project {} : {} issues, {} comments imported (issue {} ~ {})", projectId,
+        issues.size(), comments.size(), firstIssueId, firstIssueId + issues.size() - 1);
+  }
+
+  // 프로젝트 이슈 수, 상태, 일별 집계를 issue/comment 테이블에서 다시 계산 (중단되어도 commit된 chunk 반영)
+  private void refreshProject(Long projectId) {
+    transactionTemplate.executeWithoutResult(status -> {
+      projectIssueCounter.rebuild(projectId);
+      issueDailyStatRecorder.backfill(projectId);
+      projectVersions.changed(projectId);
+      projectChangeFeed.projectReloaded(projectId);
+    });
+    projectTrendCache.invalidate(projectId);
+  }
+
+  private ParsedIssue parse(ImportIssueRequest request, Map<String, Account> accounts) {
+    if (isBlank(request.getTitle())) {
+      throw new IllegalArgumentException("title is required");
+    }
+    if (request.getTitle().length() > MAX_TITLE_LENGTH) {
+      throw new IllegalArgumentException("title is too long");
+    }
+    if (request.getDescription() != null && request.getDescription().length() > MAX_TEXT_LENGTH) {
+      throw new IllegalArgumentException("description is too long");
+    }
+    if (isBlank(request.getReporter())) {
+      throw new IllegalArgumentException("reporter is required");
+    }
+    if (isBlank(request.getDueDate())) {
+      throw new IllegalArgumentException("dueDate is required");
+    }
+
+    IssuePriority priority = enumValue(IssuePriority.class, request.getPriority(), "priority");
+    IssueStatus status = enumValue(IssueStatus.class, request.getStatus(), "status");
+
+    Issue.IssueBuilder issue = Issue.builder()
+        .title(request.getTitle())
+        .description(request.getDescription())
+        .keyword(enumValue(IssueKeyword.class, request.getKeyword(), "keyword"))
+        .reporter(account(accounts, request.getReporter(), "reporter"))
+        .reportedDate(dateTime(request.getReportedDate(), "reportedDate"))
+        .dueDate(date(request.getDueDate(), "dueDate"))
+        .manager(account(accounts, request.getManager(), "manager"))
+        .assignee(account(accounts, request.getAssignee(), "assignee"))
+        .fixer(account(accounts, request.getFixer(), "fixer"))
+        // 컬럼 기본값과 같게 MAJOR, NEW
+        .priority(priority == null ? IssuePriority.MAJOR : priority)
+        .status(status == null ? IssueStatus.NEW : status)
+        .closedDate(dateTime(request.getClosedDate(), "closedDate"));
+
+    List<Comment.CommentBuilder> comments = new ArrayList<>();
+    for (ImportCommentRequest comment : request.getComments() == null
+        ? Collections.<ImportCommentRequest>emptyList() : request.getComments()) {
+      if (isBlank(comment.getContent())) {
+        throw new IllegalArgumentException("comment content is required");
+      }
+      if (comment.getContent().length() > MAX_TEXT_LENGTH) {
+        throw new IllegalArgumentException("comment content is too long");
+      }
+      if (isBlank(comment.getAuthor())) {
+        throw new IllegalArgumentException("comment author is required");
+      }
+      comments.add(Comment.builder()
+          .account(account(accounts, comment.getAuthor(), "comment author"))
+          .content(comment.getContent())
+          .date(dateTime(comment.getDate(), "comment date")));
+    }
+    return new ParsedIssue(issue, comments);
+  }
+
+  private static void collectUsernames(ImportIssueRequest request, Set<String> usernames) {
+    List<String> names = new ArrayList<>(List.of(nullToEmpty(request.getReporter()), nullToEmpty(request.getManager()),
+        nullToEmpty(request.getAssignee()), nullToEmpty(request.getFixer())));
+    if (request.getComments() != null) {
+      for (ImportCommentRequest comment : request.getComments()) {
+        names.add(nullToEmpty(comment.getAuthor()));
+      }
+    }
+    for (String name : names) {
+      if (!name.isBlank()) {
+        usernames.add(name);
+      }
+    }
+  }
+
+  private static Account account(Map<String, Account> accounts, String username, String field) {
+    if (isBlank(username)) {
+      return null;
+    }
+    Account account = accounts.get(username);
+    if (account == null) {
+      throw new IllegalArgumentException(field + " '" + username + "' does not exist");
+    }
+    return account;
+  }
+
+  // enum 이름(대소문자 무시) 또는 번호
+  private static <E extends Enum<E>> E enumValue(Class<E> type, String value, String field) {
+    if (isBlank(value)) {
+      return null;
+    }
+    E[] values = type.getEnumConstants();
+    String trimmed = value.trim();
+    try {
+      if (trimmed.chars().allMatch(Character::isDigit)) {
+        return values[Integer.parseInt(trimmed)];
+      }
+      return Enum.valueOf(type, trimmed.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("invalid " + field + " '" + value + "'");
+    }
+  }
+
+  private static LocalDate date(String value, String field) {
+    try {
+      return LocalDate.parse(value.trim());
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("invalid " + field + " '" + value + "'");
+    }
+  }
+
+  // yyyy-MM-dd, yyyy-MM-ddTHH:mm[:ss], yyyy-MM-dd HH:mm[:ss]
+  private static LocalDateTime dateTime(String value, String field) {
+    if (isBlank(value)) {
+      return null;
+    }
+    String trimmed = value.trim();
+    try {
+      if (trimmed.length() == 10) {
+        return LocalDate.parse(trimmed).atStartOfDay();
+      }
+      return LocalDateTime.parse(trimmed.replace(' ', 'T'));
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("invalid " + field + " '" + value + "'");
+    }
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
+
+  private static String nullToEmpty(String value) {
+    return value == null ? "" : value;
+  }
+
+  private static class ImportRecord {
+    private final long line;
+    private final ImportIssueRequest request;
+
+    ImportRecord(long line, ImportIssueRequest request) {
+      this.line = line;
+      this.request = request;
+    }
+  }
+
+  private static class ParsedIssue {
+    private final Issue.IssueBuilder issue;
+    private final List<Comment.CommentBuilder> comments;
+
+    ParsedIssue(Issue.IssueBuilder issue, List<Comment.CommentBuilder> comments) {
+      this.issue = issue;
+      this.comments = comments;
+    }
+  }
+}
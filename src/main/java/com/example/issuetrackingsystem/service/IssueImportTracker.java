@@ -0,0 +1,122 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.dto.IssueImportResponse;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// 프로젝트별 진행 중이거나 최근 끝난 이슈 import 진행 상황 (이 서버에서 실행된 import만)
+@Component
+public class IssueImportTracker {
+
+  // 프로젝트별로 남겨두는 import 수
+  private static final int RECENT_IMPORTS = 10;
+  // import별로 남겨두는 실패 사유 수
+  private static final int MAX_ERRORS = 20;
+
+  private final Clock clock;
+  private final AtomicLong sequence = new AtomicLong();
+  private final Map<Long, Deque<ImportJob>> projects = new ConcurrentHashMap<>();
+
+  @Autowired
+  public IssueImportTracker() {
+    this(Clock.systemDefaultZone());
+  }
+
+  IssueImportTracker(Clock clock) {
+    this.clock = clock;
+  }
+
+  public ImportJob start(Long projectId, String format) {
+    ImportJob job = new ImportJob(sequence.incrementAndGet(), format, LocalDateTime.now(clock));
+    Deque<ImportJob> jobs = projects.computeIfAbsent(projectId, id -> new ConcurrentLinkedDeque<>());
+    jobs.addFirst(job);
+    while (jobs.size() > RECENT_IMPORTS) {
+      jobs.pollLast();
+    }
+    return job;
+  }
+
+  // 최근 import부터
+  public List<IssueImportResponse> imports(Long projectId) {
+    List<IssueImportResponse> imports = new ArrayList<>();
+    for (ImportJob job : projects.getOrDefault(projectId, new ConcurrentLinkedDeque<>())) {
+      imports.add(job.toResponse());
+    }
+    return imports;
+  }
+
+  public class ImportJob {
+    private final Long importId;
+    private final String format;
+    private final LocalDateTime startedAt;
+    private final List<String> errors = new ArrayList<>();
+    private String status = "RUNNING";
+    private long readCount;
+    private long importedIssueCount;
+    private long importedCommentCount;
+    private long failedCount;
+    private LocalDateTime finishedAt;
+
+    private ImportJob(Long importId, String format, LocalDateTime startedAt) {
+      this.importId = importId;
+      this.format = format;
+      this.startedAt = startedAt;
+    }
+
+    public synchronized void read(int count) {
+      readCount += count;
+    }
+
+    public synchronized void imported(int issueCount, int commentCount) {
+      importedIssueCount += issueCount;
+      importedCommentCount += commentCount;
+    }
+
+    public synchronized void rejected(long line, String reason) {
+      failedCount++;
+      if (errors.size() < MAX_ERRORS) {
+        errors.add("line " + line + ": " + reason);
+      }
+    }
+
+    public synchronized long importedIssueCount() {
+      return importedIssueCount;
+    }
+
+    public synchronized void finish() {
+      status = "DONE";
+      finishedAt = LocalDateTime.now(clock);
+    }
+
+    // 입력 오류나 DB 오류로 중단 (이미 commit된 chunk는 남음)
+    public synchronized void fail(String reason) {
+      status = "FAILED";
+      finishedAt = LocalDateTime.now(clock);
+      errors.add(reason);
+    }
+
+    public synchronized IssueImportResponse toResponse() {
+      return IssueImportResponse.builder()
+          .importId(importId)
+          .format(format)
+          .status(status)
+          .readCount(readCount)
+          .importedIssueCount(importedIssueCount)
+          .importedCommentCount(importedCommentCount)
+          .failedCount(failedCount)
+          .errors(new ArrayList<>(errors))
+          .startedAt(startedAt)
+          .finishedAt(finishedAt)
+          .build();
+    }
+  }
+}
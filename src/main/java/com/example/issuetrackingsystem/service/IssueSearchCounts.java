@@ -0,0 +1,51 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.repository.IssueRepository;
+import com.example.issuetrackingsystem.repository.IssueSearchFilter;
+import com.example.issuetrackingsystem.repository.ProjectRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 검색 조건별 전체 이슈 수 캐시 (key: 프로젝트, project.version, 검색 조건)
+// 이슈가 추가/수정되면 project.version이 올라가므로 이전 버전의 entry는 더 이상 조회되지 않고 만료됨
+// (같은 조건으로 다음 페이지를 넘길 때 COUNT 쿼리가 조건에 맞는 이슈 전체를 다시 읽지 않음)
+@Component
+public class IssueSearchCounts {
+
+  private final IssueRepository issueRepository;
+  private final ProjectRepository projectRepository;
+  private final Cache<CountKey, Long> cache;
+
+  @Autowired
+  public IssueSearchCounts(IssueRepository issueRepository, ProjectRepository projectRepository,
+      @Value("${its.search-count-cache.maximum-size:10000}") long maximumSize,
+      @Value("${its.search-count-cache.expire-after:5m}") Duration expireAfter) {
+    this(issueRepository, projectRepository, maximumSize, expireAfter, Ticker.systemTicker());
+  }
+
+  IssueSearchCounts(IssueRepository issueRepository, ProjectRepository projectRepository, long maximumSize,
+      Duration expireAfter, Ticker ticker) {
+    this.issueRepository = issueRepository;
+    this.projectRepository = projectRepository;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(expireAfter)
+        .ticker(ticker)
+        .build();
+  }
+
+  public long count(Long projectId, IssueSearchFilter filter) {
+    // 버전을 먼저 읽으므로, 그 사이에 commit된 변경을 포함한 수가 이전 버전으로 캐시되더라도 다음 조회부터는 새 버전으로 다시 셈
+    Long version = projectRepository.findVersion(projectId).orElse(0L);
+    return cache.get(new CountKey(projectId, version, filter),
+        key -> issueRepository.countSearch(projectId, filter));
+  }
+
+  private record CountKey(Long projectId, Long version, IssueSearchFilter filter) {
+  }
+}
@@ -3,10 +3,13 @@ package com.example.issuetrackingsystem.service;
 import com.example.issuetrackingsystem.dto.AddCommentRequest;
 import com.example.issuetrackingsystem.dto.AddCommentResponse;
 import com.example.issuetrackingsystem.dto.AddIssueRequest;
+import com.example.issuetrackingsystem.dto.BulkModifyIssueRequest;
+import com.example.issuetrackingsystem.dto.BulkModifyIssueResponse;
 import com.example.issuetrackingsystem.dto.DetailsIssueResponse;
 import com.example.issuetrackingsystem.dto.ModifyIssueRequest;
-import com.example.issuetrackingsystem.dto.SearchIssueResponse;
+import com.example.issuetrackingsystem.dto.SearchIssuePageResponse;
 import com.example.issuetrackingsystem.dto.SuggestIssueAssigneeResponse;
+import com.example.issuetrackingsystem.dto.TitleSuggestionResponse;
 import jakarta.servlet.http.HttpSession;
 import java.util.List;
 import java.util.Map;
@@ -14,8 +17,13 @@ import java.util.Map;
 public interface IssueService {
   String addIssue(Long accountId, Long projectId, AddIssueRequest addIssueRequest);
   void modifyIssue(Long accountId, Long projectId, Long issueId, ModifyIssueRequest modifyIssueRequest);
-  DetailsIssueResponse findIssue(Long accountId, Long projectId, Long issueId);
-  List<AddCommentResponse> addComment(Long accountId, Long projectId, Long issueId, AddCommentRequest addCommentRequest);
-  SuggestIssueAssigneeResponse suggestAssignee(Long accountId, Long projectId, Long issueId);
-  List<SearchIssueResponse> searchIssue(Long accountId, Long projectId, Map<String, String> searchKey);
+  List<BulkModifyIssueResponse> modifyIssues(Long accountId, Long projectId, BulkModifyIssueRequest bulkModifyIssueRequest);
+  String issueETag(Long accountId, Long projectId, Long issueId, Long commentCursor, Integer commentSize);
+  DetailsIssueResponse findIssue(Long accountId, Long projectId, Long issueId, Long commentCursor,
+      Integer commentSize);
+  List<AddCommentResponse> addComment(Long accountId, Long projectId, Long issueId, AddCommentRequest addCommentRequest,
+      Long cursor, Integer size, boolean onlyNew);
+  SuggestIssueAssigneeResponse suggestAssignee(Long accountId, Long projectId, Long issueId, Integer size);
+  List<TitleSuggestionResponse> suggestTitles(Long accountId, Long projectId, String query, Integer size);
+  SearchIssuePageResponse searchIssue(Long accountId, Long projectId, Map<String, String> searchKey);
 }
@@ -4,78 +4,131 @@ import com.example.issuetrackingsystem.domain.Account;
 import com.example.issuetrackingsystem.domain.Comment;
 import com.example.issuetrackingsystem.domain.Issue;
 import com.example.issuetrackingsystem.domain.Project;
-import com.example.issuetrackingsystem.domain.ProjectAccount;
 import com.example.issuetrackingsystem.domain.enums.IssueKeyword;
 import com.example.issuetrackingsystem.domain.enums.IssuePriority;
 import com.example.issuetrackingsystem.domain.enums.IssueStatus;
 import com.example.issuetrackingsystem.domain.enums.ProjectAccountRole;
-import com.example.issuetrackingsystem.domain.enums.ProjectStatus;
 import com.example.issuetrackingsystem.domain.key.CommentPK;
 import com.example.issuetrackingsystem.domain.key.IssuePK;
-import com.example.issuetrackingsystem.domain.key.ProjectAccountPK;
 import com.example.issuetrackingsystem.dto.AddCommentRequest;
 import com.example.issuetrackingsystem.dto.AddCommentResponse;
 import com.example.issuetrackingsystem.dto.AddCommentResponse;
 import com.example.issuetrackingsystem.dto.AddIssueRequest;
+import com.example.issuetrackingsystem.dto.AssigneeCandidateResponse;
+import com.example.issuetrackingsystem.dto.BulkModifyIssueRequest;
+import com.example.issuetrackingsystem.dto.BulkModifyIssueResponse;
 import com.example.issuetrackingsystem.dto.DetailsIssueResponse;
 import com.example.issuetrackingsystem.dto.ModifyIssueRequest;
+import com.example.issuetrackingsystem.dto.SearchIssuePageResponse;
 import com.example.issuetrackingsystem.dto.SearchIssueResponse;
 import com.example.issuetrackingsystem.dto.SuggestIssueAssigneeResponse;
+import com.example.issuetrackingsystem.dto.TitleSuggestionResponse;
 import com.example.issuetrackingsystem.exception.ErrorCode;
 import com.example.issuetrackingsystem.exception.ITSException;
 import com.example.issuetrackingsystem.repository.AccountRepository;
 import com.example.issuetrackingsystem.repository.CommentRepository;
 import com.example.issuetrackingsystem.repository.IssueRepository;
-import com.example.issuetrackingsystem.repository.ProjectAccountRepository;
+import com.example.issuetrackingsystem.repository.IssueSearchFilter;
 import com.example.issuetrackingsystem.repository.ProjectRepository;
+import com.example.issuetrackingsystem.service.AssigneeRecommender.IssueWork;
 import jakarta.servlet.http.HttpSession;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Random;
+import java.util.Set;
 import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class IssueServiceImpl implements IssueService {
 
+  private static final int DEFAULT_COMMENT_PAGE_SIZE = 20;
+  private static final int MAX_COMMENT_PAGE_SIZE = 100;
+  private static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+  private static final int MAX_SEARCH_PAGE_SIZE = 100;
+  private static final List<String> ACCOUNT_SEARCH_KEYS = List.of("reporter", "manager", "assignee", "fixer");
+  private static final int DEFAULT_TITLE_SUGGESTIONS = 10;
+  private static final int MAX_TITLE_SUGGESTIONS = 20;
+  private static final List<String> TEXT_SEARCH_KEYS = List.of("q", "title", "description");
+  private static final int DEFAULT_ASSIGNEE_SUGGESTIONS = 3;
+  private static final int MAX_ASSIGNEE_SUGGESTIONS = 10;
+  // assignee 추천에 참고하는 비슷한 과거 해결 이슈 수
+  private static final int SIMILAR_ISSUES = 10;
+  // 한 번에 변경할 수 있는 최대 이슈 수
+  private static final int MAX_BULK_MODIFY_ISSUES = 500;
+
   private final IssueRepository issueRepository;
-  private final ProjectAccountRepository projectAccountRepository;
   private final AccountRepository accountRepository;
   private final ProjectRepository projectRepository;
   private final CommentRepository commentRepository;
-
-  public IssueServiceImpl(IssueRepository issueRepository, ProjectAccountRepository projectAccountRepository,
-      AccountRepository accountRepository, ProjectRepository projectRepository, CommentRepository commentRepository) {
+  private final IssueIdAllocator issueIdAllocator;
+  private final CommentIdAllocator commentIdAllocator;
+  private final ProjectIssueCounter projectIssueCounter;
+  private final IssueDailyStatRecorder issueDailyStatRecorder;
+  private final ProjectTrendCache projectTrendCache;
+  private final HotIssueTracker hotIssueTracker;
+  private final ProjectMembershipIndex projectMembershipIndex;
+  private final AccountCache accountCache;
+  private final IssueTextIndex issueTextIndex;
+  private final IssueTitleSuggester issueTitleSuggester;
+  private final AssigneeRecommender assigneeRecommender;
+  private final SimilarIssueIndex similarIssueIndex;
+  private final ProjectChangeFeed projectChangeFeed;
+  private final ProjectVersions projectVersions;
+  private final IssueSearchCounts issueSearchCounts;
+
+  public IssueServiceImpl(IssueRepository issueRepository,
+      AccountRepository accountRepository, ProjectRepository projectRepository, CommentRepository commentRepository,
+      IssueIdAllocator issueIdAllocator, CommentIdAllocator commentIdAllocator, ProjectIssueCounter projectIssueCounter,
+      IssueDailyStatRecorder issueDailyStatRecorder, ProjectTrendCache projectTrendCache,
+      HotIssueTracker hotIssueTracker, ProjectMembershipIndex projectMembershipIndex, AccountCache accountCache,
+      IssueTextIndex issueTextIndex, IssueTitleSuggester issueTitleSuggester,
+      AssigneeRecommender assigneeRecommender, SimilarIssueIndex similarIssueIndex,
+      ProjectChangeFeed projectChangeFeed, ProjectVersions projectVersions, IssueSearchCounts issueSearchCounts) {
     this.issueRepository = issueRepository;
-    this.projectAccountRepository = projectAccountRepository;
     this.accountRepository = accountRepository;
     this.projectRepository = projectRepository;
     this.commentRepository = commentRepository;
+    this.issueIdAllocator = issueIdAllocator;
+    this.commentIdAllocator = commentIdAllocator;
+    this.projectIssueCounter = projectIssueCounter;
+    this.issueDailyStatRecorder = issueDailyStatRecorder;
+    this.projectTrendCache = projectTrendCache;
+    this.hotIssueTracker = hotIssueTracker;
+    this.projectMembershipIndex = projectMembershipIndex;
+    this.accountCache = accountCache;
+    this.issueTextIndex = issueTextIndex;
+    this.issueTitleSuggester = issueTitleSuggester;
+    this.assigneeRecommender = assigneeRecommender;
+    this.similarIssueIndex = similarIssueIndex;
+    this.projectChangeFeed = projectChangeFeed;
+    this.projectVersions = projectVersions;
+    this.issueSearchCounts = issueSearchCounts;
   }
 
   @Override
   @Transactional
   public String addIssue(Long accountId, Long projectId, AddIssueRequest addIssueRequest) {
     // 사용자가 해당 프로젝트의 tester인지 검증
-    ProjectAccount projectAccount = projectAccountRepository.findById(ProjectAccountPK.builder()
-        .accountId(accountId)
-        .projectId(projectId).build()).orElseThrow(() -> new ITSException(ErrorCode.ISSUE_CREATION_FORBIDDEN));
+    ProjectAccountRole role = projectMembershipIndex.role(projectId, accountId)
+        .orElseThrow(() -> new ITSException(ErrorCode.ISSUE_CREATION_FORBIDDEN));
 
-    if (projectAccount.getRole() != ProjectAccountRole.tester) {
+    if (role != ProjectAccountRole.tester) {
       throw new ITSException(ErrorCode.ISSUE_CREATION_FORBIDDEN);
     }
 
-    // project별 issue_id auto increment
-    Long maxIssueId = issueRepository.findMaxIdByProjectId(projectId);
-    Long newIssueId = (maxIssueId != null ? maxIssueId : 0) + 1;
+    // project별 issue_id 발급
+    Long newIssueId = issueIdAllocator.allocate(projectId);
 
     // 이슈 생성
     IssuePK issuePK = IssuePK.builder()
@@ -103,14 +156,14 @@ public class IssueServiceImpl implements IssueService {
     }
 
     issueRepository.save(newIssue.build());
+    issueTextIndex.issueSaved(projectId, newIssueId, addIssueRequest.getTitle(), addIssueRequest.getDescription());
+    issueTitleSuggester.titleSaved(projectId, newIssueId, addIssueRequest.getTitle());
 
-    projectRepository.save(Project.builder()
-            .projectId(project.getProjectId())
-            .title(project.getTitle())
-            .description(project.getDescription())
-            .status(ProjectStatus.IN_PROGRESS)
-            .date(project.getDate())
-        .build());
+    projectIssueCounter.issueOpened(projectId);
+    issueDailyStatRecorder.issueReported(projectId);
+    projectTrendCache.invalidate(projectId);
+    projectVersions.changed(projectId);
+    projectChangeFeed.issueAdded(projectId, newIssueId);
 
     return "/projects/" + projectId + "/issues/" + newIssueId;
   }
@@ -119,9 +172,7 @@ public class IssueServiceImpl implements IssueService {
   @Transactional
   public void modifyIssue(Long accountId, Long projectId, Long issueId, ModifyIssueRequest modifyIssueRequest) {
     // 사용자가 해당 프로젝트에 속해 있는지 검증
-    ProjectAccount projectAccount = projectAccountRepository.findById(ProjectAccountPK.builder()
-        .accountId(accountId)
-        .projectId(projectId).build())
+    ProjectAccountRole role = projectMembershipIndex.role(projectId, accountId)
         .orElseThrow(() -> new ITSException(ErrorCode.ISSUE_UPDATE_FORBIDDEN));
 
     Account account = accountRepository.findById(accountId)
@@ -136,8 +187,6 @@ public class IssueServiceImpl implements IssueService {
     Issue issue = issueRepository.findById(issuePK)
         .orElseThrow(() -> new ITSException(ErrorCode.ISSUE_NOT_FOUND));
 
-    Project project = projectRepository.findById(projectId).orElseThrow(() -> new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST));
-
     Issue.IssueBuilder modifiedIssue = Issue.builder()
         .id(issue.getId())
         .project(issue.getProject())
@@ -164,104 +213,46 @@ public class IssueServiceImpl implements IssueService {
     }
 
     List<String> commentContentList = new ArrayList<>();
+    IssueStatus changedStatus = null;
+    LocalDateTime closedDate = null;
+    boolean textChanged = false;
+    boolean titleChanged = false;
     if (modifyIssueRequest.getAssignee() != null) { // assignee 변경
-      // 사용자가 해당 프로젝트의 PL인지, 이슈가 NEW 상태인지 검증
-      if (projectAccount.getRole() != ProjectAccountRole.PL) {
-        throw new ITSException(ErrorCode.ISSUE_UPDATE_FORBIDDEN);
-      }
-      if (issue.getStatus() != IssueStatus.NEW) {
-        throw new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST);
-      }
+      checkAssignable(issue, role);
+      Account assignee = findDev(projectId, modifyIssueRequest.getAssignee());
 
-      // assignee로 입력된 사용자가 Dev인지 검증
-      if (projectAccountRepository.findById(ProjectAccountPK.builder()
-              .projectId(projectId)
-              .accountId(accountRepository.findByUsername(modifyIssueRequest.getAssignee())
-                  .orElseThrow(() -> new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST))
-                  .getAccountId())
-          .build())
-          .orElseThrow(() -> new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST))
-          .getRole() != ProjectAccountRole.dev) {
-        throw new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST);
-      }
-
-      modifiedIssue.assignee(accountRepository.findByUsername(modifyIssueRequest.getAssignee())
-              .orElseThrow(() -> new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST)))
+      modifiedIssue.assignee(assignee)
           .status(IssueStatus.ASSIGNED)
           .manager(account);
-      commentContentList.add(account.getUsername()
-          + " assigned this to "
-          + modifyIssueRequest.getAssignee()
-          +".");
+      commentContentList.add(assignedComment(account, modifyIssueRequest.getAssignee()));
 
     } else if (modifyIssueRequest.getStatus() != null) { // status 변경
 
       IssueStatus newStatus = IssueStatus.values()[modifyIssueRequest.getStatus()];
+      checkTransition(issue, newStatus, accountId);
 
       switch (newStatus) {
         case FIXED:
-          // 사용자가 해당 이슈의 assignee인지, 이슈가 ASSIGNED, REOPENED 상태인지 검증
-          if (!Objects.equals(issue.getAssignee().getAccountId(), accountId)) {
-            throw new ITSException(ErrorCode.ISSUE_UPDATE_FORBIDDEN);
-          }
-          if (!Arrays.asList(new IssueStatus[]{IssueStatus.ASSIGNED, IssueStatus.REOPENED}).contains(issue.getStatus())) {
-            throw new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST);
-          }
-          modifiedIssue.fixer(accountRepository.findById(accountId)
-                  .orElseThrow(() -> new ITSException(ErrorCode.ISSUE_UPDATE_FORBIDDEN)))
+          modifiedIssue.fixer(account)
               .status(newStatus);
           break;
 
-        case RESOLVED:
-          // 사용자가 해당 이슈의 reporter인지, 이슈가 FIXED 상태인지 검증
-          if (!Objects.equals(issue.getReporter().getAccountId(), accountId)) {
-            throw new ITSException(ErrorCode.ISSUE_UPDATE_FORBIDDEN);
-          }
-          if (issue.getStatus() != IssueStatus.FIXED) {
-            throw new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST);
-          }
-          modifiedIssue.status(newStatus);
-          break;
-
         case CLOSED:
-          // 사용자가 해당 이슈의 manager인지, 이슈가 RESOLVED 상태인지 검증
-          if (!Objects.equals(issue.getManager().getAccountId(), accountId)) {
-            throw new ITSException(ErrorCode.ISSUE_UPDATE_FORBIDDEN);
-          }
-          if (issue.getStatus() != IssueStatus.RESOLVED) {
-            throw new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST);
-          }
+          closedDate = LocalDateTime.now();
           modifiedIssue.status(newStatus)
-              .closedDate(LocalDateTime.now());
+              .closedDate(closedDate);
           break;
 
         case REOPENED:
-          // 사용자가 해당 이슈의 reporter인지, 이슈가 CLOSED 상태인지 검증
-          if (!Objects.equals(issue.getReporter().getAccountId(), accountId)) {
-            throw new ITSException(ErrorCode.ISSUE_UPDATE_FORBIDDEN);
-          }
-          if (issue.getStatus() != IssueStatus.CLOSED) {
-            throw new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST);
-          }
           modifiedIssue.status(newStatus)
               .closedDate(null);
-
-          projectRepository.save(Project.builder()
-              .projectId(project.getProjectId())
-              .title(project.getTitle())
-              .description(project.getDescription())
-              .status(ProjectStatus.IN_PROGRESS)
-              .date(project.getDate())
-              .build());
           break;
 
         default:
-          throw new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST);
+          modifiedIssue.status(newStatus);
       }
-      commentContentList.add(account.getUsername()
-          + " "
-          + newStatus.name().toLowerCase()
-          + " this.");
+      changedStatus = newStatus;
+      commentContentList.add(statusComment(account, newStatus));
     } else {
 
       if (modifyIssueRequest.getTitle() != null) { // title 변경
@@ -271,6 +262,8 @@ public class IssueServiceImpl implements IssueService {
           throw new ITSException(ErrorCode.ISSUE_UPDATE_FORBIDDEN);
         }
         modifiedIssue.title(modifyIssueRequest.getTitle());
+        textChanged = true;
+        titleChanged = true;
         commentContentList.add(account.getUsername()
             + " changed the title to "
             + modifyIssueRequest.getTitle()
@@ -284,6 +277,7 @@ public class IssueServiceImpl implements IssueService {
           throw new ITSException(ErrorCode.ISSUE_UPDATE_FORBIDDEN);
         }
         modifiedIssue.description(modifyIssueRequest.getDescription());
+        textChanged = true;
         commentContentList.add(account.getUsername()
             + " changed the description to "
             + modifyIssueRequest.getDescription()
@@ -334,52 +328,338 @@ public class IssueServiceImpl implements IssueService {
       }
     }
 
-    issueRepository.save(modifiedIssue.build());
+    // save가 조회한 이슈에 병합되므로 다시 열기 전의 종료 일자를 먼저 보관
+    LocalDateTime previousClosedDate = issue.getClosedDate();
+    Issue saved = modifiedIssue.build();
+    issueRepository.save(saved);
+    if (textChanged) {
+      issueTextIndex.issueSaved(projectId, issueId, saved.getTitle(), saved.getDescription());
+    }
+    if (titleChanged) {
+      issueTitleSuggester.titleSaved(projectId, issueId, saved.getTitle());
+    }
+    assigneeRecommender.issueChanged(projectId, issueId, IssueWork.of(saved));
+    if (changedStatus != null || textChanged) {
+      similarIssueIndex.issueSaved(projectId, issueId, saved.getStatus(),
+          saved.getFixer() == null ? null : saved.getFixer().getAccountId(), saved.getTitle(), saved.getDescription());
+    }
+
+    // 열린 이슈 수로 프로젝트 상태 갱신 (CLOSED: 남은 열린 이슈가 없으면 DONE, REOPENED: IN_PROGRESS)
+    // 트렌드용 일별 종료 이슈 수도 함께 갱신
+    if (changedStatus == IssueStatus.CLOSED) {
+      projectIssueCounter.issueClosed(projectId);
+      issueDailyStatRecorder.issueClosed(projectId, closedDate);
+    } else if (changedStatus == IssueStatus.REOPENED) {
+      projectIssueCounter.issueReopened(projectId);
+      issueDailyStatRecorder.issueReopened(projectId, previousClosedDate);
+    }
+
+    // 이슈 row를 먼저 잠근 뒤 comment_sequence를 잠금 (addComment, modifyIssues와 같은 순서)
+    issueRepository.bumpVersion(projectId, issueId);
+    // 변경 내역 코멘트는 이미 조회한 이슈/계정으로 한 번의 batch INSERT
+    appendComments(issue, account, commentContentList);
+    projectVersions.changed(projectId);
+    projectTrendCache.invalidate(projectId);
+    projectChangeFeed.issueModified(projectId, issueId, saved.getStatus());
+  }
+
+  @Override
+  @Transactional
+  public List<BulkModifyIssueResponse> modifyIssues(Long accountId, Long projectId,
+      BulkModifyIssueRequest bulkModifyIssueRequest) {
+    // 사용자가 해당 프로젝트에 속해 있는지 검증
+    ProjectAccountRole role = projectMembershipIndex.role(projectId, accountId)
+        .orElseThrow(() -> new ITSException(ErrorCode.ISSUE_UPDATE_FORBIDDEN));
+
+    Account account = accountRepository.findById(accountId)
+        .orElseThrow(() -> new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST));
+
+    // 변경은 assignee 지정과 status 변경 중 하나만
+    List<Long> issueIds = bulkModifyIssueRequest.getIssueIds() == null ? null
+        : bulkModifyIssueRequest.getIssueIds().stream().filter(Objects::nonNull).distinct().toList();
+    if (issueIds == null || issueIds.isEmpty() || issueIds.size() > MAX_BULK_MODIFY_ISSUES
+        || (bulkModifyIssueRequest.getAssignee() == null) == (bulkModifyIssueRequest.getStatus() == null)) {
+      throw new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST);
+    }
+
+    Account assignee = null;
+    IssueStatus newStatus = null;
+    if (bulkModifyIssueRequest.getAssignee() != null) {
+      assignee = findDev(projectId, bulkModifyIssueRequest.getAssignee());
+    } else {
+      int status = bulkModifyIssueRequest.getStatus();
+      if (status < 0 || status >= IssueStatus.values().length) {
+        throw new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST);
+      }
+      newStatus = IssueStatus.values()[status];
+    }
+
+    // 이슈들을 한 번의 쿼리로 잠그고 조회한 뒤 단건 변경과 같은 규칙을 메모리에서 검증 (실패한 이슈만 건너뜀)
+    Map<Long, Issue> issues = new HashMap<>();
+    for (Issue issue : issueRepository.findAllForUpdate(projectId, issueIds)) {
+      issues.put(issue.getId().getIssueId(), issue);
+    }
+
+    List<BulkModifyIssueResponse> bulkModifyIssueResponseList = new ArrayList<>();
+    List<Issue> targets = new ArrayList<>();
+    for (Long issueId : issueIds) {
+      Issue issue = issues.get(issueId);
+      try {
+        if (issue == null) {
+          throw new ITSException(ErrorCode.ISSUE_NOT_FOUND);
+        }
+        if (assignee != null) {
+          checkAssignable(issue, role);
+        } else {
+          checkTransition(issue, newStatus, accountId);
+        }
+        targets.add(issue);
+        bulkModifyIssueResponseList.add(BulkModifyIssueResponse.builder()
+            .issueId(issueId)
+            .success(true)
+            .build());
+      } catch (ITSException e) {
+        bulkModifyIssueResponseList.add(BulkModifyIssueResponse.builder()
+            .issueId(issueId)
+            .success(false)
+            .message(e.getErrorCode().getMessage())
+            .build());
+      }
+    }
+    if (targets.isEmpty()) {
+      return bulkModifyIssueResponseList;
+    }
 
-    if (issueRepository.findByStatusNotAndIdProjectId(IssueStatus.CLOSED, projectId).isEmpty()) {
-      projectRepository.save(Project.builder()
-          .projectId(project.getProjectId())
-          .title(project.getTitle())
-          .description(project.getDescription())
-          .status(ProjectStatus.DONE)
-          .date(project.getDate())
+    // 통과한 이슈 전체를 한 번의 UPDATE로 변경
+    List<Long> targetIds = targets.stream().map(issue -> issue.getId().getIssueId()).toList();
+    LocalDateTime closedDate = null;
+    String content;
+    if (assignee != null) {
+      issueRepository.updateAssignee(projectId, targetIds, IssueStatus.ASSIGNED, assignee, account);
+      content = assignedComment(account, assignee.getUsername());
+    } else {
+      switch (newStatus) {
+        case FIXED:
+          issueRepository.updateStatusAndFixer(projectId, targetIds, newStatus, account);
+          break;
+
+        case CLOSED:
+          closedDate = LocalDateTime.now();
+          issueRepository.updateStatusAndClosedDate(projectId, targetIds, newStatus, closedDate);
+          break;
+
+        case REOPENED:
+          issueRepository.updateStatusAndClosedDate(projectId, targetIds, newStatus, null);
+          break;
+
+        default:
+          issueRepository.updateStatus(projectId, targetIds, newStatus);
+      }
+      content = statusComment(account, newStatus);
+    }
+
+    // 조회한 엔티티는 변경 전 값이므로 변경 후 값은 직접 계산
+    for (Issue issue : targets) {
+      IssueWork previousWork = IssueWork.of(issue);
+      IssueWork work = assignee != null
+          ? new IssueWork(previousWork.getKeyword(), IssueStatus.ASSIGNED, assignee.getAccountId(),
+              previousWork.getFixerId())
+          : new IssueWork(previousWork.getKeyword(), newStatus, previousWork.getAssigneeId(),
+              newStatus == IssueStatus.FIXED ? accountId : previousWork.getFixerId());
+      assigneeRecommender.issueChanged(projectId, issue.getId().getIssueId(), work);
+      if (newStatus != null) {
+        similarIssueIndex.issueSaved(projectId, issue.getId().getIssueId(), newStatus, work.getFixerId(),
+            issue.getTitle(), issue.getDescription());
+      }
+    }
+
+    // 프로젝트 이슈 수/상태와 일별 종료 이슈 수는 한 번만 갱신
+    if (newStatus == IssueStatus.CLOSED) {
+      projectIssueCounter.issuesClosed(projectId, targets.size());
+      issueDailyStatRecorder.issuesClosed(projectId, closedDate, targets.size());
+    } else if (newStatus == IssueStatus.REOPENED) {
+      projectIssueCounter.issuesReopened(projectId, targets.size());
+      issueDailyStatRecorder.issuesReopened(projectId, targets.stream().map(Issue::getClosedDate).toList());
+    }
+
+    // 이슈마다 변경 내역 코멘트 하나씩, 번호 예약과 INSERT 모두 한 번에
+    Map<Long, Long> commentIds = commentIdAllocator.allocateEach(projectId, targetIds);
+    List<Comment> comments = new ArrayList<>();
+    for (Issue issue : targets) {
+      comments.add(Comment.builder()
+          .id(CommentPK.builder()
+              .issueId(issue.getId())
+              .commentId(commentIds.get(issue.getId().getIssueId()))
+              .build())
+          .issue(issue)
+          .account(account)
+          .content(content)
           .build());
     }
+    commentRepository.batchInsert(comments);
+    hotIssueTracker.commentAddedToEach(projectId, targetIds);
+    // 이슈 버전은 위 UPDATE에서 함께 올림
+    projectVersions.changed(projectId);
+    projectTrendCache.invalidate(projectId);
+    projectChangeFeed.issuesModified(projectId, targetIds, assignee != null ? IssueStatus.ASSIGNED : newStatus);
+
+    return bulkModifyIssueResponseList;
+  }
 
-    for (String content : commentContentList) {
-      addComment(accountId, projectId, issueId, new AddCommentRequest(content));
+  // assignee 지정 규칙: 프로젝트 PL이 NEW 상태인 이슈에만 (단건/일괄 변경 공통)
+  private static void checkAssignable(Issue issue, ProjectAccountRole role) {
+    if (role != ProjectAccountRole.PL) {
+      throw new ITSException(ErrorCode.ISSUE_UPDATE_FORBIDDEN);
+    }
+    if (issue.getStatus() != IssueStatus.NEW) {
+      throw new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST);
     }
   }
 
+  // 상태 전이 규칙 (단건/일괄 변경 공통)
+  private static void checkTransition(Issue issue, IssueStatus newStatus, Long accountId) {
+    switch (newStatus) {
+      case FIXED:
+        // 사용자가 해당 이슈의 assignee인지, 이슈가 ASSIGNED, REOPENED 상태인지 검증
+        if (!isAccount(issue.getAssignee(), accountId)) {
+          throw new ITSException(ErrorCode.ISSUE_UPDATE_FORBIDDEN);
+        }
+        if (issue.getStatus() != IssueStatus.ASSIGNED && issue.getStatus() != IssueStatus.REOPENED) {
+          throw new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST);
+        }
+        break;
+
+      case RESOLVED:
+        // 사용자가 해당 이슈의 reporter인지, 이슈가 FIXED 상태인지 검증
+        if (!isAccount(issue.getReporter(), accountId)) {
+          throw new ITSException(ErrorCode.ISSUE_UPDATE_FORBIDDEN);
+        }
+        if (issue.getStatus() != IssueStatus.FIXED) {
+          throw new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST);
+        }
+        break;
+
+      case CLOSED:
+        // 사용자가 해당 이슈의 manager인지, 이슈가 RESOLVED 상태인지 검증
+        if (!isAccount(issue.getManager(), accountId)) {
+          throw new ITSException(ErrorCode.ISSUE_UPDATE_FORBIDDEN);
+        }
+        if (issue.getStatus() != IssueStatus.RESOLVED) {
+          throw new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST);
+        }
+        break;
+
+      case REOPENED:
+        // 사용자가 해당 이슈의 reporter인지, 이슈가 CLOSED 상태인지 검증
+        if (!isAccount(issue.getReporter(), accountId)) {
+          throw new ITSException(ErrorCode.ISSUE_UPDATE_FORBIDDEN);
+        }
+        if (issue.getStatus() != IssueStatus.CLOSED) {
+          throw new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST);
+        }
+        break;
+
+      default:
+        throw new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST);
+    }
+  }
+
+  // LAZY 프록시는 id만 읽으므로 초기화하지 않음
+  private static boolean isAccount(Account account, Long accountId) {
+    return account != null && Objects.equals(account.getAccountId(), accountId);
+  }
+
+  // assignee로 입력된 사용자가 프로젝트 dev인지 검증
+  private Account findDev(Long projectId, String username) {
+    Account assignee = accountCache.find(username)
+        .orElseThrow(() -> new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST));
+    if (projectMembershipIndex.role(projectId, assignee.getAccountId())
+        .orElseThrow(() -> new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST)) != ProjectAccountRole.dev) {
+      throw new ITSException(ErrorCode.ISSUE_UPDATE_BAD_REQUEST);
+    }
+    return assignee;
+  }
+
+  private static String assignedComment(Account account, String assignee) {
+    return account.getUsername() + " assigned this to " + assignee + ".";
+  }
+
+  private static String statusComment(Account account, IssueStatus status) {
+    return account.getUsername() + " " + status.name().toLowerCase() + " this.";
+  }
+
+  private void appendComments(Issue issue, Account account, List<String> contents) {
+    if (contents.isEmpty()) {
+      return;
+    }
+    // 코멘트 수만큼 id를 한 번에 예약하고 순서대로 번호를 매김
+    long commentId = commentIdAllocator.allocate(issue.getId(), contents.size());
+    List<Comment> comments = new ArrayList<>();
+    for (String content : contents) {
+      comments.add(Comment.builder()
+          .id(CommentPK.builder()
+              .issueId(issue.getId())
+              .commentId(commentId++)
+              .build())
+          .issue(issue)
+          .account(account)
+          .content(content)
+          .build());
+    }
+    commentRepository.batchInsert(comments);
+    hotIssueTracker.commentsAdded(issue.getId().getProjectId(), issue.getId().getIssueId(), comments.size());
+  }
+
+  @Override
+  public String issueETag(Long accountId, Long projectId, Long issueId, Long commentCursor, Integer commentSize) {
+    // findIssue와 같은 권한 검증
+    ProjectAccountRole role = null;
+    if (accountId != 1L) {
+      role = projectMembershipIndex.role(projectId, accountId)
+          .orElseThrow(() -> new ITSException(ErrorCode.ISSUE_DETAILS_FORBIDDEN));
+    }
+
+    // 이슈가 수정되거나 코멘트가 추가되면 issue.version이 올라가므로 issue 행 하나만 읽음 (없는 이슈는 404)
+    Long version = issueRepository.findVersion(projectId, issueId)
+        .orElseThrow(() -> new ITSException(ErrorCode.ISSUE_NOT_FOUND));
+    // 응답의 accountRole과 코멘트 페이지가 요청마다 다르므로 함께 포함 (hash는 충돌하므로 값 그대로)
+    return issueId + "-" + version + "-" + (role == null ? -1 : role.ordinal())
+        + "-c" + commentCursor + "-s" + commentSize;
+  }
+
   @Override
   @Transactional(readOnly = true)
-  public DetailsIssueResponse findIssue(Long accountId, Long projectId, Long issueId) {
-    ProjectAccount projectAccount = null;
+  public DetailsIssueResponse findIssue(Long accountId, Long projectId, Long issueId, Long commentCursor,
+      Integer commentSize) {
+    ProjectAccountRole role = null;
     // 사용자가 Admin이거나 해당 프로젝트에 속해 있는지 검증
     if (accountId != 1L) {
-       projectAccount = projectAccountRepository.findById(ProjectAccountPK.builder()
-          .accountId(accountId)
-          .projectId(projectId).build()).orElseThrow(() -> new ITSException(ErrorCode.ISSUE_DETAILS_FORBIDDEN));
+      role = projectMembershipIndex.role(projectId, accountId)
+          .orElseThrow(() -> new ITSException(ErrorCode.ISSUE_DETAILS_FORBIDDEN));
     }
 
-    Issue issue = issueRepository.findById(IssuePK.builder()
+    Issue issue = issueRepository.findWithAccountsById(IssuePK.builder()
             .projectId(projectId)
             .issueId(issueId)
         .build())
         .orElseThrow(() -> new ITSException(ErrorCode.ISSUE_NOT_FOUND));
 
-    List<Comment> commentList = commentRepository.findByIssue(issue).orElse(Collections.emptyList());
-    List<AddCommentResponse> addCommentResponseList = new ArrayList<>();
+    // 최신 코멘트부터 cursor(comment_id) 이전으로 size개, 다음 페이지 여부 확인을 위해 하나 더 조회
+    int pageSize = commentSize == null
+        ? DEFAULT_COMMENT_PAGE_SIZE : Math.min(Math.max(commentSize, 1), MAX_COMMENT_PAGE_SIZE);
+    List<Comment> commentList = commentRepository.findLatestPageByIssue(projectId, issueId,
+        commentCursor == null ? Long.MAX_VALUE : commentCursor, PageRequest.of(0, pageSize + 1));
 
-    for (Comment comment : commentList) {
-      addCommentResponseList.add(AddCommentResponse.builder()
-              .id(comment.getId().getCommentId())
-              .username(comment.getAccount().getUsername())
-              .content(comment.getContent())
-              .date(comment.getDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
-          .build());
+    Long nextCommentCursor = null;
+    if (commentList.size() > pageSize) {
+      commentList = commentList.subList(0, pageSize);
+      nextCommentCursor = commentList.get(pageSize - 1).getId().getCommentId();
     }
 
+    List<AddCommentResponse> addCommentResponseList = commentList.stream()
+        .map(this::toCommentResponse)
+        .collect(Collectors.toList());
+
     DetailsIssueResponse detailsIssueResponse = DetailsIssueResponse.builder()
         .id(issueId)
         .projectId(projectId)
@@ -396,7 +676,9 @@ public class IssueServiceImpl implements IssueService {
         .dueDate(issue.getDueDate().format(DateTimeFormatter.ISO_DATE))
         .closedDate(issue.getClosedDate() != null ? issue.getClosedDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")) : null)
         .comment(addCommentResponseList)
-        .accountRole(accountId == 1 ? -1 : projectAccount.getRole().ordinal())
+        .nextCommentCursor(nextCommentCursor)
+        .accountRole(accountId == 1 ? -1 : role.ordinal())
+        .version(issue.getVersion())
         .build();
 
     return detailsIssueResponse;
@@ -404,14 +686,10 @@ public class IssueServiceImpl implements IssueService {
 
   @Override
   @Transactional
-  public List<AddCommentResponse> addComment(Long accountId, Long projectId, Long issueId, AddCommentRequest addCommentRequest) {
-    projectAccountRepository.findById(ProjectAccountPK.builder()
-        .accountId(accountId)
-        .projectId(projectId).build()).orElseThrow(() -> new ITSException(ErrorCode.COMMENT_CREATION_FORBIDDEN));
-
-    // issue별 comment_id auto increment
-    Long maxCommentId = commentRepository.findMaxIdByIssueId(issueId);
-    Long newCommentId = (maxCommentId != null ? maxCommentId : 0) + 1;
+  public List<AddCommentResponse> addComment(Long accountId, Long projectId, Long issueId, AddCommentRequest addCommentRequest,
+      Long cursor, Integer size, boolean onlyNew) {
+    projectMembershipIndex.role(projectId, accountId)
+        .orElseThrow(() -> new ITSException(ErrorCode.COMMENT_CREATION_FORBIDDEN));
 
     // 코멘트 생성
     IssuePK issuePK = IssuePK.builder()
@@ -422,6 +700,10 @@ public class IssueServiceImpl implements IssueService {
     Issue issue = issueRepository.findById(issuePK)
         .orElseThrow(() -> new ITSException(ErrorCode.COMMENT_CREATION_BAD_REQUEST));
 
+    // 이슈 row를 먼저 잠근 뒤 issue별 comment_id 발급 (modifyIssue, modifyIssues와 같은 잠금 순서)
+    issueRepository.bumpVersion(projectId, issueId);
+    Long newCommentId = commentIdAllocator.allocate(issuePK);
+
     Account account = accountRepository.findById(accountId)
         .orElseThrow(() -> new ITSException(ErrorCode.COMMENT_CREATION_FORBIDDEN));
 
@@ -436,33 +718,43 @@ public class IssueServiceImpl implements IssueService {
         .date(LocalDateTime.now())
         .build();
 
-    commentRepository.save(comment);
-
-    List<Comment> commentList = commentRepository.findAll();
-    List<AddCommentResponse> addCommentResponseList = new ArrayList<>();
+    commentRepository.persist(comment);
+    hotIssueTracker.commentsAdded(projectId, issueId, 1);
+    // 코멘트는 프로젝트 상세 응답에 없으므로 issue.version만 올림
+    projectTrendCache.invalidate(projectId);
+    projectChangeFeed.commentAdded(projectId, issueId, newCommentId);
 
-    for (Comment c : commentList) {
-      addCommentResponseList.add(AddCommentResponse.builder()
-              .id(c.getId().getCommentId())
-              .username(c.getAccount().getUsername())
-              .content(c.getContent())
-              .date(c.getDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
-          .build());
+    if (onlyNew) {
+      return List.of(toCommentResponse(comment));
     }
 
-    return addCommentResponseList;
+    // 해당 이슈의 코멘트만 cursor(comment_id) 이후로 size개 조회
+    int pageSize = size == null ? DEFAULT_COMMENT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_COMMENT_PAGE_SIZE);
+    List<Comment> commentList = commentRepository.findPageByIssue(projectId, issueId,
+        cursor == null ? 0L : cursor, PageRequest.of(0, pageSize));
+
+    return commentList.stream()
+        .map(this::toCommentResponse)
+        .collect(Collectors.toList());
+  }
+
+  private AddCommentResponse toCommentResponse(Comment comment) {
+    return AddCommentResponse.builder()
+        .id(comment.getId().getCommentId())
+        .username(comment.getAccount().getUsername())
+        .content(comment.getContent())
+        .date(comment.getDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
+        .build();
   }
 
   @Override
   public SuggestIssueAssigneeResponse suggestAssignee(Long accountId, Long projectId,
-      Long issueId) {
+      Long issueId, Integer size) {
     // 사용자가 해당 프로젝트의 PL인지 검증
-    ProjectAccount projectAccount = projectAccountRepository.findById(ProjectAccountPK.builder()
-            .accountId(accountId)
-            .projectId(projectId).build())
+    ProjectAccountRole role = projectMembershipIndex.role(projectId, accountId)
         .orElseThrow(() -> new ITSException(ErrorCode.ISSUE_ASSIGNEE_SUGGESTION_FORBIDDEN));
 
-    if (projectAccount.getRole() != ProjectAccountRole.PL) {
+    if (role != ProjectAccountRole.PL) {
       throw new ITSException(ErrorCode.ISSUE_ASSIGNEE_SUGGESTION_FORBIDDEN);
     }
 
@@ -472,108 +764,218 @@ public class IssueServiceImpl implements IssueService {
             .build())
         .orElseThrow(() -> new ITSException(ErrorCode.ISSUE_ASSIGNEE_SUGGESTION_BAD_REQUEST));
 
-    IssueKeyword issueKeyword = issue.getKeyword();
+    // 비슷한 과거 해결 이슈의 fixer와 메모리의 프로젝트 dev별 해결/담당 이슈 수로 순위 계산 (DB 집계 없음)
+    int limit = size == null
+        ? DEFAULT_ASSIGNEE_SUGGESTIONS : Math.min(Math.max(size, 1), MAX_ASSIGNEE_SUGGESTIONS);
+    Map<Long, Double> similarFixes = similarIssueIndex.nearestFixers(projectId, issueId, issue.getTitle(),
+        issue.getDescription(), SIMILAR_ISSUES);
+    List<AssigneeCandidateResponse> candidates = assigneeRecommender.recommend(projectId, issue.getKeyword(),
+            similarFixes, limit)
+        .stream()
+        .map(candidate -> AssigneeCandidateResponse.builder()
+            .username(candidate.getUsername())
+            .score(candidate.getScore())
+            .similarity(candidate.getSimilarity())
+            .resolvedCount(candidate.getResolvedCount())
+            .openCount(candidate.getOpenCount())
+            .build())
+        .collect(Collectors.toList());
 
-    SuggestIssueAssigneeResponse suggestIssueAssigneeResponse;
+    SuggestIssueAssigneeResponse suggestIssueAssigneeResponse = SuggestIssueAssigneeResponse.builder()
+        .username(candidates.isEmpty() ? "There are no suitable dev." : candidates.get(0).getUsername())
+        .candidates(candidates)
+        .build();
 
-    if (issueKeyword == null) {
-      Object[] assignee = issueRepository.findAssigneeSuggestion(projectId);
-      if (assignee.length == 0) {
-        List<ProjectAccount> devs = projectAccountRepository.findByProjectProjectIdAndRole(projectId, ProjectAccountRole.dev);
-        if (devs.isEmpty()) {
-          suggestIssueAssigneeResponse = SuggestIssueAssigneeResponse.builder()
-              .username("There are no suitable dev.")
-              .build();
-        } else {
-          ProjectAccount randomDev = devs.get(new Random().nextInt(devs.size()));
-          suggestIssueAssigneeResponse = SuggestIssueAssigneeResponse.builder()
-              .username(randomDev.getAccount().getUsername())
-              .build();
-        }
-      } else {
-        suggestIssueAssigneeResponse = SuggestIssueAssigneeResponse.builder()
-            .username((String) ((Object[]) assignee[0])[0])
-            .build();
-      }
-    } else {
-      Object[] assignee = issueRepository.findAssigneeSuggestionByKeyword(projectId, issueKeyword);
-      if (assignee.length == 0) {
-        List<ProjectAccount> devs = projectAccountRepository.findByProjectProjectIdAndRole(projectId, ProjectAccountRole.dev);
-        if (devs.isEmpty()) {
-          suggestIssueAssigneeResponse = SuggestIssueAssigneeResponse.builder()
-              .username("There are no suitable dev.")
-              .build();
-        } else {
-          ProjectAccount randomDev = devs.get(new Random().nextInt(devs.size()));
-          suggestIssueAssigneeResponse = SuggestIssueAssigneeResponse.builder()
-              .username(randomDev.getAccount().getUsername())
-              .build();
-        }
-      } else {
-        suggestIssueAssigneeResponse = SuggestIssueAssigneeResponse.builder()
-            .username((String) ((Object[]) assignee[0])[0])
-            .build();
-      }
+    return suggestIssueAssigneeResponse;
+  }
+
+  @Override
+  public List<TitleSuggestionResponse> suggestTitles(Long accountId, Long projectId, String query, Integer size) {
+    if (accountId != 1L) {
+      projectMembershipIndex.role(projectId, accountId)
+          .orElseThrow(() -> new ITSException(ErrorCode.ISSUE_DETAILS_FORBIDDEN));
     }
 
-    return suggestIssueAssigneeResponse;
+    // 입력할 때마다 호출되므로 DB 대신 title trie에서 조회
+    int limit = size == null ? DEFAULT_TITLE_SUGGESTIONS : Math.min(Math.max(size, 1), MAX_TITLE_SUGGESTIONS);
+    return issueTitleSuggester.suggest(projectId, query, limit).entrySet().stream()
+        .map(entry -> TitleSuggestionResponse.builder()
+            .id(entry.getKey())
+            .title(entry.getValue())
+            .build())
+        .collect(Collectors.toList());
   }
 
   @Override
-  public List<SearchIssueResponse> searchIssue(Long accountId, Long projectId, Map<String, String> searchKey) {
+  public SearchIssuePageResponse searchIssue(Long accountId, Long projectId, Map<String, String> searchKey) {
     if (accountId != 1L) {
-      projectAccountRepository.findById(ProjectAccountPK.builder()
-          .accountId(accountId)
-          .projectId(projectId).build()).orElseThrow(() -> new ITSException(ErrorCode.ISSUE_DETAILS_FORBIDDEN));
+      projectMembershipIndex.role(projectId, accountId)
+          .orElseThrow(() -> new ITSException(ErrorCode.ISSUE_DETAILS_FORBIDDEN));
     }
-    String key = null, value = null;
-    for (String k: searchKey.keySet()) {
-      key = k;
-      value = searchKey.get(k);
+
+    Map<String, String> criteria = new HashMap<>(searchKey);
+    int page = parseInt(criteria.remove("page"), 0);
+    int size = Math.min(Math.max(parseInt(criteria.remove("size"), DEFAULT_SEARCH_PAGE_SIZE), 1), MAX_SEARCH_PAGE_SIZE);
+    if (page < 0) {
+      throw new ITSException(ErrorCode.ISSUE_SEARCH_BAD_REQUEST);
     }
 
-    List<Issue> issueList = new ArrayList<>();
+    // 계정 조건의 username은 한 번에 account_id로 변환
+    List<String> usernames = ACCOUNT_SEARCH_KEYS.stream()
+        .map(criteria::get)
+        .filter(Objects::nonNull)
+        .toList();
+    Map<String, Account> accounts = usernames.isEmpty() ? Collections.emptyMap() : accountCache.findAll(usernames);
+    if (accounts.size() < usernames.stream().distinct().count()) {
+      // 존재하지 않는 사용자가 조건이면 결과 없음
+      return SearchIssuePageResponse.builder()
+          .issue(Collections.emptyList())
+          .page(page)
+          .size(size)
+          .total(0L)
+          .build();
+    }
 
+    // title, description, q(둘 다)는 전문 검색 색인에서 찾은 이슈 전체(순위순)로 변환
+    List<Long> matchedIssueIds = null;
+    for (String textKey : TEXT_SEARCH_KEYS) {
+      String query = criteria.remove(textKey);
+      if (query == null) {
+        continue;
+      }
+      List<Long> matched = issueTextIndex.search(projectId, query, textSearchField(textKey));
+      if (matchedIssueIds == null) {
+        matchedIssueIds = matched;
+      } else {
+        Set<Long> other = new HashSet<>(matched);
+        matchedIssueIds = matchedIssueIds.stream().filter(other::contains).toList();
+      }
+    }
+
+    IssueSearchFilter.IssueSearchFilterBuilder filter = IssueSearchFilter.builder();
+    for (Map.Entry<String, String> entry : criteria.entrySet()) {
+      String value = entry.getValue();
+      switch (entry.getKey()) {
+        case "keyword":
+          filter.keyword(parseEnum(IssueKeyword.class, value));
+          break;
+        case "reporter":
+          filter.reporterId(accounts.get(value).getAccountId());
+          break;
+        case "manager":
+          filter.managerId(accounts.get(value).getAccountId());
+          break;
+        case "assignee":
+          filter.assigneeId(accounts.get(value).getAccountId());
+          break;
+        case "fixer":
+          filter.fixerId(accounts.get(value).getAccountId());
+          break;
+        case "priority":
+          filter.priority(parseEnum(IssuePriority.class, value));
+          break;
+        case "status":
+          filter.status(parseEnum(IssueStatus.class, value));
+          break;
+        case "reportedFrom":
+          filter.reportedFrom(parseDate(value));
+          break;
+        case "reportedTo":
+          filter.reportedTo(parseDate(value));
+          break;
+        case "dueFrom":
+          filter.dueFrom(parseDate(value));
+          break;
+        case "dueTo":
+          filter.dueTo(parseDate(value));
+          break;
+        default:
+          throw new ITSException(ErrorCode.ISSUE_SEARCH_BAD_REQUEST);
+      }
+    }
+    if (matchedIssueIds != null) {
+      // 전문 검색 결과 전체에 나머지 조건을 적용한 뒤 순위순으로 페이지를 자르므로 전체 이슈 수도 정확함
+      List<Long> ranked = criteria.isEmpty()
+          ? matchedIssueIds
+          : issueRepository.filterIds(projectId, filter.build(), matchedIssueIds);
+      int from = (int) Math.min((long) page * size, ranked.size());
+      List<Long> pageIds = ranked.subList(from, Math.min(from + size, ranked.size()));
+      List<Object[]> rows = pageIds.isEmpty()
+          ? Collections.emptyList()
+          : issueRepository.search(projectId, IssueSearchFilter.builder().issueIds(pageIds).build(), 0, size);
+      return searchPage(rows, page, size, ranked.size());
+    }
+    IssueSearchFilter issueSearchFilter = filter.build();
+
+    // 마지막 페이지면 전체 이슈 수를 페이지로 계산하고, 아니면 (캐시된) COUNT 쿼리
+    List<Object[]> rows = issueRepository.search(projectId, issueSearchFilter, page * size, size);
+    long total;
+    if (!rows.isEmpty() && rows.size() < size) {
+      total = (long) page * size + rows.size();
+    } else if (rows.isEmpty() && page == 0) {
+      total = 0;
+    } else {
+      total = issueSearchCounts.count(projectId, issueSearchFilter);
+    }
+    return searchPage(rows, page, size, total);
+  }
+
+  private SearchIssuePageResponse searchPage(List<Object[]> rows, int page, int size, long total) {
+    return SearchIssuePageResponse.builder()
+        .issue(rows.stream()
+            .map(row -> SearchIssueResponse.builder()
+                .id((Long) row[0])
+                .title((String) row[1])
+                .status(((IssueStatus) row[2]).ordinal())
+                .reportedDate(((LocalDateTime) row[3]).format(DateTimeFormatter.ISO_DATE))
+                .dueDate(((LocalDate) row[4]).format(DateTimeFormatter.ISO_DATE))
+                .build())
+            .collect(Collectors.toList()))
+        .page(page)
+        .size(size)
+        .total(total)
+        .build();
+  }
+
+  private IssueTextIndex.Field textSearchField(String key) {
     switch (key) {
       case "title":
-        issueList = issueRepository.findById_ProjectIdAndTitle(projectId, value);
-        break;
+        return IssueTextIndex.Field.TITLE;
       case "description":
-        issueList = issueRepository.findById_ProjectIdAndDescription(projectId, value);
-        break;
-      case "keyword":
-        issueList = issueRepository.findById_ProjectIdAndKeyword(projectId, IssueKeyword.valueOf(value));
-        break;
-      case "reporter":
-        issueList = issueRepository.findById_ProjectIdAndReporter_Username(projectId, value);
-        break;
-      case "manager":
-        issueList = issueRepository.findById_ProjectIdAndManager_Username(projectId, value);
-        break;
-      case "assignee":
-        issueList = issueRepository.findById_ProjectIdAndAssignee_Username(projectId, value);
-        break;
-      case "fixer":
-        issueList = issueRepository.findById_ProjectIdAndFixer_Username(projectId, value);
-        break;
-      case "priority":
-        issueList = issueRepository.findById_ProjectIdAndPriority(projectId, IssuePriority.valueOf(value));
-        break;
-      case "status":
-        issueList = issueRepository.findById_ProjectIdAndStatus(projectId, IssueStatus.valueOf(value));
-        break;
+        return IssueTextIndex.Field.DESCRIPTION;
       default:
-        throw new ITSException(ErrorCode.ISSUE_SEARCH_BAD_REQUEST);
+        return IssueTextIndex.Field.ALL;
     }
+  }
 
-    return issueList.stream()
-        .map(issue -> SearchIssueResponse.builder()
-            .id(issue.getId().getIssueId())
-            .title(issue.getTitle())
-            .status(issue.getStatus().ordinal())
-            .reportedDate(issue.getReportedDate().format(DateTimeFormatter.ISO_DATE))
-            .dueDate(issue.getDueDate().format(DateTimeFormatter.ISO_DATE))
-            .build())
-        .collect(Collectors.toList());
+  // enum 이름 또는 ordinal
+  private <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+    try {
+      if (!value.isEmpty() && value.chars().allMatch(Character::isDigit)) {
+        return type.getEnumConstants()[Integer.parseInt(value)];
+      }
+      return Enum.valueOf(type, value);
+    } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+      throw new ITSException(ErrorCode.ISSUE_SEARCH_BAD_REQUEST);
+    }
+  }
+
+  private LocalDate parseDate(String value) {
+    try {
+      return LocalDate.parse(value);
+    } catch (DateTimeParseException e) {
+      throw new ITSException(ErrorCode.ISSUE_SEARCH_BAD_REQUEST);
+    }
+  }
+
+  private int parseInt(String value, int defaultValue) {
+    if (value == null) {
+      return defaultValue;
+    }
+    try {
+      return Integer.parseInt(value);
+    } catch (NumberFormatException e) {
+      throw new ITSException(ErrorCode.ISSUE_SEARCH_BAD_REQUEST);
+    }
   }
 }
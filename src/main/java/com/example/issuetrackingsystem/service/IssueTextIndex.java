@@ -0,0 +1,244 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.repository.IssueRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 프로젝트별 이슈 title/description 역색인 (단어 검색, 입력 중인 마지막 단어는 접두어 검색, TF-IDF 순위)
+@Slf4j
+@Component
+public class IssueTextIndex {
+
+  public enum Field {
+    TITLE,
+    DESCRIPTION,
+    ALL
+  }
+
+  // title에 나온 단어는 description보다 가중치를 높게
+  private static final int TITLE_WEIGHT = 3;
+  // 접두어 하나로 확장하는 최대 단어 수
+  private static final int MAX_PREFIX_EXPANSION = 200;
+
+  private final IssueRepository issueRepository;
+  // 다른 서버에서 수정된 이슈도 반영되도록 reloadAfter마다 백그라운드에서 다시 색인
+  private final ProjectIndexes<ProjectText> projects;
+
+  @Autowired
+  public IssueTextIndex(IssueRepository issueRepository,
+      @Value("${its.text-index.reload-after:30m}") Duration reloadAfter,
+      @Value("${its.text-index.idle-after:1h}") Duration idleAfter, IndexReloadExecutor indexReloadExecutor) {
+    this(issueRepository, reloadAfter, idleAfter, indexReloadExecutor.executor(), Clock.systemDefaultZone());
+  }
+
+  IssueTextIndex(IssueRepository issueRepository, Duration reloadAfter, Duration idleAfter, Executor executor,
+      Clock clock) {
+    this.issueRepository = issueRepository;
+    this.projects = new ProjectIndexes<>("TEXT INDEX", this::load, reloadAfter, idleAfter, executor, clock);
+  }
+
+  // 모든 검색어 단어를 포함하는 이슈 전체를 점수 내림차순으로 (issue_id)
+  public List<Long> search(Long projectId, String query, Field field) {
+    return search(projectId, query, field, Integer.MAX_VALUE);
+  }
+
+  // 모든 검색어 단어를 포함하는 이슈를 점수 내림차순으로 최대 limit개 (issue_id)
+  public List<Long> search(Long projectId, String query, Field field, int limit) {
+    List<String> tokens = tokenize(query);
+    if (tokens.isEmpty()) {
+      return Collections.emptyList();
+    }
+    // 입력 중인 마지막 단어(검색어가 공백으로 끝나지 않음)는 접두어로 검색
+    boolean lastIsPrefix = !Character.isWhitespace(query.charAt(query.length() - 1));
+
+    return projects.get(projectId).search(tokens, lastIsPrefix, field, limit);
+  }
+
+  // 이슈 INSERT/수정이 commit된 후 색인에 반영
+  public void issueSaved(Long projectId, Long issueId, String title, String description) {
+    projects.update(projectId, text -> text.put(issueId, title, description));
+  }
+
+  private ProjectText load(Long projectId) {
+    ProjectText text = new ProjectText();
+    for (Object[] row : issueRepository.findTexts(projectId)) {
+      text.put((Long) row[0], (String) row[1], (String) row[2]);
+    }
+    log.info("[TEXT INDEX] project {} indexed : {} issues", projectId, text.documents.size());
+    return text;
+  }
+
+  // 소문자로 바꾼 뒤 글자/숫자가 아닌 문자로 분리
+  static List<String> tokenize(String text) {
+    List<String> tokens = new ArrayList<>();
+    if (text == null) {
+      return tokens;
+    }
+
+    String lower = text.toLowerCase(Locale.ROOT);
+    int start = -1;
+    for (int i = 0; i <= lower.length(); i++) {
+      boolean letter = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+      if (letter && start < 0) {
+        start = i;
+      } else if (!letter && start >= 0) {
+        tokens.add(lower.substring(start, i));
+        start = -1;
+      }
+    }
+    return tokens;
+  }
+
+  private static class ProjectText {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 단어 → (issue_id → 단어 빈도), 접두어 검색을 위해 정렬된 map
+    private final NavigableMap<String, Map<Long, Posting>> postings = new TreeMap<>();
+    // issue_id → 색인된 단어 (수정 시 이전 단어 제거용)
+    private final Map<Long, Set<String>> documents = new HashMap<>();
+
+    void put(Long issueId, String title, String description) {
+      Map<String, Posting> terms = new HashMap<>();
+      for (String token : tokenize(title)) {
+        terms.computeIfAbsent(token, t -> new Posting()).title++;
+      }
+      for (String token : tokenize(description)) {
+        terms.computeIfAbsent(token, t -> new Posting()).description++;
+      }
+
+      lock.writeLock().lock();
+      try {
+        Set<String> previous = documents.put(issueId, new HashSet<>(terms.keySet()));
+        if (previous != null) {
+          for (String term : previous) {
+            Map<Long, Posting> docs = postings.get(term);
+            docs.remove(issueId);
+            if (docs.isEmpty()) {
+              postings.remove(term);
+            }
+          }
+        }
+        terms.forEach((term, posting) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(issueId, posting));
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    List<Long> search(List<String> tokens, boolean lastIsPrefix, Field field, int limit) {
+      lock.readLock().lock();
+      try {
+        int documentCount = documents.size();
+        Map<Long, Double> scores = null;
+
+        for (int i = 0; i < tokens.size(); i++) {
+          String token = tokens.get(i);
+          boolean prefix = i == tokens.size() - 1 && lastIsPrefix;
+          Map<String, Map<Long, Posting>> matched = prefix
+              ? prefixMatches(token)
+              : postings.containsKey(token) ? Map.of(token, postings.get(token)) : Collections.emptyMap();
+
+          // 이 단어(접두어면 확장된 단어들)의 이슈별 TF-IDF 점수
+          Map<Long, Double> tokenScores = new HashMap<>();
+          matched.values().forEach(docs -> {
+            double idf = Math.log((documentCount + 1.0) / (docs.size() + 1.0)) + 1.0;
+            docs.forEach((issueId, posting) -> {
+              int frequency = posting.frequency(field);
+              if (frequency > 0) {
+                tokenScores.merge(issueId, (1.0 + Math.log(frequency)) * idf, Double::sum);
+              }
+            });
+          });
+
+          // 모든 단어를 포함하는 이슈만 남김
+          if (scores == null) {
+            scores = tokenScores;
+          } else {
+            Map<Long, Double> previous = scores;
+            scores = new HashMap<>();
+            for (Map.Entry<Long, Double> entry : previous.entrySet()) {
+              Double score = tokenScores.get(entry.getKey());
+              if (score != null) {
+                scores.put(entry.getKey(), entry.getValue() + score);
+              }
+            }
+          }
+          if (scores.isEmpty()) {
+            return Collections.emptyList();
+          }
+        }
+
+        return top(scores, limit);
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    private Map<String, Map<Long, Posting>> prefixMatches(String prefix) {
+      Map<String, Map<Long, Posting>> matched = new HashMap<>();
+      for (Map.Entry<String, Map<Long, Posting>> entry
+          : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).entrySet()) {
+        matched.put(entry.getKey(), entry.getValue());
+        if (matched.size() >= MAX_PREFIX_EXPANSION) {
+          break;
+        }
+      }
+      return matched;
+    }
+
+    // 점수 내림차순, 같으면 최근 이슈(issue_id 큰 순)
+    private static List<Long> top(Map<Long, Double> scores, int limit) {
+      Comparator<Map.Entry<Long, Double>> best = Map.Entry.<Long, Double>comparingByValue()
+          .thenComparing(Map.Entry.comparingByKey());
+      if (limit >= scores.size()) {
+        List<Map.Entry<Long, Double>> all = new ArrayList<>(scores.entrySet());
+        all.sort(best.reversed());
+        return all.stream().map(Map.Entry::getKey).toList();
+      }
+      PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(limit + 1, best);
+      for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+        heap.offer(entry);
+        if (heap.size() > limit) {
+          heap.poll();
+        }
+      }
+
+      List<Map.Entry<Long, Double>> result = new ArrayList<>(heap);
+      result.sort(best.reversed());
+      return result.stream().map(Map.Entry::getKey).toList();
+    }
+  }
+
+  private static class Posting {
+    private int title;
+    private int description;
+
+    int frequency(Field field) {
+      switch (field) {
+        case TITLE:
+          return title;
+        case DESCRIPTION:
+          return description;
+        default:
+          return title * TITLE_WEIGHT + description;
+      }
+    }
+  }
+}
@@ -0,0 +1,205 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.repository.IssueRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 프로젝트별 이슈 title 단어 trie (입력 중인 검색어로 시작하는 단어가 있는 최근 이슈 title 추천)
+@Component
+public class IssueTitleSuggester {
+
+  // trie 노드마다 미리 골라 두는 최근 이슈 수 (앞 단어 조건으로 걸러낼 여유분 포함)
+  static final int NODE_CAPACITY = 64;
+
+  private final IssueRepository issueRepository;
+  // 다른 서버에서 수정된 title도 반영되도록 reloadAfter마다 백그라운드에서 다시 구성
+  private final ProjectIndexes<ProjectTitles> projects;
+
+  @Autowired
+  public IssueTitleSuggester(IssueRepository issueRepository,
+      @Value("${its.title-suggestion.reload-after:30m}") Duration reloadAfter,
+      @Value("${its.title-suggestion.idle-after:1h}") Duration idleAfter, IndexReloadExecutor indexReloadExecutor) {
+    this(issueRepository, reloadAfter, idleAfter, indexReloadExecutor.executor(), Clock.systemDefaultZone());
+  }
+
+  IssueTitleSuggester(IssueRepository issueRepository, Duration reloadAfter, Duration idleAfter, Executor executor,
+      Clock clock) {
+    this.issueRepository = issueRepository;
+    this.projects = new ProjectIndexes<>("TITLE SUGGESTION", this::load, reloadAfter, idleAfter, executor,
+        clock);
+  }
+
+  // 마지막 단어로 시작하는 단어와 앞 단어들을 모두 title에 가진 이슈를 최근 순으로 최대 limit개 (issue_id → title)
+  public Map<Long, String> suggest(Long projectId, String query, int limit) {
+    List<String> tokens = IssueTextIndex.tokenize(query);
+    if (tokens.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    return projects.get(projectId).suggest(tokens, limit);
+  }
+
+  // 이슈 INSERT/title 수정이 commit된 후 trie에 반영
+  public void titleSaved(Long projectId, Long issueId, String title) {
+    projects.update(projectId, titles -> titles.put(issueId, title));
+  }
+
+  private ProjectTitles load(Long projectId) {
+    ProjectTitles titles = new ProjectTitles();
+    for (Object[] row : issueRepository.findAllTitles(projectId)) {
+      titles.put((Long) row[0], (String) row[1]);
+    }
+    return titles;
+  }
+
+  private static class ProjectTitles {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    // issue_id → title, title의 단어
+    private final Map<Long, String> titles = new HashMap<>();
+    private final Map<Long, Set<String>> words = new HashMap<>();
+
+    void put(Long issueId, String title) {
+      Set<String> newWords = new LinkedHashSet<>(IssueTextIndex.tokenize(title));
+
+      lock.writeLock().lock();
+      try {
+        Set<String> oldWords = words.getOrDefault(issueId, Collections.emptySet());
+        for (String word : oldWords) {
+          if (!newWords.contains(word)) {
+            remove(word, issueId, newWords);
+          }
+        }
+        for (String word : newWords) {
+          if (!oldWords.contains(word)) {
+            add(word, issueId);
+          }
+        }
+        titles.put(issueId, title);
+        words.put(issueId, newWords);
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    Map<Long, String> suggest(List<String> tokens, int limit) {
+      String prefix = tokens.get(tokens.size() - 1);
+      List<String> others = tokens.subList(0, tokens.size() - 1);
+
+      lock.readLock().lock();
+      try {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+          node = node.children.get(prefix.charAt(i));
+        }
+        if (node == null) {
+          return Collections.emptyMap();
+        }
+
+        // 노드에 미리 골라 둔 최근 이슈 중 앞 단어들을 모두 포함하는 이슈
+        Map<Long, String> suggestions = new LinkedHashMap<>();
+        for (Long issueId : node.top.descendingSet()) {
+          if (words.get(issueId).containsAll(others)) {
+            suggestions.put(issueId, titles.get(issueId));
+            if (suggestions.size() >= limit) {
+              break;
+            }
+          }
+        }
+        return suggestions;
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    // 단어 경로의 모든 노드 top에 이슈 추가 (capacity를 넘으면 가장 오래된 이슈 제외)
+    private void add(String word, Long issueId) {
+      Node node = root;
+      for (int i = 0; i < word.length(); i++) {
+        node = node.children.computeIfAbsent(word.charAt(i), c -> new Node());
+        node.offer(issueId);
+      }
+      node.exact.add(issueId);
+    }
+
+    private void remove(String word, Long issueId, Set<String> remainingWords) {
+      List<Node> path = new ArrayList<>();
+      Node node = root;
+      for (int i = 0; i < word.length() && node != null; i++) {
+        node = node.children.get(word.charAt(i));
+        path.add(node);
+      }
+      if (node == null) {
+        return;
+      }
+      node.exact.remove(issueId);
+
+      // 수정 후 title에 같은 접두어의 단어가 남아 있지 않은 노드에서만 제거하고, 빈 자리는 하위 노드에서 채움
+      for (int depth = 0; depth < path.size(); depth++) {
+        String nodePrefix = word.substring(0, depth + 1);
+        if (remainingWords.stream().anyMatch(other -> other.startsWith(nodePrefix))) {
+          continue;
+        }
+        Node current = path.get(depth);
+        if (current.top.remove(issueId) && current.top.size() == NODE_CAPACITY - 1) {
+          current.refill();
+        }
+      }
+    }
+  }
+
+  private static class Node {
+    private final Map<Character, Node> children = new HashMap<>();
+    // 이 노드를 접두어로 하는 단어를 title에 가진 이슈 중 최근(issue_id가 큰) NODE_CAPACITY개
+    private final TreeSet<Long> top = new TreeSet<>();
+    // 이 노드에서 끝나는 단어를 가진 이슈
+    private final Set<Long> exact = new HashSet<>();
+
+    void offer(Long issueId) {
+      top.add(issueId);
+      if (top.size() > NODE_CAPACITY) {
+        top.pollFirst();
+      }
+    }
+
+    // title 수정으로 빠진 자리를 하위 단어들의 이슈로 다시 채움
+    void refill() {
+      TreeSet<Long> candidates = new TreeSet<>();
+      collect(this, candidates);
+      top.clear();
+      for (Long issueId : candidates.descendingSet()) {
+        top.add(issueId);
+        if (top.size() >= NODE_CAPACITY) {
+          break;
+        }
+      }
+    }
+
+    private static void collect(Node node, TreeSet<Long> candidates) {
+      for (Long issueId : node.exact) {
+        candidates.add(issueId);
+        if (candidates.size() > NODE_CAPACITY) {
+          candidates.pollFirst();
+        }
+      }
+      for (Node child : node.children.values()) {
+        collect(child, candidates);
+      }
+    }
+  }
+}
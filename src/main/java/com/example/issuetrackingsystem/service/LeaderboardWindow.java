@@ -0,0 +1,21 @@
+package com.example.issuetrackingsystem.service;
+
+import java.time.LocalDate;
+
+public enum LeaderboardWindow {
+  WEEK,
+  MONTH,
+  QUARTER;
+
+  // 오늘을 포함하는 기간의 시작일
+  LocalDate start(LocalDate today) {
+    switch (this) {
+      case MONTH:
+        return today.minusMonths(1).plusDays(1);
+      case QUARTER:
+        return today.minusMonths(3).plusDays(1);
+      default:
+        return today.minusDays(6);
+    }
+  }
+}
@@ -0,0 +1,484 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.domain.ProjectChange;
+import com.example.issuetrackingsystem.domain.enums.IssueStatus;
+import com.example.issuetrackingsystem.dto.ProjectChangeEvent;
+import com.example.issuetrackingsystem.repository.ProjectChangeRepository;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// 프로젝트별 이슈/코멘트 변경을 SSE로 구독자에게 전달 (프로젝트/이슈 상세 polling 대체)
+// 변경은 같은 트랜잭션에서 project_change에 기록하고, 서버마다 project_change를 id 순으로 읽어 자기 구독자에게 전달하므로
+// 다른 서버에서 일어난 변경도 전달됨
+// 연결은 servlet async로 유지되므로 이벤트를 기다리는 구독자는 스레드를 점유하지 않음
+// 구독자마다 보내지 못한 이벤트는 bufferSize개까지만 보관하고, 넘치면 버퍼를 비운 뒤 resync 이벤트 하나로 대신함
+// (resync를 받은 클라이언트는 프로젝트/이슈를 다시 조회)
+@Slf4j
+@Component
+public class ProjectChangeFeed {
+
+  static final String READY = "ready";
+  static final String RESYNC = "resync";
+  static final String ISSUE_ADDED = "issue-added";
+  static final String ISSUE_MODIFIED = "issue-modified";
+  static final String COMMENT_ADDED = "comment-added";
+
+  // 한 번에 읽는 project_change 행 수
+  private static final int POLL_SIZE = 500;
+  private static final int PURGE_SIZE = 10000;
+  // 다시 확인하는 빈 id 최대 수
+  private static final int MAX_MISSING_IDS = 10000;
+
+  private final ProjectChangeRepository projectChangeRepository;
+  private final int bufferSize;
+  private final Duration timeout;
+  private final Duration sendTimeout;
+  private final Duration gapTimeout;
+  private final Duration retention;
+  private final Executor executor;
+  private final Clock clock;
+  private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+  // 마지막으로 전달한 project_change id (첫 poll 전에는 null)
+  private Long lastChangeId;
+  // 건너뛴 id → 처음 발견한 시각 (아직 commit되지 않았거나 rollback된 id)
+  private final SortedMap<Long, Instant> missingIds = new TreeMap<>();
+
+  @Autowired
+  public ProjectChangeFeed(ProjectChangeRepository projectChangeRepository,
+      @Value("${its.change-feed.buffer-size:64}") int bufferSize,
+      @Value("${its.change-feed.timeout:30m}") Duration timeout,
+      @Value("${its.change-feed.send-timeout:10s}") Duration sendTimeout,
+      @Value("${its.change-feed.gap-timeout:1m}") Duration gapTimeout,
+      @Value("${its.change-feed.retention:1h}") Duration retention,
+      @Value("${its.change-feed.max-send-threads:256}") int maxSendThreads) {
+    this(projectChangeRepository, bufferSize, timeout, sendTimeout, gapTimeout, retention,
+        // 전송 중인 구독자 수만큼만 스레드를 쓰고, 멈춘 구독자가 스레드를 잡고 있어도 다른 구독자 전송은 새 스레드에서 진행
+        new ThreadPoolExecutor(0, Math.max(maxSendThreads, 1), 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+            daemonThreads()),
+        Clock.systemDefaultZone());
+  }
+
+  ProjectChangeFeed(ProjectChangeRepository projectChangeRepository, int bufferSize, Duration timeout,
+      Duration sendTimeout, Duration gapTimeout, Duration retention, Executor executor, Clock clock) {
+    this.projectChangeRepository = projectChangeRepository;
+    this.bufferSize = Math.max(bufferSize, 1);
+    this.timeout = timeout;
+    this.sendTimeout = sendTimeout;
+    this.gapTimeout = gapTimeout;
+    this.retention = retention;
+    this.executor = executor;
+    this.clock = clock;
+  }
+
+  // 처음 연결하면 ready, 끊겼다 다시 연결하면(Last-Event-ID 있음) 그 사이 이벤트를 보관하지 않으므로 resync부터 보냄
+  public SseEmitter subscribe(Long projectId, String lastEventId) {
+    SseEmitter emitter = new SseEmitter(timeout.toMillis());
+    register(projectId, emitter, lastEventId != null);
+    return emitter;
+  }
+
+  public void issueAdded(Long projectId, Long issueId) {
+    projectChangeRepository.insertAll(List.of(ProjectChange.builder()
+        .projectId(projectId)
+        .name(ISSUE_ADDED)
+        .issueId(issueId)
+        .status(IssueStatus.NEW.ordinal())
+        .build()));
+  }
+
+  public void issueModified(Long projectId, Long issueId, IssueStatus status) {
+    issuesModified(projectId, List.of(issueId), status);
+  }
+
+  // 이슈 일괄 변경
+  public void issuesModified(Long projectId, Collection<Long> issueIds, IssueStatus status) {
+    projectChangeRepository.insertAll(issueIds.stream()
+        .map(issueId -> ProjectChange.builder()
+            .projectId(projectId)
+            .name(ISSUE_MODIFIED)
+            .issueId(issueId)
+            .status(status.ordinal())
+            .build())
+        .toList());
+  }
+
+  public void commentAdded(Long projectId, Long issueId, Long commentId) {
+    projectChangeRepository.insertAll(List.of(ProjectChange.builder()
+        .projectId(projectId)
+        .name(COMMENT_ADDED)
+        .issueId(issueId)
+        .commentId(commentId)
+        .build()));
+  }
+
+  // 이슈 가져오기처럼 이벤트 하나하나가 의미 없는 대량 변경은 모든 구독자에게 resync
+  public void projectReloaded(Long projectId) {
+    projectChangeRepository.insertAll(List.of(ProjectChange.builder()
+        .projectId(projectId)
+        .name(RESYNC)
+        .build()));
+  }
+
+  public int subscriberCount(Long projectId) {
+    return subscribers.getOrDefault(projectId, Set.of()).size();
+  }
+
+  // commit된 변경을 id 순으로 읽어 전달
+  // id는 INSERT할 때 정해지고 commit 순서와 다를 수 있으므로, 비어 있는 id는 기다리지 않고 건너뛴 뒤 gapTimeout 동안 다시 확인
+  // - 나중에 commit된 변경은 이미 뒤의 이벤트를 보낸 뒤이므로 그 프로젝트의 구독자에게만 resync
+  // - gapTimeout이 지나도 없는 id는 rollback된 것으로 보고 더 확인하지 않음
+  @Scheduled(fixedDelayString = "${its.change-feed.poll-interval-ms:500}")
+  public synchronized void poll() {
+    checkSends();
+
+    if (lastChangeId == null) {
+      lastChangeId = projectChangeRepository.findMaxId();
+      return;
+    }
+
+    Instant now = clock.instant();
+    checkMissing(now);
+
+    List<ProjectChange> changes;
+    do {
+      changes = projectChangeRepository.findAfter(lastChangeId, PageRequest.of(0, POLL_SIZE));
+      for (ProjectChange change : changes) {
+        skipTo(change.getId(), now);
+        lastChangeId = change.getId();
+        deliver(change);
+      }
+    } while (changes.size() == POLL_SIZE);
+  }
+
+  private void checkMissing(Instant now) {
+    if (missingIds.isEmpty()) {
+      return;
+    }
+    for (ProjectChange change : projectChangeRepository.findAllById(missingIds.keySet())) {
+      missingIds.remove(change.getId());
+      log.info("[CHANGE FEED] project_change {} committed late : project {}", change.getId(), change.getProjectId());
+      resync(change.getProjectId());
+    }
+    missingIds.values().removeIf(since -> !now.isBefore(since.plus(gapTimeout)));
+  }
+
+  // lastChangeId와 id 사이의 빈 id를 다시 확인할 목록에 추가
+  private void skipTo(long id, Instant now) {
+    if (id - lastChangeId - 1 > MAX_MISSING_IDS - missingIds.size()) {
+      // 확인할 id가 너무 많으면 (대량 rollback) 추적하지 않고 모든 구독자에게 resync
+      log.info("[CHANGE FEED] project_change {} ~ {} skipped", lastChangeId + 1, id - 1);
+      resyncAll();
+      return;
+    }
+    for (long missingId = lastChangeId + 1; missingId < id; missingId++) {
+      missingIds.put(missingId, now);
+    }
+  }
+
+  // 프록시/로드밸런서가 idle 연결을 끊지 않도록 하고, 끊긴 연결은 전송 실패로 정리
+  @Scheduled(fixedDelayString = "${its.change-feed.heartbeat-interval-ms:30000}",
+      initialDelayString = "${its.change-feed.heartbeat-interval-ms:30000}")
+  public void heartbeat() {
+    for (Set<Subscriber> projectSubscribers : subscribers.values()) {
+      for (Subscriber subscriber : projectSubscribers) {
+        if (subscriber.offerHeartbeat()) {
+          startDrain(subscriber);
+        }
+      }
+    }
+  }
+
+  // 모든 서버가 같은 행을 지워도 결과는 같음
+  @Scheduled(fixedDelayString = "${its.change-feed.purge-interval-ms:600000}",
+      initialDelayString = "${its.change-feed.purge-interval-ms:600000}")
+  public void purge() {
+    int deleted = projectChangeRepository.deleteBefore(LocalDateTime.now(clock).minus(retention), PURGE_SIZE);
+    if (deleted > 0) {
+      log.info("[CHANGE FEED] {} project changes purged", deleted);
+    }
+  }
+
+  Subscriber register(Long projectId, SseEmitter emitter, boolean resume) {
+    Subscriber subscriber = new Subscriber(projectId, emitter);
+    emitter.onCompletion(() -> remove(subscriber));
+    emitter.onTimeout(() -> remove(subscriber));
+    emitter.onError(e -> remove(subscriber));
+    subscribers.compute(projectId, (key, projectSubscribers) -> {
+      Set<Subscriber> set = projectSubscribers == null ? ConcurrentHashMap.newKeySet() : projectSubscribers;
+      set.add(subscriber);
+      return set;
+    });
+
+    boolean scheduled = resume
+        ? subscriber.resync()
+        : subscriber.offer(new Event(READY, 0, ProjectChangeEvent.builder().build()));
+    if (scheduled) {
+      startDrain(subscriber);
+    }
+    return subscriber;
+  }
+
+  // sendTimeout이 지나도록 한 이벤트를 보내지 못한 구독자는 정리 (다시 연결하면 resync부터 받음)
+  // 전송 작업을 시작하지 못한 구독자는 다시 시도
+  void checkSends() {
+    long now = clock.millis();
+    for (Set<Subscriber> projectSubscribers : subscribers.values()) {
+      for (Subscriber subscriber : projectSubscribers) {
+        if (subscriber.stalled(now)) {
+          log.info("[CHANGE FEED] send timed out : project {}", subscriber.projectId);
+          remove(subscriber);
+        } else if (subscriber.retry()) {
+          startDrain(subscriber);
+        }
+      }
+    }
+  }
+
+  private void deliver(ProjectChange change) {
+    Set<Subscriber> projectSubscribers = subscribers.get(change.getProjectId());
+    if (projectSubscribers == null) {
+      return;
+    }
+    if (RESYNC.equals(change.getName())) {
+      for (Subscriber subscriber : projectSubscribers) {
+        if (subscriber.resync()) {
+          startDrain(subscriber);
+        }
+      }
+      return;
+    }
+
+    // 같은 이벤트 객체를 모든 구독자 버퍼가 공유
+    Event event = new Event(change.getName(), change.getId(), ProjectChangeEvent.builder()
+        .issueId(change.getIssueId())
+        .status(change.getStatus())
+        .commentId(change.getCommentId())
+        .build());
+    for (Subscriber subscriber : projectSubscribers) {
+      if (subscriber.offer(event)) {
+        startDrain(subscriber);
+      }
+    }
+  }
+
+  private void resync(Long projectId) {
+    for (Subscriber subscriber : subscribers.getOrDefault(projectId, Set.of())) {
+      if (subscriber.resync()) {
+        startDrain(subscriber);
+      }
+    }
+  }
+
+  private void resyncAll() {
+    for (Set<Subscriber> projectSubscribers : subscribers.values()) {
+      for (Subscriber subscriber : projectSubscribers) {
+        if (subscriber.resync()) {
+          startDrain(subscriber);
+        }
+      }
+    }
+  }
+
+  private void startDrain(Subscriber subscriber) {
+    try {
+      executor.execute(subscriber::drain);
+    } catch (RejectedExecutionException e) {
+      // 전송 스레드가 모두 사용 중이면 resync로 바꾸고 다음 poll에서 다시 시도
+      subscriber.rejected();
+    }
+  }
+
+  private void remove(Subscriber subscriber) {
+    subscriber.close();
+    subscribers.computeIfPresent(subscriber.projectId, (key, projectSubscribers) -> {
+      projectSubscribers.remove(subscriber);
+      return projectSubscribers.isEmpty() ? null : projectSubscribers;
+    });
+  }
+
+  private static ThreadFactory daemonThreads() {
+    AtomicInteger count = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "change-feed-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  private static class Event {
+    private final String name;
+    // 0이면 id 없이 보냄
+    private final long id;
+    private final ProjectChangeEvent data;
+
+    Event(String name, long id, ProjectChangeEvent data) {
+      this.name = name;
+      this.id = id;
+      this.data = data;
+    }
+
+    SseEmitter.SseEventBuilder toSse() {
+      SseEmitter.SseEventBuilder builder = SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+      return id == 0 ? builder : builder.id(Long.toString(id));
+    }
+  }
+
+  // 구독자마다 전송 작업은 한 번에 하나만 실행되어 이벤트 순서가 유지됨
+  class Subscriber {
+    private final Long projectId;
+    private final SseEmitter emitter;
+    private final ArrayDeque<Event> buffer = new ArrayDeque<>();
+    private boolean resyncPending;
+    private boolean heartbeatPending;
+    private boolean draining;
+    private boolean closed;
+    // 보내는 중인 이벤트의 전송 시작 시각 (보내는 중이 아니면 0)
+    private long sendStartedAt;
+    // 전송 시간 초과로 정리됨 (보내던 이벤트가 끝나면 연결을 닫음)
+    private boolean timedOut;
+
+    Subscriber(Long projectId, SseEmitter emitter) {
+      this.projectId = projectId;
+      this.emitter = emitter;
+    }
+
+    // 전송 작업을 새로 시작해야 하면 true
+    synchronized boolean offer(Event event) {
+      if (closed || resyncPending) {
+        // resync 전에 발생한 이벤트는 다시 조회한 결과에 포함됨
+        return false;
+      }
+      if (buffer.size() >= bufferSize) {
+        buffer.clear();
+        resyncPending = true;
+      } else {
+        buffer.add(event);
+      }
+      return schedule();
+    }
+
+    synchronized boolean resync() {
+      if (closed) {
+        return false;
+      }
+      buffer.clear();
+      resyncPending = true;
+      return schedule();
+    }
+
+    // 보낼 이벤트가 있으면 heartbeat는 생략
+    synchronized boolean offerHeartbeat() {
+      if (closed || draining || resyncPending || !buffer.isEmpty()) {
+        return false;
+      }
+      heartbeatPending = true;
+      return schedule();
+    }
+
+    synchronized boolean stalled(long now) {
+      if (closed || sendStartedAt == 0 || now - sendStartedAt <= sendTimeout.toMillis()) {
+        return false;
+      }
+      timedOut = true;
+      return true;
+    }
+
+    synchronized void rejected() {
+      draining = false;
+      if (!closed) {
+        buffer.clear();
+        resyncPending = true;
+      }
+    }
+
+    synchronized boolean retry() {
+      if (closed || draining || (!resyncPending && buffer.isEmpty())) {
+        return false;
+      }
+      return schedule();
+    }
+
+    synchronized void close() {
+      closed = true;
+      buffer.clear();
+    }
+
+    private boolean schedule() {
+      if (draining) {
+        return false;
+      }
+      draining = true;
+      return true;
+    }
+
+    void drain() {
+      while (true) {
+        SseEmitter.SseEventBuilder next;
+        synchronized (this) {
+          sendStartedAt = 0;
+          if (closed) {
+            draining = false;
+            if (timedOut) {
+              break;
+            }
+            return;
+          }
+          if (resyncPending) {
+            resyncPending = false;
+            next = new Event(RESYNC, 0, ProjectChangeEvent.builder().build()).toSse();
+          } else if (!buffer.isEmpty()) {
+            next = buffer.poll().toSse();
+          } else if (heartbeatPending) {
+            heartbeatPending = false;
+            next = SseEmitter.event().comment("heartbeat");
+          } else {
+            draining = false;
+            return;
+          }
+          sendStartedAt = Math.max(clock.millis(), 1);
+        }
+
+        try {
+          emitter.send(next);
+        } catch (IOException | IllegalStateException e) {
+          // 끊긴 연결 (완료 콜백이 오지 않는 경우도 있으므로 직접 정리)
+          log.debug("[CHANGE FEED] send failed : project {}", projectId, e);
+          synchronized (this) {
+            sendStartedAt = 0;
+            draining = false;
+          }
+          remove(this);
+          return;
+        }
+      }
+      // 늦게라도 전송이 끝난 연결은 닫아서 클라이언트가 다시 연결하게 함
+      emitter.complete();
+    }
+  }
+}
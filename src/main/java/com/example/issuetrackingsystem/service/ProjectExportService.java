@@ -0,0 +1,8 @@
+package com.example.issuetrackingsystem.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface ProjectExportService {
+  // 권한은 호출 시점에 검증하고, 이슈와 코멘트는 반환된 body가 응답에 쓰일 때 DB에서 읽음
+  StreamingResponseBody exportProject(Long accountId, Long projectId, boolean gzip);
+}
@@ -0,0 +1,171 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.exception.ErrorCode;
+import com.example.issuetrackingsystem.exception.ITSException;
+import com.example.issuetrackingsystem.repository.IssueRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+// 프로젝트의 이슈와 코멘트를 이슈 한 줄씩 NDJSON으로 내보냄 (이슈 가져오기와 같은 형식)
+// issue_id keyset으로 chunkSize개 이슈씩 읽어 쓰므로 프로젝트 크기와 관계없이 메모리 사용량이 일정하고,
+// 클라이언트가 느려도 DB connection은 한 묶음을 읽는 동안만 사용함
+// (묶음마다 따로 읽으므로 내보내기 전체가 한 시점의 snapshot은 아님)
+@Service
+public class ProjectExportServiceImpl implements ProjectExportService {
+
+  private static final int GZIP_BUFFER_SIZE = 8192;
+
+  private final IssueRepository issueRepository;
+  private final ProjectMembershipIndex projectMembershipIndex;
+  private final ObjectMapper objectMapper;
+  private final int chunkSize;
+
+  public ProjectExportServiceImpl(IssueRepository issueRepository, ProjectMembershipIndex projectMembershipIndex,
+      ObjectMapper objectMapper, @Value("${its.export.chunk-size:500}") int chunkSize) {
+    this.issueRepository = issueRepository;
+    this.projectMembershipIndex = projectMembershipIndex;
+    this.objectMapper = objectMapper;
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public StreamingResponseBody exportProject(Long accountId, Long projectId, boolean gzip) {
+    // 관리자 또는 프로젝트 멤버만 가능
+    if (projectMembershipIndex.project(projectId).isEmpty()) {
+      throw new ITSException(ErrorCode.PROJECT_DETAIL_NOT_FOUND);
+    }
+    if (accountId != 1L && projectMembershipIndex.role(projectId, accountId).isEmpty()) {
+      throw new ITSException(ErrorCode.PROJECT_EXPORT_FORBIDDEN);
+    }
+
+    return outputStream -> {
+      if (gzip) {
+        GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+        write(projectId, gzipOutputStream);
+        gzipOutputStream.finish();
+      } else {
+        write(projectId, outputStream);
+      }
+    };
+  }
+
+  private void write(Long projectId, OutputStream outputStream) throws IOException {
+    // 응답 스트림은 컨테이너가 닫음
+    JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    generator.setRootValueSeparator(null);
+
+    ExportWriter writer = new ExportWriter(generator);
+    Long afterIssueId = 0L;
+    while (true) {
+      List<Object[]> rows = issueRepository.findExportChunk(projectId, afterIssueId, chunkSize);
+      // 클라이언트가 연결을 끊으면 쓰기에서 IOException이 나고 다음 묶음을 읽지 않음
+      for (Object[] row : rows) {
+        writer.row(row);
+      }
+      if (writer.issueCount() < chunkSize) {
+        break;
+      }
+      afterIssueId = (Long) rows.get(rows.size() - 1)[0];
+      writer.resetIssueCount();
+    }
+    writer.finish();
+    generator.flush();
+  }
+
+  // (issue_id, comment_id) 순서의 행을 이슈 단위 JSON 객체로 묶음
+  private static class ExportWriter {
+    private final JsonGenerator generator;
+    private Long issueId;
+    // 이번 묶음에서 시작한 이슈 수
+    private int issueCount;
+
+    ExportWriter(JsonGenerator generator) {
+      this.generator = generator;
+    }
+
+    void row(Object[] row) throws IOException {
+      Long rowIssueId = (Long) row[0];
+      if (!rowIssueId.equals(issueId)) {
+        endIssue();
+        startIssue(row);
+        issueId = rowIssueId;
+        issueCount++;
+      }
+      if (row[13] != null) {
+        generator.writeStartObject();
+        writeField("author", row[14]);
+        writeField("content", row[15]);
+        writeField("date", row[16]);
+        generator.writeEndObject();
+      }
+    }
+
+    int issueCount() {
+      return issueCount;
+    }
+
+    void resetIssueCount() {
+      issueCount = 0;
+    }
+
+    void finish() throws IOException {
+      endIssue();
+    }
+
+    private void startIssue(Object[] row) throws IOException {
+      generator.writeStartObject();
+      generator.writeNumberField("id", (Long) row[0]);
+      writeField("title", row[1]);
+      writeField("description", row[2]);
+      writeField("keyword", row[3]);
+      writeField("priority", row[4]);
+      writeField("status", row[5]);
+      writeField("reporter", row[6]);
+      writeField("reportedDate", row[7]);
+      writeField("dueDate", row[8]);
+      writeField("manager", row[9]);
+      writeField("assignee", row[10]);
+      writeField("fixer", row[11]);
+      writeField("closedDate", row[12]);
+      generator.writeArrayFieldStart("comments");
+    }
+
+    private void endIssue() throws IOException {
+      if (issueId == null) {
+        return;
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+      generator.writeRaw('\n');
+    }
+
+    // 값이 없는 필드는 생략, enum은 이름, 날짜는 ISO 형식
+    private void writeField(String name, Object value) throws IOException {
+      if (value == null) {
+        return;
+      }
+      String text;
+      if (value instanceof LocalDateTime dateTime) {
+        text = dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+      } else if (value instanceof LocalDate date) {
+        text = date.format(DateTimeFormatter.ISO_LOCAL_DATE);
+      } else if (value instanceof Enum<?> constant) {
+        text = constant.name();
+      } else {
+        text = value.toString();
+      }
+      generator.writeStringField(name, text);
+    }
+  }
+}
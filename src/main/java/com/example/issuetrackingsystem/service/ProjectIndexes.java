@@ -0,0 +1,157 @@
+package com.example.issuetrackingsystem.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+// 프로젝트별로 DB에서 구성하는 메모리 색인 보관
+// - 구성(loader)은 map 밖에서 실행하므로 다른 프로젝트 조회를 막지 않음 (같은 프로젝트의 구성만 한 번에 하나)
+// - reloadAfter가 지나면 백그라운드에서 다시 구성하고 그동안은 기존 색인으로 응답 (다른 서버의 변경 반영)
+// - 구성하는 동안 commit된 변경은 모아 두었다가 새 색인에 다시 적용한 뒤 교체하므로 재구성이 변경을 덮어쓰지 않음
+//   (변경은 구성 결과에 이미 포함되어 있어도 다시 적용할 수 있어야 함)
+// - idleAfter 동안 조회되지 않은 프로젝트의 색인은 제거 (다시 조회하면 DB에서 구성)
+@Slf4j
+class ProjectIndexes<T> {
+
+  private final String name;
+  private final Function<Long, T> loader;
+  private final Duration reloadAfter;
+  private final Executor executor;
+  private final Clock clock;
+  private final Cache<Long, Slot<T>> slots;
+
+  ProjectIndexes(String name, Function<Long, T> loader, Duration reloadAfter, Duration idleAfter, Executor executor,
+      Clock clock) {
+    this.name = name;
+    this.loader = loader;
+    this.reloadAfter = reloadAfter;
+    this.executor = executor;
+    this.clock = clock;
+    // 마지막 조회 시각 기준 만료 (테스트에서 clock으로 시간을 진행할 수 있도록 clock을 ticker로 사용)
+    this.slots = Caffeine.newBuilder()
+        .expireAfterAccess(idleAfter)
+        .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+        .build();
+  }
+
+  // 색인이 없으면 호출한 스레드에서 구성
+  T get(Long projectId) {
+    Slot<T> slot = slots.get(projectId, id -> new Slot<>());
+    T index = slot.index;
+    if (index == null) {
+      synchronized (slot.loadLock) {
+        if (slot.index == null) {
+          load(projectId, slot);
+        }
+      }
+      return slot.index;
+    }
+
+    if (slot.isStale(clock.instant())) {
+      reloadInBackground(projectId, slot);
+    }
+    return index;
+  }
+
+  // 색인이 없으면 백그라운드에서 구성을 시작하고 null
+  T getIfLoaded(Long projectId) {
+    Slot<T> slot = slots.get(projectId, id -> new Slot<>());
+    T index = slot.index;
+    if (index == null || slot.isStale(clock.instant())) {
+      reloadInBackground(projectId, slot);
+    }
+    return index;
+  }
+
+  // commit된 후 색인에 변경 반영 (아직 구성되지 않았거나 제거된 프로젝트는 구성할 때 DB에서 읽음)
+  // 변경 반영은 조회가 아니므로 마지막 조회 시각을 바꾸지 않음
+  void update(Long projectId, Consumer<T> change) {
+    AfterCommit.run(() -> {
+      Slot<T> slot = slots.policy().getIfPresentQuietly(projectId);
+      if (slot == null) {
+        return;
+      }
+      synchronized (slot) {
+        if (slot.index != null) {
+          change.accept(slot.index);
+        }
+        if (slot.pending != null) {
+          slot.pending.add(change);
+        }
+      }
+    });
+  }
+
+  private void reloadInBackground(Long projectId, Slot<T> slot) {
+    if (!slot.refreshing.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      executor.execute(() -> {
+        try {
+          synchronized (slot.loadLock) {
+            load(projectId, slot);
+          }
+        } catch (RuntimeException e) {
+          log.warn("[{}] load failed : project {}", name, projectId, e);
+        } finally {
+          slot.refreshing.set(false);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      // 구성 대기열이 가득 참 (다음 조회에서 다시 예약)
+      slot.refreshing.set(false);
+      log.warn("[{}] load rejected : project {}", name, projectId);
+    }
+  }
+
+  // loadLock을 잡은 상태에서 호출
+  private void load(Long projectId, Slot<T> slot) {
+    synchronized (slot) {
+      slot.pending = new ArrayList<>();
+    }
+
+    T loaded;
+    try {
+      loaded = loader.apply(projectId);
+    } catch (RuntimeException e) {
+      synchronized (slot) {
+        slot.pending = null;
+      }
+      throw e;
+    }
+
+    synchronized (slot) {
+      for (Consumer<T> change : slot.pending) {
+        change.accept(loaded);
+      }
+      slot.pending = null;
+      slot.expiresAt = clock.instant().plus(reloadAfter);
+      slot.index = loaded;
+    }
+  }
+
+  private static class Slot<T> {
+    private final Object loadLock = new Object();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile T index;
+    private volatile Instant expiresAt;
+    // 구성 중에 commit된 변경 (구성 중이 아니면 null)
+    private List<Consumer<T>> pending;
+
+    boolean isStale(Instant now) {
+      return expiresAt != null && now.isAfter(expiresAt);
+    }
+  }
+}
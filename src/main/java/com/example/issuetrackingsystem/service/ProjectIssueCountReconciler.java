@@ -0,0 +1,26 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.repository.ProjectIssueCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 증분 갱신된 카운터를 주기적으로 issue 테이블 기준으로 다시 계산
+@Slf4j
+@Component
+public class ProjectIssueCountReconciler {
+
+  private final ProjectIssueCountRepository projectIssueCountRepository;
+
+  public ProjectIssueCountReconciler(ProjectIssueCountRepository projectIssueCountRepository) {
+    this.projectIssueCountRepository = projectIssueCountRepository;
+  }
+
+  @Scheduled(cron = "${its.issue-count.reconcile-cron:0 0 4 * * *}")
+  @Transactional
+  public void reconcile() {
+    int rows = projectIssueCountRepository.rebuildAll();
+    log.info("[RECONCILE] project issue counts rebuilt : {} rows", rows);
+  }
+}
@@ -0,0 +1,70 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.domain.enums.ProjectStatus;
+import com.example.issuetrackingsystem.repository.ProjectIssueCountRepository;
+import com.example.issuetrackingsystem.repository.ProjectRepository;
+import org.springframework.stereotype.Component;
+
+// 이슈 생성/상태 변경 시 프로젝트별 열린/닫힌 이슈 수를 갱신하고 프로젝트 상태를 결정
+@Component
+public class ProjectIssueCounter {
+
+  private final ProjectIssueCountRepository projectIssueCountRepository;
+  private final ProjectRepository projectRepository;
+  private final ProjectMembershipIndex projectMembershipIndex;
+
+  public ProjectIssueCounter(ProjectIssueCountRepository projectIssueCountRepository,
+      ProjectRepository projectRepository, ProjectMembershipIndex projectMembershipIndex) {
+    this.projectIssueCountRepository = projectIssueCountRepository;
+    this.projectRepository = projectRepository;
+    this.projectMembershipIndex = projectMembershipIndex;
+  }
+
+  public void issueOpened(Long projectId) {
+    adjust(projectId, 1, 0);
+    updateStatus(projectId, ProjectStatus.IN_PROGRESS);
+  }
+
+  public void issueClosed(Long projectId) {
+    issuesClosed(projectId, 1);
+  }
+
+  // 여러 이슈를 한꺼번에 닫아도 카운터 갱신과 상태 결정은 한 번
+  public void issuesClosed(Long projectId, int count) {
+    adjust(projectId, -count, count);
+    if (projectIssueCountRepository.findOpenCount(projectId) == 0) {
+      updateStatus(projectId, ProjectStatus.DONE);
+    }
+  }
+
+  public void issueReopened(Long projectId) {
+    issuesReopened(projectId, 1);
+  }
+
+  public void issuesReopened(Long projectId, int count) {
+    adjust(projectId, count, -count);
+    updateStatus(projectId, ProjectStatus.IN_PROGRESS);
+  }
+
+  // 이슈를 한꺼번에 가져온 뒤 issue 테이블에서 다시 계산
+  public void rebuild(Long projectId) {
+    projectIssueCountRepository.rebuild(projectId);
+    Long openCount = projectIssueCountRepository.findOpenCount(projectId);
+    updateStatus(projectId, openCount != null && openCount > 0 ? ProjectStatus.IN_PROGRESS : ProjectStatus.DONE);
+  }
+
+  // 상태가 실제로 바뀐 경우에만 프로젝트 목록 인덱스에 반영
+  private void updateStatus(Long projectId, ProjectStatus status) {
+    if (projectRepository.updateStatus(projectId, status) > 0) {
+      projectMembershipIndex.statusChanged(projectId, status);
+    }
+  }
+
+  // 이슈 변경을 저장한 뒤 호출해야 함
+  private void adjust(Long projectId, long openDelta, long closedDelta) {
+    if (projectIssueCountRepository.adjust(projectId, openDelta, closedDelta) == 0) {
+      // 카운터가 없는 기존 프로젝트는 issue 테이블에서 계산 (방금 저장한 변경도 포함)
+      projectIssueCountRepository.rebuild(projectId);
+    }
+  }
+}
@@ -0,0 +1,237 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.domain.Project;
+import com.example.issuetrackingsystem.domain.enums.ProjectAccountRole;
+import com.example.issuetrackingsystem.domain.enums.ProjectStatus;
+import com.example.issuetrackingsystem.repository.ProjectAccountRepository;
+import com.example.issuetrackingsystem.repository.ProjectRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 프로젝트 ↔ 계정 소속/역할 인덱스 (권한 검증, 프로젝트 목록, 멤버 목록을 쿼리 없이 응답)
+// - 다른 서버에서 만든 프로젝트나 추가한 멤버는 주기적인 전체 적재 전까지 인덱스에 없으므로,
+//   role/project 조회가 인덱스에서 찾지 못하면 그 프로젝트만 DB에서 다시 적재한 뒤 판단 (403/404를 DB로 확인)
+// - key는 boxed Long인 ConcurrentHashMap 사용: primitive-keyed map 라이브러리를 의존성에 추가하지 않고,
+//   entry 수가 프로젝트 소속 수 정도라 boxing 비용보다 조회마다 쿼리하지 않는 이득이 큼
+@Slf4j
+@Component
+public class ProjectMembershipIndex {
+
+  private final ProjectRepository projectRepository;
+  private final ProjectAccountRepository projectAccountRepository;
+
+  private volatile Snapshot snapshot;
+
+  public ProjectMembershipIndex(ProjectRepository projectRepository,
+      ProjectAccountRepository projectAccountRepository) {
+    this.projectRepository = projectRepository;
+    this.projectAccountRepository = projectAccountRepository;
+  }
+
+  public Optional<ProjectAccountRole> role(Long projectId, Long accountId) {
+    ProjectAccountRole role = cachedRole(projectId, accountId);
+    if (role == null) {
+      loadProject(projectId);
+      role = cachedRole(projectId, accountId);
+    }
+    return Optional.ofNullable(role);
+  }
+
+  public Optional<ProjectSummary> project(Long projectId) {
+    ProjectSummary project = snapshot().projects.get(projectId);
+    if (project == null) {
+      loadProject(projectId);
+      project = snapshot().projects.get(projectId);
+    }
+    return Optional.ofNullable(project);
+  }
+
+  public List<ProjectSummary> projects() {
+    return snapshot().projects.values().stream()
+        .sorted(Comparator.comparing(ProjectSummary::getProjectId))
+        .toList();
+  }
+
+  public List<ProjectSummary> projectsOf(Long accountId) {
+    Snapshot current = snapshot();
+    Map<Long, ProjectAccountRole> roles = current.accountProjects.getOrDefault(accountId, Collections.emptyMap());
+    return roles.keySet().stream()
+        .map(current.projects::get)
+        .filter(project -> project != null)
+        .sorted(Comparator.comparing(ProjectSummary::getProjectId))
+        .toList();
+  }
+
+  public List<Member> members(Long projectId, ProjectAccountRole role) {
+    return project(projectId)
+        .map(project -> project.getMembers().values().stream()
+            .filter(member -> member.getRole() == role)
+            .toList())
+        .orElse(Collections.emptyList());
+  }
+
+  // 아래 변경은 트랜잭션 commit 후에 반영
+  public void projectSaved(Project project) {
+    AfterCommit.run(() -> putProject(project));
+  }
+
+  public void memberSaved(Long projectId, Long accountId, String username, ProjectAccountRole role) {
+    AfterCommit.run(() -> putMember(projectId, new Member(accountId, username, role)));
+  }
+
+  public void statusChanged(Long projectId, ProjectStatus status) {
+    AfterCommit.run(() -> putStatus(projectId, status));
+  }
+
+  // 다른 서버에서 바뀐 역할/상태를 반영하기 위해 주기적으로 전체를 다시 읽음 (없는 프로젝트/소속은 조회할 때 DB에서 확인)
+  @Scheduled(fixedDelayString = "${its.membership.reload-interval-ms:300000}",
+      initialDelayString = "${its.membership.reload-interval-ms:300000}")
+  public synchronized void reload() {
+    Map<Long, TreeMap<Long, Member>> membersByProject = new HashMap<>();
+    for (Object[] row : projectAccountRepository.findAllMembers()) {
+      Member member = new Member((Long) row[1], (String) row[2], (ProjectAccountRole) row[3]);
+      membersByProject.computeIfAbsent((Long) row[0], id -> new TreeMap<>()).put(member.getAccountId(), member);
+    }
+
+    Snapshot loaded = new Snapshot();
+    for (Project project : projectRepository.findAll()) {
+      TreeMap<Long, Member> members = membersByProject.getOrDefault(project.getProjectId(), new TreeMap<>());
+      loaded.projects.put(project.getProjectId(),
+          ProjectSummary.of(project, Collections.unmodifiableSortedMap(members)));
+      for (Member member : members.values()) {
+        loaded.accountProjects.computeIfAbsent(member.getAccountId(), id -> new ConcurrentHashMap<>())
+            .put(project.getProjectId(), member.getRole());
+      }
+    }
+
+    snapshot = loaded;
+    log.info("[MEMBERSHIP] index loaded : {} projects", loaded.projects.size());
+  }
+
+  private ProjectAccountRole cachedRole(Long projectId, Long accountId) {
+    Map<Long, ProjectAccountRole> roles = snapshot().accountProjects.get(accountId);
+    return roles == null ? null : roles.get(projectId);
+  }
+
+  // 한 프로젝트와 멤버를 DB에서 읽어 인덱스에 반영 (쿼리는 lock 밖에서 실행)
+  // 멤버는 삭제되지 않으므로 인덱스에만 있는 멤버(방금 commit된 추가)는 유지하고 DB에서 읽은 역할로 갱신
+  private void loadProject(Long projectId) {
+    Optional<Project> project = projectRepository.findById(projectId);
+    if (project.isEmpty()) {
+      return;
+    }
+    List<Member> loaded = new ArrayList<>();
+    for (Object[] row : projectAccountRepository.findMembers(projectId)) {
+      loaded.add(new Member((Long) row[0], (String) row[1], (ProjectAccountRole) row[2]));
+    }
+    putLoadedProject(project.get(), loaded);
+  }
+
+  private synchronized void putLoadedProject(Project project, List<Member> loaded) {
+    Snapshot current = snapshot();
+    ProjectSummary previous = current.projects.get(project.getProjectId());
+    TreeMap<Long, Member> members = previous == null ? new TreeMap<>() : new TreeMap<>(previous.getMembers());
+    for (Member member : loaded) {
+      members.put(member.getAccountId(), member);
+      current.accountProjects.computeIfAbsent(member.getAccountId(), id -> new ConcurrentHashMap<>())
+          .put(project.getProjectId(), member.getRole());
+    }
+    current.projects.put(project.getProjectId(),
+        ProjectSummary.of(project, Collections.unmodifiableSortedMap(members)));
+  }
+
+  private Snapshot snapshot() {
+    Snapshot current = snapshot;
+    if (current == null) {
+      synchronized (this) {
+        if (snapshot == null) {
+          reload();
+        }
+        current = snapshot;
+      }
+    }
+    return current;
+  }
+
+  private synchronized void putProject(Project project) {
+    Snapshot current = snapshot();
+    ProjectSummary previous = current.projects.get(project.getProjectId());
+    current.projects.put(project.getProjectId(),
+        ProjectSummary.of(project, previous == null ? Collections.emptySortedMap() : previous.getMembers()));
+  }
+
+  private synchronized void putMember(Long projectId, Member member) {
+    Snapshot current = snapshot();
+    ProjectSummary project = current.projects.get(projectId);
+    if (project == null) {
+      return;
+    }
+
+    TreeMap<Long, Member> members = new TreeMap<>(project.getMembers());
+    members.put(member.getAccountId(), member);
+    current.projects.put(projectId, project.withMembers(members));
+    current.accountProjects.computeIfAbsent(member.getAccountId(), id -> new ConcurrentHashMap<>())
+        .put(projectId, member.getRole());
+  }
+
+  private synchronized void putStatus(Long projectId, ProjectStatus status) {
+    Snapshot current = snapshot();
+    current.projects.computeIfPresent(projectId, (id, project) -> project.withStatus(status));
+  }
+
+  private static class Snapshot {
+    // projectId → 프로젝트 정보와 멤버
+    private final Map<Long, ProjectSummary> projects = new ConcurrentHashMap<>();
+    // accountId → (projectId → 역할)
+    private final Map<Long, Map<Long, ProjectAccountRole>> accountProjects = new ConcurrentHashMap<>();
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class ProjectSummary {
+    private final Long projectId;
+    private final String title;
+    private final String description;
+    private final LocalDateTime date;
+    private final ProjectStatus status;
+    // accountId 순
+    private final Map<Long, Member> members;
+
+    // 방금 INSERT한 프로젝트는 DB 기본값(date, status)이 엔티티에 없으므로 같은 값으로 채움
+    private static ProjectSummary of(Project project, Map<Long, Member> members) {
+      return new ProjectSummary(project.getProjectId(), project.getTitle(), project.getDescription(),
+          project.getDate() == null ? LocalDateTime.now() : project.getDate(),
+          project.getStatus() == null ? ProjectStatus.NOT_STARTED : project.getStatus(),
+          members);
+    }
+
+    private ProjectSummary withMembers(TreeMap<Long, Member> members) {
+      return new ProjectSummary(projectId, title, description, date, status, Collections.unmodifiableSortedMap(members));
+    }
+
+    private ProjectSummary withStatus(ProjectStatus status) {
+      return new ProjectSummary(projectId, title, description, date, status, members);
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Member {
+    private final Long accountId;
+    private final String username;
+    private final ProjectAccountRole role;
+  }
+}
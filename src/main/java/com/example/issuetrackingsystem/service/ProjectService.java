@@ -5,12 +5,19 @@ import com.example.issuetrackingsystem.dto.DetailsProjectResponse;
 import com.example.issuetrackingsystem.dto.ModifyProjectRequest;
 import com.example.issuetrackingsystem.dto.ProjectResponse;
 import com.example.issuetrackingsystem.dto.ProjectTrendResponse;
+import com.example.issuetrackingsystem.dto.TrendCacheStatsResponse;
 import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface ProjectService {
   ProjectResponse projectList(Long accountId);
-  DetailsProjectResponse findProject(Long projectId, Long accountId);
-  ProjectTrendResponse trendProject(Long accountId, Long projectId, String category);
+  String projectETag(Long accountId, Long projectId, String sort, String order, String cursor, Integer size);
+  DetailsProjectResponse findProject(Long projectId, Long accountId, String sort, String order, String cursor,
+      Integer size);
+  ProjectTrendResponse trendProject(Long accountId, Long projectId, String category, String from, String to,
+      String granularity, Integer limit);
+  TrendCacheStatsResponse trendCacheStats(Long accountId);
+  SseEmitter subscribeChanges(Long accountId, Long projectId, String lastEventId);
 
   String addProject(Long accountId, AddProjectRequest addProjectRequest);
 
@@ -1,9 +1,10 @@
 package com.example.issuetrackingsystem.service;
 
 import com.example.issuetrackingsystem.domain.Account;
-import com.example.issuetrackingsystem.domain.Issue;
 import com.example.issuetrackingsystem.domain.Project;
 import com.example.issuetrackingsystem.domain.ProjectAccount;
+import com.example.issuetrackingsystem.domain.enums.IssuePriority;
+import com.example.issuetrackingsystem.domain.enums.IssueStatus;
 import com.example.issuetrackingsystem.domain.enums.ProjectAccountRole;
 import com.example.issuetrackingsystem.domain.key.ProjectAccountPK;
 import com.example.issuetrackingsystem.dto.AddProjectRequest;
@@ -16,56 +17,70 @@ import com.example.issuetrackingsystem.dto.ModifyProjectRequest;
 import com.example.issuetrackingsystem.dto.ProjectResponse;
 import com.example.issuetrackingsystem.dto.ProjectResponse.ProjectData;
 import com.example.issuetrackingsystem.dto.ProjectTrendResponse;
-import com.example.issuetrackingsystem.dto.ProjectTrendResponse.BestIssue;
-import com.example.issuetrackingsystem.dto.ProjectTrendResponse.BestMember;
-import com.example.issuetrackingsystem.dto.ProjectTrendResponse.BestMemberData;
-import com.example.issuetrackingsystem.dto.ProjectTrendResponse.ProjectTrendData;
+import com.example.issuetrackingsystem.dto.TrendCacheStatsResponse;
 import com.example.issuetrackingsystem.exception.ErrorCode;
 import com.example.issuetrackingsystem.exception.ITSException;
 import com.example.issuetrackingsystem.repository.AccountRepository;
-import com.example.issuetrackingsystem.repository.CommentRepository;
 import com.example.issuetrackingsystem.repository.IssueRepository;
+import com.example.issuetrackingsystem.repository.IssueSortKey;
 import com.example.issuetrackingsystem.repository.ProjectAccountRepository;
 import com.example.issuetrackingsystem.repository.ProjectRepository;
+import com.example.issuetrackingsystem.service.ProjectMembershipIndex.ProjectSummary;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 public class ProjectServiceImpl implements ProjectService {
+  private static final int DEFAULT_ISSUE_PAGE_SIZE = 50;
+  private static final int MAX_ISSUE_PAGE_SIZE = 200;
+
   private final AccountRepository accountRepository;
   private final ProjectRepository projectRepository;
   private final IssueRepository issueRepository;
   private final ProjectAccountRepository projectAccountRepository;
-  private final CommentRepository commentRepository;
+  private final ProjectTrendCalculator projectTrendCalculator;
+  private final ProjectTrendCache projectTrendCache;
+  private final ProjectMembershipIndex projectMembershipIndex;
+  private final AccountCache accountCache;
+  private final ProjectChangeFeed projectChangeFeed;
+  private final ProjectVersions projectVersions;
 
   public ProjectServiceImpl(AccountRepository accountRepository, ProjectRepository projectRepository, IssueRepository issueRepository,
-      ProjectAccountRepository projectAccountRepository, CommentRepository commentRepository) {
+      ProjectAccountRepository projectAccountRepository, ProjectTrendCalculator projectTrendCalculator,
+      ProjectTrendCache projectTrendCache, ProjectMembershipIndex projectMembershipIndex, AccountCache accountCache,
+      ProjectChangeFeed projectChangeFeed, ProjectVersions projectVersions) {
     this.accountRepository = accountRepository;
     this.projectRepository = projectRepository;
     this.issueRepository = issueRepository;
     this.projectAccountRepository = projectAccountRepository;
-    this.commentRepository = commentRepository;
+    this.projectTrendCalculator = projectTrendCalculator;
+    this.projectTrendCache = projectTrendCache;
+    this.projectMembershipIndex = projectMembershipIndex;
+    this.accountCache = accountCache;
+    this.projectChangeFeed = projectChangeFeed;
+    this.projectVersions = projectVersions;
   }
 
   @Override
   public ProjectResponse projectList(Long accountId) {
-    List<Project> projects;
+    // 프로젝트 목록은 소속 인덱스에서 조회
+    List<ProjectSummary> projects;
     if (accountId == 1) {
-      projects = projectRepository.findAll();
+      projects = projectMembershipIndex.projects();
     } else {
-      projects = projectRepository.findByAccountId(accountId);
-    }
-
-    if (projects == null) {
-      projects = new ArrayList<>();
+      projects = projectMembershipIndex.projectsOf(accountId);
     }
 
     return ProjectResponse.builder()
@@ -81,57 +96,160 @@ public class ProjectServiceImpl implements ProjectService {
   }
 
   @Override
-  public DetailsProjectResponse findProject(Long projectId, Long accountId) {
-    ProjectAccount projectAccount = null;
+  public String projectETag(Long accountId, Long projectId, String sort, String order, String cursor,
+      Integer size) {
+    // findProject와 같은 권한 검증
+    ProjectAccountRole accountRole = null;
     if (accountId != 1L) {
-      projectAccount = projectAccountRepository.findById(ProjectAccountPK.builder()
-          .accountId(accountId)
-          .projectId(projectId)
-          .build()).orElseThrow(() -> new ITSException(ErrorCode.PROJECT_DETAIL_FORBIDDEN));
+      accountRole = projectMembershipIndex.role(projectId, accountId)
+          .orElseThrow(() -> new ITSException(ErrorCode.PROJECT_DETAIL_FORBIDDEN));
     }
 
-    Project project = projectRepository.findById(projectId)
+    // 프로젝트, 멤버, 소속 이슈가 바뀌면 project.version이 올라가므로 project 행 하나만 읽음
+    Long version = projectRepository.findVersion(projectId)
         .orElseThrow(() -> new ITSException(ErrorCode.PROJECT_DETAIL_NOT_FOUND));
+    // 응답의 accountRole과 이슈 목록 페이지가 요청마다 다르므로 함께 포함 (hash는 충돌하므로 값 그대로)
+    // cursor는 '-'가 들어갈 수 있는 base64url이므로 마지막에 둠
+    return projectId + "-" + version + "-" + (accountRole == null ? -1 : accountRole.ordinal())
+        + "-s" + sort + "-o" + order + "-n" + size + "-c" + cursor;
+  }
+
+  @Override
+  public DetailsProjectResponse findProject(Long projectId, Long accountId, String sort, String order,
+      String cursor, Integer size) {
+    ProjectAccountRole accountRole = null;
+    if (accountId != 1L) {
+      accountRole = projectMembershipIndex.role(projectId, accountId)
+          .orElseThrow(() -> new ITSException(ErrorCode.PROJECT_DETAIL_FORBIDDEN));
+    }
 
-    List<Issue> issues = issueRepository.findByProjectId(projectId);
+    // 프로젝트 정보와 멤버 목록은 소속 인덱스에서 조회
+    ProjectSummary project = projectMembershipIndex.project(projectId)
+        .orElseThrow(() -> new ITSException(ErrorCode.PROJECT_DETAIL_NOT_FOUND));
 
-    if (issues == null) {
-      issues = new ArrayList<>();
+    IssueSortKey sortKey = sort == null ? IssueSortKey.REPORTED_DATE : IssueSortKey.of(sort)
+        .orElseThrow(() -> new ITSException(ErrorCode.PROJECT_DETAIL_BAD_REQUEST));
+    boolean descending;
+    if (order == null) {
+      descending = sortKey.isDefaultDescending();
+    } else if (order.equals("asc") || order.equals("desc")) {
+      descending = order.equals("desc");
+    } else {
+      throw new ITSException(ErrorCode.PROJECT_DETAIL_BAD_REQUEST);
     }
+    int pageSize = size == null ? DEFAULT_ISSUE_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_ISSUE_PAGE_SIZE);
+
+    // cursor 이후의 이슈를 한 건 더 읽어 다음 페이지 존재 여부 확인
+    Object afterValue = null;
+    Long afterIssueId = null;
+    if (cursor != null) {
+      String[] position = decodeCursor(cursor, sortKey, descending);
+      afterValue = parseSortValue(sortKey, position[2]);
+      afterIssueId = parseIssueId(position[3]);
+    }
+    List<Object[]> rows = issueRepository.findPage(projectId, sortKey, descending, afterValue, afterIssueId,
+        pageSize + 1);
 
-    List<ProjectAccount> projectAccountList = projectAccountRepository.findById_ProjectId(projectId);
+    String nextCursor = null;
+    if (rows.size() > pageSize) {
+      rows = rows.subList(0, pageSize);
+      nextCursor = encodeCursor(sortKey, descending, rows.get(pageSize - 1));
+    }
 
     DetailsProjectResponse.DetailsProjectResponseBuilder detailsProjectResponseBuilder = DetailsProjectResponse.builder()
-        .accountRole(accountId == 1 ? -1 : projectAccount.getRole().ordinal())
+        .accountRole(accountId == 1 ? -1 : accountRole.ordinal())
         .id(projectId)
         .title(project.getTitle())
         .description(project.getDescription())
         .date(project.getDate().format(DateTimeFormatter.ISO_DATE))
         .status(project.getStatus().ordinal())
-        .member(projectAccountList.stream()
+        .member(project.getMembers().values().stream()
             .map(member -> MemberData.builder()
-                .id(member.getAccount().getAccountId())
-                .username(member.getAccount().getUsername())
+                .id(member.getAccountId())
+                .username(member.getUsername())
                 .role(member.getRole().ordinal())
                 .build())
-            .collect(Collectors.toList()));
+            .collect(Collectors.toList()))
+        .nextCursor(nextCursor);
 
-    if (issues.isEmpty()) {
+    if (rows.isEmpty()) {
       return detailsProjectResponseBuilder.build();
     } else {
-      return detailsProjectResponseBuilder.issue(issues.stream()
-              .map(issue -> IssueData.builder()
-                  .id(issue.getId().getIssueId())
-                  .title(issue.getTitle())
-                  .status(issue.getStatus().ordinal())
-                  .reportedDate(issue.getReportedDate().format(DateTimeFormatter.ISO_DATE))
-                  .dueDate(issue.getDueDate().format(DateTimeFormatter.ISO_DATE))
+      return detailsProjectResponseBuilder.issue(rows.stream()
+              .map(row -> IssueData.builder()
+                  .id((Long) row[0])
+                  .title((String) row[1])
+                  .status(((IssueStatus) row[2]).ordinal())
+                  .priority(((IssuePriority) row[3]).ordinal())
+                  .reportedDate(((LocalDateTime) row[4]).format(DateTimeFormatter.ISO_DATE))
+                  .dueDate(((LocalDate) row[5]).format(DateTimeFormatter.ISO_DATE))
                   .build())
               .collect(Collectors.toList()))
           .build();
     }
   }
 
+  // cursor : "정렬 기준,방향,마지막 이슈의 정렬 값,마지막 issue_id"를 base64url로 인코딩
+  private String encodeCursor(IssueSortKey sortKey, boolean descending, Object[] last) {
+    Object value;
+    switch (sortKey) {
+      case DUE_DATE:
+        value = last[5];
+        break;
+      case PRIORITY:
+        value = ((IssuePriority) last[3]).ordinal();
+        break;
+      case STATUS:
+        value = ((IssueStatus) last[2]).ordinal();
+        break;
+      default:
+        value = last[4];
+    }
+    String position = sortKey.getProperty() + "," + (descending ? "desc" : "asc") + "," + value + "," + last[0];
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private String[] decodeCursor(String cursor, IssueSortKey sortKey, boolean descending) {
+    String[] position;
+    try {
+      position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(",", -1);
+    } catch (IllegalArgumentException e) {
+      throw new ITSException(ErrorCode.PROJECT_DETAIL_BAD_REQUEST);
+    }
+
+    // 다른 정렬로 발급된 cursor는 사용할 수 없음
+    if (position.length != 4 || !position[0].equals(sortKey.getProperty())
+        || !position[1].equals(descending ? "desc" : "asc")) {
+      throw new ITSException(ErrorCode.PROJECT_DETAIL_BAD_REQUEST);
+    }
+    return position;
+  }
+
+  private Object parseSortValue(IssueSortKey sortKey, String value) {
+    try {
+      switch (sortKey) {
+        case DUE_DATE:
+          return LocalDate.parse(value);
+        case PRIORITY:
+          return IssuePriority.values()[Integer.parseInt(value)];
+        case STATUS:
+          return IssueStatus.values()[Integer.parseInt(value)];
+        default:
+          return LocalDateTime.parse(value);
+      }
+    } catch (DateTimeParseException | NumberFormatException | ArrayIndexOutOfBoundsException e) {
+      throw new ITSException(ErrorCode.PROJECT_DETAIL_BAD_REQUEST);
+    }
+  }
+
+  private Long parseIssueId(String value) {
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      throw new ITSException(ErrorCode.PROJECT_DETAIL_BAD_REQUEST);
+    }
+  }
+
   @Override
   public String addProject(Long accountId, AddProjectRequest addProjectRequest) {
     if (accountId != 1L) {
@@ -142,10 +260,18 @@ public class ProjectServiceImpl implements ProjectService {
         .title(addProjectRequest.getTitle())
         .description(addProjectRequest.getDescription())
         .build());
+    projectMembershipIndex.projectSaved(project);
+
+    // 멤버 계정은 한 번에 조회
+    Map<String, Account> accounts = accountCache.findAll(addProjectRequest.getMember().stream()
+        .map(ProjectMemberData::getUsername)
+        .toList());
 
     for(ProjectMemberData member: addProjectRequest.getMember()) {
-      Account account = accountRepository.findByUsername(member.getUsername())
-          .orElseThrow(() -> new ITSException(ErrorCode.PROJECT_CREATION_BAD_REQUEST));
+      Account account = accounts.get(member.getUsername());
+      if (account == null) {
+        throw new ITSException(ErrorCode.PROJECT_CREATION_BAD_REQUEST);
+      }
       projectAccountRepository.save(ProjectAccount.builder()
           .id(ProjectAccountPK.builder()
               .projectId(project.getProjectId())
@@ -155,11 +281,27 @@ public class ProjectServiceImpl implements ProjectService {
           .account(account)
           .role(ProjectAccountRole.values()[member.getRole()])
           .build());
+      projectMembershipIndex.memberSaved(project.getProjectId(), account.getAccountId(), account.getUsername(),
+          ProjectAccountRole.values()[member.getRole()]);
     }
     return "/projects/" + project.getProjectId();
   }
 
   @Override
+  public SseEmitter subscribeChanges(Long accountId, Long projectId, String lastEventId) {
+    // 프로젝트 상세를 조회할 수 있는 사용자만 구독 가능
+    if (projectMembershipIndex.project(projectId).isEmpty()) {
+      throw new ITSException(ErrorCode.PROJECT_DETAIL_NOT_FOUND);
+    }
+    if (accountId != 1L && projectMembershipIndex.role(projectId, accountId).isEmpty()) {
+      throw new ITSException(ErrorCode.PROJECT_DETAIL_FORBIDDEN);
+    }
+
+    return projectChangeFeed.subscribe(projectId, lastEventId);
+  }
+
+  @Override
+  @Transactional
   public void modifyProject(Long accountId, Long projectId,
       ModifyProjectRequest modifyProjectRequest) {
     if (accountId != 1L) {
@@ -172,9 +314,15 @@ public class ProjectServiceImpl implements ProjectService {
     List<ModifyProjectRequest.ProjectMemberData> projectMemberDataList = modifyProjectRequest.getMember();
 
     if (projectMemberDataList != null) {
+      Map<String, Account> accounts = accountCache.findAll(projectMemberDataList.stream()
+          .map(ModifyProjectRequest.ProjectMemberData::getUsername)
+          .toList());
+
       for (ModifyProjectRequest.ProjectMemberData projectMember : projectMemberDataList) {
-        Account account = accountRepository.findByUsername(projectMember.getUsername())
-            .orElseThrow(() -> new ITSException(ErrorCode.USERNAME_NOT_FOUND));
+        Account account = accounts.get(projectMember.getUsername());
+        if (account == null) {
+          throw new ITSException(ErrorCode.USERNAME_NOT_FOUND);
+        }
         projectAccountRepository.save(ProjectAccount.builder()
             .id(ProjectAccountPK.builder()
                 .projectId(projectId)
@@ -184,6 +332,8 @@ public class ProjectServiceImpl implements ProjectService {
             .account(account)
             .role(ProjectAccountRole.values()[projectMember.getRole()])
             .build());
+        projectMembershipIndex.memberSaved(projectId, account.getAccountId(), account.getUsername(),
+            ProjectAccountRole.values()[projectMember.getRole()]);
       }
     }
 
@@ -204,214 +354,79 @@ public class ProjectServiceImpl implements ProjectService {
       projectBuilder.description(modifyProjectRequest.getDescription());
     }
 
-    projectRepository.save(projectBuilder.build());
+    projectMembershipIndex.projectSaved(projectRepository.save(projectBuilder.build()));
+    projectVersions.changed(projectId);
   }
 
   @Override
-  public ProjectTrendResponse trendProject(Long accountId, Long projectId, String category) {
+  public ProjectTrendResponse trendProject(Long accountId, Long projectId, String category, String from, String to,
+      String granularity, Integer limit) {
     // 사용자가 Admin이거나 해당 프로젝트에 속해 있는지 검증
     if (accountId != 1L) {
-      projectAccountRepository.findById(ProjectAccountPK.builder()
-              .accountId(accountId)
-              .projectId(projectId).build())
+      projectMembershipIndex.role(projectId, accountId)
           .orElseThrow(() -> new ITSException(ErrorCode.PROJECT_TREND_FORBIDDEN));
     }
 
-    ProjectTrendResponse projectTrendResponse = null;
-
-    LocalDate currentDate = LocalDate.now();
-
-    switch (category) {
-      case "new-issue":
-        List<Object[]> dailyNewIssueCountObjectList = issueRepository.countByReportedDate_Day(projectId,
-            LocalDateTime.of(LocalDate.from(LocalDateTime.now().minusDays(6)), LocalTime.of(0, 0)));
-
-        Map<String, Integer> dailyNewDataMap = new LinkedHashMap<>();
-
-        for (int i = 0; i < 7; i++) {
-          LocalDate date = currentDate.minusDays(i);
-          String key = String.format("%04d-%02d-%02d", date.getYear(), date.getMonthValue(), date.getDayOfMonth());
-          dailyNewDataMap.put(key, 0);
-        }
-
-        for (Object[] object : dailyNewIssueCountObjectList) {
-          String key = String.format("%04d-%02d-%02d", Integer.parseInt(String.valueOf(object[0])), Integer.parseInt(String.valueOf(object[1])), Integer.parseInt(String.valueOf(object[2])));
-          if (dailyNewDataMap.containsKey(key)) {
-            dailyNewDataMap.put(key, Integer.parseInt(String.valueOf(object[3])));
-          }
-        }
-
-        List<ProjectTrendResponse.IssueCount> dailyNewIssueCountList = new ArrayList<>();
-        for (Map.Entry<String, Integer> entry : dailyNewDataMap.entrySet()) {
-          dailyNewIssueCountList.add(ProjectTrendResponse.IssueCount.builder()
-              .date(entry.getKey())
-              .count(entry.getValue())
-              .build());
-        }
-
-        List<Object[]> monthlyNewIssueCountObjectList = issueRepository.countByReportedDate_Month(projectId,
-            LocalDateTime.of(LocalDate.from(LocalDateTime.now().minusMonths(5).withDayOfMonth(1)), LocalTime.of(0, 0)));
-
-        Map<String, Integer> monthlyNewDataMap = new LinkedHashMap<>();
-        for (int i = 0; i < 6; i++) {
-          LocalDate date = currentDate.minusMonths(i);
-          String key = String.format("%04d-%02d", date.getYear(), date.getMonthValue());
-          monthlyNewDataMap.put(key, 0);
-        }
-
-        for (Object[] object : monthlyNewIssueCountObjectList) {
-          String key = String.format("%04d-%02d", Integer.parseInt(String.valueOf(object[0])), Integer.parseInt(String.valueOf(object[1])));
-          if (monthlyNewDataMap.containsKey(key)) {
-            monthlyNewDataMap.put(key, Integer.parseInt(String.valueOf(object[2])));
-          }
-        }
-
-        List<ProjectTrendResponse.IssueCount> monthlyNewIssueCountList = new ArrayList<>();
-        for (Map.Entry<String, Integer> entry : monthlyNewDataMap.entrySet()) {
-          monthlyNewIssueCountList.add(ProjectTrendResponse.IssueCount.builder()
-              .date(entry.getKey() + "-01")
-              .count(entry.getValue())
-              .build());
-        }
-
-        projectTrendResponse = ProjectTrendResponse.builder()
-            .daily(ProjectTrendData.builder()
-                .data(dailyNewIssueCountList)
-                .build())
-            .monthly(ProjectTrendData.builder()
-                .data(monthlyNewIssueCountList)
-                .build())
-            .build();
-        break;
-
-      case "closed-issue":
-        List<Object[]> dailyClosedIssueCountObjectList = issueRepository.countByClosedDate_Day(projectId,
-            LocalDateTime.of(LocalDate.from(LocalDateTime.now().minusDays(6)), LocalTime.of(0, 0)));
-
-        Map<String, Integer> dailyClosedDataMap = new LinkedHashMap<>();
-        for (int i = 0; i < 7; i++) {
-          LocalDate date = currentDate.minusDays(i);
-          String key = String.format("%04d-%02d-%02d", date.getYear(), date.getMonthValue(), date.getDayOfMonth());
-          dailyClosedDataMap.put(key, 0);
-        }
-
-        for (Object[] object : dailyClosedIssueCountObjectList) {
-          String key = String.format("%04d-%02d-%02d", Integer.parseInt(String.valueOf(object[0])), Integer.parseInt(String.valueOf(object[1])), Integer.parseInt(String.valueOf(object[2])));
-          if (dailyClosedDataMap.containsKey(key)) {
-            dailyClosedDataMap.put(key, Integer.parseInt(String.valueOf(object[3])));
-          }
-        }
-
-        List<ProjectTrendResponse.IssueCount> dailyClosedIssueCountList = new ArrayList<>();
-        for (Map.Entry<String, Integer> entry : dailyClosedDataMap.entrySet()) {
-          dailyClosedIssueCountList.add(ProjectTrendResponse.IssueCount.builder()
-              .date(entry.getKey())
-              .count(entry.getValue())
-              .build());
-        }
-
-        List<Object[]> monthlyClosedIssueCountObjectList = issueRepository.countByClosedDate_Month(projectId,
-            LocalDateTime.of(LocalDate.from(LocalDateTime.now().minusMonths(5).withDayOfMonth(1)), LocalTime.of(0, 0)));
-
-        Map<String, Integer> monthlyClosedDataMap = new LinkedHashMap<>();
-        for (int i = 0; i < 6; i++) {
-          LocalDate date = currentDate.minusMonths(i);
-          String key = String.format("%04d-%02d", date.getYear(), date.getMonthValue());
-          monthlyClosedDataMap.put(key, 0);
-        }
-
-        for (Object[] object : monthlyClosedIssueCountObjectList) {
-          String key = String.format("%04d-%02d", Integer.parseInt(String.valueOf(object[0])), Integer.parseInt(String.valueOf(object[1])));
-          if (monthlyClosedDataMap.containsKey(key)) {
-            monthlyClosedDataMap.put(key, Integer.parseInt(String.valueOf(object[2])));
-          }
-        }
-
-        List<ProjectTrendResponse.IssueCount> monthlyClosedIssueCountList = new ArrayList<>();
-        for (Map.Entry<String, Integer> entry : monthlyClosedDataMap.entrySet()) {
-          monthlyClosedIssueCountList.add(ProjectTrendResponse.IssueCount.builder()
-              .date(entry.getKey() + "-01")
-              .count(entry.getValue())
-              .build());
-        }
-
-        projectTrendResponse = ProjectTrendResponse.builder()
-            .daily(ProjectTrendData.builder()
-                .data(dailyClosedIssueCountList)
-                .build())
-            .monthly(ProjectTrendData.builder()
-                .data(monthlyClosedIssueCountList)
-                .build())
-            .build();
-        break;
-
-      case "best-issue":
-        List<Object[]> top3IssueObjectDaily = commentRepository.findTop3IssuesWithMostComments(projectId, currentDate.atStartOfDay());
-        List<BestIssue> top3IssueDaily = new ArrayList<>();
-
-        for (Object[] object : top3IssueObjectDaily) {
-          top3IssueDaily.add(BestIssue.builder()
-              .issueId(Long.parseLong(String.valueOf(object[0])))
-              .title(String.valueOf(object[1]))
-              .count(Integer.parseInt(String.valueOf(object[2])))
-              .build());
-        }
+    // 대시보드가 주기적으로 조회하는 기본 기간 트렌드는 캐시에서 응답
+    if (from == null && to == null && granularity == null && limit == null) {
+      return projectTrendCache.get(projectId, category);
+    }
 
-        List<Object[]> top3IssueObjectMonthly = commentRepository.findTop3IssuesWithMostComments(projectId, currentDate.withDayOfMonth(1).atStartOfDay());
-        List<BestIssue> top3IssueMonthly = new ArrayList<>();
+    // best-issue는 오늘/이번 달 기준 상위 limit개
+    if (category.equals("best-issue")) {
+      if (from != null || to != null || granularity != null) {
+        throw new ITSException(ErrorCode.PROJECT_TREND_BAD_REQUEST);
+      }
+      return projectTrendCalculator.bestIssues(projectId, limit);
+    }
 
-        for (Object[] object : top3IssueObjectMonthly) {
-          top3IssueMonthly.add(BestIssue.builder()
-              .issueId(Long.parseLong(String.valueOf(object[0])))
-              .title(String.valueOf(object[1]))
-              .count(Integer.parseInt(String.valueOf(object[2])))
-              .build());
-        }
+    // best-member는 오늘까지의 week/month/quarter 기간에서 상위 limit명 (기본값: week, 3명)
+    if (category.equals("best-member")) {
+      if (from != null || to != null) {
+        throw new ITSException(ErrorCode.PROJECT_TREND_BAD_REQUEST);
+      }
+      LeaderboardWindow window;
+      try {
+        window = granularity == null ? LeaderboardWindow.WEEK : LeaderboardWindow.valueOf(granularity.toUpperCase());
+      } catch (IllegalArgumentException e) {
+        throw new ITSException(ErrorCode.PROJECT_TREND_BAD_REQUEST);
+      }
+      return projectTrendCalculator.bestMembers(projectId, window, limit == null ? ProjectTrendCalculator.DEFAULT_LEADERBOARD_SIZE : limit);
+    }
 
-        projectTrendResponse = ProjectTrendResponse.builder()
-            .daily(ProjectTrendData.builder()
-                .data(top3IssueDaily)
-                .build())
-            .monthly(ProjectTrendData.builder()
-                .data(top3IssueMonthly)
-                .build())
-            .build();
-        break;
+    // 기간/단위를 지정한 경우 (기본값: 오늘까지 최근 7일, 일 단위)
+    LocalDate toDate;
+    LocalDate fromDate;
+    TrendGranularity trendGranularity;
+    try {
+      toDate = to == null ? LocalDate.now() : LocalDate.parse(to, DateTimeFormatter.ISO_DATE);
+      fromDate = from == null ? toDate.minusDays(6) : LocalDate.parse(from, DateTimeFormatter.ISO_DATE);
+      trendGranularity = granularity == null ? TrendGranularity.DAY : TrendGranularity.valueOf(granularity.toUpperCase());
+    } catch (DateTimeParseException | IllegalArgumentException e) {
+      throw new ITSException(ErrorCode.PROJECT_TREND_BAD_REQUEST);
+    }
 
-      case "best-member":
-        Object[] bestPLObject = issueRepository.findBestManagerDuringLastWeek(projectId, currentDate.minusDays(6).atStartOfDay());
-        BestMember bestPL = BestMember.builder()
-            .username((String) ((Object[]) bestPLObject[0])[0])
-            .count(((Long) ((Object[]) bestPLObject[0])[1]).intValue())
-            .build();
-
-        Object[] bestDevObject = issueRepository.findBestAssigneeDuringLastWeek(projectId, currentDate.minusDays(6).atStartOfDay());
-        BestMember bestDev = BestMember.builder()
-            .username((String) ((Object[]) bestDevObject[0])[0])
-            .count(((Long) ((Object[]) bestDevObject[0])[1]).intValue())
-            .build();
-
-        Object[] bestTesterObject = issueRepository.findBestReporterDuringLastWeek(projectId, currentDate.minusDays(6).atStartOfDay());
-        BestMember bestTester = BestMember.builder()
-            .username((String) ((Object[]) bestTesterObject[0])[0])
-            .count(((Long) ((Object[]) bestTesterObject[0])[1]).intValue())
-            .build();
-
-        projectTrendResponse = ProjectTrendResponse.builder()
-            .weekly(ProjectTrendData.builder()
-                .data(BestMemberData.builder()
-                    .PL(bestPL)
-                    .dev(bestDev)
-                    .tester(bestTester)
-                    .build())
-                .build())
-            .build();
-        break;
+    return projectTrendCalculator.calculate(projectId, category, fromDate, toDate, trendGranularity);
+  }
 
-      default:
-        throw new ITSException(ErrorCode.PROJECT_TREND_BAD_REQUEST);
+  @Override
+  public TrendCacheStatsResponse trendCacheStats(Long accountId) {
+    // 사용자가 Admin인지 검증
+    if (accountId != 1L) {
+      throw new ITSException(ErrorCode.PROJECT_TREND_FORBIDDEN);
     }
 
-    return projectTrendResponse;
+    CacheStats stats = projectTrendCache.stats();
+
+    return TrendCacheStatsResponse.builder()
+        .size(projectTrendCache.estimatedSize())
+        .hitCount(stats.hitCount())
+        .missCount(stats.missCount())
+        .hitRate(stats.hitRate())
+        .loadSuccessCount(stats.loadSuccessCount())
+        .loadFailureCount(stats.loadFailureCount())
+        .averageLoadPenaltyMillis(stats.averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1))
+        .evictionCount(stats.evictionCount())
+        .build();
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.dto.ProjectTrendResponse;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 기본 기간 트렌드 응답 캐시 (key: 프로젝트, 프로젝트의 세대, category, 오늘 날짜)
+@Component
+public class ProjectTrendCache {
+
+  private final LoadingCache<TrendKey, ProjectTrendResponse> cache;
+  private final Clock clock;
+  // 프로젝트별 세대 (변경이 commit될 때마다 올려서 이전 세대의 entry는 더 이상 조회되지 않고 만료됨)
+  private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+
+  @Autowired
+  public ProjectTrendCache(ProjectTrendCalculator projectTrendCalculator,
+      @Value("${its.trend.cache.maximum-size:10000}") long maximumSize,
+      @Value("${its.trend.cache.refresh-after:30s}") Duration refreshAfter,
+      @Value("${its.trend.cache.expire-after:10m}") Duration expireAfter,
+      IndexReloadExecutor indexReloadExecutor) {
+    this(projectTrendCalculator, maximumSize, refreshAfter, expireAfter, Ticker.systemTicker(),
+        indexReloadExecutor.executor(), Clock.systemDefaultZone());
+  }
+
+  ProjectTrendCache(ProjectTrendCalculator projectTrendCalculator, long maximumSize, Duration refreshAfter,
+      Duration expireAfter, Ticker ticker, Executor executor, Clock clock) {
+    this.clock = clock;
+    // refreshAfter가 지난 entry는 기존 값을 돌려주면서 한 스레드만 다시 계산하고,
+    // expireAfter가 지나도록 조회가 없던 entry는 제거
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .refreshAfterWrite(refreshAfter)
+        .expireAfterWrite(expireAfter)
+        .ticker(ticker)
+        .executor(executor)
+        .recordStats()
+        .build(key -> projectTrendCalculator.calculate(key.projectId(), key.category()));
+  }
+
+  public ProjectTrendResponse get(Long projectId, String category) {
+    return cache.get(new TrendKey(projectId, generations.getOrDefault(projectId, 0L), category,
+        LocalDate.now(clock)));
+  }
+
+  // 이슈/코멘트 변경이 commit된 뒤 해당 프로젝트의 세대를 올림 (다른 key를 훑지 않음)
+  public void invalidate(Long projectId) {
+    AfterCommit.run(() -> generations.merge(projectId, 1L, Long::sum));
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  public long estimatedSize() {
+    return cache.estimatedSize();
+  }
+
+  private record TrendKey(Long projectId, Long generation, String category, LocalDate day) {
+  }
+}
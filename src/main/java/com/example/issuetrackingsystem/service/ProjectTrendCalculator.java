@@ -0,0 +1,243 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.domain.IssueDailyStat;
+import com.example.issuetrackingsystem.dto.ProjectTrendResponse;
+import com.example.issuetrackingsystem.dto.ProjectTrendResponse.BestIssue;
+import com.example.issuetrackingsystem.dto.ProjectTrendResponse.BestMember;
+import com.example.issuetrackingsystem.dto.ProjectTrendResponse.BestMemberData;
+import com.example.issuetrackingsystem.dto.ProjectTrendResponse.IssueCount;
+import com.example.issuetrackingsystem.dto.ProjectTrendResponse.ProjectTrendData;
+import com.example.issuetrackingsystem.exception.ErrorCode;
+import com.example.issuetrackingsystem.exception.ITSException;
+import com.example.issuetrackingsystem.repository.IssueDailyStatRepository;
+import com.example.issuetrackingsystem.repository.IssueRepository;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProjectTrendCalculator {
+
+  private static final long MAX_RANGE_DAYS = 3660;
+  static final int DEFAULT_LEADERBOARD_SIZE = 3;
+  private static final int MAX_LEADERBOARD_SIZE = 50;
+
+  private final IssueDailyStatRepository issueDailyStatRepository;
+  private final IssueRepository issueRepository;
+  private final HotIssueTracker hotIssueTracker;
+
+  public ProjectTrendCalculator(IssueDailyStatRepository issueDailyStatRepository, IssueRepository issueRepository,
+      HotIssueTracker hotIssueTracker) {
+    this.issueDailyStatRepository = issueDailyStatRepository;
+    this.issueRepository = issueRepository;
+    this.hotIssueTracker = hotIssueTracker;
+  }
+
+  public ProjectTrendResponse calculate(Long projectId, String category) {
+    LocalDate currentDate = LocalDate.now();
+
+    switch (category) {
+      case "new-issue":
+      case "closed-issue":
+        // 최근 6개월(최대 184일)의 일별 집계만 읽어 일별/월별 추이를 함께 계산
+        LocalDate monthlyFrom = currentDate.minusMonths(5).withDayOfMonth(1);
+        Map<LocalDate, Integer> counts = loadCounts(projectId, category, monthlyFrom, currentDate);
+
+        return ProjectTrendResponse.builder()
+            .daily(ProjectTrendData.builder()
+                .data(bucket(counts, currentDate.minusDays(6), currentDate, TrendGranularity.DAY))
+                .build())
+            .monthly(ProjectTrendData.builder()
+                .data(bucket(counts, monthlyFrom, currentDate, TrendGranularity.MONTH))
+                .build())
+            .build();
+
+      case "best-issue":
+        return bestIssues(projectId, DEFAULT_LEADERBOARD_SIZE);
+
+      case "best-member":
+        return bestMembers(projectId, LeaderboardWindow.WEEK, DEFAULT_LEADERBOARD_SIZE);
+
+      default:
+        throw new ITSException(ErrorCode.PROJECT_TREND_BAD_REQUEST);
+    }
+  }
+
+  // 임의 기간의 등록/종료 이슈 수를 일/주/월/분기 단위로 계산
+  public ProjectTrendResponse calculate(Long projectId, String category, LocalDate from, LocalDate to,
+      TrendGranularity granularity) {
+    if (!category.equals("new-issue") && !category.equals("closed-issue")) {
+      throw new ITSException(ErrorCode.PROJECT_TREND_BAD_REQUEST);
+    }
+    if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) > MAX_RANGE_DAYS) {
+      throw new ITSException(ErrorCode.PROJECT_TREND_BAD_REQUEST);
+    }
+
+    Map<LocalDate, Integer> counts = loadCounts(projectId, category, from, to);
+    ProjectTrendData data = ProjectTrendData.builder()
+        .data(bucket(counts, from, to, granularity))
+        .build();
+
+    ProjectTrendResponse.ProjectTrendResponseBuilder projectTrendResponse = ProjectTrendResponse.builder();
+    switch (granularity) {
+      case WEEK:
+        return projectTrendResponse.weekly(data).build();
+      case MONTH:
+        return projectTrendResponse.monthly(data).build();
+      case QUARTER:
+        return projectTrendResponse.quarterly(data).build();
+      default:
+        return projectTrendResponse.daily(data).build();
+    }
+  }
+
+  // 오늘/이번 달 코멘트가 가장 많은 이슈 limit개 (제목은 한 번의 쿼리로 조회)
+  public ProjectTrendResponse bestIssues(Long projectId, int limit) {
+    if (limit < 1 || limit > MAX_LEADERBOARD_SIZE) {
+      throw new ITSException(ErrorCode.PROJECT_TREND_BAD_REQUEST);
+    }
+
+    List<Map.Entry<Long, Integer>> daily = hotIssueTracker.top(projectId, HotIssueTracker.Window.DAY, limit);
+    List<Map.Entry<Long, Integer>> monthly = hotIssueTracker.top(projectId, HotIssueTracker.Window.MONTH, limit);
+
+    Set<Long> issueIds = new HashSet<>();
+    daily.forEach(entry -> issueIds.add(entry.getKey()));
+    monthly.forEach(entry -> issueIds.add(entry.getKey()));
+
+    Map<Long, String> titles = new HashMap<>();
+    if (!issueIds.isEmpty()) {
+      for (Object[] row : issueRepository.findTitles(projectId, issueIds)) {
+        titles.put((Long) row[0], (String) row[1]);
+      }
+    }
+
+    return ProjectTrendResponse.builder()
+        .daily(ProjectTrendData.builder()
+            .data(toBestIssues(daily, titles))
+            .build())
+        .monthly(ProjectTrendData.builder()
+            .data(toBestIssues(monthly, titles))
+            .build())
+        .build();
+  }
+
+  private List<BestIssue> toBestIssues(List<Map.Entry<Long, Integer>> ranking, Map<Long, String> titles) {
+    List<BestIssue> bestIssueList = new ArrayList<>();
+    for (Map.Entry<Long, Integer> entry : ranking) {
+      bestIssueList.add(BestIssue.builder()
+          .issueId(entry.getKey())
+          .title(titles.get(entry.getKey()))
+          .count(entry.getValue())
+          .build());
+    }
+    return bestIssueList;
+  }
+
+  // 기간 내 이슈를 한 번만 읽어 PL(manager)/dev(assignee)/tester(reporter) 순위를 함께 계산
+  public ProjectTrendResponse bestMembers(Long projectId, LeaderboardWindow window, int limit) {
+    if (limit < 1 || limit > MAX_LEADERBOARD_SIZE) {
+      throw new ITSException(ErrorCode.PROJECT_TREND_BAD_REQUEST);
+    }
+
+    Map<String, Integer> managerCounts = new HashMap<>();
+    Map<String, Integer> assigneeCounts = new HashMap<>();
+    Map<String, Integer> reporterCounts = new HashMap<>();
+
+    LocalDate startDate = window.start(LocalDate.now());
+    // 역할 조합별 이슈 수를 역할마다 합산
+    for (Object[] row : issueRepository.countMembersReportedSince(projectId, startDate.atStartOfDay())) {
+      int count = ((Number) row[3]).intValue();
+      countMember(managerCounts, row[0], count);
+      countMember(assigneeCounts, row[1], count);
+      countMember(reporterCounts, row[2], count);
+    }
+
+    List<BestMember> plRanking = rank(managerCounts, limit);
+    List<BestMember> devRanking = rank(assigneeCounts, limit);
+    List<BestMember> testerRanking = rank(reporterCounts, limit);
+
+    ProjectTrendData data = ProjectTrendData.builder()
+        .data(BestMemberData.builder()
+            .PL(plRanking.isEmpty() ? null : plRanking.get(0))
+            .dev(devRanking.isEmpty() ? null : devRanking.get(0))
+            .tester(testerRanking.isEmpty() ? null : testerRanking.get(0))
+            .plRanking(plRanking)
+            .devRanking(devRanking)
+            .testerRanking(testerRanking)
+            .build())
+        .build();
+
+    ProjectTrendResponse.ProjectTrendResponseBuilder projectTrendResponse = ProjectTrendResponse.builder();
+    switch (window) {
+      case MONTH:
+        return projectTrendResponse.monthly(data).build();
+      case QUARTER:
+        return projectTrendResponse.quarterly(data).build();
+      default:
+        return projectTrendResponse.weekly(data).build();
+    }
+  }
+
+  private void countMember(Map<String, Integer> counts, Object username, int count) {
+    if (username != null) {
+      counts.merge((String) username, count, Integer::sum);
+    }
+  }
+
+  // 건수 내림차순, 같으면 username 오름차순으로 상위 limit명
+  private List<BestMember> rank(Map<String, Integer> counts, int limit) {
+    return counts.entrySet().stream()
+        .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+            .thenComparing(Map.Entry.comparingByKey()))
+        .limit(limit)
+        .map(entry -> BestMember.builder()
+            .username(entry.getKey())
+            .count(entry.getValue())
+            .build())
+        .toList();
+  }
+
+  private Map<LocalDate, Integer> loadCounts(Long projectId, String category, LocalDate from, LocalDate to) {
+    boolean closed = category.equals("closed-issue");
+    Map<LocalDate, Integer> counts = new HashMap<>();
+
+    for (IssueDailyStat stat : issueDailyStatRepository.findByProjectIdAndDateBetween(projectId, from, to)) {
+      counts.put(stat.getId().getStatDate(), closed ? stat.getClosedCount() : stat.getReportedCount());
+    }
+    return counts;
+  }
+
+  // 최신 구간부터 0으로 채운 뒤 [from, to] 범위의 일별 집계를 구간별로 합산
+  private List<IssueCount> bucket(Map<LocalDate, Integer> counts, LocalDate from, LocalDate to,
+      TrendGranularity granularity) {
+    Map<LocalDate, Integer> buckets = new LinkedHashMap<>();
+    LocalDate first = granularity.start(from);
+    for (LocalDate start = granularity.start(to); !start.isBefore(first); start = granularity.previous(start)) {
+      buckets.put(start, 0);
+    }
+
+    for (Map.Entry<LocalDate, Integer> entry : counts.entrySet()) {
+      LocalDate day = entry.getKey();
+      if (!day.isBefore(from) && !day.isAfter(to)) {
+        buckets.merge(granularity.start(day), entry.getValue(), Integer::sum);
+      }
+    }
+
+    List<IssueCount> issueCountList = new ArrayList<>();
+    for (Map.Entry<LocalDate, Integer> entry : buckets.entrySet()) {
+      issueCountList.add(IssueCount.builder()
+          .date(entry.getKey().format(DateTimeFormatter.ISO_DATE))
+          .count(entry.getValue())
+          .build());
+    }
+    return issueCountList;
+  }
+}
@@ -0,0 +1,53 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.repository.ProjectRepository;
+import java.util.Set;
+import java.util.TreeSet;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 프로젝트 상세 ETag용 project.version 증가
+// 트랜잭션 안에서 여러 번 호출해도 commit 직전에 한 번만 UPDATE하므로, project row lock은 commit하는 동안만 잡힘
+// (이슈/코멘트 작성이 트랜잭션 내내 project row에서 줄 서지 않음)
+@Component
+public class ProjectVersions {
+
+  private static final Object CHANGED_PROJECTS = new Object();
+
+  private final ProjectRepository projectRepository;
+
+  public ProjectVersions(ProjectRepository projectRepository) {
+    this.projectRepository = projectRepository;
+  }
+
+  public void changed(Long projectId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      projectRepository.bumpVersion(projectId);
+      return;
+    }
+
+    @SuppressWarnings("unchecked")
+    Set<Long> projectIds = (Set<Long>) TransactionSynchronizationManager.getResource(CHANGED_PROJECTS);
+    if (projectIds == null) {
+      // 여러 프로젝트를 바꾼 트랜잭션끼리 교착하지 않도록 project_id 순으로 UPDATE
+      Set<Long> changedProjects = new TreeSet<>();
+      TransactionSynchronizationManager.bindResource(CHANGED_PROJECTS, changedProjects);
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void beforeCommit(boolean readOnly) {
+          for (Long changedProjectId : changedProjects) {
+            projectRepository.bumpVersion(changedProjectId);
+          }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+          TransactionSynchronizationManager.unbindResourceIfPossible(CHANGED_PROJECTS);
+        }
+      });
+      projectIds = changedProjects;
+    }
+    projectIds.add(projectId);
+  }
+}
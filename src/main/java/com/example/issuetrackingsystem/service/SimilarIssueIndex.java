@@ -0,0 +1,221 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.domain.enums.IssueStatus;
+import com.example.issuetrackingsystem.repository.IssueRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 프로젝트별 해결된 이슈의 title/description TF-IDF 벡터 색인 (비슷한 과거 이슈의 fixer로 assignee 추천)
+@Slf4j
+@Component
+public class SimilarIssueIndex {
+
+  // fixer가 해결한 것으로 보는 상태 (REOPENED되면 색인에서 제외)
+  static final Set<IssueStatus> FIXED_STATUSES = EnumSet.of(IssueStatus.FIXED, IssueStatus.RESOLVED, IssueStatus.CLOSED);
+
+  // title 단어는 description보다 가중치를 높게
+  private static final int TITLE_WEIGHT = 3;
+  // 검색에 쓰는 최대 단어 수 (TF-IDF 가중치가 큰 순)
+  private static final int MAX_QUERY_TERMS = 32;
+  // 해결 이슈가 MIN_PRUNED_DOCUMENTS개 이상이면 MAX_DOCUMENT_RATIO보다 많은 이슈에 나오는 단어는
+  // 구분력이 낮으므로 posting 순회를 생략
+  private static final int MIN_PRUNED_DOCUMENTS = 1000;
+  private static final double MAX_DOCUMENT_RATIO = 0.2;
+
+  private final IssueRepository issueRepository;
+  // 색인이 없거나 오래되면 백그라운드에서 다시 구성 (처음 구성되는 동안은 추천에 쓰지 않음)
+  private final ProjectIndexes<ProjectVectors> projects;
+
+  @Autowired
+  public SimilarIssueIndex(IssueRepository issueRepository,
+      @Value("${its.similar-issue.reload-after:30m}") Duration reloadAfter,
+      @Value("${its.similar-issue.idle-after:1h}") Duration idleAfter, IndexReloadExecutor indexReloadExecutor) {
+    this(issueRepository, reloadAfter, idleAfter, indexReloadExecutor.executor(), Clock.systemDefaultZone());
+  }
+
+  SimilarIssueIndex(IssueRepository issueRepository, Duration reloadAfter, Duration idleAfter, Executor executor,
+      Clock clock) {
+    this.issueRepository = issueRepository;
+    this.projects = new ProjectIndexes<>("SIMILAR ISSUE", this::load, reloadAfter, idleAfter, executor, clock);
+  }
+
+  // 가장 비슷한 해결 이슈 k개의 fixer별 상대 유사도 합 (account_id → 유사도), 색인이 준비되기 전에는 빈 결과
+  public Map<Long, Double> nearestFixers(Long projectId, Long issueId, String title, String description, int k) {
+    ProjectVectors vectors = projects.getIfLoaded(projectId);
+    if (vectors == null) {
+      return Collections.emptyMap();
+    }
+
+    Map<String, Double> query = termFrequencies(title, description);
+    if (query.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    return vectors.nearestFixers(issueId, query, k);
+  }
+
+  // 이슈 상태/fixer/title/description 변경이 commit된 후 반영 (해결 상태가 아니면 색인에서 제외)
+  public void issueSaved(Long projectId, Long issueId, IssueStatus status, Long fixerId, String title,
+      String description) {
+    boolean fixed = fixerId != null && FIXED_STATUSES.contains(status);
+    Map<String, Double> frequencies = fixed ? termFrequencies(title, description) : null;
+    projects.update(projectId, vectors -> {
+      if (fixed) {
+        vectors.put(issueId, fixerId, frequencies);
+      } else {
+        vectors.remove(issueId);
+      }
+    });
+  }
+
+  private ProjectVectors load(Long projectId) {
+    ProjectVectors vectors = new ProjectVectors();
+    for (Object[] row : issueRepository.findFixedTexts(projectId, FIXED_STATUSES)) {
+      vectors.put((Long) row[0], (Long) row[1], termFrequencies((String) row[2], (String) row[3]));
+    }
+    log.info("[SIMILAR ISSUE] project {} indexed : {} fixed issues", projectId, vectors.fixers.size());
+    return vectors;
+  }
+
+  // 단어별 로그 스케일 빈도 (title 단어는 TITLE_WEIGHT배)
+  private static Map<String, Double> termFrequencies(String title, String description) {
+    Map<String, Integer> counts = new HashMap<>();
+    for (String token : IssueTextIndex.tokenize(title)) {
+      counts.merge(token, TITLE_WEIGHT, Integer::sum);
+    }
+    for (String token : IssueTextIndex.tokenize(description)) {
+      counts.merge(token, 1, Integer::sum);
+    }
+
+    Map<String, Double> frequencies = new HashMap<>();
+    counts.forEach((term, count) -> frequencies.put(term, 1.0 + Math.log(count)));
+    return frequencies;
+  }
+
+  private static class ProjectVectors {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 단어 → (issue_id → 단어 빈도)
+    private final Map<String, Map<Long, Double>> postings = new HashMap<>();
+    // issue_id → 단어 빈도 벡터, 벡터 크기, fixer
+    private final Map<Long, Map<String, Double>> documents = new HashMap<>();
+    private final Map<Long, Double> norms = new HashMap<>();
+    private final Map<Long, Long> fixers = new HashMap<>();
+
+    void put(Long issueId, Long fixerId, Map<String, Double> frequencies) {
+      lock.writeLock().lock();
+      try {
+        removeDocument(issueId);
+        if (frequencies.isEmpty()) {
+          return;
+        }
+        documents.put(issueId, frequencies);
+        norms.put(issueId, Math.sqrt(frequencies.values().stream().mapToDouble(tf -> tf * tf).sum()));
+        fixers.put(issueId, fixerId);
+        frequencies.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(issueId, tf));
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    void remove(Long issueId) {
+      lock.writeLock().lock();
+      try {
+        removeDocument(issueId);
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    private void removeDocument(Long issueId) {
+      Map<String, Double> previous = documents.remove(issueId);
+      if (previous == null) {
+        return;
+      }
+      norms.remove(issueId);
+      fixers.remove(issueId);
+      for (String term : previous.keySet()) {
+        Map<Long, Double> docs = postings.get(term);
+        docs.remove(issueId);
+        if (docs.isEmpty()) {
+          postings.remove(term);
+        }
+      }
+    }
+
+    // 질의 벡터와 유사도(TF-IDF 내적 / 벡터 크기)가 큰 이슈 k개를 fixer별로 합산
+    Map<Long, Double> nearestFixers(Long issueId, Map<String, Double> query, int k) {
+      lock.readLock().lock();
+      try {
+        int documentCount = documents.size();
+        if (documentCount == 0) {
+          return Collections.emptyMap();
+        }
+
+        // 질의 단어별 tf * idf, 가중치가 큰 단어만 사용
+        List<Map.Entry<String, Double>> terms = new ArrayList<>();
+        for (Map.Entry<String, Double> entry : query.entrySet()) {
+          Map<Long, Double> docs = postings.get(entry.getKey());
+          if (docs != null && (documentCount < MIN_PRUNED_DOCUMENTS
+              || docs.size() <= documentCount * MAX_DOCUMENT_RATIO)) {
+            double idf = Math.log((documentCount + 1.0) / (docs.size() + 1.0)) + 1.0;
+            terms.add(Map.entry(entry.getKey(), entry.getValue() * idf));
+          }
+        }
+        terms.sort(Map.Entry.<String, Double>comparingByValue().reversed());
+        if (terms.size() > MAX_QUERY_TERMS) {
+          terms = terms.subList(0, MAX_QUERY_TERMS);
+        }
+
+        // 문서 벡터도 같은 idf로 가중치를 주므로 공통 단어마다 (질의 tf * idf) * (문서 tf * idf)
+        Map<Long, Double> scores = new HashMap<>();
+        double queryNorm = 0;
+        for (Map.Entry<String, Double> term : terms) {
+          Map<Long, Double> docs = postings.get(term.getKey());
+          double idf = Math.log((documentCount + 1.0) / (docs.size() + 1.0)) + 1.0;
+          queryNorm += term.getValue() * term.getValue();
+          docs.forEach((docId, tf) -> scores.merge(docId, term.getValue() * tf * idf, Double::sum));
+        }
+        scores.remove(issueId);
+        if (scores.isEmpty()) {
+          return Collections.emptyMap();
+        }
+        double normalizer = Math.sqrt(queryNorm);
+
+        // 유사도 상위 k개 (문서 크기는 idf 없이 계산한 tf 벡터 크기로 근사)
+        Comparator<Map.Entry<Long, Double>> closest = Map.Entry.comparingByValue();
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(k + 1, closest);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+          heap.offer(Map.entry(entry.getKey(), entry.getValue() / (normalizer * norms.get(entry.getKey()))));
+          if (heap.size() > k) {
+            heap.poll();
+          }
+        }
+
+        // 가장 비슷한 이슈를 1로 하는 상대 유사도로 합산
+        double nearest = heap.stream().mapToDouble(Map.Entry::getValue).max().orElse(1.0);
+        Map<Long, Double> votes = new HashMap<>();
+        for (Map.Entry<Long, Double> entry : heap) {
+          votes.merge(fixers.get(entry.getKey()), entry.getValue() / nearest, Double::sum);
+        }
+        return votes;
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.example.issuetrackingsystem.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum TrendGranularity {
+  DAY,
+  WEEK,
+  MONTH,
+  QUARTER;
+
+  // date가 속한 구간의 시작일
+  LocalDate start(LocalDate date) {
+    switch (this) {
+      case WEEK:
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+      case MONTH:
+        return date.withDayOfMonth(1);
+      case QUARTER:
+        return date.withMonth((date.getMonthValue() - 1) / 3 * 3 + 1).withDayOfMonth(1);
+      default:
+        return date;
+    }
+  }
+
+  // 이전 구간의 시작일
+  LocalDate previous(LocalDate start) {
+    switch (this) {
+      case WEEK:
+        return start.minusWeeks(1);
+      case MONTH:
+        return start.minusMonths(1);
+      case QUARTER:
+        return start.minusMonths(3);
+      default:
+        return start.minusDays(1);
+    }
+  }
+}
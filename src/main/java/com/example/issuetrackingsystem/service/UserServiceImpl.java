@@ -6,6 +6,7 @@ import com.example.issuetrackingsystem.dto.SignUpRequest;
 import com.example.issuetrackingsystem.exception.ErrorCode;
 import com.example.issuetrackingsystem.exception.ITSException;
 import com.example.issuetrackingsystem.repository.AccountRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -17,10 +18,13 @@ public class UserServiceImpl implements UserService {
 
     private final PasswordEncoder passwordEncoder;
 
+    private final AccountCache accountCache;
+
     public UserServiceImpl(AccountRepository accountRepository,
-        BCryptPasswordEncoder passwordEncoder) {
+        BCryptPasswordEncoder passwordEncoder, AccountCache accountCache) {
         this.accountRepository = accountRepository;
         this.passwordEncoder = passwordEncoder;
+        this.accountCache = accountCache;
     }
 
     @Override
@@ -37,23 +41,32 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public Long signup(SignUpRequest signUpRequest) throws ITSException {
-        if (accountRepository.findByUsername(signUpRequest.getUsername()).isPresent()) {
+        // 중복 검사는 캐시가 아닌 DB로 (캐시는 없는 username도 잠시 보관하므로 방금 가입한 username을 놓칠 수 있음)
+        if (accountRepository.existsByUsername(signUpRequest.getUsername())) {
             throw new ITSException(ErrorCode.USERNAME_ALREADY_EXISTS);
         }
 
         String encodedPassword = passwordEncoder.encode(signUpRequest.getPassword());
 
-        Account newAccount = accountRepository.save(Account.builder()
-            .username(signUpRequest.getUsername())
-            .password(encodedPassword)
-            .build());
+        Account newAccount;
+        try {
+            newAccount = accountRepository.save(Account.builder()
+                .username(signUpRequest.getUsername())
+                .password(encodedPassword)
+                .build());
+        } catch (DataIntegrityViolationException e) {
+            // 검사 이후 같은 username으로 동시에 가입한 경우 (uk_account_username)
+            throw new ITSException(ErrorCode.USERNAME_ALREADY_EXISTS);
+        }
+        // 존재하지 않는 username으로 캐시된 항목 제거
+        accountCache.invalidate(newAccount.getUsername());
 
         return newAccount.getAccountId();
     }
 
     @Override
     public void findUser(String username) {
-        if (!accountRepository.findByUsername(username).isPresent())
+        if (!accountCache.find(username).isPresent())
             throw new ITSException(ErrorCode.USERNAME_NOT_FOUND);
     }
 }
@@ -0,0 +1,65 @@
+-- 마이그레이션 도입 전 기준 엔티티(account, project, project_account, issue, comment)를 JPA(ddl-auto)로 생성하던 스키마
+-- 이미 ddl-auto로 만들어진 DB는 이 버전으로 baseline 처리되어 실행되지 않음 (application.properties)
+-- 새로 만드는 DB의 복합 PK는 상위 키(project_id, issue_id)를 앞에 둠
+
+CREATE TABLE account (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  username VARCHAR(20) NOT NULL,
+  password VARCHAR(255) NOT NULL,
+  PRIMARY KEY (id),
+  CONSTRAINT uk_account_username UNIQUE (username)
+);
+
+CREATE TABLE project (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  title VARCHAR(255) NOT NULL,
+  description VARCHAR(2000),
+  date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  status TINYINT NOT NULL DEFAULT 0,
+  PRIMARY KEY (id)
+);
+
+CREATE TABLE project_account (
+  project_id BIGINT NOT NULL,
+  account_id BIGINT NOT NULL,
+  role TINYINT NOT NULL,
+  date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (project_id, account_id),
+  CONSTRAINT fk_project_account_project FOREIGN KEY (project_id) REFERENCES project (id),
+  CONSTRAINT fk_project_account_account FOREIGN KEY (account_id) REFERENCES account (id)
+);
+
+CREATE TABLE issue (
+  project_id BIGINT NOT NULL,
+  id BIGINT NOT NULL,
+  title VARCHAR(255) NOT NULL,
+  description VARCHAR(2000),
+  keyword TINYINT,
+  reporter BIGINT NOT NULL,
+  reported_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  due_date TIMESTAMP NOT NULL,
+  manager BIGINT,
+  assignee BIGINT,
+  fixer BIGINT,
+  priority TINYINT NOT NULL DEFAULT 2,
+  status TINYINT NOT NULL DEFAULT 0,
+  closed_date TIMESTAMP NULL,
+  PRIMARY KEY (project_id, id),
+  CONSTRAINT fk_issue_project FOREIGN KEY (project_id) REFERENCES project (id),
+  CONSTRAINT fk_issue_reporter FOREIGN KEY (reporter) REFERENCES account (id),
+  CONSTRAINT fk_issue_manager FOREIGN KEY (manager) REFERENCES account (id),
+  CONSTRAINT fk_issue_assignee FOREIGN KEY (assignee) REFERENCES account (id),
+  CONSTRAINT fk_issue_fixer FOREIGN KEY (fixer) REFERENCES account (id)
+);
+
+CREATE TABLE comment (
+  project_id BIGINT NOT NULL,
+  issue_id BIGINT NOT NULL,
+  id BIGINT NOT NULL,
+  account_id BIGINT NOT NULL,
+  content VARCHAR(2000) NOT NULL,
+  date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (project_id, issue_id, id),
+  CONSTRAINT fk_comment_issue FOREIGN KEY (project_id, issue_id) REFERENCES issue (project_id, id),
+  CONSTRAINT fk_comment_account FOREIGN KEY (account_id) REFERENCES account (id)
+);
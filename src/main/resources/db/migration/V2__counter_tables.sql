@@ -0,0 +1,38 @@
+-- 이슈/코멘트 번호 발급, 프로젝트 상태 카운터, 일별 집계 테이블
+-- (IssueSequence, CommentSequence, ProjectIssueCount, IssueDailyStat, IssueCommentDaily)
+
+CREATE TABLE issue_sequence (
+  project_id BIGINT NOT NULL,
+  next_id BIGINT NOT NULL,
+  PRIMARY KEY (project_id)
+);
+
+CREATE TABLE comment_sequence (
+  project_id BIGINT NOT NULL,
+  issue_id BIGINT NOT NULL,
+  next_id BIGINT NOT NULL,
+  PRIMARY KEY (project_id, issue_id)
+);
+
+CREATE TABLE project_issue_count (
+  project_id BIGINT NOT NULL,
+  open_count BIGINT NOT NULL DEFAULT 0,
+  closed_count BIGINT NOT NULL DEFAULT 0,
+  PRIMARY KEY (project_id)
+);
+
+CREATE TABLE issue_daily_stat (
+  project_id BIGINT NOT NULL,
+  stat_date DATE NOT NULL,
+  reported_count INT NOT NULL DEFAULT 0,
+  closed_count INT NOT NULL DEFAULT 0,
+  PRIMARY KEY (project_id, stat_date)
+);
+
+CREATE TABLE issue_comment_daily (
+  project_id BIGINT NOT NULL,
+  issue_id BIGINT NOT NULL,
+  stat_date DATE NOT NULL,
+  comment_count INT NOT NULL DEFAULT 0,
+  PRIMARY KEY (project_id, issue_id, stat_date)
+);
@@ -0,0 +1,19 @@
+-- IssueRepository/CommentRepository 쿼리용 인덱스 (RepositoryQueryPlanTest로 전체 스캔 여부 검증)
+
+-- 프로젝트 상세 목록 정렬(IssueSortKey)과 검색 인덱스 힌트(IssueRepositoryCustomImpl)용
+CREATE INDEX idx_issue_project_reported_date ON issue (project_id, reported_date);
+CREATE INDEX idx_issue_project_due_date ON issue (project_id, due_date);
+CREATE INDEX idx_issue_project_priority ON issue (project_id, priority);
+CREATE INDEX idx_issue_project_status ON issue (project_id, status);
+
+-- 일별 CLOSED 통계 backfill (project_id, DATE(closed_date)) 집계
+CREATE INDEX idx_issue_project_closed_date ON issue (project_id, closed_date);
+
+-- 키워드별 담당자 추천 : WHERE project_id, keyword GROUP BY assignee, 미해결 수(status)까지 인덱스만으로 계산
+CREATE INDEX idx_issue_project_keyword_assignee ON issue (project_id, keyword, assignee, status);
+
+-- 담당자 추천 : WHERE project_id GROUP BY assignee, 담당자 조건 검색
+CREATE INDEX idx_issue_project_assignee_status ON issue (project_id, assignee, status);
+
+-- 이슈별 일별 코멘트 수 backfill (project_id, issue_id, DATE(date)) 집계
+CREATE INDEX idx_comment_issue_date ON comment (project_id, issue_id, date);
@@ -0,0 +1,7 @@
+-- 조회 응답 ETag용 버전 (변경할 때마다 UPDATE ... SET version = version + 1)
+-- project.version은 프로젝트, 멤버, 소속 이슈가 바뀐 트랜잭션마다 한 번, issue.version은 이슈 수정과 코멘트 추가마다 올라감
+-- 조건부 조회는 project 또는 issue 행 하나만 읽음
+
+ALTER TABLE project ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE issue ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
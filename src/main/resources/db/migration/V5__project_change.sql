@@ -0,0 +1,15 @@
+-- 프로젝트 변경 이벤트 outbox (ProjectChange)
+-- 변경한 트랜잭션 안에서 INSERT하고, 모든 서버가 id 순으로 읽어 자기 SSE 구독자에게 전달
+-- 보관 기간이 지난 행은 주기적으로 삭제
+
+CREATE TABLE project_change (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  project_id BIGINT NOT NULL,
+  name VARCHAR(32) NOT NULL,
+  issue_id BIGINT,
+  status INT,
+  comment_id BIGINT,
+  created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (id),
+  KEY idx_project_change_created_date (created_date)
+);
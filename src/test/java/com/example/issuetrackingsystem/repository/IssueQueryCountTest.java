@@ -0,0 +1,269 @@
+package com.example.issuetrackingsystem.repository;
+
+import com.example.issuetrackingsystem.domain.Account;
+import com.example.issuetrackingsystem.domain.Comment;
+import com.example.issuetrackingsystem.domain.Issue;
+import com.example.issuetrackingsystem.domain.Project;
+import com.example.issuetrackingsystem.domain.enums.ProjectAccountRole;
+import com.example.issuetrackingsystem.domain.enums.IssuePriority;
+import com.example.issuetrackingsystem.domain.enums.IssueStatus;
+import com.example.issuetrackingsystem.domain.key.CommentPK;
+import com.example.issuetrackingsystem.domain.key.IssuePK;
+import com.example.issuetrackingsystem.dto.ModifyIssueRequest;
+import com.example.issuetrackingsystem.service.AccountCache;
+import com.example.issuetrackingsystem.service.AssigneeRecommender;
+import com.example.issuetrackingsystem.service.CommentIdAllocator;
+import com.example.issuetrackingsystem.service.HotIssueTracker;
+import com.example.issuetrackingsystem.service.IndexReloadExecutor;
+import com.example.issuetrackingsystem.service.IssueDailyStatRecorder;
+import com.example.issuetrackingsystem.service.IssueIdAllocator;
+import com.example.issuetrackingsystem.service.IssueSearchCounts;
+import com.example.issuetrackingsystem.service.IssueServiceImpl;
+import com.example.issuetrackingsystem.service.IssueTextIndex;
+import com.example.issuetrackingsystem.service.IssueTitleSuggester;
+import com.example.issuetrackingsystem.service.ProjectChangeFeed;
+import com.example.issuetrackingsystem.service.ProjectIssueCounter;
+import com.example.issuetrackingsystem.service.ProjectMembershipIndex;
+import com.example.issuetrackingsystem.service.ProjectTrendCache;
+import com.example.issuetrackingsystem.service.ProjectVersions;
+import com.example.issuetrackingsystem.service.SimilarIssueIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 목록/상세 조회와 이슈 수정 경로마다 실행되는 SQL 수 검증 (H2, MySQL 호환 모드, 스키마는 Flyway 마이그레이션)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:its;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.hibernate.ddl-auto=none"
+})
+class IssueQueryCountTest {
+
+  @Autowired
+  private TestEntityManager entityManager;
+  @Autowired
+  private IssueRepository issueRepository;
+  @Autowired
+  private CommentRepository commentRepository;
+  @Autowired
+  private AccountRepository accountRepository;
+  @Autowired
+  private ProjectRepository projectRepository;
+  @Autowired
+  private CommentSequenceRepository commentSequenceRepository;
+  @Autowired
+  private IssueCommentDailyRepository issueCommentDailyRepository;
+  @Autowired
+  private ProjectChangeRepository projectChangeRepository;
+  @Autowired
+  private StatementCounter statementCounter;
+
+  private Long projectId;
+  private Account reporter;
+  private Account dev;
+
+  @BeforeEach
+  void setUp() {
+    reporter = entityManager.persist(Account.builder().username("tester").password("pw").build());
+    dev = entityManager.persist(Account.builder().username("dev").password("pw").build());
+    Project project = entityManager.persist(Project.builder().title("Project").build());
+    projectId = project.getProjectId();
+
+    for (long issueId = 1; issueId <= 30; issueId++) {
+      Issue issue = entityManager.persist(Issue.builder()
+          .id(IssuePK.builder().projectId(projectId).issueId(issueId).build())
+          .project(project)
+          .title("Issue " + issueId)
+          .reporter(reporter)
+          .manager(reporter)
+          .assignee(issueId % 2 == 0 ? dev : null)
+          .dueDate(LocalDate.of(2024, 6, 1).plusDays(issueId))
+          .priority(IssuePriority.MAJOR)
+          .status(issueId % 2 == 0 ? IssueStatus.ASSIGNED : IssueStatus.NEW)
+          .build());
+      if (issueId == 1) {
+        for (long commentId = 1; commentId <= 5; commentId++) {
+          entityManager.persist(Comment.builder()
+              .id(CommentPK.builder().issueId(issue.getId()).commentId(commentId).build())
+              .issue(issue)
+              .account(commentId % 2 == 0 ? dev : reporter)
+              .content("comment " + commentId)
+              .build());
+        }
+      }
+    }
+    entityManager.flush();
+    entityManager.clear();
+    statementCounter.reset();
+  }
+
+  @Test
+  void testProjectDetailIssuePageIsOneStatement() {
+    List<Object[]> first = issueRepository.findPage(projectId, IssueSortKey.DUE_DATE, false, null, null, 11);
+    Object[] last = first.get(9);
+    List<Object[]> second = issueRepository.findPage(projectId, IssueSortKey.DUE_DATE, false, last[5], (Long) last[0],
+        11);
+
+    assertEquals(11, first.size());
+    assertEquals(11L, second.get(0)[0]);
+    assertEquals(2, statementCounter.get());
+  }
+
+  @Test
+  void testIssueSearchIsOneStatement() {
+    List<Object[]> rows = issueRepository.search(projectId, IssueSearchFilter.builder()
+        .status(IssueStatus.ASSIGNED)
+        .assigneeId(dev.getAccountId())
+        .build(), 0, 10);
+
+    assertEquals(10, rows.size());
+    assertEquals(1, statementCounter.get());
+    assertEquals(15L, issueRepository.countSearch(projectId, IssueSearchFilter.builder()
+        .status(IssueStatus.ASSIGNED)
+        .assigneeId(dev.getAccountId())
+        .build()));
+  }
+
+  @Test
+  void testIssueDetailsLoadAccountsInOneStatement() {
+    Issue issue = issueRepository.findWithAccountsById(IssuePK.builder().projectId(projectId).issueId(2L).build())
+        .orElseThrow();
+
+    assertEquals("tester", issue.getReporter().getUsername());
+    assertEquals("tester", issue.getManager().getUsername());
+    assertEquals("dev", issue.getAssignee().getUsername());
+    assertNull(issue.getFixer());
+    assertEquals(1, statementCounter.get());
+  }
+
+  @Test
+  void testIssueCommentsLoadAuthorsInOneStatement() {
+    List<Comment> comments = commentRepository.findLatestPageByIssue(projectId, 1L, 5L, PageRequest.of(0, 3));
+
+    assertEquals(List.of(4L, 3L, 2L), comments.stream().map(comment -> comment.getId().getCommentId()).toList());
+    assertEquals(Set.of("tester", "dev"),
+        Set.copyOf(comments.stream().map(comment -> comment.getAccount().getUsername()).toList()));
+    assertEquals(1, statementCounter.get());
+  }
+
+  @Test
+  void testModifyIssueStatementCount() {
+    IssueServiceImpl issueService = issueService();
+    // 이슈의 comment_sequence row가 이미 있는 경우 (첫 코멘트만 INSERT IGNORE가 한 번 더 실행됨)
+    commentSequenceRepository.initialize(projectId, 2L);
+    entityManager.flush();
+    statementCounter.reset();
+
+    // reporter가 5개 필드를 한 번에 수정 → 변경 내역 코멘트 5개
+    issueService.modifyIssue(reporter.getAccountId(), projectId, 2L, ModifyIssueRequest.builder()
+        .title("Updated Issue")
+        .description("Updated Description")
+        .keyword(1)
+        .priority(1)
+        .dueDate("2024-07-01")
+        .build());
+    // commit 직전에 실행되는 프로젝트 version UPDATE까지 셈 (테스트 트랜잭션은 rollback)
+    TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+
+    // 계정, 이슈 조회 2 + 이슈 UPDATE, version UPDATE 2 + comment id 예약 UPDATE, LAST_INSERT_ID() 2
+    // + 코멘트 batch INSERT 1 + 일별 코멘트 수 upsert, 조회 2 + 변경 이벤트 INSERT 1 + 프로젝트 version UPDATE 1
+    assertEquals(11, statementCounter.get());
+    List<Comment> comments = commentRepository.findPageByIssue(projectId, 2L, 0L, PageRequest.of(0, 20));
+    assertEquals(List.of(1L, 2L, 3L, 4L, 5L),
+        comments.stream().map(comment -> comment.getId().getCommentId()).toList());
+  }
+
+  private IssueServiceImpl issueService() {
+    ProjectMembershipIndex projectMembershipIndex = mock(ProjectMembershipIndex.class);
+    when(projectMembershipIndex.role(projectId, reporter.getAccountId()))
+        .thenReturn(Optional.of(ProjectAccountRole.tester));
+    // 인덱스, 캐시처럼 DB를 쓰지 않는 구성 요소만 mock
+    return new IssueServiceImpl(issueRepository, accountRepository, projectRepository, commentRepository,
+        mock(IssueIdAllocator.class), new CommentIdAllocator(commentSequenceRepository),
+        mock(ProjectIssueCounter.class), mock(IssueDailyStatRecorder.class), mock(ProjectTrendCache.class),
+        new HotIssueTracker(issueCommentDailyRepository, Duration.ofMinutes(5), Duration.ofHours(1),
+            new IndexReloadExecutor(1, 10)), projectMembershipIndex,
+        mock(AccountCache.class), mock(IssueTextIndex.class), mock(IssueTitleSuggester.class),
+        mock(AssigneeRecommender.class), mock(SimilarIssueIndex.class),
+        new ProjectChangeFeed(projectChangeRepository, 64, Duration.ofMinutes(30), Duration.ofSeconds(10),
+            Duration.ofSeconds(5), Duration.ofHours(1), 1),
+        new ProjectVersions(projectRepository), mock(IssueSearchCounts.class));
+  }
+
+  @TestConfiguration
+  static class StatementCounterConfig {
+    @Bean
+    static StatementCounter statementCounter() {
+      return new StatementCounter();
+    }
+  }
+
+  // DataSource가 내주는 Connection에서 준비되는 statement 수를 셈 (JPA, JdbcTemplate 모두 포함)
+  static class StatementCounter implements BeanPostProcessor {
+    private final AtomicInteger count = new AtomicInteger();
+
+    void reset() {
+      count.set(0);
+    }
+
+    int get() {
+      return count.get();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      if (!(bean instanceof DataSource dataSource)) {
+        return bean;
+      }
+      return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{DataSource.class},
+          (proxy, method, args) -> {
+            Object result = invoke(dataSource, method, args);
+            return result instanceof Connection connection ? count(connection) : result;
+          });
+    }
+
+    private Connection count(Connection connection) {
+      return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+          (proxy, method, args) -> {
+            if (method.getName().startsWith("prepare") || method.getName().equals("createStatement")) {
+              count.incrementAndGet();
+            }
+            return invoke(connection, method, args);
+          });
+    }
+
+    private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+  }
+}
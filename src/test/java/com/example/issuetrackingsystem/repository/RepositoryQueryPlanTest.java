@@ -0,0 +1,281 @@
+package com.example.issuetrackingsystem.repository;
+
+import com.example.issuetrackingsystem.domain.enums.IssueKeyword;
+import com.example.issuetrackingsystem.domain.enums.IssuePriority;
+import com.example.issuetrackingsystem.domain.enums.IssueStatus;
+import com.example.issuetrackingsystem.domain.key.IssuePK;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 마이그레이션된 MySQL 스키마에 데이터를 넣고 IssueRepository/CommentRepository 쿼리의 실행 계획에 전체 스캔이 없는지 검증
+// MySQL 컨테이너(Testcontainers)가 필요하므로 기본 test 태스크에서는 제외하고 ./gradlew queryPlanTest로 실행
+@Tag("query-plan")
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+// ANALYZE TABLE은 암묵적으로 commit하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RepositoryQueryPlanTest {
+
+  private static final int ACCOUNTS = 20;
+  private static final int PROJECTS = 10;
+  private static final int ISSUES_PER_PROJECT = 500;
+  private static final int COMMENTS_PER_ISSUE = 4;
+  // 이보다 많은 row를 전체 스캔하면 실패 (account, project처럼 작은 테이블은 옵티마이저가 스캔을 고를 수 있음)
+  private static final long SCAN_LIMIT = 100;
+
+  @Container
+  private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+  // 스키마는 Flyway 마이그레이션으로 만들고 Hibernate는 검증만 함 (application.properties)
+  @DynamicPropertySource
+  static void datasource(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+    registry.add("spring.datasource.username", MYSQL::getUsername);
+    registry.add("spring.datasource.password", MYSQL::getPassword);
+    registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+  }
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private IssueRepository issueRepository;
+  @Autowired
+  private CommentRepository commentRepository;
+  @Autowired
+  private QueryRecorder queryRecorder;
+
+  @BeforeEach
+  void seed() {
+    List<Object[]> accounts = new ArrayList<>();
+    for (long accountId = 1; accountId <= ACCOUNTS; accountId++) {
+      accounts.add(new Object[]{accountId, "user" + accountId, "pw"});
+    }
+    jdbcTemplate.batchUpdate("INSERT INTO account (id, username, password) VALUES (?, ?, ?)", accounts);
+
+    LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+    for (long projectId = 1; projectId <= PROJECTS; projectId++) {
+      jdbcTemplate.update("INSERT INTO project (id, title) VALUES (?, ?)", projectId, "Project " + projectId);
+
+      List<Object[]> issues = new ArrayList<>();
+      List<Object[]> comments = new ArrayList<>();
+      for (long issueId = 1; issueId <= ISSUES_PER_PROJECT; issueId++) {
+        LocalDateTime reportedDate = start.plusHours(issueId * 7);
+        IssueStatus status = IssueStatus.values()[(int) (issueId % IssueStatus.values().length)];
+        issues.add(new Object[]{projectId, issueId, "Issue " + issueId, "description " + issueId,
+            (int) (issueId % IssueKeyword.values().length), account(issueId), Timestamp.valueOf(reportedDate),
+            Timestamp.valueOf(reportedDate.plusDays(14)), account(issueId + 1), account(issueId + 2),
+            (int) (issueId % IssuePriority.values().length), status.ordinal(),
+            status == IssueStatus.CLOSED ? Timestamp.valueOf(reportedDate.plusDays(3)) : null});
+        for (long commentId = 1; commentId <= COMMENTS_PER_ISSUE; commentId++) {
+          comments.add(new Object[]{projectId, issueId, commentId, account(issueId + commentId),
+              "comment " + commentId, Timestamp.valueOf(reportedDate.plusHours(commentId))});
+        }
+      }
+      jdbcTemplate.batchUpdate("INSERT INTO issue (project_id, id, title, description, keyword, reporter, "
+          + "reported_date, due_date, manager, assignee, priority, status, closed_date) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", issues);
+      jdbcTemplate.batchUpdate("INSERT INTO comment (project_id, issue_id, id, account_id, content, date) "
+          + "VALUES (?, ?, ?, ?, ?, ?)", comments);
+    }
+
+    jdbcTemplate.execute("ANALYZE TABLE account, project, issue, comment");
+  }
+
+  @AfterEach
+  void clean() {
+    jdbcTemplate.update("DELETE FROM comment");
+    jdbcTemplate.update("DELETE FROM issue");
+    jdbcTemplate.update("DELETE FROM project");
+    jdbcTemplate.update("DELETE FROM account");
+  }
+
+  @Test
+  void testRepositoryQueriesDoNotScanFullTables() {
+    Long projectId = 3L;
+    LocalDateTime since = LocalDateTime.of(2024, 2, 1, 0, 0);
+    Map<String, Runnable> calls = new TreeMap<>();
+
+    calls.put("IssueRepository.findWithAccountsById", () -> issueRepository.findWithAccountsById(
+        IssuePK.builder().projectId(projectId).issueId(42L).build()));
+    calls.put("IssueRepository.findTitles", () -> issueRepository.findTitles(projectId, List.of(1L, 2L, 3L)));
+    calls.put("IssueRepository.findAllTitles", () -> issueRepository.findAllTitles(projectId));
+    calls.put("IssueRepository.findTexts", () -> issueRepository.findTexts(projectId));
+    calls.put("IssueRepository.countMembersReportedSince",
+        () -> issueRepository.countMembersReportedSince(projectId, since));
+    calls.put("IssueRepository.findWorkloads", () -> issueRepository.findWorkloads(projectId));
+    calls.put("IssueRepository.findFixedTexts", () -> issueRepository.findFixedTexts(projectId,
+        List.of(IssueStatus.FIXED, IssueStatus.RESOLVED, IssueStatus.CLOSED)));
+    for (IssueSortKey sortKey : IssueSortKey.values()) {
+      calls.put("IssueRepository.findPage " + sortKey, () -> {
+        List<Object[]> first = issueRepository.findPage(projectId, sortKey, sortKey.isDefaultDescending(),
+            null, null, 51);
+        Object[] last = first.get(49);
+        issueRepository.findPage(projectId, sortKey, sortKey.isDefaultDescending(),
+            last[sortKeyColumn(sortKey)], (Long) last[0], 51);
+      });
+    }
+    calls.put("IssueRepository.search status", () -> issueRepository.search(projectId,
+        IssueSearchFilter.builder().status(IssueStatus.ASSIGNED).build(), 0, 20));
+    calls.put("IssueRepository.search priority", () -> issueRepository.search(projectId,
+        IssueSearchFilter.builder().priority(IssuePriority.MAJOR).build(), 0, 20));
+    calls.put("IssueRepository.search dueDate", () -> issueRepository.search(projectId,
+        IssueSearchFilter.builder().dueFrom(LocalDate.of(2024, 2, 1)).dueTo(LocalDate.of(2024, 2, 28)).build(),
+        0, 20));
+    calls.put("IssueRepository.search reportedDate", () -> issueRepository.search(projectId,
+        IssueSearchFilter.builder().reportedFrom(LocalDate.of(2024, 2, 1)).build(), 0, 20));
+    calls.put("IssueRepository.search assignee", () -> issueRepository.search(projectId,
+        IssueSearchFilter.builder().assigneeId(account(5L)).build(), 0, 20));
+    calls.put("IssueRepository.search issueIds", () -> issueRepository.search(projectId,
+        IssueSearchFilter.builder().issueIds(List.of(9L, 3L, 27L)).build(), 0, 20));
+    calls.put("IssueRepository.countSearch", () -> issueRepository.countSearch(projectId,
+        IssueSearchFilter.builder().status(IssueStatus.NEW).build()));
+    calls.put("CommentRepository.findPageByIssue",
+        () -> commentRepository.findPageByIssue(projectId, 42L, 1L, PageRequest.of(0, 20)));
+    calls.put("CommentRepository.findLatestPageByIssue",
+        () -> commentRepository.findLatestPageByIssue(projectId, 42L, Long.MAX_VALUE, PageRequest.of(0, 20)));
+
+    List<String> fullScans = new ArrayList<>();
+    calls.forEach((name, call) -> {
+      List<RecordedQuery> queries = queryRecorder.record(call);
+      assertFalse(queries.isEmpty(), name);
+
+      for (RecordedQuery query : queries) {
+        for (Map<String, Object> plan : jdbcTemplate.queryForList("EXPLAIN " + query.sql, query.args())) {
+          Number rows = (Number) plan.get("rows");
+          if ("ALL".equals(plan.get("type")) && rows != null && rows.longValue() > SCAN_LIMIT) {
+            fullScans.add(name + " : " + plan.get("table") + " (" + rows + " rows) " + query.sql);
+          }
+        }
+      }
+    });
+
+    assertEquals(List.of(), fullScans);
+  }
+
+  private static long account(long seed) {
+    return seed % ACCOUNTS + 1;
+  }
+
+  // findPage 결과: issue_id, title, status, priority, reported_date, due_date
+  private static int sortKeyColumn(IssueSortKey sortKey) {
+    switch (sortKey) {
+      case DUE_DATE:
+        return 5;
+      case PRIORITY:
+        return 3;
+      case STATUS:
+        return 2;
+      default:
+        return 4;
+    }
+  }
+
+  @TestConfiguration
+  static class QueryRecorderConfig {
+    @Bean
+    static QueryRecorder queryRecorder() {
+      return new QueryRecorder();
+    }
+  }
+
+  private record RecordedQuery(String sql, Map<Integer, Object> parameters) {
+    Object[] args() {
+      return parameters.values().toArray();
+    }
+  }
+
+  // 기록 중에 DataSource로 준비되는 SELECT 문과 바인딩된 파라미터를 모음 (JPA, JdbcTemplate 모두 포함)
+  static class QueryRecorder implements BeanPostProcessor {
+    private List<RecordedQuery> recorded;
+
+    synchronized List<RecordedQuery> record(Runnable call) {
+      recorded = new ArrayList<>();
+      try {
+        call.run();
+        return recorded;
+      } finally {
+        recorded = null;
+      }
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      if (!(bean instanceof DataSource dataSource)) {
+        return bean;
+      }
+      return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{DataSource.class},
+          (proxy, method, args) -> {
+            Object result = invoke(dataSource, method, args);
+            return result instanceof Connection connection ? connection(connection) : result;
+          });
+    }
+
+    private Connection connection(Connection connection) {
+      return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+          (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (recorded != null && result instanceof PreparedStatement statement
+                && method.getName().equals("prepareStatement")
+                && ((String) args[0]).stripLeading().toLowerCase().startsWith("select")) {
+              RecordedQuery query = new RecordedQuery((String) args[0], new TreeMap<>());
+              recorded.add(query);
+              return statement(statement, query);
+            }
+            return result;
+          });
+    }
+
+    private PreparedStatement statement(PreparedStatement statement, RecordedQuery query) {
+      return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+          new Class<?>[]{PreparedStatement.class},
+          (proxy, method, args) -> {
+            if (method.getName().startsWith("set") && args != null && args.length >= 2
+                && args[0] instanceof Integer index) {
+              query.parameters.put(index, method.getName().equals("setNull") ? null : args[1]);
+            }
+            return invoke(statement, method, args);
+          });
+    }
+
+    private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.domain.Account;
+import com.example.issuetrackingsystem.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class AccountCacheTest {
+
+  private AccountRepository accountRepository;
+  private final AtomicLong nanos = new AtomicLong();
+  private AccountCache accountCache;
+
+  @BeforeEach
+  void setUp() {
+    accountRepository = mock(AccountRepository.class);
+    accountCache = new AccountCache(accountRepository, 100, Duration.ofMinutes(10), Duration.ofSeconds(30),
+        nanos::get);
+  }
+
+  @Test
+  void testMissingUsernameIsCachedBriefly() {
+    when(accountRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+    assertTrue(accountCache.find("ghost").isEmpty());
+    assertTrue(accountCache.find("ghost").isEmpty());
+    verify(accountRepository, times(1)).findByUsername("ghost");
+
+    nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+    accountCache.find("ghost");
+    verify(accountRepository, times(2)).findByUsername("ghost");
+  }
+
+  @Test
+  void testInvalidateAfterSignup() {
+    Account account = Account.builder().accountId(2L).username("newuser").build();
+    when(accountRepository.findByUsername("newuser")).thenReturn(Optional.empty(), Optional.of(account));
+
+    assertTrue(accountCache.find("newuser").isEmpty());
+    accountCache.invalidate("newuser");
+
+    assertEquals(2L, accountCache.find("newuser").orElseThrow().getAccountId());
+  }
+
+  @Test
+  void testFindAllUsesOneInQuery() {
+    Account pl = Account.builder().accountId(2L).username("pl").build();
+    Account dev = Account.builder().accountId(3L).username("dev").build();
+    when(accountRepository.findByUsernameIn(anyCollection())).thenReturn(List.of(pl, dev));
+
+    Map<String, Account> accounts = accountCache.findAll(List.of("pl", "dev", "ghost"));
+
+    assertEquals(Set.of("pl", "dev"), accounts.keySet());
+    assertTrue(accountCache.find("ghost").isEmpty());
+    assertSame(dev, accountCache.find("dev").orElseThrow());
+    verify(accountRepository, times(1)).findByUsernameIn(anyCollection());
+    verify(accountRepository, never()).findByUsername(any());
+  }
+
+  @Test
+  void testFindAllMatchesUsernamesIgnoringCase() {
+    Account alice = Account.builder().accountId(2L).username("alice").build();
+    when(accountRepository.findByUsernameIn(anyCollection())).thenReturn(List.of(alice));
+
+    Map<String, Account> accounts = accountCache.findAll(List.of("Alice", "bob"));
+
+    // 요청한 username으로 찾을 수 있고, 부재로 캐시되지 않음
+    assertEquals(Map.of("Alice", alice), accounts);
+    assertSame(alice, accountCache.find("ALICE").orElseThrow());
+    verify(accountRepository, never()).findByUsername(any());
+  }
+}
@@ -0,0 +1,116 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.domain.enums.IssueKeyword;
+import com.example.issuetrackingsystem.domain.enums.IssueStatus;
+import com.example.issuetrackingsystem.domain.enums.ProjectAccountRole;
+import com.example.issuetrackingsystem.repository.IssueRepository;
+import com.example.issuetrackingsystem.service.AssigneeRecommender.Candidate;
+import com.example.issuetrackingsystem.service.AssigneeRecommender.IssueWork;
+import com.example.issuetrackingsystem.service.ProjectMembershipIndex.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AssigneeRecommenderTest {
+
+  private IssueRepository issueRepository;
+  private AssigneeRecommender assigneeRecommender;
+
+  @BeforeEach
+  void setUp() {
+    issueRepository = mock(IssueRepository.class);
+    ProjectMembershipIndex projectMembershipIndex = mock(ProjectMembershipIndex.class);
+    assigneeRecommender = new AssigneeRecommender(issueRepository, projectMembershipIndex, Duration.ofMinutes(30),
+        Duration.ofHours(1), Runnable::run, new MutableClock());
+
+    when(projectMembershipIndex.members(1L, ProjectAccountRole.dev)).thenReturn(List.of(
+        new Member(2L, "alice", ProjectAccountRole.dev),
+        new Member(3L, "bob", ProjectAccountRole.dev),
+        new Member(4L, "carol", ProjectAccountRole.dev)));
+    // alice: BUG 3건 해결, 열린 이슈 2건 / bob: BUG 1건 해결 / carol: 기록 없음
+    when(issueRepository.findWorkloads(1L)).thenReturn(List.of(
+        new Object[]{1L, IssueKeyword.BUG, IssueStatus.CLOSED, 2L, 2L},
+        new Object[]{2L, IssueKeyword.BUG, IssueStatus.CLOSED, 2L, 2L},
+        new Object[]{3L, IssueKeyword.BUG, IssueStatus.RESOLVED, 2L, 2L},
+        new Object[]{4L, IssueKeyword.UI, IssueStatus.ASSIGNED, 2L, null},
+        new Object[]{5L, IssueKeyword.UI, IssueStatus.ASSIGNED, 2L, null},
+        new Object[]{6L, IssueKeyword.BUG, IssueStatus.RESOLVED, 3L, 3L}));
+  }
+
+  @Test
+  void testRanksByKeywordExperienceOverOpenLoad() {
+    List<Candidate> candidates = assigneeRecommender.recommend(1L, IssueKeyword.BUG, Map.of(), 3);
+
+    assertEquals(List.of("bob", "alice", "carol"), candidates.stream().map(Candidate::getUsername).toList());
+    assertEquals(2.0, candidates.get(0).getScore());
+    assertEquals(3, candidates.get(1).getResolvedCount());
+    assertEquals(2, candidates.get(1).getOpenCount());
+  }
+
+  @Test
+  void testDevsWithoutHistoryAreRankedByLoad() {
+    List<Candidate> candidates = assigneeRecommender.recommend(1L, IssueKeyword.DOCS, Map.of(), 2);
+
+    assertEquals(List.of("bob", "carol"), candidates.stream().map(Candidate::getUsername).toList());
+  }
+
+  @Test
+  void testSimilarPastFixesOutweighKeywordCounts() {
+    List<Candidate> candidates = assigneeRecommender.recommend(1L, IssueKeyword.BUG, Map.of(4L, 1.0), 3);
+
+    assertEquals(List.of("carol", "bob", "alice"), candidates.stream().map(Candidate::getUsername).toList());
+    assertEquals(6.0, candidates.get(0).getScore());
+    assertEquals(1.0, candidates.get(0).getSimilarity());
+  }
+
+  @Test
+  void testIssueChangesUpdateModelWithoutReloading() {
+    assigneeRecommender.recommend(1L, IssueKeyword.BUG, Map.of(), 3);
+
+    // carol에게 BUG 이슈 배정 후 carol이 FIXED
+    IssueWork assigned = new IssueWork(IssueKeyword.BUG, IssueStatus.ASSIGNED, 4L, null);
+    IssueWork fixed = new IssueWork(IssueKeyword.BUG, IssueStatus.FIXED, 4L, 4L);
+    assigneeRecommender.issueChanged(1L, 7L, assigned);
+    assertEquals(1, assigneeRecommender.recommend(1L, IssueKeyword.BUG, Map.of(), 3).get(2).getOpenCount());
+
+    assigneeRecommender.issueChanged(1L, 7L, fixed);
+    Candidate carol = assigneeRecommender.recommend(1L, IssueKeyword.BUG, Map.of(), 3).stream()
+        .filter(candidate -> candidate.getUsername().equals("carol"))
+        .findFirst()
+        .orElseThrow();
+    assertEquals(1, carol.getResolvedCount());
+    assertEquals(0, carol.getOpenCount());
+
+    // REOPENED되면 해결 수에서 빠지고 다시 열린 이슈로 계산
+    assigneeRecommender.issueChanged(1L, 7L, new IssueWork(IssueKeyword.BUG, IssueStatus.REOPENED, 4L, 4L));
+    carol = assigneeRecommender.recommend(1L, null, Map.of(), 3).stream()
+        .filter(candidate -> candidate.getUsername().equals("carol"))
+        .findFirst()
+        .orElseThrow();
+    assertEquals(0, carol.getResolvedCount());
+    assertEquals(1, carol.getOpenCount());
+    verify(issueRepository, times(1)).findWorkloads(1L);
+  }
+
+  @Test
+  void testSameChangeAppliedTwiceCountsOnce() {
+    assigneeRecommender.recommend(1L, IssueKeyword.BUG, Map.of(), 3);
+
+    // 재구성 중에 commit된 변경은 새 index에 다시 적용되므로 같은 변경이 두 번 들어올 수 있음
+    IssueWork fixed = new IssueWork(IssueKeyword.BUG, IssueStatus.FIXED, 4L, 4L);
+    assigneeRecommender.issueChanged(1L, 7L, fixed);
+    assigneeRecommender.issueChanged(1L, 7L, fixed);
+
+    Candidate carol = assigneeRecommender.recommend(1L, IssueKeyword.BUG, Map.of(), 3).stream()
+        .filter(candidate -> candidate.getUsername().equals("carol"))
+        .findFirst()
+        .orElseThrow();
+    assertEquals(1, carol.getResolvedCount());
+  }
+}
@@ -0,0 +1,120 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.repository.IssueCommentDailyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HotIssueTrackerTest {
+
+  private static final Long PROJECT_ID = 1L;
+  private static final LocalDate TODAY = LocalDate.of(2024, 6, 15);
+
+  private final List<Runnable> tasks = new ArrayList<>();
+  private final MutableClock clock = new MutableClock(Instant.parse("2024-06-15T12:00:00Z"));
+  private IssueCommentDailyRepository issueCommentDailyRepository;
+  private HotIssueTracker hotIssueTracker;
+
+  @BeforeEach
+  void setUp() {
+    issueCommentDailyRepository = mock(IssueCommentDailyRepository.class);
+    when(issueCommentDailyRepository.findCountsSince(PROJECT_ID, TODAY.withDayOfMonth(1))).thenReturn(List.of(
+        new Object[]{1L, TODAY.withDayOfMonth(2), 5},
+        new Object[]{2L, TODAY.withDayOfMonth(10), 3},
+        new Object[]{2L, TODAY, 2},
+        new Object[]{3L, TODAY, 1}));
+
+    hotIssueTracker = new HotIssueTracker(issueCommentDailyRepository, Duration.ofMinutes(5), Duration.ofHours(1),
+        tasks::add, clock);
+  }
+
+  @Test
+  void testTopIssuesForDayAndMonth() {
+    assertEquals(List.of(Map.entry(2L, 2), Map.entry(3L, 1)),
+        hotIssueTracker.top(PROJECT_ID, HotIssueTracker.Window.DAY, 3));
+    assertEquals(List.of(Map.entry(1L, 5), Map.entry(2L, 5)),
+        hotIssueTracker.top(PROJECT_ID, HotIssueTracker.Window.MONTH, 2));
+
+    // 두 번째 조회부터는 메모리 집계 사용
+    verify(issueCommentDailyRepository, times(1)).findCountsSince(PROJECT_ID, TODAY.withDayOfMonth(1));
+  }
+
+  @Test
+  void testAddedCommentsChangeRanking() {
+    hotIssueTracker.top(PROJECT_ID, HotIssueTracker.Window.DAY, 1);
+
+    when(issueCommentDailyRepository.findCounts(PROJECT_ID, List.of(3L), TODAY))
+        .thenReturn(List.<Object[]>of(new Object[]{3L, 5}));
+    hotIssueTracker.commentsAdded(PROJECT_ID, 3L, 4);
+
+    verify(issueCommentDailyRepository, times(1)).add(PROJECT_ID, 3L, TODAY, 4);
+    assertEquals(List.of(Map.entry(3L, 5)), hotIssueTracker.top(PROJECT_ID, HotIssueTracker.Window.DAY, 1));
+    // 코멘트 수가 같으면 issue_id 오름차순
+    assertEquals(List.of(Map.entry(1L, 5), Map.entry(2L, 5), Map.entry(3L, 5)),
+        hotIssueTracker.top(PROJECT_ID, HotIssueTracker.Window.MONTH, 3));
+  }
+
+  @Test
+  void testNoCommentsIsNotRecorded() {
+    hotIssueTracker.commentsAdded(PROJECT_ID, 3L, 0);
+
+    verifyNoInteractions(issueCommentDailyRepository);
+  }
+
+  @Test
+  void testSmallerKReusesComputedRanking() {
+    assertEquals(List.of(Map.entry(1L, 5), Map.entry(2L, 5), Map.entry(3L, 1)),
+        hotIssueTracker.top(PROJECT_ID, HotIssueTracker.Window.MONTH, 5));
+
+    assertEquals(List.of(Map.entry(1L, 5)), hotIssueTracker.top(PROJECT_ID, HotIssueTracker.Window.MONTH, 1));
+  }
+
+  @Test
+  void testStaleCountsAreReloadedInBackground() {
+    hotIssueTracker.top(PROJECT_ID, HotIssueTracker.Window.DAY, 3);
+    clock.advance(Duration.ofMinutes(6));
+
+    // 다시 읽는 동안에는 기존 집계로 응답
+    assertEquals(List.of(Map.entry(2L, 2), Map.entry(3L, 1)),
+        hotIssueTracker.top(PROJECT_ID, HotIssueTracker.Window.DAY, 3));
+    assertEquals(1, tasks.size());
+    verify(issueCommentDailyRepository, times(1)).findCountsSince(PROJECT_ID, TODAY.withDayOfMonth(1));
+
+    tasks.remove(0).run();
+    verify(issueCommentDailyRepository, times(2)).findCountsSince(PROJECT_ID, TODAY.withDayOfMonth(1));
+  }
+
+  @Test
+  void testCommentCommittedDuringReloadIsCountedOnce() {
+    hotIssueTracker.top(PROJECT_ID, HotIssueTracker.Window.DAY, 3);
+    clock.advance(Duration.ofMinutes(6));
+    hotIssueTracker.top(PROJECT_ID, HotIssueTracker.Window.DAY, 3);
+
+    // 재구성이 일별 집계를 읽는 동안 이슈 3에 코멘트 2개가 commit되고, 읽은 집계에도 포함됨
+    when(issueCommentDailyRepository.findCounts(PROJECT_ID, List.of(3L), TODAY))
+        .thenReturn(List.<Object[]>of(new Object[]{3L, 3}));
+    when(issueCommentDailyRepository.findCountsSince(PROJECT_ID, TODAY.withDayOfMonth(1))).thenAnswer(invocation -> {
+      hotIssueTracker.commentsAdded(PROJECT_ID, 3L, 2);
+      return List.of(
+          new Object[]{1L, TODAY.withDayOfMonth(2), 5},
+          new Object[]{2L, TODAY.withDayOfMonth(10), 3},
+          new Object[]{2L, TODAY, 2},
+          new Object[]{3L, TODAY, 3});
+    });
+    tasks.remove(0).run();
+
+    assertEquals(List.of(Map.entry(3L, 3), Map.entry(2L, 2)),
+        hotIssueTracker.top(PROJECT_ID, HotIssueTracker.Window.DAY, 3));
+    assertEquals(List.of(Map.entry(1L, 5), Map.entry(2L, 5), Map.entry(3L, 3)),
+        hotIssueTracker.top(PROJECT_ID, HotIssueTracker.Window.MONTH, 3));
+  }
+}
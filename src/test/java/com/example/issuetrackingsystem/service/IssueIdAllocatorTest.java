@@ -0,0 +1,152 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.repository.IssueSequenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class IssueIdAllocatorTest {
+
+  private static final Long PROJECT_ID = 1L;
+  private static final int THREADS = 8;
+  private static final int ISSUES_PER_THREAD = 20_000;
+
+  private IssueSequenceRepository issueSequenceRepository;
+  private PlatformTransactionManager transactionManager;
+
+  // issue_sequence row 하나와 그 row lock을 흉내냄
+  private final AtomicBoolean initialized = new AtomicBoolean();
+  private final AtomicLong nextId = new AtomicLong();
+  private final ReentrantLock rowLock = new ReentrantLock();
+  private final AtomicLong reserveCount = new AtomicLong();
+
+  @BeforeEach
+  void setUp() {
+    issueSequenceRepository = mock(IssueSequenceRepository.class);
+    when(issueSequenceRepository.advance(eq(PROJECT_ID), anyLong())).thenAnswer(invocation -> {
+      if (!initialized.get()) {
+        return 0;
+      }
+      reserveCount.incrementAndGet();
+      nextId.addAndGet(invocation.getArgument(1, Long.class));
+      return 1;
+    });
+    when(issueSequenceRepository.initialize(PROJECT_ID)).thenAnswer(invocation -> {
+      if (initialized.compareAndSet(false, true)) {
+        nextId.set(1);
+        return 1;
+      }
+      return 0;
+    });
+    when(issueSequenceRepository.findNextId(PROJECT_ID)).thenAnswer(invocation -> nextId.get());
+
+    transactionManager = new PlatformTransactionManager() {
+      @Override
+      public TransactionStatus getTransaction(TransactionDefinition definition) {
+        rowLock.lock();
+        return new SimpleTransactionStatus();
+      }
+
+      @Override
+      public void commit(TransactionStatus status) {
+        rowLock.unlock();
+      }
+
+      @Override
+      public void rollback(TransactionStatus status) {
+        rowLock.unlock();
+      }
+    };
+  }
+
+  @Test
+  void testAllocateWithoutBlockCacheIsDense() {
+    IssueIdAllocator allocator = new IssueIdAllocator(issueSequenceRepository, transactionManager, 1);
+
+    for (long expected = 1; expected <= 100; expected++) {
+      assertEquals(expected, allocator.allocate(PROJECT_ID));
+    }
+  }
+
+  @Test
+  void testConcurrentAllocationHasNoCollision(TestReporter testReporter) throws Exception {
+    IssueIdAllocator allocator = new IssueIdAllocator(issueSequenceRepository, transactionManager, 100);
+
+    long startedAt = System.nanoTime();
+    Set<Long> issued = runConcurrently(List.of(allocator));
+    long elapsed = System.nanoTime() - startedAt;
+
+    int total = THREADS * ISSUES_PER_THREAD;
+    assertEquals(total, issued.size());
+    // 모든 블록을 끝까지 사용했으므로 1..total이 빈 번호 없이 발급됨
+    for (long id = 1; id <= total; id++) {
+      assertTrue(issued.contains(id));
+    }
+    assertEquals(total / 100, reserveCount.get());
+    // 처리량은 검증하지 않고 테스트 리포트에만 남김 (mock repository 기준이므로 DB 처리량과 다름)
+    testReporter.publishEntry("ops/s", String.valueOf(total * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsed, 1)));
+  }
+
+  @Test
+  void testConcurrentAllocationAcrossNodesHasNoCollision() throws Exception {
+    // 같은 issue_sequence row를 공유하는 서버 두 대
+    IssueIdAllocator node1 = new IssueIdAllocator(issueSequenceRepository, transactionManager, 50);
+    IssueIdAllocator node2 = new IssueIdAllocator(issueSequenceRepository, transactionManager, 50);
+
+    Set<Long> issued = runConcurrently(List.of(node1, node2));
+
+    assertEquals(THREADS * ISSUES_PER_THREAD, issued.size());
+  }
+
+  private Set<Long> runConcurrently(List<IssueIdAllocator> allocators) throws Exception {
+    Set<Long> issued = ConcurrentHashMap.newKeySet();
+    AtomicLong collisions = new AtomicLong();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) {
+      IssueIdAllocator allocator = allocators.get(t % allocators.size());
+      futures.add(executor.submit(() -> {
+        start.await();
+        for (int i = 0; i < ISSUES_PER_THREAD; i++) {
+          if (!issued.add(allocator.allocate(PROJECT_ID))) {
+            collisions.incrementAndGet();
+          }
+        }
+        return null;
+      }));
+    }
+
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get(60, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+
+    assertEquals(0, collisions.get());
+    return issued;
+  }
+}
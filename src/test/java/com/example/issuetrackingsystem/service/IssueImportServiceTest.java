@@ -0,0 +1,194 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.domain.Account;
+import com.example.issuetrackingsystem.domain.Comment;
+import com.example.issuetrackingsystem.domain.Issue;
+import com.example.issuetrackingsystem.domain.enums.IssueKeyword;
+import com.example.issuetrackingsystem.domain.enums.IssuePriority;
+import com.example.issuetrackingsystem.domain.enums.IssueStatus;
+import com.example.issuetrackingsystem.domain.enums.ProjectAccountRole;
+import com.example.issuetrackingsystem.domain.enums.ProjectStatus;
+import com.example.issuetrackingsystem.dto.IssueImportResponse;
+import com.example.issuetrackingsystem.exception.ErrorCode;
+import com.example.issuetrackingsystem.exception.ITSException;
+import com.example.issuetrackingsystem.repository.CommentRepository;
+import com.example.issuetrackingsystem.repository.IssueRepository;
+import com.example.issuetrackingsystem.repository.ProjectRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class IssueImportServiceTest {
+
+  private static final Long PROJECT_ID = 1L;
+  private static final Long PL_ID = 2L;
+
+  private IssueRepository issueRepository;
+  private CommentRepository commentRepository;
+  private IssueIdAllocator issueIdAllocator;
+  private ProjectIssueCounter projectIssueCounter;
+  private IssueDailyStatRecorder issueDailyStatRecorder;
+  private ProjectMembershipIndex projectMembershipIndex;
+  private AccountCache accountCache;
+  private IssueImportTracker issueImportTracker;
+  private IssueImportService issueImportService;
+
+  private final List<Issue> insertedIssues = new ArrayList<>();
+  private final List<Comment> insertedComments = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    issueRepository = mock(IssueRepository.class);
+    commentRepository = mock(CommentRepository.class);
+    issueIdAllocator = mock(IssueIdAllocator.class);
+    projectIssueCounter = mock(ProjectIssueCounter.class);
+    issueDailyStatRecorder = mock(IssueDailyStatRecorder.class);
+    projectMembershipIndex = mock(ProjectMembershipIndex.class);
+    accountCache = mock(AccountCache.class);
+    issueImportTracker = new IssueImportTracker();
+
+    issueImportService = new IssueImportServiceImpl(issueRepository, commentRepository, mock(ProjectRepository.class),
+        issueIdAllocator, projectIssueCounter, issueDailyStatRecorder, mock(ProjectTrendCache.class),
+        projectMembershipIndex, accountCache, mock(IssueTextIndex.class), mock(IssueTitleSuggester.class),
+        mock(AssigneeRecommender.class), mock(SimilarIssueIndex.class), issueImportTracker,
+        mock(ProjectChangeFeed.class), mock(ProjectVersions.class), new ObjectMapper(),
+        mock(PlatformTransactionManager.class), 2);
+
+    when(projectMembershipIndex.project(PROJECT_ID)).thenReturn(Optional.of(new ProjectMembershipIndex.ProjectSummary(
+        PROJECT_ID, "Project 1", "Description", LocalDateTime.now(), ProjectStatus.IN_PROGRESS, Collections.emptyMap())));
+    when(projectMembershipIndex.role(PROJECT_ID, PL_ID)).thenReturn(Optional.of(ProjectAccountRole.PL));
+
+    Map<String, Account> accounts = new HashMap<>();
+    accounts.put("tester1", Account.builder().accountId(3L).username("tester1").build());
+    accounts.put("dev1", Account.builder().accountId(4L).username("dev1").build());
+    when(accountCache.findAll(anyCollection())).thenAnswer(invocation -> {
+      Map<String, Account> found = new HashMap<>();
+      for (Object username : invocation.getArgument(0, Collection.class)) {
+        if (accounts.containsKey(username)) {
+          found.put((String) username, accounts.get(username));
+        }
+      }
+      return found;
+    });
+
+    // chunk마다 다음 번호부터 예약
+    long[] nextId = {11};
+    when(issueIdAllocator.allocateRange(eq(PROJECT_ID), anyInt())).thenAnswer(invocation -> {
+      long first = nextId[0];
+      nextId[0] += invocation.getArgument(1, Integer.class);
+      return first;
+    });
+    doAnswer(invocation -> insertedIssues.addAll(invocation.getArgument(0))).when(issueRepository).batchInsert(anyList());
+    doAnswer(invocation -> insertedComments.addAll(invocation.getArgument(0))).when(commentRepository).batchInsert(anyList());
+  }
+
+  @Test
+  void testImportNdjsonInChunks() {
+    String body = "{\"title\":\"Login fails\",\"reporter\":\"tester1\",\"dueDate\":\"2024-06-30\",\"keyword\":\"bug\","
+        + "\"priority\":1,\"reportedDate\":\"2024-05-01 09:30:00\","
+        + "\"comments\":[{\"author\":\"dev1\",\"content\":\"Looking into it\"},{\"author\":\"tester1\",\"content\":\"Thanks\"}]}\n"
+        + "{\"title\":\"Unknown reporter\",\"reporter\":\"ghost\",\"dueDate\":\"2024-06-30\"}\n"
+        + "\n"
+        + "{\"title\":\"Fixed already\",\"reporter\":\"tester1\",\"dueDate\":\"2024-06-30\",\"status\":\"FIXED\","
+        + "\"assignee\":\"dev1\",\"fixer\":\"dev1\"}\n";
+
+    IssueImportResponse response = issueImportService.importIssues(PL_ID, PROJECT_ID, "application/x-ndjson", stream(body));
+
+    assertEquals("DONE", response.getStatus());
+    assertEquals(3, response.getReadCount());
+    assertEquals(2, response.getImportedIssueCount());
+    assertEquals(2, response.getImportedCommentCount());
+    assertEquals(1, response.getFailedCount());
+    assertEquals(List.of("line 2: reporter 'ghost' does not exist"), response.getErrors());
+
+    // 첫 chunk(2건)에서 1건, 두 번째 chunk에서 1건
+    verify(issueIdAllocator, times(2)).allocateRange(PROJECT_ID, 1);
+    assertEquals(List.of(11L, 12L), insertedIssues.stream().map(issue -> issue.getId().getIssueId()).toList());
+
+    Issue first = insertedIssues.get(0);
+    assertEquals(IssueKeyword.BUG, first.getKeyword());
+    assertEquals(IssuePriority.CRITICAL, first.getPriority());
+    assertEquals(IssueStatus.NEW, first.getStatus());
+    assertEquals(LocalDateTime.of(2024, 5, 1, 9, 30), first.getReportedDate());
+    assertEquals(LocalDate.of(2024, 6, 30), first.getDueDate());
+    assertEquals(4L, insertedIssues.get(1).getFixer().getAccountId());
+
+    assertEquals(List.of(1L, 2L), insertedComments.stream().map(comment -> comment.getId().getCommentId()).toList());
+    assertEquals(11L, insertedComments.get(0).getId().getIssueId().getIssueId());
+    assertEquals("dev1", insertedComments.get(0).getAccount().getUsername());
+
+    verify(projectIssueCounter, times(1)).rebuild(PROJECT_ID);
+    verify(issueDailyStatRecorder, times(1)).backfill(PROJECT_ID);
+    assertEquals(1, issueImportTracker.imports(PROJECT_ID).size());
+  }
+
+  @Test
+  void testImportCsvWithCommentRows() {
+    String body = "type,title,description,reporter,dueDate,author,content,date\r\n"
+        + "issue,\"Crash, on save\",\"first line\nsecond \"\"quoted\"\" line\",tester1,2024-06-30,,,\r\n"
+        + "comment,,,,,dev1,Reproduced,2024-05-02T10:00:00\r\n"
+        + "comment,,,,,tester1,\"Also on Linux, too\",\r\n"
+        + "issue,No due date,,tester1,,,,\r\n";
+
+    IssueImportResponse response = issueImportService.importIssues(1L, PROJECT_ID, "text/csv; charset=UTF-8", stream(body));
+
+    assertEquals(1, response.getImportedIssueCount());
+    assertEquals(2, response.getImportedCommentCount());
+    assertEquals(List.of("line 6: dueDate is required"), response.getErrors());
+
+    assertEquals("Crash, on save", insertedIssues.get(0).getTitle());
+    assertEquals("first line\nsecond \"quoted\" line", insertedIssues.get(0).getDescription());
+    assertEquals(LocalDateTime.of(2024, 5, 2, 10, 0), insertedComments.get(0).getDate());
+    assertEquals("Also on Linux, too", insertedComments.get(1).getContent());
+    assertNull(insertedComments.get(1).getDate());
+  }
+
+  @Test
+  void testMalformedBodyStopsImportAndKeepsCommittedChunks() {
+    String body = "{\"title\":\"One\",\"reporter\":\"tester1\",\"dueDate\":\"2024-06-30\"}\n"
+        + "{\"title\":\"Two\",\"reporter\":\"tester1\",\"dueDate\":\"2024-06-30\"}\n"
+        + "{\"title\":\"Three\",\"reporter\":\n";
+
+    ITSException exception = assertThrows(ITSException.class,
+        () -> issueImportService.importIssues(PL_ID, PROJECT_ID, "application/x-ndjson", stream(body)));
+
+    assertEquals(ErrorCode.ISSUE_IMPORT_BAD_REQUEST, exception.getErrorCode());
+    IssueImportResponse progress = issueImportService.findImports(PL_ID, PROJECT_ID).get(0);
+    assertEquals("FAILED", progress.getStatus());
+    assertEquals(2, progress.getImportedIssueCount());
+    verify(projectIssueCounter, times(1)).rebuild(PROJECT_ID);
+  }
+
+  @Test
+  void testOnlyAdminOrProjectLeaderCanImport() {
+    when(projectMembershipIndex.role(PROJECT_ID, 5L)).thenReturn(Optional.of(ProjectAccountRole.dev));
+
+    ITSException exception = assertThrows(ITSException.class,
+        () -> issueImportService.importIssues(5L, PROJECT_ID, "application/x-ndjson", stream("")));
+
+    assertEquals(ErrorCode.ISSUE_IMPORT_FORBIDDEN, exception.getErrorCode());
+    verifyNoInteractions(issueRepository, issueIdAllocator);
+  }
+
+  private static InputStream stream(String body) {
+    return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,56 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.domain.enums.IssueStatus;
+import com.example.issuetrackingsystem.repository.IssueRepository;
+import com.example.issuetrackingsystem.repository.IssueSearchFilter;
+import com.example.issuetrackingsystem.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class IssueSearchCountsTest {
+
+  private IssueRepository issueRepository;
+  private ProjectRepository projectRepository;
+  private final AtomicLong nanos = new AtomicLong();
+  private IssueSearchCounts issueSearchCounts;
+
+  @BeforeEach
+  void setUp() {
+    issueRepository = mock(IssueRepository.class);
+    projectRepository = mock(ProjectRepository.class);
+    issueSearchCounts = new IssueSearchCounts(issueRepository, projectRepository, 100, Duration.ofMinutes(5),
+        nanos::get);
+  }
+
+  @Test
+  void testSameFilterIsCountedOncePerVersion() {
+    when(projectRepository.findVersion(1L)).thenReturn(Optional.of(3L));
+    when(issueRepository.countSearch(eq(1L), any(IssueSearchFilter.class))).thenReturn(42L);
+
+    // 페이지마다 새로 만든 조건이어도 값이 같으면 같은 entry
+    assertEquals(42L, issueSearchCounts.count(1L, IssueSearchFilter.builder().status(IssueStatus.NEW).build()));
+    assertEquals(42L, issueSearchCounts.count(1L, IssueSearchFilter.builder().status(IssueStatus.NEW).build()));
+    verify(issueRepository, times(1)).countSearch(eq(1L), any(IssueSearchFilter.class));
+
+    issueSearchCounts.count(1L, IssueSearchFilter.builder().status(IssueStatus.FIXED).build());
+    verify(issueRepository, times(2)).countSearch(eq(1L), any(IssueSearchFilter.class));
+  }
+
+  @Test
+  void testVersionChangeCountsAgain() {
+    IssueSearchFilter filter = IssueSearchFilter.builder().status(IssueStatus.NEW).build();
+    when(projectRepository.findVersion(1L)).thenReturn(Optional.of(3L), Optional.of(4L));
+    when(issueRepository.countSearch(1L, filter)).thenReturn(42L, 43L);
+
+    assertEquals(42L, issueSearchCounts.count(1L, filter));
+    assertEquals(43L, issueSearchCounts.count(1L, filter));
+  }
+}
@@ -4,15 +4,19 @@ import com.example.issuetrackingsystem.domain.*;
 import com.example.issuetrackingsystem.domain.enums.*;
 import com.example.issuetrackingsystem.domain.key.*;
 import com.example.issuetrackingsystem.dto.*;
+import com.example.issuetrackingsystem.exception.ErrorCode;
+import com.example.issuetrackingsystem.exception.ITSException;
 import com.example.issuetrackingsystem.repository.*;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.*;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -24,13 +28,41 @@ class IssueServiceTest {
   @Mock
   private IssueRepository issueRepository;
   @Mock
-  private ProjectAccountRepository projectAccountRepository;
-  @Mock
   private AccountRepository accountRepository;
   @Mock
   private ProjectRepository projectRepository;
   @Mock
   private CommentRepository commentRepository;
+  @Mock
+  private IssueIdAllocator issueIdAllocator;
+  @Mock
+  private CommentIdAllocator commentIdAllocator;
+  @Mock
+  private ProjectIssueCounter projectIssueCounter;
+  @Mock
+  private IssueDailyStatRecorder issueDailyStatRecorder;
+  @Mock
+  private ProjectTrendCache projectTrendCache;
+  @Mock
+  private HotIssueTracker hotIssueTracker;
+  @Mock
+  private ProjectMembershipIndex projectMembershipIndex;
+  @Mock
+  private AccountCache accountCache;
+  @Mock
+  private IssueTextIndex issueTextIndex;
+  @Mock
+  private IssueTitleSuggester issueTitleSuggester;
+  @Mock
+  private AssigneeRecommender assigneeRecommender;
+  @Mock
+  private SimilarIssueIndex similarIssueIndex;
+  @Mock
+  private ProjectChangeFeed projectChangeFeed;
+  @Mock
+  private ProjectVersions projectVersions;
+  @Mock
+  private IssueSearchCounts issueSearchCounts;
 
   @InjectMocks
   private IssueServiceImpl issueService;
@@ -109,9 +141,8 @@ class IssueServiceTest {
 
   @Test
   void testAddIssue() {
-    when(projectAccountRepository.findById(any(ProjectAccountPK.class))).thenReturn(
-        Optional.of(projectAccountBuilder.build()));
-    when(issueRepository.findMaxIdByProjectId(projectId)).thenReturn(issueId);
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.of(projectAccountBuilder.build().getRole()));
+    when(issueIdAllocator.allocate(projectId)).thenReturn(issueId + 1);
     when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
     when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
 
@@ -119,14 +150,16 @@ class IssueServiceTest {
 
     assertEquals("/projects/" + projectId + "/issues/" + (issueId + 1), issueUrl);
     verify(issueRepository, times(1)).save(any(Issue.class));
-    verify(projectRepository, times(1)).save(any(Project.class));
+    verify(projectIssueCounter, times(1)).issueOpened(projectId);
+    verify(issueDailyStatRecorder, times(1)).issueReported(projectId);
+    verify(projectTrendCache, times(1)).invalidate(projectId);
+    verify(projectRepository, never()).save(any(Project.class));
   }
 
   @Test
   void testModifyIssue() {
     // ProjectAccount가 존재하는지 확인
-    when(projectAccountRepository.findById(any(ProjectAccountPK.class))).thenReturn(
-        Optional.of(projectAccountBuilder.build()));
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.of(projectAccountBuilder.build().getRole()));
 
     // AccountRepository에서 계정을 가져오는지 확인
     when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
@@ -134,71 +167,378 @@ class IssueServiceTest {
     // IssueRepository에서 이슈를 가져오는지 확인
     when(issueRepository.findById(any(IssuePK.class))).thenReturn(Optional.of(issue));
 
-    // ProjectRepository에서 프로젝트를 가져오는지 확인
-    when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
-
     // modifyIssue 호출
     assertDoesNotThrow(
         () -> issueService.modifyIssue(accountId, projectId, issueId, modifyIssueRequest));
 
     // IssueRepository의 save 메서드가 한 번 호출되는지 확인
     verify(issueRepository, times(1)).save(any(Issue.class));
+    verifyNoInteractions(projectIssueCounter, issueDailyStatRecorder);
+  }
+
+  @Test
+  void testModifyIssueQueryCount() {
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.of(projectAccountBuilder.build().getRole()));
+    when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+    when(issueRepository.findById(any(IssuePK.class))).thenReturn(Optional.of(issue));
+    when(commentIdAllocator.allocate(any(IssuePK.class), eq(5))).thenReturn(3L);
+
+    // 5개 필드를 한 번에 수정하면 변경 내역 코멘트 5개 생성
+    ModifyIssueRequest multiFieldRequest = ModifyIssueRequest.builder()
+        .title("Updated Issue")
+        .description("Updated Description")
+        .keyword(1)
+        .priority(1)
+        .dueDate(LocalDate.now().plusDays(7).toString())
+        .build();
+
+    issueService.modifyIssue(accountId, projectId, issueId, multiFieldRequest);
+
+    // id는 한 번에 예약하고 코멘트에 순서대로 번호를 매김
+    verify(commentIdAllocator, times(1)).allocate(any(IssuePK.class), eq(5));
+    verify(commentIdAllocator, never()).allocate(any(IssuePK.class));
+    verify(commentRepository, times(1)).batchInsert(argThat(comments -> comments.size() == 5
+        && comments.get(0).getId().getCommentId() == 3L && comments.get(4).getId().getCommentId() == 7L));
+    verify(projectMembershipIndex, times(1)).role(projectId, accountId);
+    verify(accountRepository, times(1)).findById(accountId);
+    verify(issueRepository, times(1)).findById(any(IssuePK.class));
+    // 실제 SQL 수는 IssueQueryCountTest에서 검증
+    verify(commentRepository, never()).persist(any(Comment.class));
+  }
+
+  @Test
+  void testModifyIssueCloseUpdatesProjectCounter() {
+    projectAccountBuilder.role(ProjectAccountRole.PL);
+    Issue resolvedIssue = Issue.builder()
+        .id(issue.getId())
+        .title(issue.getTitle())
+        .reporter(account)
+        .manager(account)
+        .reportedDate(LocalDateTime.now())
+        .dueDate(LocalDate.now())
+        .priority(IssuePriority.CRITICAL)
+        .status(IssueStatus.RESOLVED)
+        .build();
+
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.of(projectAccountBuilder.build().getRole()));
+    when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+    when(issueRepository.findById(any(IssuePK.class))).thenReturn(Optional.of(resolvedIssue));
+
+    issueService.modifyIssue(accountId, projectId, issueId,
+        ModifyIssueRequest.builder().status(IssueStatus.CLOSED.ordinal()).build());
+
+    verify(projectIssueCounter, times(1)).issueClosed(projectId);
+    verify(issueDailyStatRecorder, times(1)).issueClosed(eq(projectId), any(LocalDateTime.class));
+    verify(projectRepository, never()).save(any(Project.class));
+  }
+
+  @Test
+  void testModifyIssuesClosesValidIssuesInOneUpdate() {
+    projectAccountBuilder.role(ProjectAccountRole.PL);
+    Issue resolved1 = issueWithStatus(1L, IssueStatus.RESOLVED);
+    Issue resolved2 = issueWithStatus(2L, IssueStatus.RESOLVED);
+    Issue newIssue = issueWithStatus(3L, IssueStatus.NEW);
+
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.of(projectAccountBuilder.build().getRole()));
+    when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+    when(issueRepository.findAllForUpdate(projectId, List.of(1L, 2L, 3L, 4L)))
+        .thenReturn(List.of(resolved1, resolved2, newIssue));
+    when(commentIdAllocator.allocateEach(projectId, List.of(1L, 2L))).thenReturn(Map.of(1L, 7L, 2L, 1L));
+
+    List<BulkModifyIssueResponse> results = issueService.modifyIssues(accountId, projectId,
+        BulkModifyIssueRequest.builder()
+            .issueIds(List.of(1L, 2L, 3L, 4L, 1L))
+            .status(IssueStatus.CLOSED.ordinal())
+            .build());
+
+    assertEquals(List.of(true, true, false, false), results.stream().map(BulkModifyIssueResponse::getSuccess).toList());
+    assertEquals(ErrorCode.ISSUE_UPDATE_BAD_REQUEST.getMessage(), results.get(2).getMessage());
+    assertEquals(ErrorCode.ISSUE_NOT_FOUND.getMessage(), results.get(3).getMessage());
+
+    verify(issueRepository, times(1)).updateStatusAndClosedDate(eq(projectId), eq(List.of(1L, 2L)),
+        eq(IssueStatus.CLOSED), any(LocalDateTime.class));
+    verify(issueRepository, never()).save(any(Issue.class));
+    verify(projectIssueCounter, times(1)).issuesClosed(projectId, 2);
+    verify(issueDailyStatRecorder, times(1)).issuesClosed(eq(projectId), any(LocalDateTime.class), eq(2));
+    verify(commentRepository, times(1)).batchInsert(argThat(comments -> comments.size() == 2
+        && comments.get(0).getId().getCommentId() == 7L
+        && comments.get(0).getContent().equals("user closed this.")));
+    verify(hotIssueTracker, times(1)).commentAddedToEach(projectId, List.of(1L, 2L));
+    verify(projectTrendCache, times(1)).invalidate(projectId);
+  }
+
+  @Test
+  void testModifyIssuesAssignsNewIssues() {
+    projectAccountBuilder.role(ProjectAccountRole.PL);
+    Account dev = Account.builder()
+        .accountId(5L)
+        .username("dev")
+        .build();
+
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.of(projectAccountBuilder.build().getRole()));
+    when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+    when(accountCache.find("dev")).thenReturn(Optional.of(dev));
+    when(projectMembershipIndex.role(projectId, 5L)).thenReturn(Optional.of(ProjectAccountRole.dev));
+    when(issueRepository.findAllForUpdate(projectId, List.of(issueId))).thenReturn(List.of(issue));
+    when(commentIdAllocator.allocateEach(projectId, List.of(issueId))).thenReturn(Map.of(issueId, 1L));
+
+    List<BulkModifyIssueResponse> results = issueService.modifyIssues(accountId, projectId,
+        BulkModifyIssueRequest.builder()
+            .issueIds(List.of(issueId))
+            .assignee("dev")
+            .build());
+
+    assertTrue(results.get(0).getSuccess());
+    verify(issueRepository, times(1)).updateAssignee(projectId, List.of(issueId), IssueStatus.ASSIGNED, dev, account);
+    verifyNoInteractions(projectIssueCounter, issueDailyStatRecorder, similarIssueIndex);
+  }
+
+  @Test
+  void testModifyIssuesRejectsMoreThanOneChange() {
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.of(projectAccountBuilder.build().getRole()));
+    when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+
+    ITSException exception = assertThrows(ITSException.class, () -> issueService.modifyIssues(accountId, projectId,
+        BulkModifyIssueRequest.builder()
+            .issueIds(List.of(issueId))
+            .assignee("dev")
+            .status(IssueStatus.FIXED.ordinal())
+            .build()));
+
+    assertEquals(ErrorCode.ISSUE_UPDATE_BAD_REQUEST, exception.getErrorCode());
+    verify(issueRepository, never()).findAllForUpdate(any(), any());
+  }
+
+  private Issue issueWithStatus(Long id, IssueStatus status) {
+    return Issue.builder()
+        .id(IssuePK.builder()
+            .issueId(id)
+            .projectId(projectId)
+            .build())
+        .title("Issue " + id)
+        .reporter(account)
+        .manager(account)
+        .reportedDate(LocalDateTime.now())
+        .dueDate(LocalDate.now())
+        .priority(IssuePriority.CRITICAL)
+        .status(status)
+        .build();
   }
 
   @Test
   void testFindIssue() {
     projectAccountBuilder.role(ProjectAccountRole.PL);
-    when(projectAccountRepository.findById(any(ProjectAccountPK.class))).thenReturn(Optional.of(projectAccountBuilder.build()));
-    when(issueRepository.findById(any(IssuePK.class))).thenReturn(Optional.of(issue));
-    when(commentRepository.findByIssue(any(Issue.class))).thenReturn(Optional.of(Collections.emptyList()));
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.of(projectAccountBuilder.build().getRole()));
+    when(issueRepository.findWithAccountsById(any(IssuePK.class))).thenReturn(Optional.of(issue));
+    when(commentRepository.findLatestPageByIssue(eq(projectId), eq(issueId), eq(Long.MAX_VALUE), any(Pageable.class)))
+        .thenReturn(Collections.emptyList());
 
-    DetailsIssueResponse issueResponse = issueService.findIssue(accountId, projectId, issueId);
+    DetailsIssueResponse issueResponse = issueService.findIssue(accountId, projectId, issueId, null, null);
 
     assertNotNull(issueResponse);
     assertEquals(issueId, issueResponse.getId());
+    assertNull(issueResponse.getNextCommentCursor());
+  }
+
+  @Test
+  void testIssueETagReadsOnlyIssueVersion() {
+    ProjectAccountRole role = projectAccountBuilder.build().getRole();
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.of(role));
+    when(issueRepository.findVersion(projectId, issueId)).thenReturn(Optional.of(7L));
+
+    String tag = issueService.issueETag(accountId, projectId, issueId, null, null);
+
+    assertTrue(tag.startsWith(issueId + "-7-" + role.ordinal() + "-"));
+    // 같은 이슈라도 코멘트 페이지가 다르면 다른 ETag
+    assertNotEquals(tag, issueService.issueETag(accountId, projectId, issueId, 40L, null));
+    assertNotEquals(tag, issueService.issueETag(accountId, projectId, issueId, null, 50));
+    // hash가 같은 (1, 32)와 (2, 1)도 구분
+    assertNotEquals(issueService.issueETag(accountId, projectId, issueId, 1L, 32),
+        issueService.issueETag(accountId, projectId, issueId, 2L, 1));
+    verifyNoInteractions(projectRepository, commentRepository);
+  }
+
+  @Test
+  void testIssueETagForMissingIssueIsNotFound() {
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.of(projectAccountBuilder.build().getRole()));
+    when(issueRepository.findVersion(projectId, 99L)).thenReturn(Optional.empty());
+
+    ITSException exception = assertThrows(ITSException.class,
+        () -> issueService.issueETag(accountId, projectId, 99L, null, null));
+
+    assertEquals(ErrorCode.ISSUE_NOT_FOUND, exception.getErrorCode());
+  }
+
+  @Test
+  void testIssueETagRequiresMembership() {
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.empty());
+
+    ITSException exception = assertThrows(ITSException.class,
+        () -> issueService.issueETag(accountId, projectId, issueId, null, null));
+
+    assertEquals(ErrorCode.ISSUE_DETAILS_FORBIDDEN, exception.getErrorCode());
+    verify(issueRepository, never()).findVersion(any(), any());
   }
 
   @Test
   void testAddComment() {
-    when(projectAccountRepository.findById(any(ProjectAccountPK.class))).thenReturn(Optional.of(projectAccountBuilder.build()));
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.of(projectAccountBuilder.build().getRole()));
     when(issueRepository.findById(any(IssuePK.class))).thenReturn(Optional.of(issue));
     when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
-    when(commentRepository.findMaxIdByIssueId(issueId)).thenReturn(1L);
+    when(commentIdAllocator.allocate(any(IssuePK.class))).thenReturn(2L);
 
     AddCommentRequest addCommentRequest = AddCommentRequest.builder().content("Test Comment").build();
-    List<AddCommentResponse> comments = issueService.addComment(accountId, projectId, issueId, addCommentRequest);
+    List<AddCommentResponse> comments = issueService.addComment(accountId, projectId, issueId, addCommentRequest,
+        null, null, false);
 
     assertNotNull(comments);
-    verify(commentRepository, times(1)).save(any(Comment.class));
+    verify(commentRepository, times(1)).persist(any(Comment.class));
+    verify(hotIssueTracker, times(1)).commentsAdded(projectId, issueId, 1);
+    verify(issueRepository, times(1)).bumpVersion(projectId, issueId);
+    // 코멘트만 추가되면 프로젝트 상세는 그대로
+    verifyNoInteractions(projectVersions);
+    verify(commentRepository, never()).save(any(Comment.class));
+    verify(commentRepository, never()).findAll();
+    verify(commentRepository, times(1)).findPageByIssue(eq(projectId), eq(issueId), eq(0L), any());
+  }
+
+  @Test
+  void testAddCommentOnlyNew() {
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.of(projectAccountBuilder.build().getRole()));
+    when(issueRepository.findById(any(IssuePK.class))).thenReturn(Optional.of(issue));
+    when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+    when(commentIdAllocator.allocate(any(IssuePK.class))).thenReturn(2L);
+
+    AddCommentRequest addCommentRequest = AddCommentRequest.builder().content("Test Comment").build();
+    List<AddCommentResponse> comments = issueService.addComment(accountId, projectId, issueId, addCommentRequest,
+        null, null, true);
+
+    assertEquals(1, comments.size());
+    assertEquals(2L, comments.get(0).getId());
+    assertEquals("Test Comment", comments.get(0).getContent());
+    verify(commentRepository, never()).findPageByIssue(any(), any(), any(), any());
   }
 
   @Test
   void testSuggestAssignee() {
     projectAccountBuilder.role(ProjectAccountRole.PL);
-    when(projectAccountRepository.findById(any(ProjectAccountPK.class))).thenReturn(Optional.of(projectAccountBuilder.build()));
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.of(projectAccountBuilder.build().getRole()));
     when(issueRepository.findById(any(IssuePK.class))).thenReturn(Optional.of(issue));
 
-    Object[] assignee = new Object[]{new Object[]{"assignedDev"}};
-    when(issueRepository.findAssigneeSuggestion(projectId)).thenReturn(assignee);
-    Mockito.lenient().when(issueRepository.findAssigneeSuggestionByKeyword(eq(projectId), any(IssueKeyword.class))).thenReturn(assignee);
+    when(similarIssueIndex.nearestFixers(projectId, issueId, issue.getTitle(), issue.getDescription(), 10))
+        .thenReturn(Map.of(3L, 1.0));
+    when(assigneeRecommender.recommend(projectId, issue.getKeyword(), Map.of(3L, 1.0), 3)).thenReturn(List.of(
+        new AssigneeRecommender.Candidate(3L, "assignedDev", 4.5, 1.0, 3, 1),
+        new AssigneeRecommender.Candidate(4L, "otherDev", 0.5, 0.0, 0, 1)));
 
-    SuggestIssueAssigneeResponse response = issueService.suggestAssignee(accountId, projectId, issueId);
+    SuggestIssueAssigneeResponse response = issueService.suggestAssignee(accountId, projectId, issueId, null);
 
     assertNotNull(response);
     assertEquals("assignedDev", response.getUsername());
+    assertEquals(2, response.getCandidates().size());
+    assertEquals(3, response.getCandidates().get(0).getResolvedCount());
+    assertEquals(1.0, response.getCandidates().get(0).getSimilarity());
   }
 
   @Test
   void testSearchIssue() {
-    when(projectAccountRepository.findById(any(ProjectAccountPK.class))).thenReturn(Optional.of(projectAccountBuilder.build()));
-    when(issueRepository.findById_ProjectIdAndTitle(anyLong(), anyString())).thenReturn(Collections.singletonList(issue));
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.of(projectAccountBuilder.build().getRole()));
+    when(accountCache.findAll(List.of("user"))).thenReturn(Map.of("user", account));
+    // 전문 검색 결과 25개 중 나머지 조건에 맞는 21개, 3페이지(10개씩)에는 마지막 하나
+    List<Long> matched = LongStream.rangeClosed(1, 25).boxed().toList();
+    List<Long> filtered = LongStream.rangeClosed(1, 21).boxed().toList();
+    when(issueTextIndex.search(projectId, "Test Issue", IssueTextIndex.Field.TITLE)).thenReturn(matched);
+    when(issueRepository.filterIds(eq(projectId), any(IssueSearchFilter.class), eq(matched))).thenReturn(filtered);
+    when(issueRepository.search(eq(projectId), any(IssueSearchFilter.class), eq(0), eq(10))).thenReturn(
+        Collections.singletonList(new Object[]{21L, "Test Issue", IssueStatus.NEW, LocalDateTime.now(),
+            LocalDate.now()}));
 
     Map<String, String> searchKey = new HashMap<>();
     searchKey.put("title", "Test Issue");
+    searchKey.put("reporter", "user");
+    searchKey.put("status", "NEW");
+    searchKey.put("reportedFrom", "2024-05-01");
+    searchKey.put("page", "2");
+    searchKey.put("size", "10");
+
+    SearchIssuePageResponse searchResults = issueService.searchIssue(accountId, projectId, searchKey);
+
+    assertEquals(1, searchResults.getIssue().size());
+    assertEquals(21L, searchResults.getTotal());
+    ArgumentCaptor<IssueSearchFilter> filter = ArgumentCaptor.forClass(IssueSearchFilter.class);
+    verify(issueRepository, times(1)).filterIds(eq(projectId), filter.capture(), eq(matched));
+    assertNull(filter.getValue().getIssueIds());
+    assertEquals(accountId, filter.getValue().getReporterId());
+    assertEquals(IssueStatus.NEW, filter.getValue().getStatus());
+    assertEquals(LocalDate.of(2024, 5, 1), filter.getValue().getReportedFrom());
+    verify(issueRepository, times(1)).search(eq(projectId), filter.capture(), eq(0), eq(10));
+    assertEquals(List.of(21L), filter.getValue().getIssueIds());
+    verifyNoInteractions(issueSearchCounts);
+  }
+
+  @Test
+  void testSearchIssueByConditionsCountsFromLastPage() {
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.of(projectAccountBuilder.build().getRole()));
+    when(issueRepository.search(eq(projectId), any(IssueSearchFilter.class), eq(20), eq(10))).thenReturn(
+        Collections.singletonList(new Object[]{issueId, "Test Issue", IssueStatus.NEW, LocalDateTime.now(),
+            LocalDate.now()}));
+
+    SearchIssuePageResponse searchResults = issueService.searchIssue(accountId, projectId,
+        Map.of("status", "NEW", "page", "2", "size", "10"));
+
+    // 마지막 페이지이므로 COUNT 없이 20 + 1
+    assertEquals(1, searchResults.getIssue().size());
+    assertEquals(21L, searchResults.getTotal());
+    verify(issueRepository, never()).filterIds(any(), any(), any());
+    verifyNoInteractions(issueSearchCounts);
+  }
+
+  @Test
+  void testSearchIssueByConditionsCountsWhenPageIsFull() {
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.of(projectAccountBuilder.build().getRole()));
+    List<Object[]> rows = LongStream.rangeClosed(1, 10)
+        .mapToObj(id -> new Object[]{id, "Test Issue", IssueStatus.NEW, LocalDateTime.now(), LocalDate.now()})
+        .toList();
+    when(issueRepository.search(eq(projectId), any(IssueSearchFilter.class), eq(0), eq(10))).thenReturn(rows);
+    when(issueSearchCounts.count(eq(projectId), any(IssueSearchFilter.class))).thenReturn(35L);
+
+    SearchIssuePageResponse searchResults = issueService.searchIssue(accountId, projectId,
+        Map.of("status", "NEW", "size", "10"));
+
+    assertEquals(10, searchResults.getIssue().size());
+    assertEquals(35L, searchResults.getTotal());
+  }
+
+  @Test
+  void testSearchIssueByUnknownUserSkipsQuery() {
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.of(projectAccountBuilder.build().getRole()));
+    when(accountCache.findAll(List.of("ghost"))).thenReturn(Collections.emptyMap());
+
+    SearchIssuePageResponse searchResults = issueService.searchIssue(accountId, projectId, Map.of("assignee", "ghost"));
+
+    assertTrue(searchResults.getIssue().isEmpty());
+    assertEquals(0L, searchResults.getTotal());
+    verify(issueRepository, never()).search(any(), any(), anyInt(), anyInt());
+  }
+
+  @Test
+  void testSearchIssueWithoutTextMatchSkipsQuery() {
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.of(projectAccountBuilder.build().getRole()));
+    when(issueTextIndex.search(projectId, "nothing", IssueTextIndex.Field.ALL)).thenReturn(List.of());
+
+    SearchIssuePageResponse searchResults = issueService.searchIssue(accountId, projectId, Map.of("q", "nothing"));
+
+    assertEquals(0L, searchResults.getTotal());
+    verify(issueRepository, never()).search(any(), any(), anyInt(), anyInt());
+  }
+
+  @Test
+  void testSearchIssueRejectsUnknownKey() {
+    when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.of(projectAccountBuilder.build().getRole()));
 
-    List<SearchIssueResponse> searchResults = issueService.searchIssue(accountId, projectId, searchKey);
+    ITSException exception = assertThrows(ITSException.class,
+        () -> issueService.searchIssue(accountId, projectId, Map.of("color", "red")));
 
-    assertNotNull(searchResults);
-    assertFalse(searchResults.isEmpty());
+    assertEquals(ErrorCode.ISSUE_SEARCH_BAD_REQUEST, exception.getErrorCode());
   }
 }
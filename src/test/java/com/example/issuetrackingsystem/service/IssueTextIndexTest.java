@@ -0,0 +1,58 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.repository.IssueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class IssueTextIndexTest {
+
+  private IssueRepository issueRepository;
+  private IssueTextIndex issueTextIndex;
+
+  @BeforeEach
+  void setUp() {
+    issueRepository = mock(IssueRepository.class);
+    issueTextIndex = new IssueTextIndex(issueRepository, Duration.ofMinutes(30), Duration.ofHours(1),
+        Runnable::run, new MutableClock());
+    when(issueRepository.findTexts(1L)).thenReturn(List.of(
+        new Object[]{1L, "Login fails on Safari", "The login button does nothing."},
+        new Object[]{2L, "Search is slow", "Searching issues takes seconds after login."},
+        new Object[]{3L, "Logout link missing", null}));
+  }
+
+  @Test
+  void testTitleMatchesRankAboveDescriptionMatches() {
+    assertEquals(List.of(1L, 2L), issueTextIndex.search(1L, "login ", IssueTextIndex.Field.ALL, 10));
+    assertEquals(List.of(1L), issueTextIndex.search(1L, "login ", IssueTextIndex.Field.TITLE, 10));
+  }
+
+  @Test
+  void testSearchWithoutLimitReturnsEveryMatch() {
+    assertEquals(List.of(1L, 2L), issueTextIndex.search(1L, "login ", IssueTextIndex.Field.ALL));
+    assertEquals(List.of(1L), issueTextIndex.search(1L, "login ", IssueTextIndex.Field.ALL, 1));
+  }
+
+  @Test
+  void testAllWordsMustMatchAndLastWordIsPrefix() {
+    assertEquals(List.of(2L), issueTextIndex.search(1L, "search LOG", IssueTextIndex.Field.ALL, 10));
+    assertEquals(List.of(3L, 1L), issueTextIndex.search(1L, "log", IssueTextIndex.Field.TITLE, 10));
+    assertTrue(issueTextIndex.search(1L, "log ", IssueTextIndex.Field.TITLE, 10).isEmpty());
+  }
+
+  @Test
+  void testSavedIssueReplacesIndexedWords() {
+    issueTextIndex.search(1L, "login", IssueTextIndex.Field.ALL, 10);
+
+    issueTextIndex.issueSaved(1L, 1L, "Password reset mail", "Mail never arrives.");
+
+    assertEquals(List.of(2L), issueTextIndex.search(1L, "login ", IssueTextIndex.Field.ALL, 10));
+    assertEquals(List.of(1L), issueTextIndex.search(1L, "mail ", IssueTextIndex.Field.ALL, 10));
+    verify(issueRepository, times(1)).findTexts(1L);
+  }
+}
@@ -0,0 +1,57 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.repository.IssueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class IssueTitleSuggesterTest {
+
+  private IssueRepository issueRepository;
+  private IssueTitleSuggester issueTitleSuggester;
+
+  @BeforeEach
+  void setUp() {
+    issueRepository = mock(IssueRepository.class);
+    issueTitleSuggester = new IssueTitleSuggester(issueRepository, Duration.ofMinutes(30), Duration.ofHours(1),
+        Runnable::run, new MutableClock());
+  }
+
+  @Test
+  void testSuggestsNewestTitlesWithWordPrefix() {
+    when(issueRepository.findAllTitles(1L)).thenReturn(List.of(
+        new Object[]{1L, "Login fails on Safari"},
+        new Object[]{2L, "Search is slow"},
+        new Object[]{3L, "Safari logout link missing"}));
+
+    assertEquals(List.of(3L, 1L), List.copyOf(issueTitleSuggester.suggest(1L, "lo", 10).keySet()));
+    assertEquals(List.of(1L), List.copyOf(issueTitleSuggester.suggest(1L, "login saf", 10).keySet()));
+    assertEquals("Search is slow", issueTitleSuggester.suggest(1L, "SEA", 10).get(2L));
+    verify(issueRepository, times(1)).findAllTitles(1L);
+  }
+
+  @Test
+  void testRenamedIssueLeavesOldPrefixAndFreesSlot() {
+    List<Object[]> rows = new ArrayList<>();
+    for (long issueId = 1; issueId <= IssueTitleSuggester.NODE_CAPACITY + 1; issueId++) {
+      rows.add(new Object[]{issueId, "crash " + issueId});
+    }
+    when(issueRepository.findAllTitles(1L)).thenReturn(rows);
+    issueTitleSuggester.suggest(1L, "c", 1);
+
+    long newest = IssueTitleSuggester.NODE_CAPACITY + 1;
+    issueTitleSuggester.titleSaved(1L, newest, "freeze on save");
+
+    List<Long> crashes = List.copyOf(issueTitleSuggester.suggest(1L, "cr", 100).keySet());
+    assertEquals(IssueTitleSuggester.NODE_CAPACITY, crashes.size());
+    assertEquals(newest - 1, crashes.get(0));
+    assertEquals(1L, crashes.get(crashes.size() - 1));
+    assertEquals(List.of(newest), List.copyOf(issueTitleSuggester.suggest(1L, "fre", 10).keySet()));
+  }
+}
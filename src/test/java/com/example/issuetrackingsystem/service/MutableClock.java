@@ -0,0 +1,42 @@
+package com.example.issuetrackingsystem.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+// 테스트에서 직접 옮기는 UTC 시계 (기본 2024-06-01T00:00:00Z)
+class MutableClock extends Clock {
+
+  static final Instant START = Instant.parse("2024-06-01T00:00:00Z");
+
+  private Instant now;
+
+  MutableClock() {
+    this(START);
+  }
+
+  MutableClock(Instant now) {
+    this.now = now;
+  }
+
+  void advance(Duration duration) {
+    now = now.plus(duration);
+  }
+
+  @Override
+  public ZoneId getZone() {
+    return ZoneOffset.UTC;
+  }
+
+  @Override
+  public Clock withZone(ZoneId zone) {
+    return this;
+  }
+
+  @Override
+  public Instant instant() {
+    return now;
+  }
+}
@@ -0,0 +1,311 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.domain.ProjectChange;
+import com.example.issuetrackingsystem.domain.enums.IssueStatus;
+import com.example.issuetrackingsystem.repository.ProjectChangeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ProjectChangeFeedTest {
+
+  private static final Long PROJECT_ID = 1L;
+
+  private final List<Runnable> tasks = new ArrayList<>();
+  // project_change 테이블 (commit된 행만)
+  private final List<ProjectChange> table = new ArrayList<>();
+  private long nextChangeId = 1;
+  private final MutableClock clock = new MutableClock();
+  private ProjectChangeRepository projectChangeRepository;
+  private ProjectChangeFeed projectChangeFeed;
+
+  @BeforeEach
+  void setUp() {
+    projectChangeRepository = mock(ProjectChangeRepository.class);
+    doAnswer(invocation -> {
+      List<ProjectChange> changes = invocation.getArgument(0);
+      for (ProjectChange change : changes) {
+        table.add(change.toBuilder().id(nextChangeId++).build());
+      }
+      return null;
+    }).when(projectChangeRepository).insertAll(anyList());
+    when(projectChangeRepository.findMaxId()).thenAnswer(invocation -> nextChangeId - 1);
+    when(projectChangeRepository.findAfter(any(), any(Pageable.class))).thenAnswer(invocation -> {
+      Long afterId = invocation.getArgument(0);
+      Pageable pageable = invocation.getArgument(1);
+      return table.stream()
+          .filter(change -> change.getId() > afterId)
+          .limit(pageable.getPageSize())
+          .toList();
+    });
+    when(projectChangeRepository.findAllById(any())).thenAnswer(invocation -> {
+      List<Long> ids = new ArrayList<>();
+      Iterable<Long> requested = invocation.getArgument(0);
+      requested.forEach(ids::add);
+      return table.stream()
+          .filter(change -> ids.contains(change.getId()))
+          .toList();
+    });
+
+    projectChangeFeed = new ProjectChangeFeed(projectChangeRepository, 3, Duration.ofMinutes(30),
+        Duration.ofSeconds(10), Duration.ofSeconds(5), Duration.ofHours(1), tasks::add, clock);
+    projectChangeFeed.poll();
+  }
+
+  @Test
+  void testEventsAreSentInOrder() {
+    RecordingEmitter emitter = new RecordingEmitter();
+    projectChangeFeed.register(PROJECT_ID, emitter, false);
+
+    projectChangeFeed.issueAdded(PROJECT_ID, 7L);
+    projectChangeFeed.commentAdded(PROJECT_ID, 7L, 1L);
+    projectChangeFeed.issueAdded(2L, 8L);
+    projectChangeFeed.poll();
+    runTasks();
+
+    assertEquals(List.of("event:ready", "event:issue-added id:1", "event:comment-added id:2"), emitter.events);
+  }
+
+  @Test
+  void testChangesFromOtherServerAreDelivered() {
+    RecordingEmitter emitter = new RecordingEmitter();
+    projectChangeFeed.register(PROJECT_ID, emitter, false);
+
+    // 다른 서버가 기록한 변경
+    table.add(ProjectChange.builder().id(nextChangeId++).projectId(PROJECT_ID).name(ProjectChangeFeed.ISSUE_MODIFIED)
+        .issueId(3L).status(IssueStatus.FIXED.ordinal()).build());
+    projectChangeFeed.poll();
+    runTasks();
+
+    assertEquals(List.of("event:ready", "event:issue-modified id:1"), emitter.events);
+  }
+
+  @Test
+  void testDeliversPastUncommittedChange() {
+    RecordingEmitter emitter = new RecordingEmitter();
+    RecordingEmitter otherProject = new RecordingEmitter();
+    projectChangeFeed.register(PROJECT_ID, emitter, false);
+    projectChangeFeed.register(2L, otherProject, false);
+
+    // id 1은 아직 commit되지 않았지만 기다리지 않고 뒤의 변경을 전달
+    nextChangeId++;
+    projectChangeFeed.issueAdded(PROJECT_ID, 8L);
+    projectChangeFeed.issueAdded(2L, 9L);
+    projectChangeFeed.poll();
+    runTasks();
+    assertEquals(List.of("event:ready", "event:issue-added id:2"), emitter.events);
+    assertEquals(List.of("event:ready", "event:issue-added id:3"), otherProject.events);
+
+    // gapTimeout이 지나도 나타나지 않은 id는 rollback된 것으로 보고 resync 없이 확인을 멈춤
+    clock.advance(Duration.ofSeconds(6));
+    projectChangeFeed.poll();
+    projectChangeFeed.poll();
+    runTasks();
+    assertEquals(List.of("event:ready", "event:issue-added id:2"), emitter.events);
+    verify(projectChangeRepository, times(1)).findAllById(any());
+  }
+
+  @Test
+  void testLateCommittedChangeResyncsItsProject() {
+    RecordingEmitter emitter = new RecordingEmitter();
+    RecordingEmitter otherProject = new RecordingEmitter();
+    projectChangeFeed.register(PROJECT_ID, emitter, false);
+    projectChangeFeed.register(2L, otherProject, false);
+
+    long lateId = nextChangeId++;
+    projectChangeFeed.issueAdded(PROJECT_ID, 8L);
+    projectChangeFeed.poll();
+    runTasks();
+
+    // 뒤의 변경을 보낸 다음에 commit된 id 1은 그 프로젝트의 구독자만 resync
+    table.add(ProjectChange.builder().id(lateId).projectId(PROJECT_ID).name(ProjectChangeFeed.ISSUE_MODIFIED)
+        .issueId(3L).status(IssueStatus.FIXED.ordinal()).build());
+    projectChangeFeed.poll();
+    runTasks();
+    assertEquals(List.of("event:ready", "event:issue-added id:2", "event:resync"), emitter.events);
+    assertEquals(List.of("event:ready"), otherProject.events);
+
+    // 확인한 id는 다시 조회하지 않음
+    projectChangeFeed.poll();
+    verify(projectChangeRepository, times(1)).findAllById(any());
+  }
+
+  @Test
+  void testSlowSubscriberIsResynced() {
+    RecordingEmitter emitter = new RecordingEmitter();
+    projectChangeFeed.register(PROJECT_ID, emitter, false);
+    runTasks();
+
+    // 전송 작업이 밀린 동안 버퍼(3개)를 넘는 이벤트는 resync 하나로 대체
+    projectChangeFeed.issuesModified(PROJECT_ID, List.of(1L, 2L, 3L, 4L, 5L), IssueStatus.CLOSED);
+    projectChangeFeed.poll();
+    runTasks();
+    assertEquals(List.of("event:ready", "event:resync"), emitter.events);
+
+    // 제때 전송되면 모두 전달
+    projectChangeFeed.issueModified(PROJECT_ID, 6L, IssueStatus.REOPENED);
+    projectChangeFeed.poll();
+    runTasks();
+    projectChangeFeed.issueModified(PROJECT_ID, 7L, IssueStatus.REOPENED);
+    projectChangeFeed.poll();
+    runTasks();
+    assertEquals(List.of("event:issue-modified id:6", "event:issue-modified id:7"), emitter.events.subList(2, 4));
+  }
+
+  @Test
+  void testProjectReloadedResyncsSubscribers() {
+    RecordingEmitter emitter = new RecordingEmitter();
+    projectChangeFeed.register(PROJECT_ID, emitter, false);
+
+    projectChangeFeed.projectReloaded(PROJECT_ID);
+    projectChangeFeed.poll();
+    runTasks();
+
+    assertEquals(List.of("event:resync"), emitter.events);
+  }
+
+  @Test
+  void testReconnectStartsWithResync() {
+    RecordingEmitter emitter = new RecordingEmitter();
+    projectChangeFeed.register(PROJECT_ID, emitter, true);
+    runTasks();
+
+    assertEquals(List.of("event:resync"), emitter.events);
+  }
+
+  @Test
+  void testFailedSendRemovesSubscriber() {
+    RecordingEmitter emitter = new RecordingEmitter();
+    emitter.fail = true;
+    projectChangeFeed.register(PROJECT_ID, emitter, false);
+    assertEquals(1, projectChangeFeed.subscriberCount(PROJECT_ID));
+
+    runTasks();
+
+    assertEquals(0, projectChangeFeed.subscriberCount(PROJECT_ID));
+    projectChangeFeed.issueAdded(PROJECT_ID, 7L);
+    projectChangeFeed.poll();
+    assertTrue(tasks.isEmpty());
+  }
+
+  @Test
+  void testStalledSendRemovesSubscriber() {
+    RecordingEmitter emitter = new RecordingEmitter();
+    // 전송이 sendTimeout보다 오래 걸리는 동안 다른 스레드가 확인
+    emitter.duringSend = () -> {
+      clock.advance(Duration.ofSeconds(11));
+      projectChangeFeed.checkSends();
+    };
+    projectChangeFeed.register(PROJECT_ID, emitter, false);
+
+    runTasks();
+
+    assertEquals(0, projectChangeFeed.subscriberCount(PROJECT_ID));
+    assertTrue(emitter.completed);
+    projectChangeFeed.issueAdded(PROJECT_ID, 7L);
+    projectChangeFeed.poll();
+    assertTrue(tasks.isEmpty());
+  }
+
+  @Test
+  void testRejectedSendIsRetriedAsResync() {
+    RecordingEmitter emitter = new RecordingEmitter();
+    projectChangeFeed = new ProjectChangeFeed(projectChangeRepository, 3, Duration.ofMinutes(30),
+        Duration.ofSeconds(10), Duration.ofSeconds(5), Duration.ofHours(1), new RejectFirst(), clock);
+    projectChangeFeed.register(PROJECT_ID, emitter, false);
+
+    projectChangeFeed.checkSends();
+    runTasks();
+
+    assertEquals(List.of("event:resync"), emitter.events);
+  }
+
+  @Test
+  void testHeartbeatOnlyForIdleSubscribers() {
+    RecordingEmitter emitter = new RecordingEmitter();
+    projectChangeFeed.register(PROJECT_ID, emitter, false);
+
+    // ready 이벤트가 아직 전송 대기 중
+    projectChangeFeed.heartbeat();
+    runTasks();
+    projectChangeFeed.heartbeat();
+    runTasks();
+
+    assertEquals(List.of("event:ready", ":heartbeat"), emitter.events);
+  }
+
+  @Test
+  void testPurgeDeletesChangesOlderThanRetention() {
+    projectChangeFeed.purge();
+
+    verify(projectChangeRepository).deleteBefore(eq(LocalDateTime.of(2024, 5, 31, 23, 0)), anyInt());
+  }
+
+  private void runTasks() {
+    while (!tasks.isEmpty()) {
+      tasks.remove(0).run();
+    }
+  }
+
+  // 첫 작업은 거절 (전송 스레드가 모두 사용 중)
+  private class RejectFirst implements Executor {
+    private boolean rejected;
+
+    @Override
+    public void execute(Runnable command) {
+      if (!rejected) {
+        rejected = true;
+        throw new RejectedExecutionException("busy");
+      }
+      tasks.add(command);
+    }
+  }
+
+  // 보낸 이벤트의 event/id 줄만 기록
+  private static class RecordingEmitter extends SseEmitter {
+    private final List<String> events = new ArrayList<>();
+    private boolean fail;
+    private Runnable duringSend;
+    private boolean completed;
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+      if (fail) {
+        throw new IOException("Broken pipe");
+      }
+      if (duringSend != null) {
+        duringSend.run();
+      }
+      String text = builder.build().stream()
+          .map(DataWithMediaType::getData)
+          .filter(String.class::isInstance)
+          .map(String.class::cast)
+          .collect(Collectors.joining());
+      events.add(text.lines()
+          .filter(line -> line.startsWith("event:") || line.startsWith("id:") || line.startsWith(":"))
+          .collect(Collectors.joining(" ")));
+    }
+
+    @Override
+    public void complete() {
+      completed = true;
+      super.complete();
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.domain.enums.IssueKeyword;
+import com.example.issuetrackingsystem.domain.enums.IssuePriority;
+import com.example.issuetrackingsystem.domain.enums.IssueStatus;
+import com.example.issuetrackingsystem.domain.enums.ProjectAccountRole;
+import com.example.issuetrackingsystem.domain.enums.ProjectStatus;
+import com.example.issuetrackingsystem.exception.ErrorCode;
+import com.example.issuetrackingsystem.exception.ITSException;
+import com.example.issuetrackingsystem.repository.IssueRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProjectExportServiceTest {
+
+  private static final Long PROJECT_ID = 1L;
+  private static final Long MEMBER_ID = 2L;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private IssueRepository issueRepository;
+  private ProjectMembershipIndex projectMembershipIndex;
+  private ProjectExportService projectExportService;
+
+  @BeforeEach
+  void setUp() {
+    issueRepository = mock(IssueRepository.class);
+    projectMembershipIndex = mock(ProjectMembershipIndex.class);
+    // 이슈 하나씩 묶어서 읽음
+    projectExportService = new ProjectExportServiceImpl(issueRepository, projectMembershipIndex, objectMapper, 1);
+
+    when(projectMembershipIndex.project(PROJECT_ID)).thenReturn(Optional.of(new ProjectMembershipIndex.ProjectSummary(
+        PROJECT_ID, "Project 1", "Description", LocalDateTime.now(), ProjectStatus.IN_PROGRESS, Collections.emptyMap())));
+    when(projectMembershipIndex.role(PROJECT_ID, MEMBER_ID)).thenReturn(Optional.of(ProjectAccountRole.tester));
+
+    // 이슈 1은 코멘트 2개, 이슈 2는 코멘트 없음
+    LocalDateTime reported = LocalDateTime.of(2024, 5, 1, 9, 30);
+    List<Object[]> rows = List.of(
+        new Object[]{1L, "Login fails", "On Safari", IssueKeyword.BUG, IssuePriority.CRITICAL, IssueStatus.FIXED,
+            "tester1", reported, LocalDate.of(2024, 6, 30), "pl1", "dev1", "dev1", null,
+            1L, "dev1", "Looking into it", reported.plusHours(1)},
+        new Object[]{1L, "Login fails", "On Safari", IssueKeyword.BUG, IssuePriority.CRITICAL, IssueStatus.FIXED,
+            "tester1", reported, LocalDate.of(2024, 6, 30), "pl1", "dev1", "dev1", null,
+            2L, "tester1", "Thanks", reported.plusHours(2)},
+        new Object[]{2L, "Slow search", null, null, IssuePriority.MAJOR, IssueStatus.NEW,
+            "tester1", reported, LocalDate.of(2024, 7, 1), null, null, null, null,
+            null, null, null, null});
+    // afterIssueId 다음 이슈 issueLimit개의 행
+    when(issueRepository.findExportChunk(eq(PROJECT_ID), anyLong(), anyInt())).thenAnswer(invocation -> {
+      Long afterIssueId = invocation.getArgument(1);
+      int issueLimit = invocation.getArgument(2);
+      return rows.stream()
+          .filter(row -> (Long) row[0] > afterIssueId && (Long) row[0] <= afterIssueId + issueLimit)
+          .toList();
+    });
+  }
+
+  @Test
+  void testExportWritesOneIssuePerLine() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    projectExportService.exportProject(MEMBER_ID, PROJECT_ID, false).writeTo(out);
+
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(2, lines.length);
+
+    JsonNode first = objectMapper.readTree(lines[0]);
+    assertEquals(1, first.get("id").asLong());
+    assertEquals("BUG", first.get("keyword").asText());
+    assertEquals("FIXED", first.get("status").asText());
+    assertEquals("2024-05-01T09:30:00", first.get("reportedDate").asText());
+    assertEquals("2024-06-30", first.get("dueDate").asText());
+    assertFalse(first.has("closedDate"));
+    assertEquals(2, first.get("comments").size());
+    assertEquals("dev1", first.get("comments").get(0).get("author").asText());
+    assertEquals("Thanks", first.get("comments").get(1).get("content").asText());
+
+    JsonNode second = objectMapper.readTree(lines[1]);
+    assertEquals("Slow search", second.get("title").asText());
+    assertFalse(second.has("description"));
+    assertEquals(0, second.get("comments").size());
+  }
+
+  @Test
+  void testGzipExport() throws IOException {
+    ByteArrayOutputStream plain = new ByteArrayOutputStream();
+    projectExportService.exportProject(1L, PROJECT_ID, false).writeTo(plain);
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    projectExportService.exportProject(1L, PROJECT_ID, true).writeTo(compressed);
+
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+      assertArrayEquals(plain.toByteArray(), in.readAllBytes());
+    }
+  }
+
+  @Test
+  void testOnlyMembersCanExport() {
+    when(projectMembershipIndex.role(PROJECT_ID, 5L)).thenReturn(Optional.empty());
+
+    ITSException exception = assertThrows(ITSException.class,
+        () -> projectExportService.exportProject(5L, PROJECT_ID, false));
+
+    assertEquals(ErrorCode.PROJECT_EXPORT_FORBIDDEN, exception.getErrorCode());
+    verifyNoInteractions(issueRepository);
+  }
+
+  @Test
+  void testExportReadsIssuesInKeysetChunks() throws IOException {
+    projectExportService.exportProject(MEMBER_ID, PROJECT_ID, false).writeTo(new ByteArrayOutputStream());
+
+    InOrder inOrder = inOrder(issueRepository);
+    inOrder.verify(issueRepository).findExportChunk(PROJECT_ID, 0L, 1);
+    inOrder.verify(issueRepository).findExportChunk(PROJECT_ID, 1L, 1);
+    inOrder.verify(issueRepository).findExportChunk(PROJECT_ID, 2L, 1);
+    verifyNoMoreInteractions(issueRepository);
+  }
+
+  @Test
+  void testShortChunkEndsExport() throws IOException {
+    projectExportService = new ProjectExportServiceImpl(issueRepository, projectMembershipIndex, objectMapper, 500);
+
+    projectExportService.exportProject(MEMBER_ID, PROJECT_ID, false).writeTo(new ByteArrayOutputStream());
+
+    verify(issueRepository, times(1)).findExportChunk(PROJECT_ID, 0L, 500);
+    verifyNoMoreInteractions(issueRepository);
+  }
+}
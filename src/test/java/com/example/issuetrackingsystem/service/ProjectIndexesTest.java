@@ -0,0 +1,137 @@
+package com.example.issuetrackingsystem.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectIndexesTest {
+
+  private final List<Runnable> tasks = new ArrayList<>();
+  private final AtomicInteger loads = new AtomicInteger();
+  private final MutableClock clock = new MutableClock();
+  // 구성 중에 실행할 작업 (구성 도중 다른 트랜잭션이 commit한 경우)
+  private Consumer<Long> duringLoad = projectId -> {
+  };
+  private ProjectIndexes<Map<Long, String>> indexes;
+
+  @BeforeEach
+  void setUp() {
+    indexes = new ProjectIndexes<>("TEST", projectId -> {
+      Map<Long, String> index = new ConcurrentHashMap<>();
+      index.put(0L, "load " + loads.incrementAndGet());
+      duringLoad.accept(projectId);
+      return index;
+    }, Duration.ofMinutes(30), Duration.ofHours(2), tasks::add, clock);
+  }
+
+  @Test
+  void testLoadsOnceAndReloadsInBackgroundWhenStale() {
+    assertEquals("load 1", indexes.get(1L).get(0L));
+    assertEquals("load 1", indexes.get(1L).get(0L));
+    assertTrue(tasks.isEmpty());
+
+    clock.advance(Duration.ofMinutes(31));
+    // 다시 구성하는 동안은 기존 색인으로 응답하고 작업은 하나만 예약
+    assertEquals("load 1", indexes.get(1L).get(0L));
+    assertEquals("load 1", indexes.get(1L).get(0L));
+    assertEquals(1, tasks.size());
+
+    tasks.remove(0).run();
+    assertEquals("load 2", indexes.get(1L).get(0L));
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testChangeCommittedDuringReloadIsReplayedOnNewIndex() {
+    indexes.get(1L);
+    clock.advance(Duration.ofMinutes(31));
+    indexes.get(1L);
+
+    // 구성 쿼리가 읽은 뒤에 commit된 변경은 새 색인에 다시 적용되어야 함
+    duringLoad = projectId -> indexes.update(projectId, index -> index.put(7L, "saved"));
+    tasks.remove(0).run();
+
+    Map<Long, String> index = indexes.get(1L);
+    assertEquals("load 2", index.get(0L));
+    assertEquals("saved", index.get(7L));
+  }
+
+  @Test
+  void testUpdateBeforeFirstLoadIsIgnored() {
+    indexes.update(1L, index -> index.put(7L, "saved"));
+
+    assertNull(indexes.get(1L).get(7L));
+  }
+
+  @Test
+  void testGetIfLoadedBuildsInBackground() {
+    assertNull(indexes.getIfLoaded(1L));
+    assertNull(indexes.getIfLoaded(1L));
+    assertEquals(1, tasks.size());
+
+    tasks.remove(0).run();
+
+    assertEquals("load 1", indexes.getIfLoaded(1L).get(0L));
+    assertTrue(tasks.isEmpty());
+  }
+
+  @Test
+  void testFailedReloadKeepsPreviousIndexAndRetries() {
+    indexes.get(1L);
+    clock.advance(Duration.ofMinutes(31));
+    duringLoad = projectId -> {
+      throw new IllegalStateException("db down");
+    };
+    indexes.get(1L);
+    tasks.remove(0).run();
+
+    assertEquals("load 1", indexes.get(1L).get(0L));
+    assertEquals(1, tasks.size());
+  }
+
+  @Test
+  void testIdleProjectIsEvictedAndLoadedAgain() {
+    indexes.get(1L);
+    clock.advance(Duration.ofMinutes(90));
+    // 변경 반영은 조회가 아니므로 마지막 조회 시각을 갱신하지 않음
+    indexes.update(1L, index -> index.put(7L, "saved"));
+    clock.advance(Duration.ofMinutes(90));
+
+    // 2시간 넘게 조회되지 않은 색인은 제거되어 호출한 스레드에서 다시 구성
+    Map<Long, String> index = indexes.get(1L);
+    assertEquals("load 2", index.get(0L));
+    assertNull(index.get(7L));
+    assertTrue(tasks.isEmpty());
+  }
+
+  @Test
+  void testRejectedReloadIsScheduledAgain() {
+    AtomicInteger rejections = new AtomicInteger(1);
+    ProjectIndexes<String> rejecting = new ProjectIndexes<>("TEST", projectId -> "load " + loads.incrementAndGet(),
+        Duration.ofMinutes(30), Duration.ofHours(2), task -> {
+          if (rejections.getAndDecrement() > 0) {
+            throw new RejectedExecutionException("queue full");
+          }
+          tasks.add(task);
+        }, clock);
+
+    // 구성 대기열이 가득 차도 색인은 null로 응답하고 다음 조회에서 다시 예약
+    assertNull(rejecting.getIfLoaded(1L));
+    assertTrue(tasks.isEmpty());
+    assertNull(rejecting.getIfLoaded(1L));
+    assertEquals(1, tasks.size());
+
+    tasks.remove(0).run();
+    assertEquals("load 1", rejecting.getIfLoaded(1L));
+  }
+}
@@ -0,0 +1,80 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.domain.enums.ProjectStatus;
+import com.example.issuetrackingsystem.repository.ProjectIssueCountRepository;
+import com.example.issuetrackingsystem.repository.ProjectRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectIssueCounterTest {
+
+  @Mock
+  private ProjectIssueCountRepository projectIssueCountRepository;
+  @Mock
+  private ProjectRepository projectRepository;
+  @Mock
+  private ProjectMembershipIndex projectMembershipIndex;
+
+  @InjectMocks
+  private ProjectIssueCounter projectIssueCounter;
+
+  private final Long projectId = 1L;
+
+  @Test
+  void testIssueOpened() {
+    when(projectIssueCountRepository.adjust(projectId, 1, 0)).thenReturn(1);
+    when(projectRepository.updateStatus(projectId, ProjectStatus.IN_PROGRESS)).thenReturn(1);
+
+    projectIssueCounter.issueOpened(projectId);
+
+    verify(projectMembershipIndex, times(1)).statusChanged(projectId, ProjectStatus.IN_PROGRESS);
+    verify(projectIssueCountRepository, never()).rebuild(projectId);
+  }
+
+  @Test
+  void testLastIssueClosedMarksProjectDone() {
+    when(projectIssueCountRepository.adjust(projectId, -1, 1)).thenReturn(1);
+    when(projectIssueCountRepository.findOpenCount(projectId)).thenReturn(0L);
+
+    projectIssueCounter.issueClosed(projectId);
+
+    verify(projectRepository, times(1)).updateStatus(projectId, ProjectStatus.DONE);
+  }
+
+  @Test
+  void testIssueClosedWithOpenIssuesKeepsStatus() {
+    when(projectIssueCountRepository.adjust(projectId, -1, 1)).thenReturn(1);
+    when(projectIssueCountRepository.findOpenCount(projectId)).thenReturn(3L);
+
+    projectIssueCounter.issueClosed(projectId);
+
+    verifyNoInteractions(projectRepository, projectMembershipIndex);
+  }
+
+  @Test
+  void testMissingCounterIsRebuiltFromIssues() {
+    when(projectIssueCountRepository.adjust(projectId, 1, -1)).thenReturn(0);
+
+    projectIssueCounter.issueReopened(projectId);
+
+    verify(projectIssueCountRepository, times(1)).rebuild(projectId);
+    verify(projectRepository, times(1)).updateStatus(projectId, ProjectStatus.IN_PROGRESS);
+  }
+
+  @Test
+  void testRebuildAfterImportWithOnlyClosedIssuesMarksProjectDone() {
+    when(projectIssueCountRepository.findOpenCount(projectId)).thenReturn(0L);
+    when(projectRepository.updateStatus(projectId, ProjectStatus.DONE)).thenReturn(1);
+
+    projectIssueCounter.rebuild(projectId);
+
+    verify(projectIssueCountRepository, times(1)).rebuild(projectId);
+    verify(projectMembershipIndex, times(1)).statusChanged(projectId, ProjectStatus.DONE);
+  }
+}
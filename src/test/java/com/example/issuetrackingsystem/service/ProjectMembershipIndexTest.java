@@ -0,0 +1,98 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.domain.Project;
+import com.example.issuetrackingsystem.domain.enums.ProjectAccountRole;
+import com.example.issuetrackingsystem.domain.enums.ProjectStatus;
+import com.example.issuetrackingsystem.repository.ProjectAccountRepository;
+import com.example.issuetrackingsystem.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectMembershipIndexTest {
+
+  @Mock
+  private ProjectRepository projectRepository;
+  @Mock
+  private ProjectAccountRepository projectAccountRepository;
+
+  @InjectMocks
+  private ProjectMembershipIndex projectMembershipIndex;
+
+  @BeforeEach
+  void setUp() {
+    when(projectRepository.findAll()).thenReturn(List.of(
+        project(1L, "Project 1", ProjectStatus.IN_PROGRESS),
+        project(2L, "Project 2", ProjectStatus.NOT_STARTED)));
+    when(projectAccountRepository.findAllMembers()).thenReturn(List.of(
+        new Object[]{1L, 3L, "tester1", ProjectAccountRole.tester},
+        new Object[]{1L, 2L, "pl1", ProjectAccountRole.PL},
+        new Object[]{2L, 2L, "pl1", ProjectAccountRole.dev}));
+  }
+
+  @Test
+  void testLookupsAreServedFromOneLoad() {
+    assertEquals(Optional.of(ProjectAccountRole.PL), projectMembershipIndex.role(1L, 2L));
+    assertEquals(Optional.of(ProjectAccountRole.dev), projectMembershipIndex.role(2L, 2L));
+    assertEquals(Optional.empty(), projectMembershipIndex.role(2L, 3L));
+    assertEquals(List.of(1L, 2L), projectMembershipIndex.projectsOf(2L).stream()
+        .map(ProjectMembershipIndex.ProjectSummary::getProjectId).toList());
+    assertEquals(List.of(2L, 3L), List.copyOf(projectMembershipIndex.project(1L).get().getMembers().keySet()));
+
+    verify(projectRepository, times(1)).findAll();
+    verify(projectAccountRepository, times(1)).findAllMembers();
+  }
+
+  @Test
+  void testSavedMemberAndProjectAreVisible() {
+    projectMembershipIndex.memberSaved(2L, 3L, "tester1", ProjectAccountRole.tester);
+    projectMembershipIndex.projectSaved(Project.builder().projectId(3L).title("Project 3").build());
+    projectMembershipIndex.statusChanged(2L, ProjectStatus.DONE);
+
+    assertEquals(Optional.of(ProjectAccountRole.tester), projectMembershipIndex.role(2L, 3L));
+    assertEquals(1, projectMembershipIndex.members(2L, ProjectAccountRole.tester).size());
+    assertEquals(ProjectStatus.NOT_STARTED, projectMembershipIndex.project(3L).get().getStatus());
+    assertEquals(ProjectStatus.DONE, projectMembershipIndex.project(2L).get().getStatus());
+    assertEquals(3, projectMembershipIndex.projects().size());
+  }
+
+  @Test
+  void testMissIsCheckedAgainstDatabase() {
+    // 다른 서버에서 만든 프로젝트 3과 그 멤버
+    when(projectRepository.findById(3L)).thenReturn(Optional.of(project(3L, "Project 3", ProjectStatus.NOT_STARTED)));
+    when(projectAccountRepository.findMembers(3L)).thenReturn(List.<Object[]>of(
+        new Object[]{3L, "tester1", ProjectAccountRole.tester}));
+
+    assertEquals(Optional.of(ProjectAccountRole.tester), projectMembershipIndex.role(3L, 3L));
+    assertEquals(Optional.of(ProjectAccountRole.tester), projectMembershipIndex.role(3L, 3L));
+    assertEquals("Project 3", projectMembershipIndex.project(3L).get().getTitle());
+    assertEquals(List.of(1L, 3L), projectMembershipIndex.projectsOf(3L).stream()
+        .map(ProjectMembershipIndex.ProjectSummary::getProjectId).toList());
+    // 찾은 뒤에는 인덱스에서 응답
+    verify(projectRepository, times(1)).findById(3L);
+
+    // DB에도 없는 소속은 그대로 403
+    assertEquals(Optional.empty(), projectMembershipIndex.role(1L, 9L));
+    verify(projectRepository, times(1)).findAll();
+  }
+
+  private Project project(Long projectId, String title, ProjectStatus status) {
+    return Project.builder()
+        .projectId(projectId)
+        .title(title)
+        .status(status)
+        .date(LocalDateTime.now())
+        .build();
+  }
+}
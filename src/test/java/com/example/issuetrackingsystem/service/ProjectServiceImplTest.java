@@ -1,6 +1,8 @@
 package com.example.issuetrackingsystem.service;
 
 import com.example.issuetrackingsystem.domain.*;
+import com.example.issuetrackingsystem.domain.enums.IssuePriority;
+import com.example.issuetrackingsystem.domain.enums.IssueStatus;
 import com.example.issuetrackingsystem.domain.enums.ProjectAccountRole;
 import com.example.issuetrackingsystem.domain.enums.ProjectStatus;
 import com.example.issuetrackingsystem.domain.key.ProjectAccountPK;
@@ -16,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -23,6 +26,8 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,19 +46,32 @@ public class ProjectServiceImplTest {
     private ProjectAccountRepository projectAccountRepository;
 
     @Mock
-    private CommentRepository commentRepository;
+    private ProjectTrendCalculator projectTrendCalculator;
+
+    @Mock
+    private ProjectTrendCache projectTrendCache;
+
+    @Mock
+    private ProjectMembershipIndex projectMembershipIndex;
+
+    @Mock
+    private AccountCache accountCache;
+
+    @Mock
+    private ProjectChangeFeed projectChangeFeed;
+
+    @Mock
+    private ProjectVersions projectVersions;
 
     @InjectMocks
     private ProjectServiceImpl projectService;
 
     @Test
     void testGetProjectListAsAdmin() {
-        List<Project> projects = Arrays.asList(
-            Project.builder().projectId(1L).title("Project 1").status(ProjectStatus.IN_PROGRESS).build(),
-            Project.builder().projectId(2L).title("Project 2").status(ProjectStatus.NOT_STARTED).build()
-        );
-
-        when(projectRepository.findAll()).thenReturn(projects);
+        when(projectMembershipIndex.projects()).thenReturn(Arrays.asList(
+            summary(1L, "Project 1", ProjectStatus.IN_PROGRESS),
+            summary(2L, "Project 2", ProjectStatus.NOT_STARTED)
+        ));
 
         ProjectResponse response = projectService.projectList(1L);
         assertEquals(1, response.getIsAdmin());
@@ -62,11 +80,7 @@ public class ProjectServiceImplTest {
 
     @Test
     void testGetProjectListAsUser() {
-        List<Project> projects = Arrays.asList(
-            Project.builder().projectId(1L).title("Project 1").status(ProjectStatus.IN_PROGRESS).build()
-        );
-
-        when(projectRepository.findByAccountId(2L)).thenReturn(projects);
+        when(projectMembershipIndex.projectsOf(2L)).thenReturn(List.of(summary(1L, "Project 1", ProjectStatus.IN_PROGRESS)));
 
         ProjectResponse response = projectService.projectList(2L);
         assertEquals(0, response.getIsAdmin());
@@ -75,34 +89,62 @@ public class ProjectServiceImplTest {
 
     @Test
     void testFindProjectAsAdmin() {
-        Project project = Project.builder().projectId(1L).title("Project 1").description("Description").status(ProjectStatus.IN_PROGRESS).date(LocalDateTime.now()).build();
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(issueRepository.findByProjectId(1L)).thenReturn(Collections.emptyList());
-        when(projectAccountRepository.findById_ProjectId(1L)).thenReturn(Collections.emptyList());
+        when(projectMembershipIndex.project(1L)).thenReturn(Optional.of(summary(1L, "Project 1", ProjectStatus.IN_PROGRESS)));
+        when(issueRepository.findPage(1L, IssueSortKey.REPORTED_DATE, true, null, null, 51))
+            .thenReturn(Collections.emptyList());
 
-        DetailsProjectResponse response = projectService.findProject(1L, 1L);
+        DetailsProjectResponse response = projectService.findProject(1L, 1L, null, null, null, null);
         assertNotNull(response);
         assertEquals(-1, response.getAccountRole());
     }
 
     @Test
     void testFindProjectAsUser() {
-        ProjectAccount projectAccount = ProjectAccount.builder()
-            .id(ProjectAccountPK.builder().accountId(2L).projectId(1L).build())
-            .role(ProjectAccountRole.dev)
-            .build();
+        when(projectMembershipIndex.role(1L, 2L)).thenReturn(Optional.of(ProjectAccountRole.dev));
+        when(projectMembershipIndex.project(1L)).thenReturn(Optional.of(summary(1L, "Project 1", ProjectStatus.IN_PROGRESS)));
+        when(issueRepository.findPage(1L, IssueSortKey.REPORTED_DATE, true, null, null, 51))
+            .thenReturn(Collections.emptyList());
 
-        Project project = Project.builder().projectId(1L).title("Project 1").description("Description").status(ProjectStatus.IN_PROGRESS).date(LocalDateTime.now()).build();
-        when(projectAccountRepository.findById(any())).thenReturn(Optional.of(projectAccount));
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(issueRepository.findByProjectId(1L)).thenReturn(Collections.emptyList());
-        when(projectAccountRepository.findById_ProjectId(1L)).thenReturn(Collections.emptyList());
-
-        DetailsProjectResponse response = projectService.findProject(1L, 2L);
+        DetailsProjectResponse response = projectService.findProject(1L, 2L, null, null, null, null);
         assertNotNull(response);
         assertEquals(ProjectAccountRole.dev.ordinal(), response.getAccountRole());
     }
 
+    @Test
+    void testProjectETagReadsOnlyProjectVersion() {
+        when(projectMembershipIndex.role(1L, 2L)).thenReturn(Optional.of(ProjectAccountRole.dev));
+        when(projectRepository.findVersion(1L)).thenReturn(Optional.of(12L));
+
+        String tag = projectService.projectETag(2L, 1L, null, null, null, null);
+
+        assertTrue(tag.startsWith("1-12-" + ProjectAccountRole.dev.ordinal() + "-"));
+        assertEquals(tag, projectService.projectETag(2L, 1L, null, null, null, null));
+        verifyNoInteractions(issueRepository);
+    }
+
+    @Test
+    void testProjectETagDiffersByPage() {
+        when(projectRepository.findVersion(1L)).thenReturn(Optional.of(12L));
+
+        String firstPage = projectService.projectETag(1L, 1L, "dueDate", "asc", null, 20);
+
+        assertNotEquals(firstPage, projectService.projectETag(1L, 1L, "dueDate", "asc", "abc", 20));
+        assertNotEquals(firstPage, projectService.projectETag(1L, 1L, "dueDate", "desc", null, 20));
+        assertNotEquals(firstPage, projectService.projectETag(1L, 1L, "dueDate", "asc", null, 50));
+        // 값 그대로 포함하므로 hash 충돌로 다른 페이지가 같은 ETag가 되지 않음
+        assertEquals("1-12--1-sdueDate-oasc-n20-cnull", firstPage);
+    }
+
+    @Test
+    void testProjectETagNotFound() {
+        when(projectRepository.findVersion(9L)).thenReturn(Optional.empty());
+
+        ITSException exception = assertThrows(ITSException.class,
+            () -> projectService.projectETag(1L, 9L, null, null, null, null));
+
+        assertEquals(ErrorCode.PROJECT_DETAIL_NOT_FOUND, exception.getErrorCode());
+    }
+
     @Test
     void testAddProjectAsAdmin() {
         Account account = Account.builder().accountId(1L).username("admin").build();
@@ -117,11 +159,13 @@ public class ProjectServiceImplTest {
             .build();
 
         Project project = Project.builder().projectId(1L).title("New Project").description("Description").build();
-        when(accountRepository.findByUsername("user")).thenReturn(Optional.of(account));
+        when(accountCache.findAll(List.of("user"))).thenReturn(Map.of("user", account));
         when(projectRepository.save(any(Project.class))).thenReturn(project);
 
         String result = projectService.addProject(1L, addProjectRequest);
         assertEquals("/projects/1", result);
+        verify(projectMembershipIndex).projectSaved(project);
+        verify(projectMembershipIndex).memberSaved(1L, 1L, "admin", ProjectAccountRole.dev);
     }
 
     @Test
@@ -166,6 +210,7 @@ public class ProjectServiceImplTest {
         projectService.modifyProject(1L, 1L, modifyProjectRequest);
 
         assertEquals("Updated Project", project.getTitle());
+        verify(projectVersions).changed(1L);
     }
 
     @Test
@@ -185,44 +230,139 @@ public class ProjectServiceImplTest {
         Long projectId = 1L;
         String category = "new-issue";
 
-        when(issueRepository.countByReportedDate_Day(any(), any())).thenReturn(Collections.emptyList());
-        when(issueRepository.countByReportedDate_Month(any(), any())).thenReturn(Collections.emptyList());
+        when(projectTrendCache.get(projectId, category)).thenReturn(ProjectTrendResponse.builder()
+            .daily(ProjectTrendResponse.ProjectTrendData.builder().data(Collections.emptyList()).build())
+            .monthly(ProjectTrendResponse.ProjectTrendData.builder().data(Collections.emptyList()).build())
+            .build());
 
-        ProjectTrendResponse response = projectService.trendProject(accountId, projectId, category);
+        ProjectTrendResponse response = projectService.trendProject(accountId, projectId, category, null, null, null, null);
 
         assertNotNull(response);
         assertNotNull(response.getDaily());
         assertNotNull(response.getMonthly());
     }
 
+    @Test
+    void testFindProjectTrendWithRange() {
+        Long accountId = 1L;
+        Long projectId = 1L;
+        String category = "closed-issue";
+
+        when(projectTrendCalculator.calculate(projectId, category, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30),
+            TrendGranularity.QUARTER)).thenReturn(ProjectTrendResponse.builder()
+            .quarterly(ProjectTrendResponse.ProjectTrendData.builder().data(Collections.emptyList()).build())
+            .build());
+
+        ProjectTrendResponse response = projectService.trendProject(accountId, projectId, category, "2024-01-01",
+            "2024-06-30", "quarter", null);
+
+        assertNotNull(response.getQuarterly());
+    }
+
+    @Test
+    void testFindProjectTrendInvalidGranularity() {
+        Long accountId = 1L;
+        Long projectId = 1L;
+        String category = "new-issue";
+
+        ITSException exception = assertThrows(ITSException.class,
+            () -> projectService.trendProject(accountId, projectId, category, "2024-01-01", "2024-01-31", "hourly", null));
+
+        assertEquals(ErrorCode.PROJECT_TREND_BAD_REQUEST, exception.getErrorCode());
+    }
+
+    @Test
+    void testFindProjectTrendBestMemberWindow() {
+        Long accountId = 1L;
+        Long projectId = 1L;
+
+        when(projectTrendCalculator.bestMembers(projectId, LeaderboardWindow.MONTH, 5))
+            .thenReturn(ProjectTrendResponse.builder().build());
+
+        ProjectTrendResponse response = projectService.trendProject(accountId, projectId, "best-member", null, null,
+            "month", 5);
+
+        assertNotNull(response);
+    }
+
+    @Test
+    void testTrendCacheStatsForbidden() {
+        ITSException exception = assertThrows(ITSException.class, () -> projectService.trendCacheStats(2L));
+
+        assertEquals(ErrorCode.PROJECT_TREND_FORBIDDEN, exception.getErrorCode());
+    }
+
     @Test
     void testFindProjectTrendForbidden() {
         Long accountId = 2L;
         Long projectId = 1L;
         String category = "new-issue";
 
-        when(projectAccountRepository.findById(any())).thenReturn(Optional.empty());
+        when(projectMembershipIndex.role(projectId, accountId)).thenReturn(Optional.empty());
 
-        ITSException exception = assertThrows(ITSException.class, () -> projectService.trendProject(accountId, projectId, category));
+        ITSException exception = assertThrows(ITSException.class,
+            () -> projectService.trendProject(accountId, projectId, category, null, null, null, null));
 
         assertEquals(ErrorCode.PROJECT_TREND_FORBIDDEN, exception.getErrorCode());
     }
 
     @Test
     void testFindProjectDetailNotFound() {
-        when(projectRepository.findById(any())).thenReturn(Optional.empty());
+        when(projectMembershipIndex.project(any())).thenReturn(Optional.empty());
 
-        ITSException exception = assertThrows(ITSException.class, () -> projectService.findProject(1L, 1L));
+        ITSException exception = assertThrows(ITSException.class, () -> projectService.findProject(1L, 1L, null, null, null, null));
 
         assertEquals(ErrorCode.PROJECT_DETAIL_NOT_FOUND, exception.getErrorCode());
     }
 
     @Test
     void testFindProjectDetailForbidden() {
-        when(projectAccountRepository.findById(any())).thenReturn(Optional.empty());
+        when(projectMembershipIndex.role(1L, 2L)).thenReturn(Optional.empty());
 
-        ITSException exception = assertThrows(ITSException.class, () -> projectService.findProject(1L, 2L));
+        ITSException exception = assertThrows(ITSException.class, () -> projectService.findProject(1L, 2L, null, null, null, null));
 
         assertEquals(ErrorCode.PROJECT_DETAIL_FORBIDDEN, exception.getErrorCode());
     }
+
+    @Test
+    void testFindProjectIssuePageFollowsCursor() {
+        when(projectMembershipIndex.project(1L)).thenReturn(Optional.of(summary(1L, "Project 1", ProjectStatus.IN_PROGRESS)));
+        when(issueRepository.findPage(1L, IssueSortKey.PRIORITY, false, null, null, 3)).thenReturn(new ArrayList<>(List.of(
+            issueRow(4L, IssuePriority.BLOCKER),
+            issueRow(9L, IssuePriority.CRITICAL),
+            issueRow(2L, IssuePriority.MAJOR))));
+
+        DetailsProjectResponse first = projectService.findProject(1L, 1L, "priority", null, null, 2);
+        assertEquals(List.of(4L, 9L), first.getIssue().stream().map(DetailsProjectResponse.IssueData::getId).toList());
+        assertNotNull(first.getNextCursor());
+
+        when(issueRepository.findPage(1L, IssueSortKey.PRIORITY, false, IssuePriority.CRITICAL, 9L, 3))
+            .thenReturn(List.of(issueRow(2L, IssuePriority.MAJOR)));
+
+        DetailsProjectResponse second = projectService.findProject(1L, 1L, "priority", null, first.getNextCursor(), 2);
+        assertEquals(1, second.getIssue().size());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void testFindProjectRejectsCursorOfOtherSort() {
+        when(projectMembershipIndex.project(1L)).thenReturn(Optional.of(summary(1L, "Project 1", ProjectStatus.IN_PROGRESS)));
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("priority,asc,1,9".getBytes(StandardCharsets.UTF_8));
+
+        ITSException exception = assertThrows(ITSException.class,
+            () -> projectService.findProject(1L, 1L, "status", null, cursor, 2));
+
+        assertEquals(ErrorCode.PROJECT_DETAIL_BAD_REQUEST, exception.getErrorCode());
+    }
+
+    private Object[] issueRow(Long issueId, IssuePriority priority) {
+        return new Object[]{issueId, "Issue " + issueId, IssueStatus.NEW, priority,
+            LocalDateTime.of(2024, 5, 1, 9, 0), LocalDate.of(2024, 6, 1)};
+    }
+
+    private ProjectMembershipIndex.ProjectSummary summary(Long projectId, String title, ProjectStatus status) {
+        return new ProjectMembershipIndex.ProjectSummary(projectId, title, "Description", LocalDateTime.now(), status,
+            Collections.emptyMap());
+    }
 }
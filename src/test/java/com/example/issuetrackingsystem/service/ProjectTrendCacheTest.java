@@ -0,0 +1,84 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.dto.ProjectTrendResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProjectTrendCacheTest {
+
+  private ProjectTrendCalculator projectTrendCalculator;
+  private final AtomicLong nanos = new AtomicLong();
+  private ProjectTrendCache projectTrendCache;
+
+  @BeforeEach
+  void setUp() {
+    projectTrendCalculator = mock(ProjectTrendCalculator.class);
+    // 시간을 직접 움직이고, 재계산은 호출한 스레드에서 바로 실행
+    projectTrendCache = new ProjectTrendCache(projectTrendCalculator, 100, Duration.ofSeconds(30),
+        Duration.ofMinutes(10), nanos::get, Runnable::run, new MutableClock());
+  }
+
+  @Test
+  void testRepeatedRequestsAreServedFromCache() {
+    ProjectTrendResponse response = ProjectTrendResponse.builder().build();
+    when(projectTrendCalculator.calculate(1L, "new-issue")).thenReturn(response);
+
+    for (int i = 0; i < 10; i++) {
+      assertSame(response, projectTrendCache.get(1L, "new-issue"));
+    }
+
+    verify(projectTrendCalculator, times(1)).calculate(1L, "new-issue");
+    assertEquals(9, projectTrendCache.stats().hitCount());
+    assertEquals(1, projectTrendCache.stats().missCount());
+  }
+
+  @Test
+  void testStaleEntryIsServedWhileRefreshing() {
+    ProjectTrendResponse stale = ProjectTrendResponse.builder().build();
+    ProjectTrendResponse fresh = ProjectTrendResponse.builder().build();
+    when(projectTrendCalculator.calculate(1L, "closed-issue")).thenReturn(stale, fresh);
+
+    projectTrendCache.get(1L, "closed-issue");
+    nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+    assertSame(stale, projectTrendCache.get(1L, "closed-issue"));
+    assertSame(fresh, projectTrendCache.get(1L, "closed-issue"));
+    verify(projectTrendCalculator, times(2)).calculate(1L, "closed-issue");
+  }
+
+  @Test
+  void testInvalidateDropsOnlyTargetProject() {
+    when(projectTrendCalculator.calculate(anyLong(), eq("best-issue")))
+        .thenAnswer(invocation -> ProjectTrendResponse.builder().build());
+
+    projectTrendCache.get(1L, "best-issue");
+    projectTrendCache.get(2L, "best-issue");
+    projectTrendCache.invalidate(1L);
+    projectTrendCache.get(1L, "best-issue");
+    projectTrendCache.get(2L, "best-issue");
+
+    verify(projectTrendCalculator, times(2)).calculate(1L, "best-issue");
+    verify(projectTrendCalculator, times(1)).calculate(2L, "best-issue");
+  }
+
+  @Test
+  void testInvalidatedEntriesAreNotRefreshed() {
+    when(projectTrendCalculator.calculate(1L, "new-issue"))
+        .thenAnswer(invocation -> ProjectTrendResponse.builder().build());
+
+    projectTrendCache.get(1L, "new-issue");
+    projectTrendCache.invalidate(1L);
+    projectTrendCache.get(1L, "new-issue");
+    nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+    projectTrendCache.get(1L, "new-issue");
+
+    // 이전 세대의 entry는 조회되지 않으므로 현재 세대만 다시 계산
+    verify(projectTrendCalculator, times(3)).calculate(1L, "new-issue");
+  }
+}
@@ -0,0 +1,152 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.domain.IssueDailyStat;
+import com.example.issuetrackingsystem.domain.key.IssueDailyStatPK;
+import com.example.issuetrackingsystem.dto.ProjectTrendResponse;
+import com.example.issuetrackingsystem.dto.ProjectTrendResponse.BestIssue;
+import com.example.issuetrackingsystem.dto.ProjectTrendResponse.BestMember;
+import com.example.issuetrackingsystem.dto.ProjectTrendResponse.BestMemberData;
+import com.example.issuetrackingsystem.dto.ProjectTrendResponse.IssueCount;
+import com.example.issuetrackingsystem.exception.ErrorCode;
+import com.example.issuetrackingsystem.exception.ITSException;
+import com.example.issuetrackingsystem.repository.IssueDailyStatRepository;
+import com.example.issuetrackingsystem.repository.IssueRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectTrendCalculatorTest {
+
+  @Mock
+  private IssueDailyStatRepository issueDailyStatRepository;
+  @Mock
+  private IssueRepository issueRepository;
+  @Mock
+  private HotIssueTracker hotIssueTracker;
+
+  @InjectMocks
+  private ProjectTrendCalculator projectTrendCalculator;
+
+  private final Long projectId = 1L;
+
+  @Test
+  void testDailyTrendIsZeroFilled() {
+    LocalDate from = LocalDate.of(2024, 3, 1);
+    LocalDate to = LocalDate.of(2024, 3, 7);
+    when(issueDailyStatRepository.findByProjectIdAndDateBetween(projectId, from, to))
+        .thenReturn(List.of(stat(LocalDate.of(2024, 3, 3), 4, 1)));
+
+    ProjectTrendResponse response = projectTrendCalculator.calculate(projectId, "new-issue", from, to,
+        TrendGranularity.DAY);
+
+    List<IssueCount> data = counts(response.getDaily());
+    assertEquals(7, data.size());
+    assertEquals("2024-03-07", data.get(0).getDate());
+    assertEquals("2024-03-01", data.get(6).getDate());
+    assertEquals(4, data.get(4).getCount());
+    assertEquals(4, data.stream().mapToInt(IssueCount::getCount).sum());
+  }
+
+  @Test
+  void testQuarterlyTrendSumsDailyStats() {
+    LocalDate from = LocalDate.of(2024, 1, 15);
+    LocalDate to = LocalDate.of(2024, 6, 30);
+    when(issueDailyStatRepository.findByProjectIdAndDateBetween(projectId, from, to))
+        .thenReturn(List.of(
+            stat(LocalDate.of(2024, 2, 1), 0, 3),
+            stat(LocalDate.of(2024, 3, 31), 5, 1),
+            stat(LocalDate.of(2024, 5, 10), 0, 2)));
+
+    ProjectTrendResponse response = projectTrendCalculator.calculate(projectId, "closed-issue", from, to,
+        TrendGranularity.QUARTER);
+
+    List<IssueCount> data = counts(response.getQuarterly());
+    assertEquals(2, data.size());
+    assertEquals("2024-04-01", data.get(0).getDate());
+    assertEquals(2, data.get(0).getCount());
+    assertEquals("2024-01-01", data.get(1).getDate());
+    assertEquals(4, data.get(1).getCount());
+  }
+
+  @Test
+  void testRangeTrendRejectsBestIssueCategory() {
+    ITSException exception = assertThrows(ITSException.class, () -> projectTrendCalculator.calculate(projectId,
+        "best-issue", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), TrendGranularity.WEEK));
+
+    assertEquals(ErrorCode.PROJECT_TREND_BAD_REQUEST, exception.getErrorCode());
+    verifyNoInteractions(issueDailyStatRepository);
+  }
+
+  @Test
+  void testBestMembersRanksAllRolesFromOneScan() {
+    when(issueRepository.countMembersReportedSince(eq(projectId), any())).thenReturn(List.of(
+        new Object[]{"pl1", "dev1", "tester1", 1L},
+        new Object[]{"pl1", "dev2", "tester2", 1L},
+        new Object[]{"pl2", null, "tester2", 1L},
+        new Object[]{null, "dev2", "tester1", 1L},
+        new Object[]{"pl1", "dev3", "tester2", 1L}));
+
+    ProjectTrendResponse response = projectTrendCalculator.bestMembers(projectId, LeaderboardWindow.MONTH, 2);
+
+    BestMemberData data = (BestMemberData) response.getMonthly().getData();
+    assertEquals("pl1", data.getPL().getUsername());
+    assertEquals(3, data.getPL().getCount());
+    assertEquals(List.of("dev2", "dev1"), data.getDevRanking().stream().map(BestMember::getUsername).toList());
+    assertEquals(List.of(3, 2), data.getTesterRanking().stream().map(BestMember::getCount).toList());
+    verify(issueRepository, times(1)).countMembersReportedSince(eq(projectId), any());
+  }
+
+  @Test
+  void testBestMembersWithEmptyWindow() {
+    when(issueRepository.countMembersReportedSince(eq(projectId), any())).thenReturn(List.of());
+
+    ProjectTrendResponse response = projectTrendCalculator.bestMembers(projectId, LeaderboardWindow.WEEK, 3);
+
+    BestMemberData data = (BestMemberData) response.getWeekly().getData();
+    assertNull(data.getPL());
+    assertTrue(data.getDevRanking().isEmpty());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testBestIssuesReadsTitlesOnce() {
+    when(hotIssueTracker.top(projectId, HotIssueTracker.Window.DAY, 5)).thenReturn(List.of(Map.entry(7L, 4)));
+    when(hotIssueTracker.top(projectId, HotIssueTracker.Window.MONTH, 5))
+        .thenReturn(List.of(Map.entry(3L, 10), Map.entry(7L, 6)));
+    when(issueRepository.findTitles(eq(projectId), any())).thenReturn(List.of(
+        new Object[]{3L, "login fails"},
+        new Object[]{7L, "slow search"}));
+
+    ProjectTrendResponse response = projectTrendCalculator.bestIssues(projectId, 5);
+
+    List<BestIssue> daily = (List<BestIssue>) response.getDaily().getData();
+    List<BestIssue> monthly = (List<BestIssue>) response.getMonthly().getData();
+    assertEquals("slow search", daily.get(0).getTitle());
+    assertEquals(4, daily.get(0).getCount());
+    assertEquals(List.of(3L, 7L), monthly.stream().map(BestIssue::getIssueId).toList());
+    verify(issueRepository, times(1)).findTitles(eq(projectId), any());
+  }
+
+  private IssueDailyStat stat(LocalDate date, int reported, int closed) {
+    return IssueDailyStat.builder()
+        .id(IssueDailyStatPK.builder().projectId(projectId).statDate(date).build())
+        .reportedCount(reported)
+        .closedCount(closed)
+        .build();
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<IssueCount> counts(ProjectTrendResponse.ProjectTrendData data) {
+    return (List<IssueCount>) data.getData();
+  }
+}
@@ -0,0 +1,61 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectVersionsTest {
+
+  @Mock
+  private ProjectRepository projectRepository;
+
+  @InjectMocks
+  private ProjectVersions projectVersions;
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void testChangedOutsideTransactionBumpsImmediately() {
+    projectVersions.changed(1L);
+
+    verify(projectRepository).bumpVersion(1L);
+  }
+
+  @Test
+  void testChangedBumpsEachProjectOnceBeforeCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    projectVersions.changed(2L);
+    projectVersions.changed(1L);
+    projectVersions.changed(2L);
+    verifyNoInteractions(projectRepository);
+
+    for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+      synchronization.beforeCommit(false);
+    }
+    for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+      synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    // project_id 순으로 한 번씩
+    InOrder inOrder = inOrder(projectRepository);
+    inOrder.verify(projectRepository).bumpVersion(1L);
+    inOrder.verify(projectRepository).bumpVersion(2L);
+    verifyNoMoreInteractions(projectRepository);
+  }
+}
@@ -0,0 +1,77 @@
+package com.example.issuetrackingsystem.service;
+
+import com.example.issuetrackingsystem.domain.enums.IssueStatus;
+import com.example.issuetrackingsystem.repository.IssueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class SimilarIssueIndexTest {
+
+  private IssueRepository issueRepository;
+  private final List<Runnable> tasks = new ArrayList<>();
+  private SimilarIssueIndex similarIssueIndex;
+
+  @BeforeEach
+  void setUp() {
+    issueRepository = mock(IssueRepository.class);
+    Executor executor = tasks::add;
+    similarIssueIndex = new SimilarIssueIndex(issueRepository, Duration.ofMinutes(30), Duration.ofHours(1),
+        executor, new MutableClock());
+    // 이슈 1, 2는 dev 10이, 이슈 3은 dev 11이 해결
+    when(issueRepository.findFixedTexts(eq(1L), anyCollection())).thenReturn(List.of(
+        new Object[]{1L, 10L, "Login fails on Safari", "Session cookie is dropped after redirect."},
+        new Object[]{2L, 10L, "Login redirect loop", "Cookie domain mismatch causes redirect loop."},
+        new Object[]{3L, 11L, "Slow issue search", "Search query scans the issue table."}));
+  }
+
+  @Test
+  void testIndexIsBuiltInBackground() {
+    assertTrue(similarIssueIndex.nearestFixers(1L, 9L, "Login cookie", null, 5).isEmpty());
+    assertEquals(1, tasks.size());
+
+    tasks.remove(0).run();
+
+    Map<Long, Double> votes = similarIssueIndex.nearestFixers(1L, 9L, "Login cookie", null, 5);
+    assertEquals(Set.of(10L), votes.keySet());
+    assertTrue(votes.get(10L) > 1.0);
+    assertTrue(tasks.isEmpty());
+  }
+
+  @Test
+  void testNearestIssuesVoteForTheirFixers() {
+    build();
+
+    Map<Long, Double> votes = similarIssueIndex.nearestFixers(1L, 9L, "Search is slow", "Issue search takes seconds.", 2);
+
+    assertEquals(1.0, votes.get(11L));
+    assertTrue(votes.getOrDefault(10L, 0.0) < 1.0);
+  }
+
+  @Test
+  void testReopenedIssueLeavesIndexAndRefixedIssueReturns() {
+    build();
+
+    similarIssueIndex.issueSaved(1L, 3L, IssueStatus.REOPENED, 11L, "Slow issue search", null);
+    assertFalse(similarIssueIndex.nearestFixers(1L, 9L, "slow search", null, 5).containsKey(11L));
+
+    similarIssueIndex.issueSaved(1L, 3L, IssueStatus.FIXED, 12L, "Slow issue search", null);
+    assertEquals(Map.of(12L, 1.0), similarIssueIndex.nearestFixers(1L, 9L, "slow search", null, 5));
+    verify(issueRepository, times(1)).findFixedTexts(eq(1L), anyCollection());
+  }
+
+  private void build() {
+    similarIssueIndex.nearestFixers(1L, 0L, "build", null, 1);
+    tasks.remove(0).run();
+  }
+}
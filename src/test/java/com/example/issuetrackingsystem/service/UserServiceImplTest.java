@@ -12,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import java.util.Optional;
@@ -19,6 +20,8 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +33,9 @@ public class UserServiceImplTest {
     @Mock
     private BCryptPasswordEncoder passwordEncoder;
 
+    @Mock
+    private AccountCache accountCache;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -97,12 +103,15 @@ public class UserServiceImplTest {
             .password("encodedPassword")
             .build();
 
-        when(accountRepository.findByUsername(signUpRequest.getUsername())).thenReturn(Optional.empty());
+        when(accountRepository.existsByUsername(signUpRequest.getUsername())).thenReturn(false);
         when(passwordEncoder.encode(signUpRequest.getPassword())).thenReturn("encodedPassword");
         when(accountRepository.save(any(Account.class))).thenReturn(account);
 
         Long accountId = userService.signup(signUpRequest);
         assertEquals(3L, accountId);
+        verify(accountCache).invalidate("newuser");
+        // 가입 중복 검사는 캐시를 거치지 않음
+        verify(accountCache, never()).find(any());
     }
 
     @Test
@@ -111,17 +120,30 @@ public class UserServiceImplTest {
         signUpRequest.setUsername("newuser");
         signUpRequest.setPassword("password");
 
-        Account account = Account.builder()
-            .accountId(3L)
-            .username("newuser")
-            .password("encodedPassword")
-            .build();
+        when(accountRepository.existsByUsername(signUpRequest.getUsername())).thenReturn(true);
+
+        ITSException exception = assertThrows(ITSException.class, () -> userService.signup(signUpRequest));
 
-        when(accountRepository.findByUsername(signUpRequest.getUsername())).thenReturn(Optional.of(account));
+        assertEquals(ErrorCode.USERNAME_ALREADY_EXISTS, exception.getErrorCode());
+        verify(accountRepository, never()).save(any(Account.class));
+    }
+
+    @Test
+    void testSignUpConcurrentDuplicateIsAlreadyExists() {
+        SignUpRequest signUpRequest = new SignUpRequest();
+        signUpRequest.setUsername("newuser");
+        signUpRequest.setPassword("password");
+
+        // 검사 이후 다른 요청이 같은 username으로 먼저 가입
+        when(accountRepository.existsByUsername(signUpRequest.getUsername())).thenReturn(false);
+        when(passwordEncoder.encode(signUpRequest.getPassword())).thenReturn("encodedPassword");
+        when(accountRepository.save(any(Account.class)))
+            .thenThrow(new DataIntegrityViolationException("uk_account_username"));
 
         ITSException exception = assertThrows(ITSException.class, () -> userService.signup(signUpRequest));
 
         assertEquals(ErrorCode.USERNAME_ALREADY_EXISTS, exception.getErrorCode());
+        verify(accountCache, never()).invalidate(any());
     }
 
     @Test
@@ -134,7 +156,7 @@ public class UserServiceImplTest {
             .password("encodedPassword")
             .build();
 
-        when(accountRepository.findByUsername(username)).thenReturn(Optional.of(account));
+        when(accountCache.find(username)).thenReturn(Optional.of(account));
 
         userService.findUser(username);
     }
@@ -143,7 +165,7 @@ public class UserServiceImplTest {
     void testFindUserNotFound() {
         String username = "testuser";
 
-        when(accountRepository.findByUsername(username)).thenReturn(Optional.empty());
+        when(accountCache.find(username)).thenReturn(Optional.empty());
 
         ITSException exception = assertThrows(ITSException.class, () -> userService.findUser(username));
 